@@ -337,37 +337,31 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return this;
         }
 
-        final List<JsonPointer> pointersContainedInThis = fieldSelector.getPointers()
-                .stream()
-                .filter(this::contains)
-                .collect(Collectors.toList());
-
-        if (pointersContainedInThis.isEmpty()) {
-            return empty();
-        } else {
-            return filterByTrie(this, JsonFieldSelectorTrie.of(pointersContainedInThis));
-        }
+        final JsonObject result = filterByTrie(this, JsonFieldSelectorTrie.compile(fieldSelector));
+        return result.isEmpty() ? empty() : result;
     }
 
+    /*
+     * Projects the object in one traversal along the trie. A field whose pointer ends at the trie node is selected
+     * as a whole unless longer pointers through it match some of its sub-fields. Fields on the path of pointers
+     * which are not contained in the object are omitted.
+     */
     @SuppressWarnings("unchecked")
     private static JsonObject filterByTrie(final JsonObject self, final JsonFieldSelectorTrie trie) {
-        if (trie.isEmpty()) {
-            return self;
-        }
-
         final JsonObjectBuilder builder = JsonObject.newBuilder();
 
         for (final JsonKey key : trie.getKeys()) {
             self.getField(key).ifPresent(child -> {
+                final JsonFieldSelectorTrie childTrie = trie.descend(key);
                 final JsonValue childValue = child.getValue();
-                final JsonValue filteredChildValue = childValue.isObject()
-                        ? filterByTrie(childValue.asObject(), trie.descend(key))
-                        : childValue;
-                final Optional<JsonFieldDefinition> childFieldDefinition = child.getDefinition();
-                if (childFieldDefinition.isPresent()) {
-                    builder.set(childFieldDefinition.get(), filteredChildValue);
-                } else {
-                    builder.set(key, filteredChildValue);
+                final JsonValue filteredChildValue = filterByTrieOrNull(childValue, childTrie);
+                if (null != filteredChildValue) {
+                    final Optional<JsonFieldDefinition> childFieldDefinition = child.getDefinition();
+                    if (childFieldDefinition.isPresent()) {
+                        builder.set(childFieldDefinition.get(), filteredChildValue);
+                    } else {
+                        builder.set(key, filteredChildValue);
+                    }
                 }
             });
         }
@@ -375,6 +369,20 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return builder.build();
     }
 
+    @Nullable
+    private static JsonValue filterByTrieOrNull(final JsonValue value, final JsonFieldSelectorTrie trie) {
+        if (trie.isEmpty()) {
+            return value;
+        }
+        if (value.isObject()) {
+            final JsonObject filteredValue = filterByTrie(value.asObject(), trie);
+            if (!filteredValue.isEmpty()) {
+                return filteredValue;
+            }
+        }
+        return trie.isSelected() ? value : null;
+    }
+
     @Override
     public JsonObject remove(final CharSequence key) {
         requireNonNull(key, "The key or pointer of the field to be removed must not be null!");
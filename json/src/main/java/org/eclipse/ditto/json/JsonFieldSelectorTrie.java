@@ -18,6 +18,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -49,17 +50,58 @@ import javax.annotation.concurrent.NotThreadSafe;
  *
  * }</pre>
  * </p>
+ * <p>
+ * Tries obtained by {@link #compile(JsonFieldSelector)} are cached and shared; they are never modified after their
+ * creation.
+ * </p>
  */
 @NotThreadSafe
 final class JsonFieldSelectorTrie {
 
+    /**
+     * Maximum number of compiled tries to keep. The cache is cleared when exceeding it, which only happens if
+     * selectors are generated dynamically.
+     */
+    private static final int MAX_COMPILED_TRIES = 512;
+
+    private static final Map<JsonFieldSelector, JsonFieldSelectorTrie> COMPILED_TRIES = new ConcurrentHashMap<>();
+
     /**
      * Children of the trie.
      */
     private final Map<JsonKey, JsonFieldSelectorTrie> children;
 
+    /**
+     * Whether a JSON pointer ends at this node.
+     */
+    private boolean selected;
+
     private JsonFieldSelectorTrie() {
         children = new LinkedHashMap<>();
+        selected = false;
+    }
+
+    /**
+     * Returns the trie of the specified JsonFieldSelector. The trie is created once per distinct selector and then
+     * reused, so that the pointers of frequently used selectors are not split up again for each projection.
+     *
+     * @param jsonFieldSelector the JSON field selector to compile.
+     * @return the trie representation of the selector which must not be modified.
+     * @throws NullPointerException if {@code jsonFieldSelector} is {@code null}.
+     */
+    static JsonFieldSelectorTrie compile(final JsonFieldSelector jsonFieldSelector) {
+        requireNonNull(jsonFieldSelector, "The JSON field selector must not be null!");
+
+        final JsonFieldSelectorTrie cachedTrie = COMPILED_TRIES.get(jsonFieldSelector);
+        if (null != cachedTrie) {
+            return cachedTrie;
+        }
+        final JsonFieldSelectorTrie trie = of(jsonFieldSelector.getPointers());
+        if (COMPILED_TRIES.size() >= MAX_COMPILED_TRIES) {
+            COMPILED_TRIES.clear();
+        }
+        COMPILED_TRIES.put(jsonFieldSelector, trie);
+        return trie;
     }
 
     /**
@@ -103,6 +145,8 @@ final class JsonFieldSelectorTrie {
                 final JsonFieldSelectorTrie child = theChild != null ? theChild : new JsonFieldSelectorTrie();
                 return child.addJsonKeyIterator(iterator);
             });
+        } else {
+            selected = true;
         }
         return this;
     }
@@ -116,6 +160,16 @@ final class JsonFieldSelectorTrie {
         return children.isEmpty();
     }
 
+    /**
+     * Indicates whether a JSON pointer ends at this trie, i. e., whether the whole value at this trie is selected if
+     * none of the longer pointers through this trie matches.
+     *
+     * @return {@code true} if a JSON pointer ends at this trie, {@code false} else.
+     */
+    boolean isSelected() {
+        return selected;
+    }
+
     /**
      * Returns the keys of the children.
      *
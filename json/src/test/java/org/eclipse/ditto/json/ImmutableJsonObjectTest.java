@@ -1357,6 +1357,17 @@ public final class ImmutableJsonObjectTest {
         assertThat(actual).isEqualTo(underTest.remove("x"));
     }
 
+    @Test
+    public void overlappingPointersSelectWholeFieldIfLongerPointersAreNotContained() {
+        final String jsonString = "{\"x\":{\"y\":{\"a\":1,\"b\":2},\"z\":2},\"w\":3}";
+        final JsonObject underTest = JsonObject.of(jsonString);
+
+        final JsonFieldSelector overlapping = JsonFieldSelector.newInstance("x", "x/a", "x/y", "x/y/c");
+
+        final JsonObject actual = underTest.get(overlapping);
+        assertThat(actual).isEqualTo(JsonObject.of("{\"x\":{\"y\":{\"a\":1,\"b\":2}}}"));
+    }
+
     @Test
     public void jsonObjectsNestedInArraysShouldCompareWithoutFieldDefinitions() {
         final JsonObject objectWithoutDefinition =
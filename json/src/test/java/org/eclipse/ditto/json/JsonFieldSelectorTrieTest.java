@@ -48,6 +48,27 @@ public final class JsonFieldSelectorTrieTest {
         assertThat(getDescendantKeys(underTest, "c")).isEmpty();
     }
 
+    @Test
+    public void trieMarksEndsOfPointers() {
+        final JsonFieldSelectorTrie underTest = JsonFieldSelectorTrie.of(JsonFieldSelector.newInstance("a/b", "a"));
+
+        assertThat(underTest.isSelected()).isFalse();
+        assertThat(underTest.descend(JsonKey.of("a")).isSelected()).isTrue();
+        assertThat(underTest.descend(JsonKey.of("a")).descend(JsonKey.of("b")).isSelected()).isTrue();
+    }
+
+    @Test
+    public void compiledTrieIsReusedForEqualSelectors() {
+        final JsonParseOptions parseOptions = JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build();
+        final JsonFieldSelectorTrie first =
+                JsonFieldSelectorTrie.compile(JsonFactory.newFieldSelector("a(b,c),d", parseOptions));
+        final JsonFieldSelectorTrie second =
+                JsonFieldSelectorTrie.compile(JsonFactory.newFieldSelector("a(b,c),d", parseOptions));
+
+        assertThat(second).isSameAs(first);
+        assertThat(getDescendantKeys(second, "a")).isEqualTo(keySetOf("b", "c"));
+    }
+
     private static Set<JsonKey> keySetOf(final String... keyNames) {
         return Arrays.stream(keyNames).map(JsonKey::of).collect(Collectors.toSet());
     }
@@ -12,21 +12,14 @@
  */
 package org.eclipse.ditto.model.base.entity.id;
 
-import static org.eclipse.ditto.model.base.entity.id.RegexPatterns.ENTITY_NAME_GROUP_NAME;
-import static org.eclipse.ditto.model.base.entity.id.RegexPatterns.ENTITY_NAME_PATTERN;
-import static org.eclipse.ditto.model.base.entity.id.RegexPatterns.ID_PATTERN;
 import static org.eclipse.ditto.model.base.entity.id.RegexPatterns.NAMESPACE_DELIMITER;
-import static org.eclipse.ditto.model.base.entity.id.RegexPatterns.NAMESPACE_GROUP_NAME;
-import static org.eclipse.ditto.model.base.entity.id.RegexPatterns.NAMESPACE_PATTERN;
-
-import java.util.Objects;
-import java.util.regex.Matcher;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
- * Default implementation for a validated {@link org.eclipse.ditto.model.base.entity.id.NamespacedEntityId}
+ * Default implementation for a validated {@link org.eclipse.ditto.model.base.entity.id.NamespacedEntityId}.
+ * Only the string representation is retained; namespace and name are derived from it on demand.
  */
 @Immutable
 public final class DefaultNamespacedEntityId implements NamespacedEntityId {
@@ -35,9 +28,8 @@ public final class DefaultNamespacedEntityId implements NamespacedEntityId {
     private static final String DEFAULT_NAMESPACE = "";
     private static final int MAXIMUM_ID_LENGTH = 256;
 
-    private final String namespace;
-    private final String name;
     private final String stringRepresentation;
+    private final int delimiterIndex;
 
     private DefaultNamespacedEntityId(final String namespace, final String name, final boolean shouldValidate) {
 
@@ -47,11 +39,10 @@ public final class DefaultNamespacedEntityId implements NamespacedEntityId {
             stringRepresentation = namespace + NAMESPACE_DELIMITER + name;
         }
 
-        this.namespace = namespace;
-        this.name = name;
+        delimiterIndex = namespace.length();
     }
 
-    private DefaultNamespacedEntityId(final CharSequence entityId) {
+    private DefaultNamespacedEntityId(@Nullable final CharSequence entityId) {
         if (entityId == null) {
             throw NamespacedEntityIdInvalidException.newBuilder(entityId).build();
         }
@@ -60,15 +51,11 @@ public final class DefaultNamespacedEntityId implements NamespacedEntityId {
             throw NamespacedEntityIdInvalidException.newBuilder(entityId).build();
         }
 
-        final Matcher nsMatcher = ID_PATTERN.matcher(entityId);
-
-        if (nsMatcher.matches()) {
-            this.namespace = nsMatcher.group(NAMESPACE_GROUP_NAME);
-            this.name = nsMatcher.group(ENTITY_NAME_GROUP_NAME);
-            stringRepresentation = namespace + NAMESPACE_DELIMITER + name;
-        } else {
+        delimiterIndex = EntityIdValidator.indexOfValidNamespaceDelimiter(entityId);
+        if (delimiterIndex < 0) {
             throw NamespacedEntityIdInvalidException.newBuilder(entityId).build();
         }
+        stringRepresentation = entityId.toString();
     }
 
     /**
@@ -131,12 +118,12 @@ public final class DefaultNamespacedEntityId implements NamespacedEntityId {
 
     @Override
     public String getName() {
-        return name;
+        return stringRepresentation.substring(delimiterIndex + 1);
     }
 
     @Override
     public String getNamespace() {
-        return namespace;
+        return stringRepresentation.substring(0, delimiterIndex);
     }
 
     private static String validate(@Nullable final String namespace, @Nullable final String name) {
@@ -154,11 +141,11 @@ public final class DefaultNamespacedEntityId implements NamespacedEntityId {
             throw NamespacedEntityIdInvalidException.newBuilder(stringRepresentation).build();
         }
 
-        if (!NAMESPACE_PATTERN.matcher(namespace).matches()) {
+        if (!EntityIdValidator.isValidNamespace(namespace)) {
             throw NamespacedEntityIdInvalidException.newBuilder(stringRepresentation).build();
         }
 
-        if (!ENTITY_NAME_PATTERN.matcher(name).matches()) {
+        if (!EntityIdValidator.isValidName(name)) {
             throw NamespacedEntityIdInvalidException.newBuilder(stringRepresentation).build();
         }
 
@@ -176,13 +163,13 @@ public final class DefaultNamespacedEntityId implements NamespacedEntityId {
         }
 
         final DefaultNamespacedEntityId that = (DefaultNamespacedEntityId) o;
-        return Objects.equals(namespace, that.namespace) &&
-                Objects.equals(name, that.name);
+        // namespaces never contain the delimiter, thus equal string representations imply equal namespaces and names
+        return stringRepresentation.equals(that.stringRepresentation);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(namespace, name);
+        return stringRepresentation.hashCode();
     }
 
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.entity.id;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A pool of weakly referenced entity IDs. Identical IDs obtained from the pool share the same instance for as long as
+ * anybody holds a reference to it; unused IDs are reclaimed by the garbage collector. A pool hit skips both
+ * validation and allocation of the entity ID.
+ *
+ * @param <T> the type of the pooled entity IDs.
+ */
+@ThreadSafe
+public final class EntityIdInternPool<T extends EntityId> {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Function<String, T> entityIdFactory;
+    private final Segment<T>[] segments;
+
+    @SuppressWarnings("unchecked")
+    private EntityIdInternPool(final Function<String, T> entityIdFactory) {
+        this.entityIdFactory = entityIdFactory;
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * Returns a new empty pool.
+     *
+     * @param entityIdFactory creates and validates an entity ID in case it is not pooled yet. The created ID's
+     * {@code toString()} should return the passed string in order to share the string as well.
+     * @param <T> the type of the pooled entity IDs.
+     * @return the pool.
+     * @throws NullPointerException if {@code entityIdFactory} is {@code null}.
+     */
+    public static <T extends EntityId> EntityIdInternPool<T> newInstance(final Function<String, T> entityIdFactory) {
+        return new EntityIdInternPool<>(checkNotNull(entityIdFactory, "entityIdFactory"));
+    }
+
+    /**
+     * Returns the pooled entity ID for the given char sequence. Creates and pools the entity ID if it is not pooled
+     * yet.
+     *
+     * @param entityId the char sequence representation of the entity ID.
+     * @return the pooled entity ID.
+     * @throws NullPointerException if {@code entityId} is {@code null}.
+     * @throws RuntimeException any exception the entity ID factory throws for invalid IDs.
+     */
+    public T intern(final CharSequence entityId) {
+        checkNotNull(entityId, "entityId");
+        final String key = entityId.toString();
+        final Segment<T> segment = segments[spread(key.hashCode()) & (SEGMENT_COUNT - 1)];
+        synchronized (segment) {
+            final T pooled = segment.get(key);
+            if (null != pooled) {
+                return pooled;
+            }
+        }
+
+        // create outside of the lock as validation might throw
+        final T created = entityIdFactory.apply(key);
+        final String createdKey = created.toString();
+        synchronized (segment) {
+            final T concurrentlyPooled = segment.get(createdKey);
+            if (null != concurrentlyPooled) {
+                return concurrentlyPooled;
+            }
+            segment.put(createdKey, created);
+        }
+        return created;
+    }
+
+    /**
+     * Returns the number of currently pooled entity IDs. The number may contain IDs which are about to be reclaimed.
+     *
+     * @return the approximate size of the pool.
+     */
+    public int size() {
+        int result = 0;
+        for (final Segment<T> segment : segments) {
+            synchronized (segment) {
+                result += segment.entries.size();
+            }
+        }
+        return result;
+    }
+
+    private static int spread(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private static final class Segment<T> {
+
+        private final Map<String, WeakReference<T>> entries = new WeakHashMap<>();
+
+        @Nullable
+        private T get(final String key) {
+            final WeakReference<T> reference = entries.get(key);
+            return null != reference ? reference.get() : null;
+        }
+
+        private void put(final String key, final T value) {
+            entries.put(key, new WeakReference<>(value));
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.entity.id;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Hand-written validation of namespaces, entity names and namespaced entity IDs. Accepts exactly the same inputs as
+ * {@link RegexPatterns#NAMESPACE_PATTERN}, {@link RegexPatterns#ENTITY_NAME_PATTERN} and
+ * {@link RegexPatterns#ID_PATTERN} but does not allocate any matcher.
+ */
+@Immutable
+final class EntityIdValidator {
+
+    private static final char NAMESPACE_DELIMITER = ':';
+    private static final char NAMESPACE_SEPARATOR = '.';
+    private static final char URL_ESCAPE = '%';
+    private static final char DOLLAR = '$';
+    private static final String ALLOWED_SPECIAL_CHARACTERS_IN_NAME = "-:@&=+,.!~*'_;<>";
+
+    private EntityIdValidator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the index of the delimiter between namespace and name of the given entity ID if the ID is valid.
+     *
+     * @param entityId the entity ID to validate.
+     * @return the index of the namespace delimiter or {@code -1} if {@code entityId} is no valid namespaced entity ID.
+     */
+    static int indexOfValidNamespaceDelimiter(final CharSequence entityId) {
+        final int length = entityId.length();
+        int delimiterIndex = -1;
+        for (int i = 0; i < length; i++) {
+            if (NAMESPACE_DELIMITER == entityId.charAt(i)) {
+                delimiterIndex = i;
+                break;
+            }
+        }
+        if (delimiterIndex < 0 ||
+                !isValidNamespace(entityId, 0, delimiterIndex) ||
+                !isValidName(entityId, delimiterIndex + 1, length)) {
+            return -1;
+        }
+        return delimiterIndex;
+    }
+
+    /**
+     * Indicates whether the given char sequence is a valid namespace.
+     *
+     * @param namespace the namespace to validate.
+     * @return {@code true} if {@code namespace} is a valid namespace.
+     */
+    static boolean isValidNamespace(final CharSequence namespace) {
+        return isValidNamespace(namespace, 0, namespace.length());
+    }
+
+    /**
+     * Indicates whether the given char sequence is a valid entity name.
+     *
+     * @param name the name to validate.
+     * @return {@code true} if {@code name} is a valid entity name.
+     */
+    static boolean isValidName(final CharSequence name) {
+        return isValidName(name, 0, name.length());
+    }
+
+    private static boolean isValidNamespace(final CharSequence cs, final int start, final int end) {
+        boolean expectSegmentStart = true;
+        for (int i = start; i < end; i++) {
+            final char c = cs.charAt(i);
+            if (expectSegmentStart) {
+                if (!isAsciiLetter(c)) {
+                    return false;
+                }
+                expectSegmentStart = false;
+            } else if (NAMESPACE_SEPARATOR == c) {
+                expectSegmentStart = true;
+            } else if (!isWordCharacter(c)) {
+                return false;
+            }
+        }
+
+        // the empty namespace is valid, a trailing dot is not
+        return start == end || !expectSegmentStart;
+    }
+
+    private static boolean isValidName(final CharSequence cs, final int start, final int end) {
+        if (start >= end) {
+            return false;
+        }
+        int i = start;
+        while (i < end) {
+            final char c = cs.charAt(i);
+            if (URL_ESCAPE == c) {
+                if (i + 2 >= end || !isHexDigit(cs.charAt(i + 1)) || !isHexDigit(cs.charAt(i + 2))) {
+                    return false;
+                }
+                i += 3;
+            } else if (isAllowedInName(c) || (DOLLAR == c && i > start)) {
+                i++;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAllowedInName(final char c) {
+        return isWordCharacter(c) || ALLOWED_SPECIAL_CHARACTERS_IN_NAME.indexOf(c) >= 0;
+    }
+
+    private static boolean isWordCharacter(final char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c) || '_' == c;
+    }
+
+    private static boolean isAsciiLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(final char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+}
@@ -149,7 +149,28 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      * Key: {@code "ditto-originator"}, Java type: {@link String}.
      * </p>
      */
-    ORIGINATOR("ditto-originator", String.class, false, true);
+    ORIGINATOR("ditto-originator", String.class, false, true),
+
+    /**
+     * Header definition for the internal header "ditto-live-response-target" which contains the serialized actor path
+     * of the receiver of the response to a live signal. The header allows the responding edge to deliver the response
+     * directly to the receiver. External headers of the same name are always discarded.
+     * <p>
+     * Key: {@code "ditto-live-response-target"}, Java type: {@link String}.
+     * </p>
+     */
+    LIVE_RESPONSE_TARGET("ditto-live-response-target", String.class, false, false),
+
+    /**
+     * Header definition for the internal header "ditto-live-response-enforcer" which contains the serialized actor
+     * path of the enforcer caching the receiver of the response to a live signal. A responding edge which delivered
+     * the response directly via {@link #LIVE_RESPONSE_TARGET} tells the enforcer to forget the receiver.
+     * External headers of the same name are always discarded.
+     * <p>
+     * Key: {@code "ditto-live-response-enforcer"}, Java type: {@link String}.
+     * </p>
+     */
+    LIVE_RESPONSE_ENFORCER("ditto-live-response-enforcer", String.class, false, false);
 
     /**
      * Map to speed up lookup of header definition by key.
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.entity.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link EntityIdInternPool}.
+ */
+public final class EntityIdInternPoolTest {
+
+    @Test
+    public void identicalIdsShareTheSameInstance() {
+        final EntityIdInternPool<NamespacedEntityId> underTest =
+                EntityIdInternPool.newInstance(DefaultNamespacedEntityId::of);
+
+        final NamespacedEntityId first = underTest.intern("org.eclipse.ditto:thing");
+        final NamespacedEntityId second = underTest.intern(new StringBuilder("org.eclipse.ditto:thing"));
+
+        assertThat((CharSequence) second).isSameAs(first);
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void differentIdsAreDifferentInstances() {
+        final EntityIdInternPool<NamespacedEntityId> underTest =
+                EntityIdInternPool.newInstance(DefaultNamespacedEntityId::of);
+
+        final NamespacedEntityId first = underTest.intern("org.eclipse.ditto:thing1");
+        final NamespacedEntityId second = underTest.intern("org.eclipse.ditto:thing2");
+
+        assertThat((CharSequence) second).isNotEqualTo(first);
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidIdsAreNotPooled() {
+        final EntityIdInternPool<NamespacedEntityId> underTest =
+                EntityIdInternPool.newInstance(DefaultNamespacedEntityId::of);
+
+        assertThatExceptionOfType(NamespacedEntityIdInvalidException.class)
+                .isThrownBy(() -> underTest.intern("invalid"));
+        assertThat(underTest.size()).isZero();
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.entity.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link EntityIdValidator}. Verifies that it accepts exactly the same input as {@link RegexPatterns}.
+ */
+public final class EntityIdValidatorTest {
+
+    private static final List<String> NAMESPACES = Arrays.asList(
+            "",
+            "ditto.eclipse.org",
+            "com.google",
+            "Foo.bar_122_",
+            "a",
+            "A1.b2.c_3",
+            "org.eclipse.",
+            ".org.eclipse",
+            "_org.eclipse",
+            "org._eclipse",
+            "1org.eclipse",
+            "org.1eclipse",
+            "org.ec lipse",
+            "org..eclipse",
+            "org.",
+            ".org",
+            ".",
+            "org:eclipse",
+            "örg.eclipse"
+    );
+
+    private static final List<String> NAMES = Arrays.asList(
+            "ditto",
+            "thing42",
+            "-:@&=+,.!~*'_;<>$",
+            "foo%2Fbar",
+            "%2F",
+            "%2f$",
+            "a$",
+            "",
+            "$ditto",
+            "foo/bar",
+            "foo bar",
+            "foo%",
+            "foo%2",
+            "foo%2G",
+            "%%20",
+            "foö",
+            "foo#bar",
+            "foo?bar"
+    );
+
+    private static final List<String> IDS = Arrays.asList(
+            "org.eclipse.ditto",
+            "foo;bar",
+            "foo%3A",
+            ":",
+            "::",
+            ":a",
+            "a:",
+            "a::b",
+            "org.eclipse:ditto:thing",
+            "org.eclipse.:ditto"
+    );
+
+    @Test
+    public void namespaceValidationIsEquivalentToRegex() {
+        NAMESPACES.forEach(namespace ->
+                assertThat(EntityIdValidator.isValidNamespace(namespace))
+                        .describedAs(namespace)
+                        .isEqualTo(RegexPatterns.NAMESPACE_PATTERN.matcher(namespace).matches()));
+    }
+
+    @Test
+    public void nameValidationIsEquivalentToRegex() {
+        NAMES.forEach(name ->
+                assertThat(EntityIdValidator.isValidName(name))
+                        .describedAs(name)
+                        .isEqualTo(RegexPatterns.ENTITY_NAME_PATTERN.matcher(name).matches()));
+    }
+
+    @Test
+    public void idValidationIsEquivalentToRegex() {
+        NAMESPACES.forEach(namespace -> NAMES.forEach(name -> assertIdEquivalentToRegex(namespace + ":" + name)));
+        IDS.forEach(this::assertIdEquivalentToRegex);
+    }
+
+    @Test
+    public void delimiterIndexIsLengthOfNamespace() {
+        assertThat(EntityIdValidator.indexOfValidNamespaceDelimiter("org.eclipse:ditto:thing")).isEqualTo(11);
+        assertThat(EntityIdValidator.indexOfValidNamespaceDelimiter(":ditto")).isEqualTo(0);
+    }
+
+    private void assertIdEquivalentToRegex(final String id) {
+        final boolean expected = RegexPatterns.ID_PATTERN.matcher(id).matches();
+        assertThat(EntityIdValidator.indexOfValidNamespaceDelimiter(id) >= 0)
+                .describedAs(id)
+                .isEqualTo(expected);
+    }
+
+}
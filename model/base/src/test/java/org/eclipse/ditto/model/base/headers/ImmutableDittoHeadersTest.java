@@ -66,6 +66,8 @@ public final class ImmutableDittoHeadersTest {
     private static final String KNOWN_REPLY_TARGET = "5";
     private static final String KNOWN_MAPPER = "knownMapper";
     private static final String KNOWN_ORIGINATOR = "known:originator";
+    private static final String KNOWN_LIVE_RESPONSE_TARGET = "akka://ditto-cluster/user/gatewayRoot/knownReceiver";
+    private static final String KNOWN_LIVE_RESPONSE_ENFORCER = "akka://ditto-cluster/user/conciergeRoot/enforcer";
 
     @Test
     public void assertImmutability() {
@@ -99,6 +101,8 @@ public final class ImmutableDittoHeadersTest {
                 .replyTarget(Integer.valueOf(KNOWN_REPLY_TARGET))
                 .inboundPayloadMapper(KNOWN_MAPPER)
                 .putHeader(DittoHeaderDefinition.ORIGINATOR.getKey(), KNOWN_ORIGINATOR)
+                .putHeader(DittoHeaderDefinition.LIVE_RESPONSE_TARGET.getKey(), KNOWN_LIVE_RESPONSE_TARGET)
+                .putHeader(DittoHeaderDefinition.LIVE_RESPONSE_ENFORCER.getKey(), KNOWN_LIVE_RESPONSE_ENFORCER)
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -219,6 +223,8 @@ public final class ImmutableDittoHeadersTest {
                 .set(DittoHeaderDefinition.REPLY_TARGET.getKey(), Integer.parseInt(KNOWN_REPLY_TARGET))
                 .set(DittoHeaderDefinition.INBOUND_PAYLOAD_MAPPER.getKey(), KNOWN_MAPPER)
                 .set(DittoHeaderDefinition.ORIGINATOR.getKey(), KNOWN_ORIGINATOR)
+                .set(DittoHeaderDefinition.LIVE_RESPONSE_TARGET.getKey(), KNOWN_LIVE_RESPONSE_TARGET)
+                .set(DittoHeaderDefinition.LIVE_RESPONSE_ENFORCER.getKey(), KNOWN_LIVE_RESPONSE_ENFORCER)
                 .build();
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
 
@@ -379,6 +385,8 @@ public final class ImmutableDittoHeadersTest {
         result.put(DittoHeaderDefinition.REPLY_TARGET.getKey(), KNOWN_REPLY_TARGET);
         result.put(DittoHeaderDefinition.INBOUND_PAYLOAD_MAPPER.getKey(), KNOWN_MAPPER);
         result.put(DittoHeaderDefinition.ORIGINATOR.getKey(), KNOWN_ORIGINATOR);
+        result.put(DittoHeaderDefinition.LIVE_RESPONSE_TARGET.getKey(), KNOWN_LIVE_RESPONSE_TARGET);
+        result.put(DittoHeaderDefinition.LIVE_RESPONSE_ENFORCER.getKey(), KNOWN_LIVE_RESPONSE_ENFORCER);
 
         return result;
     }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.policies.Permissions;
+
+/**
+ * Builds the view of JSON fields for a set of subjects by walking a {@link PolicyTrie} and the JSON fields together in
+ * a single pass. Fields are only copied when they are permitted; subtrees without more specific policy entries are
+ * either taken over as they are or dropped as a whole. White-listed fields are emitted during the same pass, so that
+ * no intermediate JSON objects have to be merged afterwards.
+ */
+@Immutable
+final class JsonViewBuilder {
+
+    private final Set<String> subjectIds;
+    private final Permissions permissions;
+    @Nullable private final WhiteList whiteList;
+
+    private JsonViewBuilder(final Set<String> subjectIds, final Permissions permissions,
+            @Nullable final WhiteList whiteList) {
+
+        this.subjectIds = subjectIds;
+        this.permissions = permissions;
+        this.whiteList = whiteList;
+    }
+
+    /**
+     * Returns a view builder for the given subjects and permissions.
+     *
+     * @param subjectIds the subject IDs to build the view for.
+     * @param permissions the permissions required to see a field.
+     * @return the view builder.
+     */
+    static JsonViewBuilder of(final Set<String> subjectIds, final Permissions permissions) {
+        return new JsonViewBuilder(subjectIds, permissions, null);
+    }
+
+    /**
+     * Returns a view builder for the given subjects and permissions which additionally emits the fields of a white
+     * list regardless of permissions.
+     *
+     * @param subjectIds the subject IDs to build the view for.
+     * @param permissions the permissions required to see a field.
+     * @param whiteList the white-listed fields.
+     * @return the view builder.
+     * @throws IllegalArgumentException if {@code whiteList} is not supported, see {@link #isSupported(JsonFieldSelector)}.
+     */
+    static JsonViewBuilder of(final Set<String> subjectIds, final Permissions permissions,
+            final JsonFieldSelector whiteList) {
+
+        if (!isSupported(whiteList)) {
+            throw new IllegalArgumentException("White list contains pointers which are prefixes of others!");
+        }
+        return new JsonViewBuilder(subjectIds, permissions, WhiteList.of(whiteList));
+    }
+
+    /**
+     * Indicates whether a white list can be applied in a single pass. That is the case if none of its pointers is a
+     * prefix of another one. Otherwise, which of the overlapping pointers wins depends on the presence of the longer
+     * pointers in the JSON fields.
+     *
+     * @param whiteList the white list to check.
+     * @return {@code true} if the white list can be applied by this builder.
+     */
+    static boolean isSupported(final JsonFieldSelector whiteList) {
+        final Set<JsonPointer> pointers = whiteList.getPointers();
+        for (final JsonPointer pointer : pointers) {
+            if (pointer.isEmpty()) {
+                return false;
+            }
+            JsonPointer prefix = pointer.cutLeaf();
+            while (!prefix.isEmpty()) {
+                if (pointers.contains(prefix)) {
+                    return false;
+                }
+                prefix = prefix.cutLeaf();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the view of the given JSON fields starting at the given trie node.
+     *
+     * @param start the trie node corresponding to the JSON fields.
+     * @param jsonFields the JSON fields to build the view of.
+     * @return the view containing only permitted or white-listed fields.
+     */
+    JsonObject build(final PolicyTrie start, final Iterable<JsonField> jsonFields) {
+        return buildObjectView(start.getGrantRevokeIndex(), start, jsonFields, whiteList);
+    }
+
+    /*
+     * A null trie stands for a node without more specific policy entries which inherits the grant-revoke-index of its
+     * closest ancestor.
+     */
+    private JsonObject buildObjectView(final GrantRevokeIndex grantRevokeIndex, @Nullable final PolicyTrie trie,
+            final Iterable<JsonField> jsonFields, @Nullable final WhiteList whiteList) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final JsonKey key = field.getKey();
+            final PolicyTrie childTrie = null != trie ? trie.getChildOrNull(key) : null;
+            final GrantRevokeIndex childIndex = null != childTrie ? childTrie.getGrantRevokeIndex() : grantRevokeIndex;
+            final WhiteList childWhiteList = null != whiteList ? whiteList.getChildOrNull(key) : null;
+            final JsonValue jsonView = getViewOrNull(childIndex, childTrie, field.getValue(), childWhiteList);
+            if (null != jsonView) {
+                outputObjectBuilder.set(key, jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewOrNull(final GrantRevokeIndex grantRevokeIndex, @Nullable final PolicyTrie trie,
+            final JsonValue jsonValue, @Nullable final WhiteList whiteList) {
+
+        if (null != whiteList && whiteList.isLeaf()) {
+            return jsonValue;
+        }
+        if (null == whiteList && (null == trie || !trie.hasChildren())) {
+            // no policy entry below this node: the permission is the same for the whole subtree
+            return hasPermissions(grantRevokeIndex) ? jsonValue : null;
+        }
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            final JsonObject view = buildObjectView(grantRevokeIndex, trie, jsonValue.asObject(), whiteList);
+            result = view.isEmpty() && !hasPermissions(grantRevokeIndex) ? null : view;
+        } else if (jsonValue.isArray()) {
+            final JsonArray view = buildArrayView(grantRevokeIndex, trie, jsonValue.asArray());
+            result = view.isEmpty() && !hasPermissions(grantRevokeIndex) ? null : view;
+        } else if (hasPermissions(grantRevokeIndex)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    private JsonArray buildArrayView(final GrantRevokeIndex grantRevokeIndex, @Nullable final PolicyTrie trie,
+            final JsonArray jsonArray) {
+
+        final JsonArrayBuilder outputArrayBuilder = JsonFactory.newArrayBuilder();
+        for (final JsonValue value : jsonArray) {
+            final JsonValue jsonView = getViewOrNull(grantRevokeIndex, trie, value, null);
+            if (null != jsonView) {
+                outputArrayBuilder.add(jsonView);
+            }
+        }
+        return outputArrayBuilder.build();
+    }
+
+    private boolean hasPermissions(final GrantRevokeIndex grantRevokeIndex) {
+        return grantRevokeIndex.hasPermissions(subjectIds, permissions);
+    }
+
+    /**
+     * Trie of white-listed JSON pointers. A leaf marks a field whose whole value is white-listed.
+     */
+    @Immutable
+    private static final class WhiteList {
+
+        private final Map<JsonKey, WhiteList> children;
+
+        private WhiteList() {
+            children = new HashMap<>();
+        }
+
+        private static WhiteList of(final JsonFieldSelector jsonFieldSelector) {
+            final WhiteList root = new WhiteList();
+            jsonFieldSelector.getPointers().forEach(pointer -> root.add(pointer.iterator()));
+            return root;
+        }
+
+        private void add(final Iterator<JsonKey> path) {
+            if (path.hasNext()) {
+                children.computeIfAbsent(path.next(), key -> new WhiteList()).add(path);
+            }
+        }
+
+        private boolean isLeaf() {
+            return children.isEmpty();
+        }
+
+        @Nullable
+        private WhiteList getChildOrNull(final JsonKey key) {
+            return children.get(key);
+        }
+
+    }
+
+}
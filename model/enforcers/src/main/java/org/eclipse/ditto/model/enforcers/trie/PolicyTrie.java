@@ -15,11 +15,9 @@ package org.eclipse.ditto.model.enforcers.trie;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -28,16 +26,10 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
-import org.eclipse.ditto.json.JsonArray;
-import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
-import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonObjectBuilder;
-import org.eclipse.ditto.json.JsonValue;
-import org.eclipse.ditto.json.JsonValueContainer;
 import org.eclipse.ditto.model.policies.EffectedPermissions;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.PolicyEntry;
@@ -230,82 +222,38 @@ final class PolicyTrie {
         return children.containsKey(childKey);
     }
 
-    @SuppressWarnings("unchecked")
-    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final Set<String> subjectIds,
-            final Permissions permissions) {
-
-        final PolicyTrie defaultPolicyTrie = new PolicyTrie(grantRevokeIndex, Collections.emptyMap());
-
-        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
-            return (JsonObject) jsonFields;
-        }
-
-        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
-        for (final JsonField field : jsonFields) {
-            final JsonValue jsonView = getViewForJsonFieldOrNull(field, defaultPolicyTrie, subjectIds, permissions);
-            if (null != jsonView) {
-                outputObjectBuilder.set(field.getKey(), jsonView);
-            }
-        }
-
-        return outputObjectBuilder.build();
-    }
-
+    /**
+     * Returns the child for the given key.
+     *
+     * @param childKey Key of the child to retrieve.
+     * @return The child with the given key, or {@code null} if it does not exist.
+     */
     @Nullable
-    private JsonValue getViewForJsonFieldOrNull(final JsonField jsonField,
-            final PolicyTrie defaultPolicyTrie,
-            final Set<String> subjectIds,
-            final Permissions permissions) {
-
-        final PolicyTrie relevantTrie = children.getOrDefault(jsonField.getKey(), defaultPolicyTrie);
-        return relevantTrie.getViewForJsonValueOrNull(jsonField.getValue(), subjectIds, permissions);
+    PolicyTrie getChildOrNull(final JsonKey childKey) {
+        return children.get(childKey);
     }
 
-    @Nullable
-    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue, final Set<String> subjectIds,
-            final Permissions permissions) {
-
-        final JsonValue result;
-        if (jsonValue.isObject()) {
-            result = getViewForJsonObjectOrNull(jsonValue.asObject(), subjectIds, permissions);
-        } else if (jsonValue.isArray()) {
-            result = getViewForJsonArrayOrNull(jsonValue.asArray(), subjectIds, permissions);
-        } else if (grantRevokeIndex.hasPermissions(subjectIds, permissions)) {
-            result = jsonValue;
-        } else {
-            result = null;
-        }
-
-        return result;
+    /**
+     * Returns whether this node has any child, i. e., whether any policy entry is more specific than this node.
+     *
+     * @return {@code true} if this node has children, {@code false} otherwise.
+     */
+    boolean hasChildren() {
+        return !children.isEmpty();
     }
 
-    @Nullable
-    private JsonValue getViewForJsonObjectOrNull(final Iterable<JsonField> jsonObject, final Set<String> subjectIds,
+    /**
+     * Builds the view of JSON fields for the given subjects with this node as the root resource.
+     *
+     * @param jsonFields The JSON fields to build the view of.
+     * @param subjectIds The subject IDs to build the view for.
+     * @param permissions The permissions required to see a field.
+     * @return The view containing only the permitted fields.
+     */
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final Set<String> subjectIds,
             final Permissions permissions) {
 
-        return filterCandidate(buildJsonView(jsonObject, subjectIds, permissions), subjectIds, permissions);
-    }
-
-    @Nullable
-    private <T extends JsonValue & JsonValueContainer> T filterCandidate(final T candidate,
-            final Set<String> subjectIds, final Collection<String> permissions) {
-
-        if (!candidate.isEmpty() || grantRevokeIndex.hasPermissions(subjectIds, permissions)) {
-            return candidate;
-        }
-        return null;
-    }
-
-    @Nullable
-    private JsonValue getViewForJsonArrayOrNull(final JsonValueContainer<JsonValue> jsonArray,
-            final Set<String> subjectIds, final Permissions permissions) {
-
-        final JsonArray candidate = jsonArray.stream()
-                .map(value -> getViewForJsonValueOrNull(value, subjectIds, permissions))
-                .filter(Objects::nonNull)
-                .collect(JsonCollectors.valuesToArray());
-
-        return filterCandidate(candidate, subjectIds, permissions);
+        return JsonViewBuilder.of(subjectIds, permissions).build(this, jsonFields);
     }
 
     /**
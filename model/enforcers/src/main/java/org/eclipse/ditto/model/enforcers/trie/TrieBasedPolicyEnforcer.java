@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
@@ -189,6 +190,41 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         }
     }
 
+    /**
+     * Builds the view and emits the white-listed fields in the same walk through {@code inheritedTrie}, so that
+     * white-listed and enforced view do not have to be merged afterwards.
+     */
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final JsonFieldSelector whiteList,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkNotNull(whiteList, "white list");
+        checkPermissions(permissions);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+        if (!inheritedTrie.hasChild(typeKey) || !JsonViewBuilder.isSupported(whiteList)) {
+            return Enforcer.super.buildJsonView(resourceKey, jsonFields, authorizationContext, whiteList,
+                    permissions);
+        }
+
+        final Set<String> subjectIds = getSubjectIds(authorizationContext);
+        final ResourceKey rootResourceKey =
+                ResourceKey.newInstance(resourceKey.getResourceType(), JsonFactory.emptyPointer());
+        final boolean isAuthorizationSubjectRelevant =
+                hasPartialPermissions(rootResourceKey, authorizationContext, permissions);
+        final JsonViewBuilder jsonViewBuilder = isAuthorizationSubjectRelevant
+                ? JsonViewBuilder.of(subjectIds, permissions, whiteList)
+                : JsonViewBuilder.of(subjectIds, permissions);
+
+        final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+        return jsonViewBuilder.build(start, jsonFields);
+    }
+
     /**
      * Extracts all subject IDs from an authorization context as a set of strings.
      *
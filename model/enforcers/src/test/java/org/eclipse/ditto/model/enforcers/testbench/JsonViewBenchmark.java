@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.things.Thing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the white-listed JSON view of a thing with many features built by merging white list and
+ * enforced view with the single-pass view of {@link TrieBasedPolicyEnforcer}.
+ */
+@State(Scope.Benchmark)
+public class JsonViewBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int FEATURES = 100;
+    private static final int PROPERTIES_PER_FEATURE = 10;
+
+    private static final ResourceKey ROOT_RESOURCE_KEY = ResourceKey.newInstance("thing", "/");
+    private static final JsonFieldSelector WHITE_LIST = JsonFactory.newFieldSelector(Thing.JsonFields.ID);
+    private static final Permissions READ = Permissions.newInstance("READ");
+
+    private static final AuthorizationContext ALL_GRANTED_ATTRIBUTES_REVOKED =
+            Scenario.newAuthorizationContext(JsonViewScenario.SUBJECT_ALL_GRANTED_ATTRIBUTES_REVOKED);
+    private static final AuthorizationContext FEATURES_READ_FIRMWARE_REVOKED =
+            Scenario.newAuthorizationContext(JsonViewScenario.SUBJECT_FEATURES_READ_GRANTED_FIRMWARE_READ_REVOKED);
+    private static final AuthorizationContext SOME_REVOKED =
+            Scenario.newAuthorizationContext(JsonViewScenario.SUBJECT_SOME_REVOKED);
+
+    private final TrieBasedPolicyEnforcer singlePassEnforcer;
+    private final Enforcer mergingEnforcer;
+    private final JsonObject thingJson;
+
+    public JsonViewBenchmark() {
+        singlePassEnforcer = TrieBasedPolicyEnforcer.newInstance(JsonViewScenario.POLICY);
+        mergingEnforcer = new MergingEnforcer(singlePassEnforcer);
+        thingJson = createLargeThingJson();
+    }
+
+    private static JsonObject createLargeThingJson() {
+        final JsonObject thingJson = JsonViewScenario.THING.toJson(FieldType.notHidden());
+        final JsonObjectBuilder featuresBuilder = thingJson.getValue(Thing.JsonFields.FEATURES)
+                .map(JsonObject::toBuilder)
+                .orElseGet(JsonFactory::newObjectBuilder);
+        for (int i = 0; i < FEATURES; ++i) {
+            final JsonObjectBuilder propertiesBuilder = JsonFactory.newObjectBuilder();
+            for (int j = 0; j < PROPERTIES_PER_FEATURE; ++j) {
+                propertiesBuilder.set("property" + j, JsonFactory.newObjectBuilder()
+                        .set("value", i * j)
+                        .set("unit", "celsius")
+                        .build());
+            }
+            featuresBuilder.set("feature" + i, JsonFactory.newObjectBuilder()
+                    .set("properties", propertiesBuilder.build())
+                    .build());
+        }
+        return thingJson.setValue(Thing.JsonFields.FEATURES.getPointer(), featuresBuilder.build());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject mergedView_allGrantedAttributesRevoked() {
+        return mergingEnforcer.buildJsonView(ROOT_RESOURCE_KEY, thingJson, ALL_GRANTED_ATTRIBUTES_REVOKED,
+                WHITE_LIST, READ);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject singlePassView_allGrantedAttributesRevoked() {
+        return singlePassEnforcer.buildJsonView(ROOT_RESOURCE_KEY, thingJson, ALL_GRANTED_ATTRIBUTES_REVOKED,
+                WHITE_LIST, READ);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject mergedView_featuresReadFirmwareRevoked() {
+        return mergingEnforcer.buildJsonView(ROOT_RESOURCE_KEY, thingJson, FEATURES_READ_FIRMWARE_REVOKED,
+                WHITE_LIST, READ);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject singlePassView_featuresReadFirmwareRevoked() {
+        return singlePassEnforcer.buildJsonView(ROOT_RESOURCE_KEY, thingJson, FEATURES_READ_FIRMWARE_REVOKED,
+                WHITE_LIST, READ);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject mergedView_someRevoked() {
+        return mergingEnforcer.buildJsonView(ROOT_RESOURCE_KEY, thingJson, SOME_REVOKED, WHITE_LIST, READ);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject singlePassView_someRevoked() {
+        return singlePassEnforcer.buildJsonView(ROOT_RESOURCE_KEY, thingJson, SOME_REVOKED, WHITE_LIST, READ);
+    }
+
+    /**
+     * Builds white-listed views with the default implementation of {@link Enforcer}, i. e., by merging the white
+     * list into the enforced view of the delegate.
+     */
+    private static final class MergingEnforcer implements Enforcer {
+
+        private final Enforcer delegate;
+
+        private MergingEnforcer(final Enforcer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+                final AuthorizationContext authorizationContext, final Permissions permissions) {
+            return delegate.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+        }
+
+        @Override
+        public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+                final Permissions permissions) {
+            return delegate.getSubjectIdsWithPermission(resourceKey, permissions);
+        }
+
+        @Override
+        public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+                final Permissions permissions) {
+            return delegate.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+        }
+
+        @Override
+        public boolean hasPartialPermissions(final ResourceKey resourceKey,
+                final AuthorizationContext authorizationContext, final Permissions permissions) {
+            return delegate.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+        }
+
+        @Override
+        public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+                final AuthorizationContext authorizationContext, final Permissions permissions) {
+            return delegate.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+        }
+
+    }
+
+}
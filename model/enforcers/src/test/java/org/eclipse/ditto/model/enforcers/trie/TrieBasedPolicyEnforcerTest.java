@@ -14,11 +14,22 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.Scenario;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
@@ -45,6 +56,82 @@ public class TrieBasedPolicyEnforcerTest {
         assertThat(createdJsonView).isEqualTo(expectedJsonView);
     }
 
+    @Test
+    public void buildJsonViewWithWhiteListEqualsMergedView() {
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(JsonViewScenario.POLICY);
+        final Enforcer mergingEnforcer = mergingEnforcer(underTest);
+        final JsonObject thingJson = JsonViewScenario.THING.toJson(FieldType.notHidden())
+                .setValue(JsonPointer.of("/features/foo/definition"), JsonFactory.newArray("[\"a:b:1\"]"));
+        final JsonFieldSelector whiteList =
+                JsonFactory.newFieldSelector("thingId,features/foo/properties/special,features/foo/definition");
+        final List<String> subjects = Arrays.asList(JsonViewScenario.SUBJECT_ALL_GRANTED,
+                JsonViewScenario.SUBJECT_ATTRIBUTES_ALL_GRANTED,
+                JsonViewScenario.SUBJECT_ALL_GRANTED_ATTRIBUTES_REVOKED,
+                JsonViewScenario.SUBJECT_NONEXISTENT_ATTRIBUTE_GRANTED,
+                JsonViewScenario.SUBJECT_FEATURES_READ_GRANTED,
+                JsonViewScenario.SUBJECT_FEATURES_READ_GRANTED_FIRMWARE_READ_REVOKED,
+                JsonViewScenario.SUBJECT_FEATURE_FOO_ALL_GRANTED_SPECIAL_PROPERTY_REVOKED,
+                JsonViewScenario.SUBJECT_ALL_FEATURES_REVOKED,
+                JsonViewScenario.SUBJECT_SOME_GRANTED,
+                JsonViewScenario.SUBJECT_SOME_REVOKED,
+                "sid_unknown");
+
+        for (final String subject : subjects) {
+            final AuthorizationContext authorizationContext = Scenario.newAuthorizationContext(subject);
+            for (final String resource : Arrays.asList("/", "/features", "/attributes")) {
+                final ResourceKey resourceKey = ResourceKey.newInstance("thing", resource);
+                final Permissions permissions = Permissions.newInstance("READ");
+
+                final JsonObject expectedJsonView = mergingEnforcer.buildJsonView(resourceKey, thingJson,
+                        authorizationContext, whiteList, permissions);
+                final JsonObject createdJsonView = underTest.buildJsonView(resourceKey, thingJson,
+                        authorizationContext, whiteList, permissions);
+
+                assertThat(createdJsonView)
+                        .describedAs("view of <%s> for <%s>", resource, subject)
+                        .isEqualTo(expectedJsonView);
+            }
+        }
+    }
+
+    /*
+     * Delegates everything but the white-listed view to the given enforcer so that the white-listed view is built by
+     * merging white list and enforced view.
+     */
+    private static Enforcer mergingEnforcer(final Enforcer delegate) {
+        return new Enforcer() {
+            @Override
+            public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+                    final AuthorizationContext authorizationContext, final Permissions permissions) {
+                return delegate.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions);
+            }
+
+            @Override
+            public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+                    final Permissions permissions) {
+                return delegate.getSubjectIdsWithPermission(resourceKey, permissions);
+            }
+
+            @Override
+            public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+                    final Permissions permissions) {
+                return delegate.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+            }
+
+            @Override
+            public boolean hasPartialPermissions(final ResourceKey resourceKey,
+                    final AuthorizationContext authorizationContext, final Permissions permissions) {
+                return delegate.hasPartialPermissions(resourceKey, authorizationContext, permissions);
+            }
+
+            @Override
+            public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+                    final AuthorizationContext authorizationContext, final Permissions permissions) {
+                return delegate.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+            }
+        };
+    }
+
     private static Policy defaultPolicy(final PolicyId policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
@@ -60,6 +60,19 @@ public interface ExpressionResolver {
         return ExpressionResolver.substitute(expressionTemplate, this::resolveAsPipelineElement);
     }
 
+    /**
+     * Resolves a precompiled expression template. The result is the same as the one of {@link #resolve(String)} for
+     * the template the {@code PlaceholderTemplate} was compiled from.
+     *
+     * @param template the precompiled template to resolve.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     * @throws PlaceholderFunctionTooComplexException thrown if the {@code template} contains a placeholder
+     * function chain which is too complex (e.g. too much chained function calls)
+     */
+    default PipelineElement resolve(final PlaceholderTemplate template) {
+        return resolve(template.getTemplate());
+    }
+
     /**
      * Perform simple substitution on a string based on a template function.
      *
@@ -104,10 +104,35 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         final Map.Entry<PlaceholderResolver<?>, String> resolverPair = findPlaceholderResolver(placeholderInPipeline)
                 .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build());
 
+        return resolveWith(resolverPair.getKey(), resolverPair.getValue());
+    }
+
+    /**
+     * Resolves a placeholder which was already split into its prefix and name, e.g. by a {@link PlaceholderTemplate}.
+     *
+     * @param prefix the prefix of the placeholder.
+     * @param name the name of the placeholder.
+     * @param placeholderInPipeline the placeholder as written in the pipeline for error reporting.
+     * @return the resolved pipeline element.
+     * @throws UnresolvedPlaceholderException if no placeholder resolver supports the placeholder.
+     */
+    PipelineElement resolvePlaceholder(final String prefix, final String name, final String placeholderInPipeline) {
+        final PlaceholderResolver<?> resolver = placeholderResolvers.get(prefix);
+        if (null == resolver || !resolver.supports(name)) {
+            throw UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build();
+        }
+        return resolveWith(resolver, name);
+    }
+
+    @Override
+    public PipelineElement resolve(final PlaceholderTemplate template) {
+        return template.resolve(this);
+    }
+
+    private PipelineElement resolveWith(final PlaceholderResolver<?> resolver, final String name) {
         if (placeholderReplacementInValidation == null) {
             // normal mode
-            return resolverPair.getKey()
-                    .resolve(resolverPair.getValue())
+            return resolver.resolve(name)
                     .map(PipelineElement::resolved)
                     .orElseGet(PipelineElement::unresolved);
         } else {
@@ -116,7 +141,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
+    static List<String> getPipelineStagesExpressions(final String template) {
 
         if (!PIPE_PATTERN.matcher(template).matches()) {
             throw UNRESOLVED_INPUT_HANDLER.apply(template);
@@ -151,7 +176,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         return new ImmutablePipeline(ImmutableFunctionExpression.INSTANCE, pipelineStages);
     }
 
-    private Optional<String> getPlaceholderPrefix(final String placeholder) {
+    static Optional<String> getPlaceholderPrefix(final String placeholder) {
         final int separatorIndex = placeholder.indexOf(SEPARATOR);
         if (separatorIndex == -1) {
             return Optional.empty();
@@ -185,7 +210,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                 "]";
     }
 
-    private static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
+    static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
         return firstPlaceholderInPipeline.startsWith(FunctionExpression.PREFIX + SEPARATOR);
     }
 }
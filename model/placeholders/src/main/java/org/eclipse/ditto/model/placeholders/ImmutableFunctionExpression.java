@@ -39,6 +39,13 @@ final class ImmutableFunctionExpression implements FunctionExpression {
             new PipelineFunctionDelete()           // fn:delete()
     ));
 
+    /**
+     * @return the supported pipeline functions.
+     */
+    static List<PipelineFunction> getSupportedFunctions() {
+        return SUPPORTED;
+    }
+
     @Override
     public String getPrefix() {
         return PREFIX;
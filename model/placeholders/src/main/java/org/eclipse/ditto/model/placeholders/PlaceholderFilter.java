@@ -147,6 +147,24 @@ public final class PlaceholderFilter {
         return resolver.resolve(template).toOptional();
     }
 
+    /**
+     * Resolves the given precompiled {@code template} by applying the given {@code expressionResolver}. If a pipeline
+     * function deletes the element or the pipeline leads to an unresolved element, then return an empty optional.
+     *
+     * @param template the precompiled template.
+     * @param resolver the expression-resolver used to resolve placeholders and optionally pipeline stages
+     * (functions).
+     * @return a template string if resolution succeeds with a result,
+     * or an empty optional if the template string fails to resolve or is deleted.
+     * @throws UnresolvedPlaceholderException in case the template's placeholders could not completely be resolved
+     * @throws PlaceholderFunctionTooComplexException thrown if the {@code template} contains a placeholder
+     * function chain which is too complex (e.g. too much chained function calls)
+     */
+    public static Optional<String> applyOrElseDelete(final PlaceholderTemplate template,
+            final ExpressionResolver resolver) {
+        return resolver.resolve(template).toOptional();
+    }
+
     /**
      * Finds all placeholders ({@code {{ ... }}}) defined in the given {@code template} and tries to replace them
      * by applying the given {@code expressionResolver}. If a pipeline function deletes the element or if a placeholder
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.common.Placeholders;
+
+/**
+ * A template containing placeholders (e.g. {@code prefix-{{ header:device-id | fn:lower() }}}) which was parsed once
+ * into its literal parts and its placeholder pipelines with their already looked up functions. Resolving a
+ * {@code PlaceholderTemplate} with an {@link ExpressionResolver} yields the same result as resolving the template
+ * string, but does not parse the template again. Templates which are resolved for each message, e.g. target addresses
+ * or header mappings of connections, should therefore be compiled once and reused.
+ * <p>
+ * Errors in the template (e.g. unknown functions or too complex pipelines) are reported when the erroneous part of the
+ * template is resolved, exactly as if the template string was resolved.
+ * </p>
+ */
+@Immutable
+public final class PlaceholderTemplate {
+
+    private final String template;
+    private final List<Segment> segments;
+
+    private PlaceholderTemplate(final String template, final List<Segment> segments) {
+        this.template = template;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses the given template into a {@code PlaceholderTemplate}.
+     *
+     * @param template the template to parse.
+     * @return the compiled template.
+     * @throws NullPointerException if {@code template} is {@code null}.
+     */
+    public static PlaceholderTemplate compile(final String template) {
+        checkNotNull(template, "template");
+        final List<Segment> segments = new ArrayList<>();
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        int literalStart = 0;
+        while (matcher.find()) {
+            if (literalStart < matcher.start()) {
+                segments.add(new Literal(template.substring(literalStart, matcher.start())));
+            }
+            segments.add(compilePipeline(getPlaceholderExpression(matcher)));
+            literalStart = matcher.end();
+        }
+        if (literalStart < template.length()) {
+            segments.add(new Literal(template.substring(literalStart)));
+        }
+        return new PlaceholderTemplate(template, Collections.unmodifiableList(segments));
+    }
+
+    /**
+     * @return the template string this template was compiled from.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Resolves this template with the given placeholder resolver.
+     *
+     * @param expressionResolver the resolver of the placeholders.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     */
+    PipelineElement resolve(final ImmutableExpressionResolver expressionResolver) {
+        if (segments.size() == 1) {
+            // avoid copying the only resolved value
+            return segments.get(0).resolve(expressionResolver);
+        }
+        final StringBuilder resultBuilder = new StringBuilder();
+        for (final Segment segment : segments) {
+            final PipelineElement element = segment.resolve(expressionResolver);
+            final Optional<String> resolvedValue = element.toOptional();
+            if (!resolvedValue.isPresent()) {
+                // abort: resolution failed or the string has been deleted.
+                return element;
+            }
+            resultBuilder.append(resolvedValue.get());
+        }
+        return PipelineElement.resolved(resultBuilder.toString());
+    }
+
+    private static String getPlaceholderExpression(final Matcher matcher) {
+        for (final String groupName : Placeholders.groupNames()) {
+            final String group = matcher.group(groupName);
+            if (null != group) {
+                return group;
+            }
+        }
+        return "";
+    }
+
+    private static Segment compilePipeline(final String placeholderExpression) {
+        final List<String> stageExpressions;
+        try {
+            stageExpressions = ImmutableExpressionResolver.getPipelineStagesExpressions(placeholderExpression);
+        } catch (final RuntimeException e) {
+            return new Failure(e);
+        }
+        final String firstExpression = stageExpressions.isEmpty() ? "" : stageExpressions.get(0);
+        final List<Stage> functionStages = new ArrayList<>();
+        final Stage firstStage;
+        if (ImmutableExpressionResolver.isFirstPlaceholderFunction(firstExpression)) {
+            firstStage = null;
+            stageExpressions.forEach(expression -> functionStages.add(compileFunctionStage(expression)));
+        } else {
+            firstStage = compilePlaceholderStage(firstExpression);
+            stageExpressions.stream()
+                    .skip(1)
+                    .forEach(expression -> functionStages.add(compileFunctionStage(expression)));
+        }
+        return new Pipeline(firstStage, functionStages);
+    }
+
+    private static Stage compilePlaceholderStage(final String placeholderInPipeline) {
+        final Optional<String> prefix = ImmutableExpressionResolver.getPlaceholderPrefix(placeholderInPipeline);
+        if (!prefix.isPresent()) {
+            return (input, resolver) -> {
+                throw UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build();
+            };
+        }
+        final String thePrefix = prefix.get();
+        final String name = placeholderInPipeline.substring(thePrefix.length() + 1);
+        return (input, resolver) -> resolver.resolvePlaceholder(thePrefix, name, placeholderInPipeline);
+    }
+
+    private static Stage compileFunctionStage(final String expression) {
+        final FunctionExpression functionExpression = ImmutableFunctionExpression.INSTANCE;
+        final String functionPrefix = functionExpression.getPrefix() + SEPARATOR;
+        if (!functionExpression.supports(expression.replaceFirst(functionPrefix, ""))) {
+            return (input, resolver) -> {
+                throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
+            };
+        }
+        for (final PipelineFunction function : ImmutableFunctionExpression.getSupportedFunctions()) {
+            final String functionStart = functionPrefix + function.getName();
+            if (expression.startsWith(functionStart + "(")) {
+                final String parameters = expression.substring(functionStart.length()).trim();
+                return (input, resolver) -> function.apply(input, parameters, resolver);
+            }
+        }
+        return (input, resolver) -> PipelineElement.unresolved();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PlaceholderTemplate that = (PlaceholderTemplate) o;
+        return template.equals(that.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(template);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "template=" + template +
+                "]";
+    }
+
+    /**
+     * A part of the template which resolves to a string.
+     */
+    private interface Segment {
+
+        PipelineElement resolve(ImmutableExpressionResolver resolver);
+
+    }
+
+    /**
+     * A stage of a placeholder pipeline.
+     */
+    @FunctionalInterface
+    private interface Stage {
+
+        PipelineElement apply(PipelineElement input, ImmutableExpressionResolver resolver);
+
+    }
+
+    private static final class Literal implements Segment {
+
+        private final PipelineElement element;
+
+        private Literal(final String literal) {
+            element = PipelineElement.resolved(literal);
+        }
+
+        @Override
+        public PipelineElement resolve(final ImmutableExpressionResolver resolver) {
+            return element;
+        }
+
+    }
+
+    private static final class Failure implements Segment {
+
+        private final RuntimeException error;
+
+        private Failure(final RuntimeException error) {
+            this.error = error;
+        }
+
+        @Override
+        public PipelineElement resolve(final ImmutableExpressionResolver resolver) {
+            throw error;
+        }
+
+    }
+
+    private static final class Pipeline implements Segment {
+
+        @Nullable private final Stage placeholderStage;
+        private final List<Stage> functionStages;
+
+        private Pipeline(@Nullable final Stage placeholderStage, final List<Stage> functionStages) {
+            this.placeholderStage = placeholderStage;
+            this.functionStages = Collections.unmodifiableList(functionStages);
+        }
+
+        @Override
+        public PipelineElement resolve(final ImmutableExpressionResolver resolver) {
+            PipelineElement element = null != placeholderStage
+                    ? placeholderStage.apply(PipelineElement.unresolved(), resolver)
+                    : PipelineElement.unresolved();
+            for (final Stage functionStage : functionStages) {
+                element = functionStage.apply(element, resolver);
+            }
+            return element;
+        }
+
+    }
+
+}
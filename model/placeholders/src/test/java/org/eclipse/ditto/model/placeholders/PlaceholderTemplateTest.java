@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link PlaceholderTemplate}.
+ */
+public final class PlaceholderTemplateTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "foobar199");
+    private static final String KNOWN_TOPIC = "org.eclipse.ditto/foobar199/things/twin/commands/modify";
+    private static final Map<String, String> KNOWN_HEADERS = DittoHeaders.newBuilder()
+            .putHeader("one", "1")
+            .putHeader("device-id", "DeViCe:4711")
+            .build();
+
+    private static ImmutableExpressionResolver resolver;
+
+    @BeforeClass
+    public static void setupClass() {
+        final TopicPath topic = ProtocolFactory.newTopicPath(KNOWN_TOPIC);
+        resolver = new ImmutableExpressionResolver(Arrays.asList(
+                new ImmutablePlaceholderResolver<>(PlaceholderFactory.newHeadersPlaceholder(), KNOWN_HEADERS),
+                new ImmutablePlaceholderResolver<>(PlaceholderFactory.newThingPlaceholder(), THING_ID),
+                new ImmutablePlaceholderResolver<>(PlaceholderFactory.newTopicPathPlaceholder(), topic)));
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(PlaceholderTemplate.class, areImmutable(),
+                assumingFields("segments").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(PlaceholderTemplate.class)
+                .usingGetClass()
+                .withIgnoredFields("segments")
+                .withNonnullFields("template")
+                .verify();
+    }
+
+    @Test
+    public void resolvesSameAsTemplateString() {
+        assertResolvesSameAsTemplateString("no placeholders at all");
+        assertResolvesSameAsTemplateString("");
+        assertResolvesSameAsTemplateString("{{ header:one }}");
+        assertResolvesSameAsTemplateString("prefix/{{ header:one }}/{{thing:name}}/suffix");
+        assertResolvesSameAsTemplateString("{{ header:device-id | fn:lower() }}");
+        assertResolvesSameAsTemplateString("{{ header:device-id | fn:substring-after(':') | fn:upper() }}");
+        assertResolvesSameAsTemplateString("{{ header:missing | fn:default(thing:id) }}");
+        assertResolvesSameAsTemplateString("{{ header:missing | fn:default('fallback') }}-{{ topic:action }}");
+        assertResolvesSameAsTemplateString("{{ fn:default('constant') }}");
+        assertResolvesSameAsTemplateString("{{ fn:delete() }}");
+        assertResolvesSameAsTemplateString("{{ header:missing }}");
+        assertResolvesSameAsTemplateString("a-{{ header:missing }}-b");
+    }
+
+    @Test
+    public void reportsErrorsOnResolution() {
+        final PlaceholderTemplate unknownPlaceholder = PlaceholderTemplate.compile("{{ thing:missing }}");
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> resolver.resolve(unknownPlaceholder));
+
+        final PlaceholderTemplate unknownFunction = PlaceholderTemplate.compile("{{ thing:id | fn:unknown() }}");
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> resolver.resolve(unknownFunction));
+
+        final PlaceholderTemplate tooComplex = PlaceholderTemplate.compile("{{ thing:id | fn:lower() | fn:lower() " +
+                "| fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() " +
+                "| fn:lower() | fn:lower() }}");
+        assertThatExceptionOfType(PlaceholderFunctionTooComplexException.class)
+                .isThrownBy(() -> resolver.resolve(tooComplex));
+    }
+
+    @Test
+    public void doesNotReportErrorsBehindUnresolvedPlaceholder() {
+        final PlaceholderTemplate underTest =
+                PlaceholderTemplate.compile("{{ header:missing }}{{ thing:id | fn:unknown() }}");
+
+        assertThat(resolver.resolve(underTest)).isEqualTo(PipelineElement.unresolved());
+    }
+
+    @Test
+    public void resolvesInValidationMode() {
+        final ExpressionResolver validationResolver = PlaceholderFactory.newExpressionResolverForValidation("x",
+                PlaceholderFactory.newHeadersPlaceholder(), PlaceholderFactory.newThingPlaceholder());
+
+        assertThat(validationResolver.resolve(PlaceholderTemplate.compile("{{ header:a }}/{{ thing:id }}")))
+                .contains("x/x");
+    }
+
+    private static void assertResolvesSameAsTemplateString(final String template) {
+        final PipelineElement expected = resolver.resolve(template);
+        final PipelineElement actual = resolver.resolve(PlaceholderTemplate.compile(template));
+
+        assertThat(actual.getType()).as(template).isEqualTo(expected.getType());
+        assertThat(actual.toOptional()).as(template).isEqualTo(expected.toOptional());
+    }
+
+}
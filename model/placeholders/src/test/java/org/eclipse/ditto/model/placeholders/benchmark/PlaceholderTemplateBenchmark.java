@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.PipelineElement;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderTemplate;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the resolution of template strings with the resolution of precompiled
+ * {@link PlaceholderTemplate}s. Each invocation creates a new expression resolver as it is done for each published
+ * message.
+ */
+@State(Scope.Benchmark)
+public class PlaceholderTemplateBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String TEMPLATE = "telemetry/{{ thing:namespace }}/{{ thing:name | fn:upper() }}/" +
+            "{{ header:device-id | fn:substring-after(':') | fn:default(thing:id) }}/{{ topic:action }}";
+    private static final PlaceholderTemplate COMPILED_TEMPLATE = PlaceholderTemplate.compile(TEMPLATE);
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "benchmark-thing");
+    private static final Map<String, String> HEADERS = DittoHeaders.newBuilder()
+            .putHeader("device-id", "device:4711")
+            .build();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public PipelineElement resolveTemplateString() {
+        return newExpressionResolver().resolve(TEMPLATE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public PipelineElement resolveCompiledTemplate() {
+        return newExpressionResolver().resolve(COMPILED_TEMPLATE);
+    }
+
+    private static ExpressionResolver newExpressionResolver() {
+        return PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), HEADERS),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(), THING_ID),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newTopicPathPlaceholder(),
+                        ProtocolFactory.newTopicPath("org.eclipse.ditto/benchmark-thing/things/twin/events/modified")));
+    }
+
+}
@@ -19,6 +19,7 @@ import java.util.function.Supplier;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityIdInternPool;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityIdInvalidException;
 
@@ -29,6 +30,7 @@ import org.eclipse.ditto.model.base.entity.id.NamespacedEntityIdInvalidException
 public final class PolicyId implements NamespacedEntityId {
 
     private static final PolicyId DUMMY_ID = PolicyId.of(DefaultNamespacedEntityId.dummy());
+    private static final EntityIdInternPool<PolicyId> INTERN_POOL = EntityIdInternPool.newInstance(PolicyId::of);
 
     private final NamespacedEntityId entityId;
 
@@ -54,6 +56,19 @@ public final class PolicyId implements NamespacedEntityId {
         return wrapInPolicyIdInvalidException(() -> new PolicyId(DefaultNamespacedEntityId.of(policyId)));
     }
 
+    /**
+     * Returns the pooled instance of this class for the given CharSequence. Identical IDs obtained by this method
+     * share the same instance as long as it is referenced anywhere, which saves memory for long-lived caches and
+     * skips validation for IDs which are already pooled.
+     *
+     * @param policyId the policy ID.
+     * @return the pooled ID.
+     * @throws PolicyIdInvalidException if {@code policyId} is no valid policy ID.
+     */
+    public static PolicyId interned(final CharSequence policyId) {
+        return INTERN_POOL.intern(policyId);
+    }
+
     public static PolicyId of(final PolicyId policyId) {
         return policyId;
     }
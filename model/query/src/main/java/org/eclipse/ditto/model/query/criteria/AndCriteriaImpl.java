@@ -50,6 +50,6 @@ public class AndCriteriaImpl implements Criteria {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), criterias);
+        return Objects.hash(criterias);
     }
 }
@@ -44,7 +44,7 @@ public class ExistsCriteriaImpl implements Criteria {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), fieldExpression);
+        return Objects.hash(fieldExpression);
     }
 
     @Override
@@ -47,7 +47,7 @@ public class FieldCriteriaImpl implements Criteria {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), fieldExpression, predicate);
+        return Objects.hash(fieldExpression, predicate);
     }
 
     @Override
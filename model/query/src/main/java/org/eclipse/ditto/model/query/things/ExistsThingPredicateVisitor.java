@@ -14,6 +14,7 @@ package org.eclipse.ditto.model.query.things;
 
 import java.util.function.Predicate;
 
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
 import org.eclipse.ditto.model.things.Thing;
@@ -29,27 +30,27 @@ public final class ExistsThingPredicateVisitor implements ExistsFieldExpressionV
 
     @Override
     public Predicate<Thing> visitAttribute(final String key) {
-        return thing -> thing.getAttributes().map(attributes -> attributes.getValue(key).isPresent())
-                .orElse(false);
+        return existsPredicate("/attributes/" + key);
     }
 
     @Override
     public Predicate<Thing> visitFeature(final String featureId) {
-        return thing -> thing.getFeatures()
-                .map(features -> features.getFeature(featureId).isPresent())
-                .orElse(false);
+        return existsPredicate("/features/" + featureId);
     }
 
     @Override
     public Predicate<Thing> visitFeatureIdProperty(final String featureId, final String property) {
-        return thing -> thing.getFeatures()
-                .flatMap(features -> features.getFeature(featureId))
-                .map(feature -> feature.getProperty(property).isPresent())
-                .orElse(false);
+        return existsPredicate("/features/" + featureId + "/properties/" + property);
     }
 
     @Override
     public Predicate<Thing> visitSimple(final String fieldName) {
-        return thing -> thing.toJson().getValue(fieldName).isPresent();
+        final JsonPointer pointer = JsonPointer.of(fieldName);
+        return thing -> thing.toJson().getValue(pointer).isPresent();
+    }
+
+    private static Predicate<Thing> existsPredicate(final CharSequence fieldName) {
+        final JsonPointer pointer = JsonPointer.of(fieldName);
+        return ThingJsonPredicate.of(thingJson -> thingJson.getValue(pointer).isPresent());
     }
 }
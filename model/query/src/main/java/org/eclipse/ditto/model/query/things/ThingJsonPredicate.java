@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * A Java {@link Predicate} of {@link Thing}s which is evaluated on the JSON representation of the thing including all
+ * its fields. Conjunctions and disjunctions of such predicates are combined on the JSON level so that a thing is
+ * converted to JSON only once per evaluation, regardless of how many fields the predicate inspects.
+ * <p>
+ * Instances are immutable and thus may be evaluated concurrently.
+ * </p>
+ */
+@Immutable
+final class ThingJsonPredicate implements Predicate<Thing> {
+
+    private final Predicate<JsonObject> jsonPredicate;
+
+    private ThingJsonPredicate(final Predicate<JsonObject> jsonPredicate) {
+        this.jsonPredicate = jsonPredicate;
+    }
+
+    /**
+     * Creates a predicate of things from a predicate of their JSON representation.
+     *
+     * @param jsonPredicate the predicate of the JSON representation of things.
+     * @return the predicate of things.
+     */
+    static ThingJsonPredicate of(final Predicate<JsonObject> jsonPredicate) {
+        return new ThingJsonPredicate(jsonPredicate);
+    }
+
+    /**
+     * Creates a predicate which is satisfied if all of the given predicates are satisfied.
+     *
+     * @param predicates the already evaluated predicates.
+     * @return the conjunction of the predicates.
+     */
+    static Predicate<Thing> allMatch(final List<Predicate<Thing>> predicates) {
+        final Predicate<JsonObject>[] jsonPredicates = toJsonPredicates(predicates);
+        if (null != jsonPredicates) {
+            return of(json -> {
+                for (final Predicate<JsonObject> jsonPredicate : jsonPredicates) {
+                    if (!jsonPredicate.test(json)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+        return thing -> predicates.stream().allMatch(p -> p.test(thing));
+    }
+
+    /**
+     * Creates a predicate which is satisfied if any of the given predicates is satisfied.
+     *
+     * @param predicates the already evaluated predicates.
+     * @return the disjunction of the predicates.
+     */
+    static Predicate<Thing> anyMatch(final List<Predicate<Thing>> predicates) {
+        final Predicate<JsonObject>[] jsonPredicates = toJsonPredicates(predicates);
+        if (null != jsonPredicates) {
+            return of(json -> anyMatch(jsonPredicates, json));
+        }
+        return thing -> predicates.stream().anyMatch(p -> p.test(thing));
+    }
+
+    /**
+     * Creates a predicate which is satisfied if none of the given predicates is satisfied.
+     *
+     * @param predicates the already evaluated predicates.
+     * @return the negated disjunction of the predicates.
+     */
+    static Predicate<Thing> noneMatch(final List<Predicate<Thing>> predicates) {
+        final Predicate<JsonObject>[] jsonPredicates = toJsonPredicates(predicates);
+        if (null != jsonPredicates) {
+            return of(json -> !anyMatch(jsonPredicates, json));
+        }
+        return thing -> predicates.stream().noneMatch(p -> p.test(thing));
+    }
+
+    @Override
+    public boolean test(final Thing thing) {
+        return jsonPredicate.test(thing.toJson(field -> true));
+    }
+
+    @Override
+    public ThingJsonPredicate negate() {
+        return of(jsonPredicate.negate());
+    }
+
+    private static boolean anyMatch(final Predicate<JsonObject>[] jsonPredicates, final JsonObject json) {
+        for (final Predicate<JsonObject> jsonPredicate : jsonPredicates) {
+            if (jsonPredicate.test(json)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the JSON predicates of the given predicates or {@code null} if any of them is no ThingJsonPredicate.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private static Predicate<JsonObject>[] toJsonPredicates(final List<Predicate<Thing>> predicates) {
+        final Predicate<JsonObject>[] jsonPredicates = new Predicate[predicates.size()];
+        for (int i = 0; i < jsonPredicates.length; i++) {
+            final Predicate<Thing> predicate = predicates.get(i);
+            if (!(predicate instanceof ThingJsonPredicate)) {
+                return null;
+            }
+            jsonPredicates[i] = ((ThingJsonPredicate) predicate).jsonPredicate;
+        }
+        return jsonPredicates;
+    }
+
+}
@@ -14,11 +14,12 @@ package org.eclipse.ditto.model.query.things;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
@@ -28,7 +29,7 @@ import org.eclipse.ditto.model.things.Thing;
  */
 public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Function<String, Predicate<Thing>>> {
 
-    private static ThingPredicatePredicateVisitor instance;
+    private static final ThingPredicatePredicateVisitor INSTANCE = new ThingPredicatePredicateVisitor();
 
     private ThingPredicatePredicateVisitor() {
         // only internally instantiable
@@ -40,10 +41,7 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
      * @return the singleton instance.
      */
     public static ThingPredicatePredicateVisitor getInstance() {
-        if (null == instance) {
-            instance = new ThingPredicatePredicateVisitor();
-        }
-        return instance;
+        return INSTANCE;
     }
 
     /**
@@ -62,64 +60,32 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
 
     @Override
     public Function<String, Predicate<Thing>> visitEq(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(value::equals)
-                        .isPresent();
+        return fieldName -> fieldPredicate(fieldName, javaValue -> value.equals(javaValue));
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitNe(final Object value) {
-        return fieldName ->
-                thing -> !getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(value::equals)
-                        .isPresent();
+        return fieldName -> fieldPredicate(fieldName, javaValue -> value.equals(javaValue)).negate();
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitGe(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
-                        .map(obj -> (Comparable) obj)
-                        .filter(obj -> compare((Comparable) value, obj) >= 0)
-                        .isPresent();
+        return fieldName -> comparisonPredicate(fieldName, value, comparison -> comparison >= 0);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitGt(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
-                        .map(obj -> (Comparable) obj)
-                        .filter(obj -> compare((Comparable) value, obj) > 0)
-                        .isPresent();
+        return fieldName -> comparisonPredicate(fieldName, value, comparison -> comparison > 0);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitLe(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
-                        .map(obj -> (Comparable) obj)
-                        .filter(obj -> compare((Comparable) value, obj) <= 0)
-                        .isPresent();
+        return fieldName -> comparisonPredicate(fieldName, value, comparison -> comparison <= 0);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitLt(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
-                        .map(obj -> (Comparable) obj)
-                        .filter(obj -> compare((Comparable) value, obj) < 0)
-                        .isPresent();
+        return fieldName -> comparisonPredicate(fieldName, value, comparison -> comparison < 0);
     }
 
     private static int compare(final Comparable value, final Comparable obj) {
@@ -157,25 +123,39 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
 
     @Override
     public Function<String, Predicate<Thing>> visitIn(final List<?> values) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(values::contains)
-                        .isPresent();
+        return fieldName -> fieldPredicate(fieldName, values::contains);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitLike(final String value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .filter(JsonValue::isString)
-                        .map(JsonValue::asString)
-                        .filter(str -> Pattern.compile(value).matcher(str).matches())
-                        .isPresent();
+        final Pattern pattern = Pattern.compile(value);
+        return fieldName -> {
+            final JsonPointer pointer = JsonPointer.of(fieldName);
+            return ThingJsonPredicate.of(thingJson -> thingJson.getValue(pointer)
+                    .filter(JsonValue::isString)
+                    .map(JsonValue::asString)
+                    .filter(str -> pattern.matcher(str).matches())
+                    .isPresent());
+        };
+    }
+
+    /**
+     * Creates a predicate which is satisfied if the field exists, its value maps to a non-null Java value and the
+     * Java value satisfies the given predicate. The field pointer is resolved only once.
+     */
+    private static ThingJsonPredicate fieldPredicate(final CharSequence fieldName,
+            final Predicate<Object> javaValuePredicate) {
+        final JsonPointer pointer = JsonPointer.of(fieldName);
+        return ThingJsonPredicate.of(thingJson -> thingJson.getValue(pointer)
+                .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
+                .filter(javaValuePredicate)
+                .isPresent());
     }
 
-    private static Optional<JsonValue> getThingField(final CharSequence fieldName, final Thing thing) {
-        return thing.toJson(p -> true).getValue(fieldName);
+    private static ThingJsonPredicate comparisonPredicate(final CharSequence fieldName, final Object value,
+            final IntPredicate comparisonPredicate) {
+        return fieldPredicate(fieldName, obj -> obj instanceof Comparable && value instanceof Comparable &&
+                comparisonPredicate.test(compare((Comparable) value, (Comparable) obj)));
     }
 
     private static Object mapJsonValueToJava(final JsonValue jsonValue) {
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.model.query.things;
 
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.ditto.model.query.criteria.Criteria;
@@ -30,13 +31,20 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
         // only internally instantiable
     }
 
+    /**
+     * Compiles the given criteria into a Java {@link Predicate} of things. The predicate is immutable; it may be
+     * evaluated concurrently and as often as needed, so it should be created only once per filter.
+     *
+     * @param criteria the criteria to compile.
+     * @return the predicate.
+     */
     public static Predicate<Thing> apply(final Criteria criteria) {
         return criteria.accept(new ThingPredicateVisitor());
     }
 
     @Override
     public Predicate<Thing> visitAnd(final Stream<Predicate<Thing>> conjuncts) {
-        return thing -> conjuncts.allMatch(p -> p.test(thing));
+        return ThingJsonPredicate.allMatch(conjuncts.collect(Collectors.toList()));
     }
 
     @Override
@@ -58,11 +66,11 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
 
     @Override
     public Predicate<Thing> visitNor(final Stream<Predicate<Thing>> negativeDisjoints) {
-        return thing -> negativeDisjoints.noneMatch(p -> p.test(thing));
+        return ThingJsonPredicate.noneMatch(negativeDisjoints.collect(Collectors.toList()));
     }
 
     @Override
     public Predicate<Thing> visitOr(final Stream<Predicate<Thing>> disjoints) {
-        return thing -> disjoints.anyMatch(p -> p.test(thing));
+        return ThingJsonPredicate.anyMatch(disjoints.collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.criteria;
+
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link AndCriteriaImpl}.
+ */
+public final class AndCriteriaImplTest {
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(AndCriteriaImpl.class)
+                .usingGetClass()
+                .verify();
+    }
+
+}
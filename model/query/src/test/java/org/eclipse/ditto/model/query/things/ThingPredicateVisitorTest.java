@@ -469,4 +469,28 @@ public final class ThingPredicateVisitorTest {
                 .isEqualTo(true);
     }
 
+    @Test
+    public void testCompiledPredicateIsReusable() {
+        final String filter = "and(" +
+                "or(exists(features/foo/properties/aLong),exists(attributes/missing))," +
+                "not(eq(thingId,\"" + NON_MATCHING_THING_LESSER_ID + "\"))," +
+                "like(attributes/aString,\"ccc*\")," +
+                "exists(thingId)" +
+                ")";
+        final Predicate<Thing> thingPredicate = createPredicate(filter);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(thingPredicate.test(MATCHING_THING))
+                    .as("Filtering '" + filter + "' should be true on evaluation " + i)
+                    .isTrue();
+            assertThat(thingPredicate.test(NON_MATCHING_THING_LESSER))
+                    .as("Filtering '" + filter + "' should be false on evaluation " + i)
+                    .isFalse();
+            assertThat(thingPredicate.test(NON_MATCHING_THING_GREATER))
+                    .as("Filtering '" + filter + "' should be false on evaluation " + i)
+                    .isFalse();
+        }
+    }
+
+
 }
@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityIdInternPool;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityIdInvalidException;
 
@@ -31,6 +32,7 @@ import org.eclipse.ditto.model.base.entity.id.NamespacedEntityIdInvalidException
 public final class ThingId implements NamespacedEntityId {
 
     private static final ThingId DUMMY_ID = ThingId.of(DefaultNamespacedEntityId.dummy());
+    private static final EntityIdInternPool<ThingId> INTERN_POOL = EntityIdInternPool.newInstance(ThingId::of);
     private final NamespacedEntityId entityId;
 
     private ThingId(final NamespacedEntityId entityId) {
@@ -54,6 +56,19 @@ public final class ThingId implements NamespacedEntityId {
         return wrapInThingIdInvalidException(() -> new ThingId(DefaultNamespacedEntityId.of(thingId)));
     }
 
+    /**
+     * Returns the pooled instance of this class for the given CharSequence. Identical IDs obtained by this method
+     * share the same instance as long as it is referenced anywhere, which saves memory for long-lived caches and
+     * skips validation for IDs which are already pooled.
+     *
+     * @param thingId the thing ID.
+     * @return the pooled ID.
+     * @throws ThingIdInvalidException if {@code thingId} is no valid thing ID.
+     */
+    public static ThingId interned(final CharSequence thingId) {
+        return INTERN_POOL.intern(thingId);
+    }
+
     /**
      * Returns an instance of this class with the given namespace and name.
      *
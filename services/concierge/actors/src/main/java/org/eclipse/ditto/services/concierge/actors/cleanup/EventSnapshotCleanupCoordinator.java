@@ -32,8 +32,6 @@ import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
-import org.eclipse.ditto.services.concierge.actors.cleanup.credits.CreditDecisionSource;
-import org.eclipse.ditto.services.concierge.actors.cleanup.messages.CreditDecision;
 import org.eclipse.ditto.services.concierge.actors.cleanup.persistenceids.PersistenceIdSource;
 import org.eclipse.ditto.services.concierge.common.PersistenceCleanupConfig;
 import org.eclipse.ditto.services.models.connectivity.ConnectionTag;
@@ -49,6 +47,8 @@ import org.eclipse.ditto.services.utils.health.RetrieveHealth;
 import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
 import org.eclipse.ditto.services.utils.health.StatusDetailMessage;
 import org.eclipse.ditto.services.utils.health.StatusInfo;
+import org.eclipse.ditto.services.utils.persistence.mongo.credits.BackgroundLoadController;
+import org.eclipse.ditto.services.utils.persistence.mongo.credits.CreditDecision;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
@@ -340,10 +340,11 @@ public final class EventSnapshotCleanupCoordinator extends AbstractActorWithTime
     }
 
     private Source<Integer, NotUsed> creditSource() {
-        final Graph<SourceShape<CreditDecision>, NotUsed> creditDecisionSource =
-                CreditDecisionSource.create(config.getCreditDecisionConfig(), getContext(), pubSubMediator, log);
+        final Source<CreditDecision, NotUsed> creditDecisionSource =
+                BackgroundLoadController.get(getContext().getSystem())
+                        .creditDecisions(ACTOR_NAME, config.getCreditDecisionConfig().getCreditPerBatch());
 
-        return Source.fromGraph(creditDecisionSource).via(reportToSelf()).map(CreditDecision::getCredit);
+        return creditDecisionSource.via(reportToSelf()).map(CreditDecision::getCredit);
     }
 
     private Graph<SourceShape<EntityIdWithRevision>, NotUsed> persistenceIdSource() {
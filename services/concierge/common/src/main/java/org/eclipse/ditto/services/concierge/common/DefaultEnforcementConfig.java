@@ -32,11 +32,17 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
     private final Duration askTimeout;
     private final int bufferSize;
     private final int parallelism;
+    private final boolean liveResponseDirectRoutingEnabled;
+    private final Duration liveResponseReceiverTimeout;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askTimeout = configWithFallback.getDuration(EnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
         bufferSize = configWithFallback.getInt(EnforcementConfigValue.BUFFER_SIZE.getConfigPath());
         parallelism = configWithFallback.getInt(EnforcementConfigValue.PARALLELISM.getConfigPath());
+        liveResponseDirectRoutingEnabled = configWithFallback.getBoolean(
+                EnforcementConfigValue.LIVE_RESPONSE_DIRECT_ROUTING_ENABLED.getConfigPath());
+        liveResponseReceiverTimeout = configWithFallback.getDuration(
+                EnforcementConfigValue.LIVE_RESPONSE_RECEIVER_TIMEOUT.getConfigPath());
     }
 
     /**
@@ -66,6 +72,15 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return parallelism;
     }
 
+    @Override
+    public boolean isLiveResponseDirectRoutingEnabled() {
+        return liveResponseDirectRoutingEnabled;
+    }
+
+    @Override
+    public Duration getLiveResponseReceiverTimeout() {
+        return liveResponseReceiverTimeout;
+    }
 
     @Override
     public boolean equals(final Object o) {
@@ -78,12 +93,15 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
         return bufferSize == that.bufferSize &&
                 parallelism == that.parallelism &&
-                askTimeout.equals(that.askTimeout);
+                liveResponseDirectRoutingEnabled == that.liveResponseDirectRoutingEnabled &&
+                askTimeout.equals(that.askTimeout) &&
+                liveResponseReceiverTimeout.equals(that.liveResponseReceiverTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, bufferSize, parallelism);
+        return Objects.hash(askTimeout, bufferSize, parallelism, liveResponseDirectRoutingEnabled,
+                liveResponseReceiverTimeout);
     }
 
     @Override
@@ -92,6 +110,8 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
                 "askTimeout=" + askTimeout +
                 ", bufferSize=" + bufferSize +
                 ", parallelism=" + parallelism +
+                ", liveResponseDirectRoutingEnabled=" + liveResponseDirectRoutingEnabled +
+                ", liveResponseReceiverTimeout=" + liveResponseReceiverTimeout +
                 "]";
     }
 
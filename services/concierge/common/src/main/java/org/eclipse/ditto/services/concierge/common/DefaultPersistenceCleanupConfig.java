@@ -16,6 +16,8 @@ import java.time.Duration;
 import java.util.Objects;
 
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.CreditDecisionConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultCreditDecisionConfig;
 
 import com.typesafe.config.Config;
 
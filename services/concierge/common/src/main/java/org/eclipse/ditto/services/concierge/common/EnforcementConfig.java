@@ -45,6 +45,22 @@ public interface EnforcementConfig {
      */
     int getParallelism();
 
+    /**
+     * Indicates whether the receiver of the response to a live signal should travel with the signal instead of being
+     * cached by the enforcer. Responding edges supporting direct routing then deliver the response straight to the
+     * receiver without passing the enforcer again.
+     *
+     * @return {@code true} if responses to live signals should be routed directly, {@code false} else.
+     */
+    boolean isLiveResponseDirectRoutingEnabled();
+
+    /**
+     * Returns the duration for which the receiver of the response to a live signal is kept.
+     *
+     * @return the duration.
+     */
+    Duration getLiveResponseReceiverTimeout();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code EnforcementConfig}.
@@ -64,8 +80,17 @@ public interface EnforcementConfig {
         /**
          * The parallelism used for processing messages in parallel in enforcer actor.
          */
-        PARALLELISM("parallelism", 100)
-        ;
+        PARALLELISM("parallelism", 100),
+
+        /**
+         * Determines whether responses to live signals should be routed directly to their receiver.
+         */
+        LIVE_RESPONSE_DIRECT_ROUTING_ENABLED("live-response-direct-routing-enabled", false),
+
+        /**
+         * The duration for which the receiver of the response to a live signal is kept.
+         */
+        LIVE_RESPONSE_RECEIVER_TIMEOUT("live-response-receiver-timeout", Duration.ofSeconds(120L));
 
         private final String path;
         private final Object defaultValue;
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.concierge.common;
 import java.time.Duration;
 
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.CreditDecisionConfig;
 
 import com.typesafe.config.Config;
 
@@ -68,6 +68,13 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getParallelism())
                 .as(EnforcementConfig.EnforcementConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(EnforcementConfig.EnforcementConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.isLiveResponseDirectRoutingEnabled())
+                .as(EnforcementConfig.EnforcementConfigValue.LIVE_RESPONSE_DIRECT_ROUTING_ENABLED.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.LIVE_RESPONSE_DIRECT_ROUTING_ENABLED
+                        .getDefaultValue());
+        softly.assertThat(underTest.getLiveResponseReceiverTimeout())
+                .as(EnforcementConfig.EnforcementConfigValue.LIVE_RESPONSE_RECEIVER_TIMEOUT.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.LIVE_RESPONSE_RECEIVER_TIMEOUT.getDefaultValue());
     }
 
     @Test
@@ -83,6 +90,12 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getParallelism())
                 .as(EnforcementConfig.EnforcementConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(73);
+        softly.assertThat(underTest.isLiveResponseDirectRoutingEnabled())
+                .as(EnforcementConfig.EnforcementConfigValue.LIVE_RESPONSE_DIRECT_ROUTING_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getLiveResponseReceiverTimeout())
+                .as(EnforcementConfig.EnforcementConfigValue.LIVE_RESPONSE_RECEIVER_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(42L));
     }
 
 }
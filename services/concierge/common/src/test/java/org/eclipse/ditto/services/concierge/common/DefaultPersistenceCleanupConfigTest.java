@@ -19,6 +19,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 import java.time.Duration;
 
 import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.CreditDecisionConfig;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
@@ -20,6 +23,7 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
+import org.eclipse.ditto.services.models.concierge.InvalidateResponseReceiver;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CaffeineCache;
@@ -29,7 +33,6 @@ import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
-import org.eclipse.ditto.services.utils.metrics.instruments.timer.ExpiringTimerBuilder;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -91,7 +94,7 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
         contextual = new Contextual<>(null, getSelf(), getContext().getSystem().deadLetters(),
                 pubSubMediator, conciergeForwarder, enforcementConfig.getAskTimeout(), log, null, null,
-                null, null, createResponseReceiversCache());
+                null, null, createResponseReceiversCache(enforcementConfig.getLiveResponseReceiverTimeout()));
 
         // register for sending messages via pub/sub to this enforcer
         // used for receiving cache invalidations from brother concierge nodes
@@ -104,6 +107,9 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
             log.debug("received <{}>", invalidateCacheEntry);
             final EntityIdWithResourceType entityId = invalidateCacheEntry.getEntityId();
             invalidateCaches(entityId);
+        }).match(InvalidateResponseReceiver.class, invalidateResponseReceiver -> {
+            log.debug("received <{}>", invalidateResponseReceiver);
+            contextual.getResponseReceivers().invalidate(invalidateResponseReceiver.getCorrelationId());
         });
     }
 
@@ -128,18 +134,18 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
     }
 
     private StartedTimer createTimer(final WithDittoHeaders withDittoHeaders) {
-        final ExpiringTimerBuilder timerBuilder = DittoMetrics.expiringTimer(TIMER_NAME);
-
+        final Map<String, String> tags = new HashMap<>();
         withDittoHeaders.getDittoHeaders().getChannel().ifPresent(channel ->
-                timerBuilder.tag("channel", channel)
+                tags.put("channel", channel)
         );
         if (withDittoHeaders instanceof Signal) {
-            timerBuilder.tag("resource", ((Signal) withDittoHeaders).getResourceType());
+            tags.put("resource", ((Signal) withDittoHeaders).getResourceType());
         }
         if (withDittoHeaders instanceof Command) {
-            timerBuilder.tag("category", ((Command) withDittoHeaders).getCategory().name().toLowerCase());
+            tags.put("category", ((Command) withDittoHeaders).getCategory().name().toLowerCase());
         }
-        return timerBuilder.build();
+        // the tag combinations are few, thus the timers are bound once per combination
+        return DittoMetrics.expiringTimer(DittoMetrics.boundTimer(TIMER_NAME, tags)).build();
     }
 
     @Override
@@ -163,7 +169,7 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         return contextual.withReceivedMessage(message, getSender());
     }
 
-    private static Cache<String, ResponseReceiver> createResponseReceiversCache() {
-        return CaffeineCache.of(Caffeine.newBuilder().expireAfterWrite(120, TimeUnit.SECONDS));
+    private static Cache<String, ResponseReceiver> createResponseReceiversCache(final Duration expiry) {
+        return CaffeineCache.of(Caffeine.newBuilder().expireAfterWrite(expiry.toMillis(), TimeUnit.MILLISECONDS));
     }
 }
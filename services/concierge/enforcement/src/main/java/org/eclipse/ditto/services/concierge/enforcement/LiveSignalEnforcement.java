@@ -21,7 +21,9 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.AclEnforcer;
 import org.eclipse.ditto.model.enforcers.Enforcer;
@@ -52,21 +54,31 @@ import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import akka.actor.ActorRef;
+import akka.serialization.Serialization;
 
 /**
  * Enforces live commands (including message commands) and live events.
+ * <p>
+ * The receivers of responses to live signals are cached by correlation ID until the response passes the enforcer.
+ * If direct routing is enabled, they are additionally attached to the published signal in header
+ * {@link DittoHeaderDefinition#LIVE_RESPONSE_TARGET} so that a responding edge able to use it, i. e. a WebSocket
+ * session, delivers the response directly and then invalidates the cached receiver at the enforcer named in header
+ * {@link DittoHeaderDefinition#LIVE_RESPONSE_ENFORCER}; responses of all other edges, e. g. connections, still find
+ * their receiver in the cache.
  */
 public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
 
     private final EnforcerRetriever enforcerRetriever;
     private final Cache<String, ResponseReceiver> responseReceivers;
     private final LiveSignalPub liveSignalPub;
+    private final boolean directResponseRouting;
 
     private LiveSignalEnforcement(final Contextual<Signal> context,
             final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
-            final LiveSignalPub liveSignalPub) {
+            final LiveSignalPub liveSignalPub,
+            final boolean directResponseRouting) {
 
         super(context);
         requireNonNull(thingIdCache);
@@ -76,6 +88,7 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
                 PolicyOrAclEnforcerRetrieverFactory.create(thingIdCache, policyEnforcerCache, aclEnforcerCache);
         responseReceivers = context.getResponseReceivers();
         this.liveSignalPub = liveSignalPub;
+        this.directResponseRouting = directResponseRouting;
     }
 
     /**
@@ -87,6 +100,7 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
         private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
         private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
         private final LiveSignalPub liveSignalPub;
+        private final boolean directResponseRouting;
 
         /**
          * Constructor.
@@ -101,10 +115,30 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
                 final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
                 final LiveSignalPub liveSignalPub) {
 
+            this(thingIdCache, policyEnforcerCache, aclEnforcerCache, liveSignalPub, false);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param thingIdCache the thing-id-cache.
+         * @param policyEnforcerCache the policy-enforcer cache.
+         * @param aclEnforcerCache the acl-enforcer cache.
+         * @param liveSignalPub distributed-pub access for live signal publication
+         * @param directResponseRouting whether the receivers of responses to live signals should travel with the
+         * signals instead of being cached.
+         */
+        public Provider(final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                final LiveSignalPub liveSignalPub,
+                final boolean directResponseRouting) {
+
             this.thingIdCache = requireNonNull(thingIdCache);
             this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
             this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
             this.liveSignalPub = liveSignalPub;
+            this.directResponseRouting = directResponseRouting;
         }
 
         @Override
@@ -120,7 +154,7 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
         @Override
         public AbstractEnforcement<Signal> createEnforcement(final Contextual<Signal> context) {
             return new LiveSignalEnforcement(context, thingIdCache, policyEnforcerCache, aclEnforcerCache,
-                    liveSignalPub);
+                    liveSignalPub, directResponseRouting);
         }
 
     }
@@ -150,12 +184,10 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
             final String correlationId = correlationIdOpt.get();
 
             if (liveSignal instanceof SendClaimMessage) {
-                if (liveSignal.getDittoHeaders().isResponseRequired()) {
-                    responseReceivers.put(correlationId, ResponseReceiver.of(sender, liveSignal.getDittoHeaders()));
-                }
                 // claim messages require no enforcement, publish them right away:
                 return CompletableFuture.completedFuture(
-                        publishMessageCommand((SendClaimMessage) liveSignal, enforcer));
+                        publishMessageCommand(routeResponse((SendClaimMessage) liveSignal, sender, correlationId),
+                                enforcer));
 
             } else if (liveSignal instanceof CommandResponse) {
                 return enforceLiveCommandResponse(liveSignal, correlationId);
@@ -206,12 +238,12 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
 
         switch (streamingType) {
             case MESSAGES:
-                final Contextual<WithDittoHeaders> contextual =
-                        enforceMessageCommand((MessageCommand) liveSignal, enforcer);
-                if (liveSignal.getDittoHeaders().isResponseRequired()) {
-                    responseReceivers.put(correlationId, ResponseReceiver.of(sender, liveSignal.getDittoHeaders()));
+                final MessageCommand messageCommand = (MessageCommand) liveSignal;
+                if (!isAuthorized(messageCommand, enforcer)) {
+                    throw rejectMessageCommand(messageCommand);
                 }
-                return CompletableFuture.completedFuture(contextual);
+                return CompletableFuture.completedFuture(
+                        publishMessageCommand(routeResponse(messageCommand, sender, correlationId), enforcer));
             case LIVE_EVENTS:
                 return enforceLiveEvent(liveSignal, enforcer);
             case LIVE_COMMANDS:
@@ -226,12 +258,9 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
                 }
 
                 if (authorized) {
-                    final Command<?> withReadSubjects =
-                            addReadSubjectsToThingSignal((Command<?>) liveSignal, enforcer);
+                    final Command<?> withReadSubjects = routeResponse(
+                            addReadSubjectsToThingSignal((Command<?>) liveSignal, enforcer), sender, correlationId);
                     log(withReadSubjects).info("Live Command was authorized: <{}>", withReadSubjects);
-                    if (liveSignal.getDittoHeaders().isResponseRequired()) {
-                        responseReceivers.put(correlationId, ResponseReceiver.of(sender, liveSignal.getDittoHeaders()));
-                    }
                     return CompletableFuture.completedFuture(
                             publishLiveSignal(withReadSubjects, liveSignalPub.command()));
                 } else {
@@ -278,12 +307,37 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
         return StreamingType.isLiveSignal(signal);
     }
 
-    private Contextual<WithDittoHeaders> enforceMessageCommand(final MessageCommand command, final Enforcer enforcer) {
-        if (isAuthorized(command, enforcer)) {
-            return publishMessageCommand(command, enforcer);
-        } else {
-            throw rejectMessageCommand(command);
+    /**
+     * Makes sure that the response to a live signal finds its way back to the sender. The sender is cached by
+     * correlation ID; with direct response routing, the serialized sender travels with the signal as well, together
+     * with the enforcer to notify once the response was delivered directly. Response targets set by anyone else are
+     * always discarded.
+     *
+     * @param liveSignal the live signal to be published.
+     * @param sender the sender of the live signal and receiver of the response.
+     * @param correlationId the correlation ID of the live signal.
+     * @param <T> the type of the live signal.
+     * @return the live signal to publish.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Signal> T routeResponse(final T liveSignal, final ActorRef sender,
+            final String correlationId) {
+
+        final DittoHeaders dittoHeaders = liveSignal.getDittoHeaders();
+        final DittoHeadersBuilder<?, ?> headersBuilder = dittoHeaders.toBuilder()
+                .removeHeader(DittoHeaderDefinition.LIVE_RESPONSE_TARGET.getKey())
+                .removeHeader(DittoHeaderDefinition.LIVE_RESPONSE_ENFORCER.getKey());
+        if (dittoHeaders.isResponseRequired()) {
+            if (directResponseRouting) {
+                headersBuilder.putHeader(DittoHeaderDefinition.LIVE_RESPONSE_TARGET.getKey(),
+                        Serialization.serializedActorPath(sender))
+                        .putHeader(DittoHeaderDefinition.LIVE_RESPONSE_ENFORCER.getKey(),
+                                Serialization.serializedActorPath(self()));
+            }
+            // responders not able to route directly send their responses to the enforcer
+            responseReceivers.put(correlationId, ResponseReceiver.of(sender, dittoHeaders));
         }
+        return (T) liveSignal.setDittoHeaders(headersBuilder.build());
     }
 
     private Contextual<WithDittoHeaders> publishMessageCommand(final MessageCommand command, final Enforcer enforcer) {
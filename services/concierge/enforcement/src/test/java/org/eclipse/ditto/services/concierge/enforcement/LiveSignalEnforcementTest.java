@@ -32,6 +32,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -47,6 +48,7 @@ import org.eclipse.ditto.model.things.AclEntry;
 import org.eclipse.ditto.model.things.Feature;
 import org.eclipse.ditto.model.things.ThingBuilder;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.concierge.InvalidateResponseReceiver;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
@@ -74,6 +76,7 @@ import com.typesafe.config.ConfigFactory;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.serialization.Serialization;
 import akka.testkit.TestActorRef;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -356,6 +359,109 @@ public final class LiveSignalEnforcementTest {
         }};
     }
 
+    @Test
+    public void routeMessageCommandResponseDirectly() {
+        final JsonObject thingWithAcl = newThing()
+                .setPermissions(AclEntry.newInstance(SUBJECT, READ, WRITE, ADMINISTRATE))
+                .build()
+                .toJson(V_1, FieldType.all());
+        final SudoRetrieveThingResponse response =
+                SudoRetrieveThingResponse.of(thingWithAcl, DittoHeaders.empty());
+
+        new TestKit(system) {{
+            mockEntitiesActorInstance.setReply(THING_SUDO, response);
+
+            final TestProbe responseProbe = TestProbe.apply(system);
+
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, true);
+            final MessageCommand msgCommand = thingMessageCommand();
+            underTest.tell(msgCommand, responseProbe.ref());
+            final DistributedPubSubMediator.Publish publish =
+                    fishForMsgClass(this, DistributedPubSubMediator.Publish.class);
+            assertThat(publish.topic()).isEqualTo(StreamingType.MESSAGES.getDistributedPubSubTopic());
+
+            final MessageCommand<?, ?> publishedCommand = (MessageCommand<?, ?>) publish.msg();
+            assertThat(publishedCommand.getDittoHeaders())
+                    .containsEntry(DittoHeaderDefinition.LIVE_RESPONSE_TARGET.getKey(),
+                            Serialization.serializedActorPath(responseProbe.ref()))
+                    .containsEntry(DittoHeaderDefinition.LIVE_RESPONSE_ENFORCER.getKey(),
+                            Serialization.serializedActorPath(underTest));
+        }};
+    }
+
+    @Test
+    public void forgetResponseReceiverWhenResponseWasRoutedDirectly() {
+        final JsonObject thingWithAcl = newThing()
+                .setPermissions(AclEntry.newInstance(SUBJECT, READ, WRITE, ADMINISTRATE))
+                .build()
+                .toJson(V_1, FieldType.all());
+        final SudoRetrieveThingResponse response =
+                SudoRetrieveThingResponse.of(thingWithAcl, DittoHeaders.empty());
+
+        new TestKit(system) {{
+            mockEntitiesActorInstance.setReply(THING_SUDO, response);
+
+            final TestProbe responseProbe = TestProbe.apply(system);
+
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, true);
+            final MessageCommand msgCommand = thingMessageCommand();
+            underTest.tell(msgCommand, responseProbe.ref());
+            final DistributedPubSubMediator.Publish publish =
+                    fishForMsgClass(this, DistributedPubSubMediator.Publish.class);
+            final MessageCommand<?, ?> publishedCommand = (MessageCommand<?, ?>) publish.msg();
+
+            // WHEN: the responding edge delivered the response directly
+            underTest.tell(InvalidateResponseReceiver.of(
+                    publishedCommand.getDittoHeaders().getCorrelationId().orElseThrow()), getRef());
+
+            // THEN: the receiver is no longer cached
+            underTest.tell(thingMessageCommandResponse(publishedCommand), getRef());
+            responseProbe.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void routeMessageCommandResponseOfConnectionWithDirectRoutingEnabled() {
+        final JsonObject thingWithAcl = newThing()
+                .setPermissions(AclEntry.newInstance(SUBJECT, READ, WRITE, ADMINISTRATE))
+                .build()
+                .toJson(V_1, FieldType.all());
+        final SudoRetrieveThingResponse response =
+                SudoRetrieveThingResponse.of(thingWithAcl, DittoHeaders.empty());
+
+        new TestKit(system) {{
+            mockEntitiesActorInstance.setReply(THING_SUDO, response);
+
+            final TestProbe responseProbe = TestProbe.apply(system);
+            final TestProbe connectivityProbe = TestProbe.apply(system);
+
+            final ActorRef underTest = TestSetup.newEnforcerActor(system, getRef(), mockEntitiesActor,
+                    mockEntitiesActor, null, true);
+            final MessageCommand msgCommand = thingMessageCommand();
+            underTest.tell(msgCommand, responseProbe.ref());
+            final DistributedPubSubMediator.Publish publish =
+                    fishForMsgClass(this, DistributedPubSubMediator.Publish.class);
+            final MessageCommand<?, ?> publishedCommand = (MessageCommand<?, ?>) publish.msg();
+
+            // WHEN: a connection answers the message without the internal response target header
+            final DittoHeaders connectionHeaders = publishedCommand.getDittoHeaders()
+                    .toBuilder()
+                    .removeHeader(DittoHeaderDefinition.LIVE_RESPONSE_TARGET.getKey())
+                    .build();
+            final MessageCommandResponse connectionResponse =
+                    thingMessageCommandResponse(publishedCommand.setDittoHeaders(connectionHeaders));
+            underTest.tell(connectionResponse, connectivityProbe.ref());
+
+            // THEN: the response is routed to the cached receiver
+            final MessageCommandResponse<?, ?> routedResponse =
+                    responseProbe.expectMsgClass(MessageCommandResponse.class);
+            assertThat(routedResponse.getDittoHeaders().getCorrelationId())
+                    .isEqualTo(msgCommand.getDittoHeaders().getCorrelationId());
+        }};
+    }
+
     @Test
     public void acceptFeatureMessageCommandByPolicy() {
         final PolicyId policyId = PolicyId.of("policy:id");
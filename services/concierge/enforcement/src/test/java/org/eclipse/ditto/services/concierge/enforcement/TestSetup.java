@@ -102,6 +102,14 @@ public final class TestSetup {
             final ActorRef thingsShardRegion, final ActorRef policiesShardRegion,
             @Nullable final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer) {
 
+        return newEnforcerActor(system, testActorRef, thingsShardRegion, policiesShardRegion, preEnforcer, false);
+    }
+
+    public static ActorRef newEnforcerActor(final ActorSystem system, final ActorRef testActorRef,
+            final ActorRef thingsShardRegion, final ActorRef policiesShardRegion,
+            @Nullable final Function<WithDittoHeaders, CompletionStage<WithDittoHeaders>> preEnforcer,
+            final boolean liveResponseDirectRouting) {
+
         final ActorRef conciergeForwarder =
                 new TestProbe(system, createUniqueName("conciergeForwarder-")).ref();
         final Duration askTimeout = CACHES_CONFIG.getAskTimeout();
@@ -127,7 +135,7 @@ public final class TestSetup {
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegion, policyEnforcerCache));
         enforcementProviders.add(
                 new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache, aclEnforcerCache,
-                        new DummyLiveSignalPub(testActorRef)));
+                        new DummyLiveSignalPub(testActorRef), liveResponseDirectRouting));
 
         final Props props = EnforcerActor.props(testActorRef, enforcementProviders, conciergeForwarder,
                 preEnforcer, null, null, null);
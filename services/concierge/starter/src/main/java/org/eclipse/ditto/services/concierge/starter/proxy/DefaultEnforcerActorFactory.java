@@ -124,7 +124,8 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                 policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer));
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache));
         enforcementProviders.add(new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache,
-                aclEnforcerCache, liveSignalPub));
+                aclEnforcerCache, liveSignalPub,
+                conciergeConfig.getEnforcementConfig().isLiveResponseDirectRoutingEnabled()));
 
         final ActorRef conciergeEnforcerRouter =
                 ConciergeEnforcerClusterRouterFactory.createConciergeEnforcerClusterRouter(context,
@@ -62,6 +62,7 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ClientConnecte
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconnected;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
+import org.eclipse.ditto.services.connectivity.messaging.internal.MappingActorRestarted;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLogger;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLoggerRegistry;
@@ -210,6 +211,7 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
     public void postStop() {
         clientGauge.reset();
         clientConnectingGauge.reset();
+        MappingInFlightCounter.remove(connectionId());
         try {
             super.postStop();
         } catch (final Exception e) {
@@ -240,6 +242,14 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         // do nothing by default
     }
 
+    /**
+     * Invoked when a mapping actor restarted. Consumers waiting for the mapping to report the hand-off of their
+     * messages should stop waiting. Do nothing by default.
+     */
+    protected void onMappingActorRestarted() {
+        // do nothing by default
+    }
+
     /**
      * Handles {@link TestConnection} commands by returning a CompletionState of {@link akka.actor.Status.Status Status}
      * which may be {@link akka.actor.Status.Success Success} or {@link akka.actor.Status.Failure Failure}.
@@ -324,7 +334,11 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
                 .event(CheckConnectionLogsActive.class, BaseClientData.class,
                         (command, data) -> this.checkLoggingActive(command))
                 .event(OutboundSignal.class, BaseClientData.class, this::handleOutboundSignal)
-                .event(PublishMappedMessage.class, BaseClientData.class, this::publishMappedMessage);
+                .event(PublishMappedMessage.class, BaseClientData.class, this::publishMappedMessage)
+                .event(MappingActorRestarted.class, BaseClientData.class, (restarted, data) -> {
+                    onMappingActorRestarted();
+                    return stay();
+                });
     }
 
     /**
@@ -1165,6 +1179,8 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
                 connection.getProcessorPoolSize());
         final Props props = MessageMappingProcessorActor.props(conciergeForwarder, getSelf(), processor,
                 connectionId());
+        // messages in the mailboxes of previous mapping actors are lost
+        MappingInFlightCounter.of(connectionId()).reset();
 
         /*
          * By using a ConsistentHashingPool, messages sent to this actor which are wrapped into
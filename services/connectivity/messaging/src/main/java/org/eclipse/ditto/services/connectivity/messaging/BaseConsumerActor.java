@@ -48,6 +48,7 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
     protected final ConnectionId connectionId;
 
     private final ActorRef messageMappingProcessor;
+    private final MappingInFlightCounter mappingInFlightCounter;
 
     @Nullable private ResourceStatus resourceStatus;
 
@@ -58,6 +59,7 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         this.sourceAddress = checkNotNull(sourceAddress, "sourceAddress");
         this.messageMappingProcessor = checkNotNull(messageMappingProcessor, "messageMappingProcessor");
         this.source = checkNotNull(source, "source");
+        mappingInFlightCounter = MappingInFlightCounter.of(connectionId);
         resetResourceStatus();
 
         final MonitoringConfig monitoringConfig = DittoConnectivityConfig.of(
@@ -69,9 +71,33 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
     }
 
     protected void forwardToMappingActor(final ExternalMessage message, final String hashKey) {
+        mappingInFlightCounter.handedOff();
         doForwardToMappingActor(addReplyTarget(message), hashKey);
     }
 
+    /**
+     * Forwards the message to the mapping like {@link #forwardToMappingActor(ExternalMessage, String)}, but makes the
+     * mapping actor reply {@code mappedReply} to this actor once the signals mapped from the message were handed off.
+     *
+     * @param message the message to map.
+     * @param hashKey the key to select the mapping actor by.
+     * @param mappedReply the message to receive after the mapping.
+     */
+    protected void forwardToMappingActor(final ExternalMessage message, final String hashKey,
+            final Object mappedReply) {
+        mappingInFlightCounter.handedOff();
+        final Object envelope = new ConsistentHashingRouter.ConsistentHashableEnvelope(
+                new ExternalMessageWithMappedReply(addReplyTarget(message), mappedReply), hashKey);
+        messageMappingProcessor.tell(envelope, getSelf());
+    }
+
+    /**
+     * @return the number of inbound messages of the connection handed off to the mapping which are not yet mapped.
+     */
+    protected long getMappingInFlightCount() {
+        return mappingInFlightCounter.get();
+    }
+
     protected void forwardToMappingActor(final DittoRuntimeException message, final String hashKey) {
         doForwardToMappingActor(message, hashKey);
     }
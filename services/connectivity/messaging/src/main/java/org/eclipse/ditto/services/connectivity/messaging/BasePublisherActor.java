@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,6 +40,7 @@ import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
 import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.model.placeholders.PlaceholderTemplate;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
@@ -78,6 +80,12 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
     private final List<Optional<ReplyTarget>> replyTargets;
 
+    /**
+     * Target addresses and header mappings compiled once per template string; their number is bounded by the
+     * templates of the connection.
+     */
+    private final Map<String, PlaceholderTemplate> compiledTemplates;
+
     protected BasePublisherActor(final Connection connection) {
         checkNotNull(connection, "connection");
         this.connectionId = connection.getId();
@@ -98,6 +106,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         connectionLogger =
                 ConnectionLoggerRegistry.fromConfig(monitoringConfig.logger()).forConnection(this.connectionId);
         replyTargets = connection.getSources().stream().map(Source::getReplyTarget).collect(Collectors.toList());
+        compiledTemplates = new HashMap<>();
     }
 
     private static String getInstanceIdentifier() {
@@ -125,12 +134,14 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                             final ExpressionResolver expressionResolver = Resolvers.forOutbound(outbound);
                             final String address = replyTarget.getAddress();
                             final Optional<T> resolvedAddress =
-                                    resolveTargetAddress(expressionResolver, address).map(this::toPublishTarget);
+                                    resolveTargetAddress(expressionResolver, compile(address))
+                                            .map(this::toPublishTarget);
 
                             if (resolvedAddress.isPresent()) {
                                 final HeaderMapping headerMapping = replyTarget.getHeaderMapping().orElse(null);
                                 final ExternalMessage responseWithMappedHeaders =
-                                        applyHeaderMapping(expressionResolver, outbound, headerMapping, log());
+                                        applyHeaderMapping(expressionResolver, outbound, headerMapping,
+                                                this::compile, log());
                                 publishResponseOrError(resolvedAddress.get(), outbound, responseWithMappedHeaders);
                             } else {
                                 log().debug("Response dropped, reply-target address unresolved: <{}>", address);
@@ -164,11 +175,12 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                                         target.getOriginalAddress());
                         final HeaderMapping headerMapping = target.getHeaderMapping().orElse(null);
                         catchHeaderMappingException(publishedMonitor, outboundSource, () ->
-                                resolveTargetAddress(resolver, target.getAddress())
+                                resolveTargetAddress(resolver, compile(target.getAddress()))
                                         .map(this::toPublishTarget)
                                         .ifPresent(publishTarget -> {
                                             final ExternalMessage mappedMessage =
-                                                    applyHeaderMapping(resolver, outbound, headerMapping, log());
+                                                    applyHeaderMapping(resolver, outbound, headerMapping,
+                                                            this::compile, log());
                                             publishMessage(target, publishTarget, mappedMessage, publishedMonitor);
                                         }));
                     });
@@ -205,6 +217,10 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         publishMessage(null, address, response, responsePublishedMonitor);
     }
 
+    private PlaceholderTemplate compile(final String template) {
+        return compiledTemplates.computeIfAbsent(template, PlaceholderTemplate::compile);
+    }
+
     private Optional<ReplyTarget> getReplyTargetByIndex(final int replyTargetIndex) {
         return 0 <= replyTargetIndex && replyTargetIndex < replyTargets.size()
                 ? replyTargets.get(replyTargetIndex)
@@ -277,12 +293,14 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
             final @Nullable HeaderMapping mapping,
             final DiagnosticLoggingAdapter log) {
 
-        return applyHeaderMapping(Resolvers.forOutbound(outboundSignal), outboundSignal, mapping, log);
+        return applyHeaderMapping(Resolvers.forOutbound(outboundSignal), outboundSignal, mapping,
+                PlaceholderTemplate::compile, log);
     }
 
     private static ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
             final OutboundSignal.Mapped outboundSignal,
             final @Nullable HeaderMapping mapping,
+            final Function<String, PlaceholderTemplate> templateCompiler,
             final DiagnosticLoggingAdapter log) {
 
         final ExternalMessage originalMessage = outboundSignal.getExternalMessage();
@@ -293,7 +311,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
             final Signal<?> sourceSignal = outboundSignal.getSource();
 
             final Map<String, String> mappedHeaders = mapping.getMapping().entrySet().stream()
-                    .flatMap(e -> mapHeaderByResolver(expressionResolver, e.getValue())
+                    .flatMap(e -> mapHeaderByResolver(expressionResolver, templateCompiler.apply(e.getValue()))
                             .map(resolvedValue -> Stream.of(new AbstractMap.SimpleEntry<>(e.getKey(), resolvedValue)))
                             .orElseGet(Stream::empty))
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
@@ -307,7 +325,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return messageBuilder.build();
     }
 
-    private static Optional<String> mapHeaderByResolver(final ExpressionResolver resolver, final String value) {
+    private static Optional<String> mapHeaderByResolver(final ExpressionResolver resolver,
+            final PlaceholderTemplate value) {
         return PlaceholderFilter.applyOrElseDelete(value, resolver);
     }
 
@@ -315,7 +334,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
      * Resolve target address.
      * If not resolvable, the returned Optional will be empty.
      */
-    private static Optional<String> resolveTargetAddress(final ExpressionResolver resolver, final String value) {
+    private static Optional<String> resolveTargetAddress(final ExpressionResolver resolver,
+            final PlaceholderTemplate value) {
         return resolver.resolve(value).toOptional();
     }
 
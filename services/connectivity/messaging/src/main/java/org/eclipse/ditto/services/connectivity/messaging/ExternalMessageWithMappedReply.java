@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * An inbound {@link ExternalMessage} for whose consumer the {@link MessageMappingProcessorActor} replies with the
+ * given message once the signals mapped from it were handed off, regardless of the mapping result.
+ */
+@Immutable
+final class ExternalMessageWithMappedReply {
+
+    private final ExternalMessage externalMessage;
+    private final Object mappedReply;
+
+    ExternalMessageWithMappedReply(final ExternalMessage externalMessage, final Object mappedReply) {
+        this.externalMessage = externalMessage;
+        this.mappedReply = mappedReply;
+    }
+
+    ExternalMessage getExternalMessage() {
+        return externalMessage;
+    }
+
+    Object getMappedReply() {
+        return mappedReply;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "externalMessage=" + externalMessage +
+                ", mappedReply=" + mappedReply +
+                "]";
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+/**
+ * Counts the inbound messages of a connection which were handed off to the {@link MessageMappingProcessorActor} but
+ * are not yet mapped. The counters are shared between the consumers and the mapping actors of a connection on the
+ * same node and are exposed as gauge {@value #GAUGE_NAME}.
+ */
+@ThreadSafe
+public final class MappingInFlightCounter {
+
+    private static final String GAUGE_NAME = "connectivity_mapping_in_flight";
+
+    private static final ConcurrentMap<ConnectionId, MappingInFlightCounter> COUNTERS = new ConcurrentHashMap<>();
+
+    private final AtomicLong inFlight;
+    private final Gauge gauge;
+
+    private MappingInFlightCounter(final ConnectionId connectionId) {
+        inFlight = new AtomicLong();
+        gauge = DittoMetrics.gauge(GAUGE_NAME).tag("id", connectionId.toString());
+    }
+
+    /**
+     * Returns the counter of the given connection.
+     *
+     * @param connectionId the ID of the connection.
+     * @return the counter.
+     * @throws NullPointerException if {@code connectionId} is {@code null}.
+     */
+    public static MappingInFlightCounter of(final ConnectionId connectionId) {
+        checkNotNull(connectionId, "connectionId");
+        return COUNTERS.computeIfAbsent(connectionId, MappingInFlightCounter::new);
+    }
+
+    /**
+     * Forgets the counter of the given connection and resets its gauge, e. g. because the client actor of the
+     * connection stopped.
+     *
+     * @param connectionId the ID of the connection.
+     * @throws NullPointerException if {@code connectionId} is {@code null}.
+     */
+    public static void remove(final ConnectionId connectionId) {
+        checkNotNull(connectionId, "connectionId");
+        final MappingInFlightCounter removed = COUNTERS.remove(connectionId);
+        if (removed != null) {
+            removed.inFlight.set(0L);
+            removed.gauge.reset();
+        }
+    }
+
+    /**
+     * Records that a message was handed off to the mapping.
+     */
+    public void handedOff() {
+        gauge.set(inFlight.incrementAndGet());
+    }
+
+    /**
+     * Records that the mapping of a message is done, regardless of its result.
+     */
+    public void mapped() {
+        gauge.set(inFlight.updateAndGet(count -> Math.max(0L, count - 1L)));
+    }
+
+    /**
+     * Forgets all messages in flight, e. g. because the mapping actors were restarted and their mailboxes are lost.
+     */
+    public void reset() {
+        inFlight.set(0L);
+        gauge.set(0L);
+    }
+
+    /**
+     * @return the number of messages handed off to the mapping which are not yet mapped.
+     */
+    public long get() {
+        return inFlight.get();
+    }
+
+}
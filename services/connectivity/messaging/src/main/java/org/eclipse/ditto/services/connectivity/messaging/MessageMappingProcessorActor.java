@@ -19,6 +19,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.AbstractMap;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -47,6 +48,7 @@ import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.messages.MessageHeaderDefinition;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
 import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.model.placeholders.PlaceholderTemplate;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
@@ -54,6 +56,7 @@ import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.MappingActorRestarted;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.InfoProviderFactory;
@@ -99,6 +102,8 @@ public final class MessageMappingProcessorActor extends AbstractActor {
     private final ConnectionMonitor responseDispatchedMonitor;
     private final ConnectionMonitor responseDroppedMonitor;
     private final ConnectionMonitor responseMappedMonitor;
+    private final MappingInFlightCounter mappingInFlightCounter;
+    private final Map<String, PlaceholderTemplate> compiledHeaderMappings;
 
     @SuppressWarnings("unused")
     private MessageMappingProcessorActor(final ActorRef conciergeForwarder,
@@ -122,6 +127,8 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         responseDispatchedMonitor = connectionMonitorRegistry.forResponseDispatched(connectionId);
         responseDroppedMonitor = connectionMonitorRegistry.forResponseDropped(connectionId);
         responseMappedMonitor = connectionMonitorRegistry.forResponseMapped(connectionId);
+        mappingInFlightCounter = MappingInFlightCounter.of(connectionId);
+        compiledHeaderMappings = new HashMap<>();
     }
 
     /**
@@ -142,10 +149,18 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                 connectionId);
     }
 
+    @Override
+    public void postRestart(final Throwable reason) throws Exception {
+        super.postRestart(reason);
+        // the consumers waiting for the hand-off of the message this actor failed on are not answered
+        clientActor.tell(MappingActorRestarted.getInstance(), getSelf());
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(ExternalMessage.class, this::handleInboundMessage)
+                .match(ExternalMessageWithMappedReply.class, this::handleInboundMessageWithMappedReply)
                 .match(CommandResponse.class, this::handleCommandResponse)
                 .match(OutboundSignal.class, this::handleOutboundSignal)
                 .match(Signal.class, this::handleSignal)
@@ -167,6 +182,17 @@ public final class MessageMappingProcessorActor extends AbstractActor {
             mapExternalMessageToSignalAndForwardToConcierge(externalMessage);
         } catch (final Exception e) {
             handleException(e, externalMessage, getAuthorizationContext(externalMessage).orElse(null));
+        } finally {
+            mappingInFlightCounter.mapped();
+        }
+    }
+
+    private void handleInboundMessageWithMappedReply(final ExternalMessageWithMappedReply message) {
+        try {
+            handleInboundMessage(message.getExternalMessage());
+        } finally {
+            // mapped signals are sent to the concierge forwarder synchronously, so they are handed off by now
+            getSender().tell(message.getMappedReply(), getSelf());
         }
     }
 
@@ -461,7 +487,9 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                     final Map<String, String> mappedExternalHeaders = mapping.getMapping()
                             .entrySet()
                             .stream()
-                            .flatMap(e -> PlaceholderFilter.applyOrElseDelete(e.getValue(), expressionResolver)
+                            .flatMap(e -> PlaceholderFilter.applyOrElseDelete(
+                                    compiledHeaderMappings.computeIfAbsent(e.getValue(), PlaceholderTemplate::compile),
+                                    expressionResolver)
                                     .map(resolvedValue ->
                                             Stream.of(new AbstractMap.SimpleEntry<>(e.getKey(), resolvedValue)))
                                     .orElseGet(Stream::empty)
@@ -20,6 +20,8 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.Nullable;
@@ -68,6 +70,8 @@ import akka.pattern.Patterns;
 
 /**
  * Actor which receives message from an AMQP source and forwards them to a {@code MessageMappingProcessorActor}.
+ * While the number of messages in flight to the mapping exceeds the configured window, the message consumer is
+ * stopped so that it does not consume further prefetched messages and thus does not grant further link credit.
  */
 final class AmqpConsumerActor extends BaseConsumerActor implements MessageListener {
 
@@ -76,6 +80,7 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
      */
     static final String ACTOR_NAME_PREFIX = "amqpConsumerActor-";
     private static final String RESTART_MESSAGE_CONSUMER = "restartMessageConsumer";
+    private static final String CHECK_IN_FLIGHT = "checkInFlight";
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
@@ -87,6 +92,14 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
     // the state for message throttling
     private final AtomicReference<ThrottleState> throttleState;
 
+    // the maximum number of messages in flight to the mapping, 0 if unlimited
+    private final int maxInFlight;
+    private final Duration inFlightCheckInterval;
+    // the number of messages received from the message consumer which were not yet handed off
+    private final AtomicInteger pendingHandOff;
+    // whether the message consumer is stopped because too many messages are in flight
+    private final AtomicBoolean stoppedForInFlight;
+
     // Access to the actor who performs JMS tasks in own thread
     private final ActorRef jmsActor;
     private final Duration jmsActorAskTimeout;
@@ -116,6 +129,11 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         throttlingLimit = amqp10Config.getConsumerThrottlingLimit();
         throttleState = new AtomicReference<>(new ThrottleState(0L, 0));
 
+        maxInFlight = amqp10Config.getConsumerMaxInFlight();
+        inFlightCheckInterval = amqp10Config.getConsumerInFlightCheckInterval();
+        pendingHandOff = new AtomicInteger();
+        stoppedForInFlight = new AtomicBoolean(false);
+
         final Enforcement enforcement = consumerData.getSource().getEnforcement().orElse(null);
         headerEnforcementFilterFactory = enforcement != null ? EnforcementFactoryFactory
                 .newEnforcementFilterFactory(enforcement, PlaceholderFactory.newHeadersPlaceholder()) :
@@ -142,6 +160,7 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         return ReceiveBuilder.create()
                 .match(RestartMessageConsumer.class, this::handleRestartMessageConsumer)
                 .match(JmsMessage.class, this::handleJmsMessage)
+                .matchEquals(CHECK_IN_FLIGHT, check -> checkInFlight())
                 .match(ResourceStatus.class, this::handleAddressStatus)
                 .match(RetrieveAddressStatus.class, ras -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .match(ConsumerClosedStatusReport.class, this::matchesOwnConsumer, this::handleConsumerClosed)
@@ -166,10 +185,16 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
 
     @Override
     public void onMessage(final Message message) {
+        pendingHandOff.incrementAndGet();
         getSelf().tell(message, ActorRef.noSender());
         if (isThrottlingEnabled()) {
             throttleMessageConsumer();
         }
+        if (isInFlightWindowFull() && stoppedForInFlight.compareAndSet(false, true)) {
+            log.debug("Stopping message consumer, <{}> messages are in flight.", getInFlightCount());
+            stopMessageConsumer();
+            getSelf().tell(CHECK_IN_FLIGHT, ActorRef.noSender());
+        }
     }
 
     private void initMessageConsumer() throws JMSException {
@@ -204,6 +229,28 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         }
     }
 
+    private long getInFlightCount() {
+        return pendingHandOff.get() + getMappingInFlightCount();
+    }
+
+    private boolean isInFlightWindowFull() {
+        return maxInFlight > 0 && getInFlightCount() >= maxInFlight;
+    }
+
+    /**
+     * Restarts the message consumer stopped because of a full in-flight window once at most half of the window is in
+     * flight, otherwise checks again after the configured interval.
+     */
+    private void checkInFlight() {
+        if (getInFlightCount() <= maxInFlight / 2) {
+            log.debug("Restarting message consumer, <{}> messages are in flight.", getInFlightCount());
+            stoppedForInFlight.set(false);
+            startMessageConsumer();
+        } else {
+            getTimers().startSingleTimer(CHECK_IN_FLIGHT, CHECK_IN_FLIGHT, inFlightCheckInterval);
+        }
+    }
+
     private boolean isThrottlingEnabled() {
         return throttlingInterval.toMillis() > 0 && throttlingLimit > 0;
     }
@@ -296,7 +343,9 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
      */
     private void handleRestartMessageConsumer(final RestartMessageConsumer restartMessageConsumer) {
         final long delay = restartMessageConsumer.getRestartAt() - System.currentTimeMillis();
-        if (delay <= 25) { // restart message consumer immediately if delay is negative or too small to schedule
+        if (stoppedForInFlight.get()) {
+            log.debug("Not restarting message consumer as too many messages are in flight.");
+        } else if (delay <= 25) { // restart message consumer immediately if delay is negative or too small to schedule
             log.debug("Restarting message consumer.");
             startMessageConsumer();
         } else { // otherwise schedule restarting of consumer
@@ -352,6 +401,8 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
                 message.acknowledge();
             } catch (final JMSException e) {
                 log.error(e, "Failed to ack an AMQP message");
+            } finally {
+                pendingHandOff.decrementAndGet();
             }
         }
     }
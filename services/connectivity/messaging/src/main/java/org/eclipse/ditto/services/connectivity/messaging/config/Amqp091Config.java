@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the AMQP 0.9.1 protocol.
+ */
+@Immutable
+public interface Amqp091Config {
+
+    /**
+     * Returns the maximum number of unacknowledged messages the broker delivers to each consumer of a source.
+     * {@code 0} means unlimited.
+     *
+     * @return the prefetch count.
+     */
+    int getPrefetchCount();
+
+    /**
+     * Returns the number of handed off messages after which they are acknowledged at once.
+     *
+     * @return the acknowledgement batch size.
+     */
+    int getAckBatchSize();
+
+    /**
+     * Returns the interval in which handed off messages are acknowledged even if the batch is not full.
+     *
+     * @return the acknowledgement interval.
+     */
+    Duration getAckInterval();
+
+    /**
+     * Returns how long a message may wait for the mapping to hand off its signals before it is requeued, e. g. because
+     * the reply of the mapping was lost.
+     *
+     * @return the hand-off timeout.
+     */
+    Duration getHandOffTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code Amqp091Config}.
+     */
+    enum Amqp091ConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of unacknowledged messages per consumer.
+         */
+        PREFETCH_COUNT("prefetch-count", 100),
+
+        /**
+         * The number of handed off messages to acknowledge at once.
+         */
+        ACK_BATCH_SIZE("ack-batch-size", 25),
+
+        /**
+         * The interval in which handed off messages are acknowledged regardless of the batch size.
+         */
+        ACK_INTERVAL("ack-interval", Duration.ofMillis(500L)),
+
+        /**
+         * How long a message may wait for the hand-off of its mapped signals before it is requeued.
+         */
+        HAND_OFF_TIMEOUT("hand-off-timeout", Duration.ofMinutes(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        Amqp091ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -53,6 +53,21 @@ public interface Amqp10Config {
         return getConsumerThrottlingConfig().getLimit();
     }
 
+    /**
+     * Returns the maximum number of inbound messages of a connection which may be in flight between a consumer and
+     * the mapping. Consumers stop granting link credit while the window is full. {@code 0} disables the window.
+     *
+     * @return the maximum number of messages in flight.
+     */
+    int getConsumerMaxInFlight();
+
+    /**
+     * Returns the interval in which a consumer with a full window checks whether it may grant link credit again.
+     *
+     * @return the interval.
+     */
+    Duration getConsumerInFlightCheckInterval();
+
     /**
      * Returns how many message producers to cache.
      *
@@ -76,7 +91,17 @@ public interface Amqp10Config {
         /**
          * How many message producers to cache per client actor.
          */
-        PRODUCER_CACHE_SIZE("producer-cache-size", 10);
+        PRODUCER_CACHE_SIZE("producer-cache-size", 10),
+
+        /**
+         * The maximum number of inbound messages in flight between the consumers and the mapping.
+         */
+        CONSUMER_MAX_IN_FLIGHT("consumer-max-in-flight", 200),
+
+        /**
+         * The interval in which a consumer with a full window checks whether it may grant link credit again.
+         */
+        CONSUMER_IN_FLIGHT_CHECK_INTERVAL("consumer-in-flight-check-interval", Duration.ofMillis(50L));
 
         private final String path;
         private final Object defaultValue;
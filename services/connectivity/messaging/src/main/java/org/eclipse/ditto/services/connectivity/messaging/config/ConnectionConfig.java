@@ -58,6 +58,13 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
      */
     Amqp10Config getAmqp10Config();
 
+    /**
+     * Returns the config specific to the AMQP 0.9.1 protocol.
+     *
+     * @return the config.
+     */
+    Amqp091Config getAmqp091Config();
+
     /**
      * Returns the config specific to the MQTT protocol.
      *
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.config;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link Amqp091Config}.
+ */
+@Immutable
+public final class DefaultAmqp091Config implements Amqp091Config {
+
+    private static final String CONFIG_PATH = "amqp091";
+
+    private final int prefetchCount;
+    private final int ackBatchSize;
+    private final Duration ackInterval;
+    private final Duration handOffTimeout;
+
+    private DefaultAmqp091Config(final ScopedConfig config) {
+        prefetchCount = getIntOrThrow(config, Amqp091ConfigValue.PREFETCH_COUNT, 0);
+        ackBatchSize = getIntOrThrow(config, Amqp091ConfigValue.ACK_BATCH_SIZE, 1);
+        ackInterval = config.getDuration(Amqp091ConfigValue.ACK_INTERVAL.getConfigPath());
+        handOffTimeout = config.getDuration(Amqp091ConfigValue.HAND_OFF_TIMEOUT.getConfigPath());
+    }
+
+    private static int getIntOrThrow(final ScopedConfig config, final Amqp091ConfigValue configValue,
+            final int minimum) {
+
+        final String configPath = configValue.getConfigPath();
+        final int result = config.getInt(configPath);
+        if (minimum > result) {
+            final String msgPattern = "The value for <{0}> must be at least <{1}> but it was <{2}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, configPath, minimum, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of {@code DefaultAmqp091Config} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the AMQP 0.9.1 config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultAmqp091Config of(final Config config) {
+        return new DefaultAmqp091Config(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, Amqp091ConfigValue.values()));
+    }
+
+    @Override
+    public int getPrefetchCount() {
+        return prefetchCount;
+    }
+
+    @Override
+    public int getAckBatchSize() {
+        return ackBatchSize;
+    }
+
+    @Override
+    public Duration getAckInterval() {
+        return ackInterval;
+    }
+
+    @Override
+    public Duration getHandOffTimeout() {
+        return handOffTimeout;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultAmqp091Config that = (DefaultAmqp091Config) o;
+        return prefetchCount == that.prefetchCount &&
+                ackBatchSize == that.ackBatchSize &&
+                Objects.equals(ackInterval, that.ackInterval) &&
+                Objects.equals(handOffTimeout, that.handOffTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(prefetchCount, ackBatchSize, ackInterval, handOffTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "prefetchCount=" + prefetchCount +
+                ", ackBatchSize=" + ackBatchSize +
+                ", ackInterval=" + ackInterval +
+                ", handOffTimeout=" + handOffTimeout +
+                "]";
+    }
+
+}
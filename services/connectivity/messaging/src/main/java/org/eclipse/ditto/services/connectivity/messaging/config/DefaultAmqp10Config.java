@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -21,6 +23,7 @@ import org.eclipse.ditto.services.connectivity.messaging.backoff.BackOffConfig;
 import org.eclipse.ditto.services.connectivity.messaging.backoff.DefaultBackOffConfig;
 import org.eclipse.ditto.services.base.config.ThrottlingConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -36,17 +39,32 @@ public final class DefaultAmqp10Config implements Amqp10Config {
     private static final String CONSUMER_PATH = "consumer";
 
     private final int producerCacheSize;
+    private final int consumerMaxInFlight;
+    private final Duration consumerInFlightCheckInterval;
     private final BackOffConfig backOffConfig;
     private final ThrottlingConfig consumerThrottlingConfig;
 
     private DefaultAmqp10Config(final ScopedConfig config) {
         producerCacheSize = config.getInt(Amqp10ConfigValue.PRODUCER_CACHE_SIZE.getConfigPath());
+        consumerMaxInFlight = getConsumerMaxInFlightOrThrow(config);
+        consumerInFlightCheckInterval =
+                config.getDuration(Amqp10ConfigValue.CONSUMER_IN_FLIGHT_CHECK_INTERVAL.getConfigPath());
         backOffConfig = DefaultBackOffConfig.of(config);
         consumerThrottlingConfig = ThrottlingConfig.of(config.hasPath(CONSUMER_PATH)
                 ? config.getConfig(CONSUMER_PATH)
                 : ConfigFactory.empty());
     }
 
+    private static int getConsumerMaxInFlightOrThrow(final ScopedConfig config) {
+        final String configPath = Amqp10ConfigValue.CONSUMER_MAX_IN_FLIGHT.getConfigPath();
+        final int result = config.getInt(configPath);
+        if (0 > result) {
+            final String msgPattern = "The value for <{0}> must not be negative but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, configPath, result));
+        }
+        return result;
+    }
+
     /**
      * Returns an instance of {@code DefaultAmqp10Config} based on the settings of the specified Config.
      *
@@ -63,6 +81,16 @@ public final class DefaultAmqp10Config implements Amqp10Config {
         return consumerThrottlingConfig;
     }
 
+    @Override
+    public int getConsumerMaxInFlight() {
+        return consumerMaxInFlight;
+    }
+
+    @Override
+    public Duration getConsumerInFlightCheckInterval() {
+        return consumerInFlightCheckInterval;
+    }
+
     @Override
     public int getProducerCacheSize() {
         return producerCacheSize;
@@ -83,19 +111,24 @@ public final class DefaultAmqp10Config implements Amqp10Config {
         }
         final DefaultAmqp10Config that = (DefaultAmqp10Config) o;
         return producerCacheSize == that.producerCacheSize &&
+                consumerMaxInFlight == that.consumerMaxInFlight &&
+                Objects.equals(consumerInFlightCheckInterval, that.consumerInFlightCheckInterval) &&
                 Objects.equals(backOffConfig, that.backOffConfig) &&
                 Objects.equals(consumerThrottlingConfig, that.consumerThrottlingConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(producerCacheSize, backOffConfig, consumerThrottlingConfig);
+        return Objects.hash(producerCacheSize, consumerMaxInFlight, consumerInFlightCheckInterval, backOffConfig,
+                consumerThrottlingConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "producerCacheSize=" + producerCacheSize +
+                ", consumerMaxInFlight=" + consumerMaxInFlight +
+                ", consumerInFlightCheckInterval=" + consumerInFlightCheckInterval +
                 ", backOffConfig=" + backOffConfig +
                 ", consumerThrottlingConfig=" + consumerThrottlingConfig +
                 "]";
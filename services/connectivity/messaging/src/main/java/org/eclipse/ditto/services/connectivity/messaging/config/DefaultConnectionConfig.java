@@ -43,6 +43,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
     private final SupervisorConfig supervisorConfig;
     private final SnapshotConfig snapshotConfig;
     private final Amqp10Config amqp10Config;
+    private final Amqp091Config amqp091Config;
     private final MqttConfig mqttConfig;
     private final KafkaConfig kafkaConfig;
     private final HttpPushConfig httpPushConfig;
@@ -56,6 +57,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         supervisorConfig = DefaultSupervisorConfig.of(config);
         snapshotConfig = DefaultSnapshotConfig.of(config);
         amqp10Config = DefaultAmqp10Config.of(config);
+        amqp091Config = DefaultAmqp091Config.of(config);
         mqttConfig = DefaultMqttConfig.of(config);
         kafkaConfig = DefaultKafkaConfig.of(config);
         httpPushConfig = DefaultHttpPushConfig.of(config);
@@ -99,6 +101,11 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return amqp10Config;
     }
 
+    @Override
+    public Amqp091Config getAmqp091Config() {
+        return amqp091Config;
+    }
+
     @Override
     public MqttConfig getMqttConfig() {
         return mqttConfig;
@@ -133,6 +140,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
                 Objects.equals(amqp10Config, that.amqp10Config) &&
+                Objects.equals(amqp091Config, that.amqp091Config) &&
                 Objects.equals(mqttConfig, that.mqttConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(kafkaConfig, that.kafkaConfig) &&
@@ -142,7 +150,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
     @Override
     public int hashCode() {
         return Objects.hash(clientActorAskTimeout, blacklistedHostnames, supervisorConfig, snapshotConfig, amqp10Config,
-                mqttConfig, kafkaConfig, activityCheckConfig, httpPushConfig);
+                amqp091Config, mqttConfig, kafkaConfig, activityCheckConfig, httpPushConfig);
     }
 
     @Override
@@ -153,6 +161,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 ", supervisorConfig=" + supervisorConfig +
                 ", snapshotConfig=" + snapshotConfig +
                 ", amqp10Config=" + amqp10Config +
+                ", amqp091Config=" + amqp091Config +
                 ", mqttConfig=" + mqttConfig +
                 ", kafkaConfig=" + kafkaConfig +
                 ", httpPushConfig=" + httpPushConfig +
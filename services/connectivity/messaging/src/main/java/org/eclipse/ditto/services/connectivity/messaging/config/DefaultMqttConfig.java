@@ -12,12 +12,14 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.text.MessageFormat;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -31,9 +33,25 @@ public final class DefaultMqttConfig implements MqttConfig {
     private static final String CONFIG_PATH = "mqtt";
 
     private final int sourceBufferSize;
+    private final int publisherMaxInFlight;
+    private final int publisherMaxQueueSize;
 
     private DefaultMqttConfig(final ScopedConfig config) {
         sourceBufferSize = config.getInt(MqttConfigValue.SOURCE_BUFFER_SIZE.getConfigPath());
+        publisherMaxInFlight = getIntOrThrow(config, MqttConfigValue.PUBLISHER_MAX_IN_FLIGHT, 1);
+        publisherMaxQueueSize = getIntOrThrow(config, MqttConfigValue.PUBLISHER_MAX_QUEUE_SIZE, 0);
+    }
+
+    private static int getIntOrThrow(final ScopedConfig config, final MqttConfigValue configValue,
+            final int minimum) {
+
+        final String configPath = configValue.getConfigPath();
+        final int result = config.getInt(configPath);
+        if (minimum > result) {
+            final String msgPattern = "The value for <{0}> must be at least <{1}> but it was <{2}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, configPath, minimum, result));
+        }
+        return result;
     }
 
     /**
@@ -52,6 +70,16 @@ public final class DefaultMqttConfig implements MqttConfig {
         return sourceBufferSize;
     }
 
+    @Override
+    public int getPublisherMaxInFlight() {
+        return publisherMaxInFlight;
+    }
+
+    @Override
+    public int getPublisherMaxQueueSize() {
+        return publisherMaxQueueSize;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -61,18 +89,22 @@ public final class DefaultMqttConfig implements MqttConfig {
             return false;
         }
         final DefaultMqttConfig that = (DefaultMqttConfig) o;
-        return sourceBufferSize == that.sourceBufferSize;
+        return sourceBufferSize == that.sourceBufferSize &&
+                publisherMaxInFlight == that.publisherMaxInFlight &&
+                publisherMaxQueueSize == that.publisherMaxQueueSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(sourceBufferSize);
+        return Objects.hash(sourceBufferSize, publisherMaxInFlight, publisherMaxQueueSize);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "sourceBufferSize=" + sourceBufferSize +
+                ", publisherMaxInFlight=" + publisherMaxInFlight +
+                ", publisherMaxQueueSize=" + publisherMaxQueueSize +
                 "]";
     }
 
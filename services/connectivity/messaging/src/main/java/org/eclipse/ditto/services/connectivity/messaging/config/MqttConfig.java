@@ -29,6 +29,22 @@ public interface MqttConfig {
      */
     int getSourceBufferSize();
 
+    /**
+     * Returns the maximum number of publishes of a publisher which may be awaiting their completion by the broker.
+     *
+     * @return the maximum number of publishes in flight.
+     */
+    int getPublisherMaxInFlight();
+
+    /**
+     * Returns the maximum number of messages a publisher queues while the maximum number of publishes is in flight.
+     * Further messages with QoS 0 are dropped, further messages with QoS 1 or 2 replace a queued message with QoS 0
+     * or are rejected.
+     *
+     * @return the maximum number of queued messages.
+     */
+    int getPublisherMaxQueueSize();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code MqttConfig}.
@@ -38,7 +54,17 @@ public interface MqttConfig {
         /**
          * The maximum number of buffered messages for each MQTT source.
          */
-        SOURCE_BUFFER_SIZE("source-buffer-size", 8);
+        SOURCE_BUFFER_SIZE("source-buffer-size", 8),
+
+        /**
+         * The maximum number of publishes in flight for each MQTT publisher.
+         */
+        PUBLISHER_MAX_IN_FLIGHT("publisher-max-in-flight", 100),
+
+        /**
+         * The maximum number of messages queued by each MQTT publisher while the maximum of publishes is in flight.
+         */
+        PUBLISHER_MAX_QUEUE_SIZE("publisher-max-queue-size", 1000);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+/**
+ * Actor message marking that a mapping actor restarted and did not report the hand-off of the message it failed on.
+ */
+public final class MappingActorRestarted {
+
+    private static final MappingActorRestarted INSTANCE = new MappingActorRestarted();
+
+    private MappingActorRestarted() {
+    }
+
+    /**
+     * @return the singleton instance of this class.
+     */
+    public static MappingActorRestarted getInstance() {
+        return INSTANCE;
+    }
+}
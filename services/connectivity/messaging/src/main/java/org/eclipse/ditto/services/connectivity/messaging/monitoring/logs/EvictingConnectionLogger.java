@@ -16,6 +16,7 @@ package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -29,6 +30,7 @@ import org.eclipse.ditto.model.connectivity.LogCategory;
 import org.eclipse.ditto.model.connectivity.LogEntry;
 import org.eclipse.ditto.model.connectivity.LogLevel;
 import org.eclipse.ditto.model.connectivity.LogType;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.slf4j.Logger;
@@ -37,6 +39,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Implementation of {@link org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLogger} that
  * has fixed capacity for its success and failure logs and will evict old logs when new logs are added.
+ * Logs are stored with their message template and arguments and are only formatted when they are retrieved, as
+ * connection logs are retrieved far less often than they are written. Stored logs keep no reference to the logged
+ * message unless headers and payload are logged.
  */
 final class EvictingConnectionLogger implements ConnectionLogger {
 
@@ -47,8 +52,8 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     private final LogCategory category;
     private final LogType type;
 
-    private final EvictingQueue<LogEntry> successLogs;
-    private final EvictingQueue<LogEntry> failureLogs;
+    private final EvictingRingBuffer<PendingLogEntry> successLogs;
+    private final EvictingRingBuffer<PendingLogEntry> failureLogs;
 
     private final String defaultSuccessMessage;
     private final String defaultFailureMessage;
@@ -63,8 +68,8 @@ final class EvictingConnectionLogger implements ConnectionLogger {
         this.type = builder.type;
         this.address = builder.address;
 
-        this.successLogs = DefaultEvictingQueue.withCapacity(builder.successCapacity);
-        this.failureLogs = DefaultEvictingQueue.withCapacity(builder.failureCapacity);
+        this.successLogs = EvictingRingBuffer.withCapacity(builder.successCapacity);
+        this.failureLogs = EvictingRingBuffer.withCapacity(builder.failureCapacity);
 
         this.defaultSuccessMessage = builder.defaultSuccessMessage;
         this.defaultFailureMessage = builder.defaultFailureMessage;
@@ -104,10 +109,8 @@ final class EvictingConnectionLogger implements ConnectionLogger {
 
     @Override
     public void success(final ConnectionMonitor.InfoProvider infoProvider, final String message, final Object... messageArguments) {
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceWithCorrelationId(infoProvider.getCorrelationId(), "success", infoProvider, formattedMessage);
-        successLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.SUCCESS));
-
+        logTraceWithCorrelationId("success", infoProvider, message, messageArguments);
+        successLogs.add(pendingLogEntry(infoProvider, LogLevel.SUCCESS, message, messageArguments));
     }
 
     @Override
@@ -124,9 +127,8 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     @Override
     public void failure(final ConnectionMonitor.InfoProvider infoProvider, final String message,
             final Object... messageArguments) {
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceWithCorrelationId(infoProvider.getCorrelationId(), "failure", infoProvider, formattedMessage);
-        failureLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.FAILURE));
+        logTraceWithCorrelationId("failure", infoProvider, message, messageArguments);
+        failureLogs.add(pendingLogEntry(infoProvider, LogLevel.FAILURE, message, messageArguments));
     }
 
     @Override
@@ -137,9 +139,8 @@ final class EvictingConnectionLogger implements ConnectionLogger {
     @Override
     public void exception(final ConnectionMonitor.InfoProvider infoProvider, final String message,
             final Object... messageArguments) {
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        logTraceWithCorrelationId(infoProvider.getCorrelationId(), "exception", infoProvider, formattedMessage);
-        failureLogs.add(getLogEntry(infoProvider, formattedMessage, LogLevel.FAILURE));
+        logTraceWithCorrelationId("exception", infoProvider, message, messageArguments);
+        failureLogs.add(pendingLogEntry(infoProvider, LogLevel.FAILURE, message, messageArguments));
     }
 
     @Override
@@ -151,9 +152,11 @@ final class EvictingConnectionLogger implements ConnectionLogger {
 
     @Override
     public Collection<LogEntry> getLogs() {
-        final List<LogEntry> logs = new ArrayList<>(successLogs.size() + failureLogs.size());
-        logs.addAll(successLogs);
-        logs.addAll(failureLogs);
+        final List<PendingLogEntry> pendingSuccessLogs = successLogs.getElements();
+        final List<PendingLogEntry> pendingFailureLogs = failureLogs.getElements();
+        final List<LogEntry> logs = new ArrayList<>(pendingSuccessLogs.size() + pendingFailureLogs.size());
+        pendingSuccessLogs.forEach(pendingLogEntry -> logs.add(toLogEntry(pendingLogEntry)));
+        pendingFailureLogs.forEach(pendingLogEntry -> logs.add(toLogEntry(pendingLogEntry)));
 
         LOGGER.trace("Returning logs: {}", logs);
         return logs;
@@ -232,22 +235,71 @@ final class EvictingConnectionLogger implements ConnectionLogger {
                 "]";
     }
 
-    private LogEntry getLogEntry(final ConnectionMonitor.InfoProvider infoProvider, final String message,
-            final LogLevel logLevel) {
-        return ImmutableLogEntry.getBuilder(infoProvider.getCorrelationId(), infoProvider.getTimestamp(), category, type, logLevel, message,
-                address, infoProvider.getThingId())
+    private PendingLogEntry pendingLogEntry(final ConnectionMonitor.InfoProvider infoProvider,
+            final LogLevel logLevel, final String message, final Object[] messageArguments) {
+        return new PendingLogEntry(infoProvider.getCorrelationId(), infoProvider.getTimestamp(),
+                infoProvider.getThingId(), logHeadersAndPayload ? infoProvider : null, logLevel, message,
+                toImmutableArguments(messageArguments));
+    }
+
+    private static Object[] toImmutableArguments(final Object[] messageArguments) {
+        final Object[] immutableArguments = new Object[messageArguments.length];
+        for (int i = 0; i < messageArguments.length; i++) {
+            final Object argument = messageArguments[i];
+            // keep the formatting of numbers, everything else is formatted as string anyway
+            immutableArguments[i] = argument instanceof String || argument instanceof Number ||
+                    argument instanceof Boolean ? argument : String.valueOf(argument);
+        }
+        return immutableArguments;
+    }
+
+    private LogEntry toLogEntry(final PendingLogEntry pendingLogEntry) {
+        final String formattedMessage = formatMessage(pendingLogEntry.message, pendingLogEntry.messageArguments);
+        final String message = null != pendingLogEntry.headersAndPayload
+                ? addHeadersAndPayloadToMessage(pendingLogEntry.headersAndPayload, formattedMessage)
+                : formattedMessage;
+        return ImmutableLogEntry.getBuilder(pendingLogEntry.correlationId, pendingLogEntry.timestamp, category,
+                type, pendingLogEntry.logLevel, message, address, pendingLogEntry.thingId)
                 .build();
     }
 
-    private void logTraceWithCorrelationId(final String correlationId, final String level,
-            final ConnectionMonitor.InfoProvider infoProvider, final String message) {
+    private void logTraceWithCorrelationId(final String level, final ConnectionMonitor.InfoProvider infoProvider,
+            final String message, final Object... messageArguments) {
         if (LOGGER.isTraceEnabled()) {
-            LogUtil.enhanceLogWithCorrelationId(correlationId);
+            LogUtil.enhanceLogWithCorrelationId(infoProvider.getCorrelationId());
             LOGGER.trace("Saving {} log at <{}> for thing <{}> with message: {}", level,
-                    infoProvider.getTimestamp(), infoProvider.getThingId(), message);
+                    infoProvider.getTimestamp(), infoProvider.getThingId(),
+                    formatMessage(infoProvider, message, messageArguments));
         }
     }
 
+    /**
+     * A log which is not yet formatted.
+     */
+    private static final class PendingLogEntry {
+
+        private final String correlationId;
+        private final Instant timestamp;
+        @Nullable private final ThingId thingId;
+        @Nullable private final ConnectionMonitor.InfoProvider headersAndPayload;
+        private final LogLevel logLevel;
+        private final String message;
+        private final Object[] messageArguments;
+
+        private PendingLogEntry(final String correlationId, final Instant timestamp, @Nullable final ThingId thingId,
+                @Nullable final ConnectionMonitor.InfoProvider headersAndPayload, final LogLevel logLevel,
+                final String message, final Object[] messageArguments) {
+            this.correlationId = correlationId;
+            this.timestamp = timestamp;
+            this.thingId = thingId;
+            this.headersAndPayload = headersAndPayload;
+            this.logLevel = logLevel;
+            this.message = message;
+            this.messageArguments = messageArguments;
+        }
+
+    }
+
     /**
      * Builder for {@code EvictingConnectionLogger}.
      */
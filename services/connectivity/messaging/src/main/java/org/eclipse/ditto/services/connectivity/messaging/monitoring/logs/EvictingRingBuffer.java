@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Ring buffer of fixed capacity which overwrites its oldest element when a new element is added to the full buffer.
+ * Adding an element costs one atomic increment and one array write, regardless of the capacity. Like for logs in
+ * general, we don't care if a snapshot taken during concurrent adds contains an element too much or too little.
+ *
+ * @param <E> type of elements in the buffer.
+ */
+@ThreadSafe
+final class EvictingRingBuffer<E> {
+
+    private final int capacity;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLong sequence;
+
+    private EvictingRingBuffer(final int capacity) {
+        this.capacity = capacity;
+        elements = new AtomicReferenceArray<>(capacity);
+        sequence = new AtomicLong();
+    }
+
+    /**
+     * Create a new ring buffer.
+     *
+     * @param capacity capacity of the buffer.
+     * @param <E> type of elements in the buffer.
+     * @return a new instance of {@code EvictingRingBuffer}.
+     * @throws IllegalArgumentException if {@code capacity} is negative.
+     */
+    static <E> EvictingRingBuffer<E> withCapacity(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity must not be negative but it was <" + capacity + ">!");
+        }
+        return new EvictingRingBuffer<>(capacity);
+    }
+
+    /**
+     * Adds the element to the buffer, overwriting the oldest element if the buffer is full.
+     *
+     * @param element the element to add.
+     */
+    void add(final E element) {
+        if (0 < capacity) {
+            elements.set(getIndex(sequence.getAndIncrement()), element);
+        }
+    }
+
+    /**
+     * @return the elements of the buffer from the oldest to the newest one.
+     */
+    List<E> getElements() {
+        final long end = sequence.get();
+        final long start = Math.max(0L, end - capacity);
+        final List<E> result = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            final E element = elements.get(getIndex(i));
+            if (null != element) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all elements of the buffer.
+     */
+    void clear() {
+        for (int i = 0; i < capacity; i++) {
+            elements.set(i, null);
+        }
+    }
+
+    private int getIndex(final long position) {
+        return (int) (position % capacity);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + capacity +
+                ", sequence=" + sequence +
+                "]";
+    }
+
+}
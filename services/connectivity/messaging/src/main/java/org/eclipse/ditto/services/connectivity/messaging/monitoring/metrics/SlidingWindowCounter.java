@@ -15,28 +15,26 @@ package org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
- * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
- * fill the {@code window}.
+ * Lock-free implementation of a sliding window using ring buffers. For each of the given {@code windows} this
+ * implementation holds counters for time slots of the window's {@code resolution} in a fixed-size ring buffer of
+ * primitive longs which is rotated by slot index.
  */
 public final class SlidingWindowCounter {
 
     private final Clock clock;
     private final MeasurementWindow[] windows;
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final SlotRing[] successMeasurements;
+    private final SlotRing[] failureMeasurements;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
 
     /**
      * Instantiates a new {@link SlidingWindowCounter} that records the measurements for the given time windows.
@@ -46,11 +44,16 @@ public final class SlidingWindowCounter {
     SlidingWindowCounter(final Clock clock, final MeasurementWindow... windows) {
         this.clock = clock;
         this.windows = windows;
+        successMeasurements = createRings(windows);
+        failureMeasurements = createRings(windows);
+    }
 
-        minResolution = Stream.of(windows)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+    private static SlotRing[] createRings(final MeasurementWindow[] windows) {
+        final SlotRing[] rings = new SlotRing[windows.length];
+        for (int i = 0; i < windows.length; i++) {
+            rings[i] = new SlotRing(windows[i]);
+        }
+        return rings;
     }
 
     /**
@@ -82,7 +85,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -92,57 +95,21 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
         if (success) {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
+            lastSuccessTimestamp.accumulateAndGet(ts, Math::max);
             incrementMeasurements(ts, successMeasurements);
         } else {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
+            lastFailureTimestamp.accumulateAndGet(ts, Math::max);
             incrementMeasurements(ts, failureMeasurements);
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
-        }
-    }
-
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
     }
 
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windows) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
+    private static void incrementMeasurements(final long ts, final SlotRing[] measurements) {
+        for (final SlotRing ring : measurements) {
+            ring.increment(ts);
         }
     }
 
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     /**
      * Gets counts for all measurement windows given.
      *
@@ -159,27 +126,14 @@ public final class SlidingWindowCounter {
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param measurements the ring buffers to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements) {
+    private Map<Duration, Long> getCounts(final SlotRing[] measurements) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            // min is where we start to sum up the slots
-            final long windowInMs = window.getWindow().toMillis();
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            // max is the current active time slot
-            final long max = getSlot(now, resolutionInMs);
-            long sum = 0;
-            for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                long slot = e.getKey();
-                if (slot > min && slot <= max) {
-                    sum += e.getValue();
-                }
-            }
-            result.put(window.getWindow(), sum);
+        final long now = clock.millis();
+        for (int i = 0; i < windows.length; i++) {
+            result.put(windows[i].getWindow(), measurements[i].sum(now));
         }
         return result;
     }
@@ -192,22 +146,95 @@ public final class SlidingWindowCounter {
         reset(failureMeasurements);
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
-    }
-
-    private long getSlot(long ts, final long resolutionInMs) {
-        return ts / resolutionInMs;
+    private static void reset(final SlotRing[] measurements) {
+        for (final SlotRing ring : measurements) {
+            ring.reset();
+        }
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                "windows=" + Arrays.toString(windows) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
                 "]";
     }
 
+    /**
+     * Ring buffer holding the counts of the time slots of one measurement window. Index {@code i} holds the count of
+     * the slot stored at index {@code i} of {@code slots}; a slot is rotated in when its index is next used by a newer
+     * slot. The ring spans twice the window so that timestamps up to one window ahead of the clock do not evict the
+     * slots of the current window. An increment racing with the rotation of its slot may be lost, which is
+     * acceptable for monitoring.
+     */
+    private static final class SlotRing {
+
+        private static final long NO_SLOT = -1L;
+
+        private final long resolutionInMs;
+        private final long windowInMs;
+        private final int size;
+        private final AtomicLongArray slots;
+        private final AtomicLongArray counts;
+
+        private SlotRing(final MeasurementWindow window) {
+            resolutionInMs = window.getResolution().toMillis();
+            windowInMs = window.getWindow().toMillis();
+            size = (int) (2 * (windowInMs / resolutionInMs) + 1);
+            slots = new AtomicLongArray(size);
+            counts = new AtomicLongArray(size);
+            reset();
+        }
+
+        private void increment(final long ts) {
+            final long slot = getSlot(ts);
+            final int index = getIndex(slot);
+            long currentSlot = slots.get(index);
+            while (currentSlot < slot) {
+                if (slots.compareAndSet(index, currentSlot, slot)) {
+                    counts.set(index, 0L);
+                    currentSlot = slot;
+                } else {
+                    currentSlot = slots.get(index);
+                }
+            }
+            // measurements older than the slot at the index are outside of any window
+            if (currentSlot == slot) {
+                counts.incrementAndGet(index);
+            }
+        }
+
+        private long sum(final long now) {
+            // min is where we start to sum up the slots (exclusive)
+            final long min = getSlot(now - windowInMs);
+            // max is the current active time slot
+            final long max = getSlot(now);
+            long sum = 0;
+            for (long slot = min + 1; slot <= max; slot++) {
+                final int index = getIndex(slot);
+                if (slots.get(index) == slot) {
+                    sum += counts.get(index);
+                }
+            }
+            return sum;
+        }
+
+        private void reset() {
+            for (int i = 0; i < size; i++) {
+                slots.set(i, NO_SLOT);
+                counts.set(i, 0L);
+            }
+        }
+
+        private long getSlot(final long ts) {
+            return ts / resolutionInMs;
+        }
+
+        private int getIndex(final long slot) {
+            return (int) Math.floorMod(slot, (long) size);
+        }
+
+    }
+
 }
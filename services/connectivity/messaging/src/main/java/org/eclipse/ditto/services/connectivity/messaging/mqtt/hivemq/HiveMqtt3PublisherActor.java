@@ -19,32 +19,51 @@ import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.common.ByteBufferUtils;
 import org.eclipse.ditto.model.base.common.CharsetDeterminer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.MessageSendingFailedException;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
+import org.eclipse.ditto.services.connectivity.messaging.config.MqttConfig;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttPublishTarget;
 import org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttValidator;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 
 import com.hivemq.client.mqtt.datatypes.MqttQos;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3Client;
 import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
 
+import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Actor responsible for publishing messages to an MQTT broker using the given {@link Mqtt3Client}.
+ * The number of publishes awaiting their completion by the broker is limited; further messages are queued up to a
+ * limit. When the queue is full, messages with QoS 0 are dropped. Messages with QoS 1 or 2 take the place of the
+ * oldest queued message with QoS 0 instead, or are rejected with a {@link MessageSendingFailedException} to the
+ * sender if there is none, so that they are never dropped silently.
  */
 public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublishTarget> {
 
@@ -52,15 +71,36 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
     private static final int DEFAULT_TARGET_QOS = 0;
     static final String NAME = "HiveMqtt3PublisherActor";
 
+    private static final String IN_FLIGHT_GAUGE_NAME = "connectivity_mqtt_publishes_in_flight";
+    private static final String PUBLISH_TIMER_NAME = "connectivity_mqtt_publish_latency";
+    private static final String RESPONSES_TARGET = "_responses";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final Mqtt3AsyncClient client;
     private final boolean dryRun;
+    private final int maxInFlight;
+    private final int maxQueueSize;
+    private final Deque<PendingPublish> queuedPublishes;
+    private final Gauge inFlightGauge;
+    private final Map<String, PreparedTimer> publishTimers;
+
+    private int inFlight;
 
     @SuppressWarnings("squid:UnusedPrivateConstructor") // used by akka
     private HiveMqtt3PublisherActor(final Connection connection, final Mqtt3Client client, final boolean dryRun) {
         super(connection);
         this.client = checkNotNull(client).toAsync();
         this.dryRun = dryRun;
+        final MqttConfig mqttConfig = DittoConnectivityConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                .getConnectionConfig()
+                .getMqttConfig();
+        maxInFlight = mqttConfig.getPublisherMaxInFlight();
+        maxQueueSize = mqttConfig.getPublisherMaxQueueSize();
+        queuedPublishes = new ArrayDeque<>();
+        inFlightGauge = DittoMetrics.gauge(IN_FLIGHT_GAUGE_NAME).tag("id", connectionId.toString());
+        publishTimers = new HashMap<>();
+        inFlight = 0;
     }
 
     /**
@@ -78,7 +118,14 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
     @Override
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         receiveBuilder.match(OutboundSignal.Mapped.class, this::isDryRun,
-                outbound -> log().info("Message dropped in dry run mode: {}", outbound));
+                outbound -> log().info("Message dropped in dry run mode: {}", outbound))
+                .match(PublishCompleted.class, this::publishCompleted);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        super.postStop();
+        inFlightGauge.set(0L);
     }
 
     @Override
@@ -101,7 +148,8 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
             final ExternalMessage message, final ConnectionMonitor publishedMonitor) {
 
         final MqttQos targetQoS = determineQos(target);
-        publishMessage(publishTarget, targetQoS, message, publishedMonitor);
+        final String targetAddress = null != target ? target.getOriginalAddress() : RESPONSES_TARGET;
+        publishMessage(publishTarget, targetQoS, message, publishedMonitor, targetAddress);
     }
 
     private MqttQos determineQos(@Nullable final Target target) {
@@ -114,7 +162,7 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
     }
 
     private void publishMessage(final MqttPublishTarget publishTarget, final MqttQos qos, final ExternalMessage message,
-            final ConnectionMonitor publishedMonitor) {
+            final ConnectionMonitor publishedMonitor, final String targetAddress) {
         try {
             final Mqtt3Publish mqttMessage = mapExternalMessageToMqttMessage(publishTarget, qos, message);
             if (log().isDebugEnabled()) {
@@ -124,10 +172,71 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
                 log().debug("Publishing MQTT message to topic <{}>: {}", mqttMessage.getTopic(),
                         humanReadablePayload);
             }
+            final PendingPublish pendingPublish =
+                    new PendingPublish(mqttMessage, message, publishedMonitor, targetAddress);
+            if (inFlight < maxInFlight) {
+                publish(pendingPublish);
+            } else if (queuedPublishes.size() < maxQueueSize) {
+                queuedPublishes.add(pendingPublish);
+            } else if (MqttQos.AT_MOST_ONCE == qos) {
+                dropQueueOverflow(pendingPublish);
+            } else if (dropOldestQueuedAtMostOncePublish()) {
+                queuedPublishes.add(pendingPublish);
+            } else {
+                rejectQueueOverflow(pendingPublish);
+            }
+        } catch (final Exception e) {
+            log().info("Won't publish message, since currently in disconnected state.");
+            publishedMonitor.failure(message, "Won't publish message since currently not connected.");
+        }
+    }
+
+    private void dropQueueOverflow(final PendingPublish pendingPublish) {
+        log().info("Dropping message, <{}> publishes are in flight and <{}> are queued.", inFlight,
+                queuedPublishes.size());
+        pendingPublish.publishedMonitor.failure(pendingPublish.message,
+                "Message dropped as too many publishes to the broker are pending.");
+    }
+
+    private boolean dropOldestQueuedAtMostOncePublish() {
+        final Iterator<PendingPublish> iterator = queuedPublishes.iterator();
+        while (iterator.hasNext()) {
+            final PendingPublish queuedPublish = iterator.next();
+            if (MqttQos.AT_MOST_ONCE == queuedPublish.mqttMessage.getQos()) {
+                iterator.remove();
+                dropQueueOverflow(queuedPublish);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rejectQueueOverflow(final PendingPublish pendingPublish) {
+        final String errorMessage = String.format("Message with QoS <%d> rejected as <%d> publishes to the broker " +
+                        "are in flight and <%d> are queued.", pendingPublish.mqttMessage.getQos().getCode(), inFlight,
+                queuedPublishes.size());
+        log().info(errorMessage);
+        final MessageSendingFailedException sendFailedException = MessageSendingFailedException.newBuilder()
+                .message(errorMessage)
+                .description("Retry the message once the broker caught up with the pending publishes.")
+                .dittoHeaders(DittoHeaders.of(pendingPublish.message.getInternalHeaders()))
+                .build();
+        pendingPublish.publishedMonitor.failure(pendingPublish.message, sendFailedException);
+        getSender().tell(sendFailedException, getSelf());
+    }
+
+    private void publish(final PendingPublish pendingPublish) {
+        final Mqtt3Publish mqttMessage = pendingPublish.mqttMessage;
+        final ExternalMessage message = pendingPublish.message;
+        final ConnectionMonitor publishedMonitor = pendingPublish.publishedMonitor;
+        final ActorRef self = getSelf();
+        final long startNanos = System.nanoTime();
+        inFlightGauge.set((long) ++inFlight);
+        try {
             client.publish(mqttMessage).whenComplete((mqtt3Publish, throwable) -> {
                 if (null == throwable) {
                     log().debug("Successfully published to message of type <{}> to target address <{}>",
-                            mqttMessage.getType(), publishTarget.getTopic());
+                            mqttMessage.getType(), mqttMessage.getTopic());
                     publishedMonitor.success(message);
                 } else {
                     final String logMessage =
@@ -135,10 +244,26 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
                     log().info(logMessage);
                     publishedMonitor.exception(message, logMessage);
                 }
+                self.tell(new PublishCompleted(pendingPublish.targetAddress, System.nanoTime() - startNanos),
+                        ActorRef.noSender());
             });
         } catch (final Exception e) {
             log().info("Won't publish message, since currently in disconnected state.");
             publishedMonitor.failure(message, "Won't publish message since currently not connected.");
+            self.tell(new PublishCompleted(pendingPublish.targetAddress, System.nanoTime() - startNanos),
+                    ActorRef.noSender());
+        }
+    }
+
+    private void publishCompleted(final PublishCompleted publishCompleted) {
+        inFlightGauge.set((long) --inFlight);
+        publishTimers.computeIfAbsent(publishCompleted.targetAddress,
+                targetAddress -> DittoMetrics.timer(PUBLISH_TIMER_NAME)
+                        .tag("id", connectionId.toString())
+                        .tag("target", targetAddress))
+                .record(publishCompleted.durationNanos, TimeUnit.NANOSECONDS);
+        while (inFlight < maxInFlight && !queuedPublishes.isEmpty()) {
+            publish(queuedPublishes.poll());
         }
     }
 
@@ -175,4 +300,33 @@ public final class HiveMqtt3PublisherActor extends BasePublisherActor<MqttPublis
         return dryRun;
     }
 
+    private static final class PendingPublish {
+
+        private final Mqtt3Publish mqttMessage;
+        private final ExternalMessage message;
+        private final ConnectionMonitor publishedMonitor;
+        private final String targetAddress;
+
+        private PendingPublish(final Mqtt3Publish mqttMessage, final ExternalMessage message,
+                final ConnectionMonitor publishedMonitor, final String targetAddress) {
+            this.mqttMessage = mqttMessage;
+            this.message = message;
+            this.publishedMonitor = publishedMonitor;
+            this.targetAddress = targetAddress;
+        }
+
+    }
+
+    private static final class PublishCompleted {
+
+        private final String targetAddress;
+        private final long durationNanos;
+
+        private PublishCompleted(final String targetAddress, final long durationNanos) {
+            this.targetAddress = targetAddress;
+            this.durationNanos = durationNanos;
+        }
+
+    }
+
 }
@@ -16,7 +16,9 @@ import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.COMMANDS;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -38,6 +40,7 @@ import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
@@ -64,6 +67,7 @@ final class SignalFilter {
     private final Connection connection;
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final Map<String, Predicate<Thing>> compiledFilters;
 
     /**
      * Constructs a new SignalFilter instance with the given {@code connection}.
@@ -77,6 +81,7 @@ final class SignalFilter {
                 new ModelBasedThingsFieldExpressionFactory();
         queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        compiledFilters = new HashMap<>();
     }
 
     /**
@@ -137,15 +142,24 @@ final class SignalFilter {
 
             // currently only ThingEvents may be filtered
             return ThingEventToThingConverter.thingEventToThing((ThingEvent) signal)
-                    .filter(thing -> ThingPredicateVisitor.apply(parseCriteria(filter, signal.getDittoHeaders()))
-                            .test(thing)
-                    )
+                    .filter(thing -> getCompiledFilter(filter, signal.getDittoHeaders()).test(thing))
                     .isPresent();
         } else {
             return true;
         }
     }
 
+    /**
+     * Compiles each filter of the targets only once; the number of filters is bounded by the connection.
+     *
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
+     * mapped to a valid criterion
+     */
+    private Predicate<Thing> getCompiledFilter(final String filter, final DittoHeaders dittoHeaders) {
+        return compiledFilters.computeIfAbsent(filter,
+                f -> ThingPredicateVisitor.apply(parseCriteria(f, dittoHeaders)));
+    }
+
     /**
      * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
      * mapped to a
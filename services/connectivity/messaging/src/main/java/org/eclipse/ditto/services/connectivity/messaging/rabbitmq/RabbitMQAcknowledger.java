@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.rabbitmq.client.Channel;
+
+/**
+ * Acknowledges the deliveries of a RabbitMQ channel in batches once the signals mapped from them were handed off.
+ * <p>
+ * Delivery tags are scoped to a channel and increase monotonically, so every delivery up to the lowest tag which was
+ * not yet handed off may be acknowledged at once with {@code multiple=true}. Deliveries which are never handed off
+ * because the node dies are redelivered by the broker. Deliveries whose hand-off is not reported in time are requeued
+ * so that they do not hold back the acknowledgement of all later deliveries.
+ * </p>
+ */
+@ThreadSafe
+final class RabbitMQAcknowledger {
+
+    private final Channel channel;
+    private final int batchSize;
+    private final NavigableMap<Long, Long> delivered; // delivery tag -> System.nanoTime() of the delivery
+    private final NavigableSet<Long> handedOff;
+
+    private RabbitMQAcknowledger(final Channel channel, final int batchSize) {
+        this.channel = channel;
+        this.batchSize = batchSize;
+        delivered = new TreeMap<>();
+        handedOff = new TreeSet<>();
+    }
+
+    /**
+     * Returns a new instance of {@code RabbitMQAcknowledger}.
+     * If the prefetch count is limited, the batch size is reduced to at most half of it in order to acknowledge
+     * before the broker stops delivering.
+     *
+     * @param channel the channel to acknowledge deliveries on.
+     * @param batchSize the number of handed off deliveries to acknowledge at once.
+     * @param prefetchCount the prefetch count of the consumers on the channel or {@code 0} if unlimited.
+     * @return the instance.
+     * @throws NullPointerException if {@code channel} is {@code null}.
+     */
+    static RabbitMQAcknowledger of(final Channel channel, final int batchSize, final int prefetchCount) {
+        checkNotNull(channel, "channel");
+        final int effectiveBatchSize = 0 < prefetchCount
+                ? Math.min(batchSize, Math.max(1, prefetchCount / 2))
+                : batchSize;
+        return new RabbitMQAcknowledger(channel, Math.max(1, effectiveBatchSize));
+    }
+
+    /**
+     * Registers a delivery received from the broker which is not handed off yet.
+     *
+     * @param deliveryTag the tag of the delivery.
+     */
+    synchronized void delivered(final long deliveryTag) {
+        delivered.put(deliveryTag, System.nanoTime());
+    }
+
+    /**
+     * Marks a delivery as handed off and acknowledges all handed off deliveries if the batch is full.
+     * Deliveries which were requeued or handed off before are ignored.
+     *
+     * @param deliveryTag the tag of the delivery.
+     * @throws IOException if the acknowledgement could not be sent.
+     */
+    synchronized void handedOff(final long deliveryTag) throws IOException {
+        if (null != delivered.remove(deliveryTag)) {
+            handedOff.add(deliveryTag);
+            if (handedOff.size() >= batchSize) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Marks all deliveries which are not handed off yet as handed off, e. g. because the mapping actors restarted and
+     * will not report the hand-off of the message they failed on.
+     *
+     * @throws IOException if the acknowledgement could not be sent.
+     */
+    synchronized void handedOffAll() throws IOException {
+        handedOff.addAll(delivered.keySet());
+        delivered.clear();
+        flush();
+    }
+
+    /**
+     * Requeues all deliveries which were not handed off within the given timeout, e. g. because the report of their
+     * hand-off was lost.
+     *
+     * @param handOffTimeout how long a delivery may wait for its hand-off.
+     * @return the number of requeued deliveries.
+     * @throws IOException if a delivery could not be requeued.
+     */
+    synchronized int requeueStale(final Duration handOffTimeout) throws IOException {
+        final long deliveredBefore = System.nanoTime() - handOffTimeout.toNanos();
+        final List<Long> staleDeliveryTags = new ArrayList<>();
+        for (final Map.Entry<Long, Long> entry : delivered.entrySet()) {
+            if (entry.getValue() - deliveredBefore <= 0L) {
+                staleDeliveryTags.add(entry.getKey());
+            }
+        }
+        for (final Long deliveryTag : staleDeliveryTags) {
+            delivered.remove(deliveryTag);
+            channel.basicNack(deliveryTag, false, true);
+        }
+        return staleDeliveryTags.size();
+    }
+
+    /**
+     * Acknowledges all deliveries which were handed off and are not preceded by a delivery still in processing.
+     *
+     * @throws IOException if the acknowledgement could not be sent.
+     */
+    synchronized void flush() throws IOException {
+        if (handedOff.isEmpty()) {
+            return;
+        }
+        // only acknowledge up to a handed off delivery: a requeued delivery tag is unknown to the broker
+        final Long acknowledgeUpTo = delivered.isEmpty()
+                ? handedOff.last()
+                : handedOff.lower(delivered.firstKey());
+        if (null != acknowledgeUpTo) {
+            handedOff.headSet(acknowledgeUpTo, true).clear();
+            channel.basicAck(acknowledgeUpTo, true);
+        }
+    }
+
+}
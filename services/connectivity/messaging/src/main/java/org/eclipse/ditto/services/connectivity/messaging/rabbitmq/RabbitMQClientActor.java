@@ -38,9 +38,11 @@ import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
+import org.eclipse.ditto.services.connectivity.messaging.config.Amqp091Config;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientConnected;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconnected;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
+import org.eclipse.ditto.services.connectivity.messaging.internal.MappingActorRestarted;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException;
@@ -210,6 +212,12 @@ public final class RabbitMQClientActor extends BaseClientActor {
         rmqConnectionActor = null;
     }
 
+    @Override
+    protected void onMappingActorRestarted() {
+        consumerByAddressWithIndex.values()
+                .forEach(consumer -> consumer.tell(MappingActorRestarted.getInstance(), getSelf()));
+    }
+
     @Override
     protected ActorRef getPublisherActor() {
         return rmqPublisherActor;
@@ -344,6 +352,17 @@ public final class RabbitMQClientActor extends BaseClientActor {
     }
 
     private void startConsumers(final Channel channel) {
+        final Amqp091Config amqp091Config = connectivityConfig.getConnectionConfig().getAmqp091Config();
+        final int prefetchCount = amqp091Config.getPrefetchCount();
+        try {
+            // applies to each consumer started on the channel afterwards
+            channel.basicQos(prefetchCount);
+        } catch (final IOException e) {
+            connectionLogger.failure("Failed to set prefetch count {0}: {1}", prefetchCount, e.getMessage());
+            log.warning("Failed to set prefetch count <{}>: <{}>", prefetchCount, e.getMessage());
+        }
+        final RabbitMQAcknowledger acknowledger =
+                RabbitMQAcknowledger.of(channel, amqp091Config.getAckBatchSize(), prefetchCount);
         getSourcesOrEmptyList().forEach(source ->
                 source.getAddresses().forEach(sourceAddress -> {
                     for (int i = 0; i < source.getConsumerCount(); i++) {
@@ -355,11 +374,11 @@ public final class RabbitMQClientActor extends BaseClientActor {
                         final ActorRef consumer = startChildActorConflictFree(
                                 CONSUMER_ACTOR_PREFIX + addressWithIndex,
                                 RabbitMQConsumerActor.props(sourceAddress, getMessageMappingProcessorActor(), source,
-                                        connectionId()));
+                                        connectionId(), acknowledger));
                         consumerByAddressWithIndex.put(addressWithIndex, consumer);
                         try {
                             final String consumerTag = channel.basicConsume(sourceAddress, false,
-                                    new RabbitMQMessageConsumer(consumer, channel, sourceAddress));
+                                    new RabbitMQMessageConsumer(consumer, channel, sourceAddress, acknowledger));
                             log.debug("Consuming queue <{}>, consumer tag is <{}>.", addressWithIndex, consumerTag);
                             consumedTagsToAddresses.put(consumerTag, addressWithIndex);
                         } catch (final IOException e) {
@@ -475,6 +494,7 @@ public final class RabbitMQClientActor extends BaseClientActor {
 
         private final ActorRef consumerActor;
         private final String address;
+        private final RabbitMQAcknowledger acknowledger;
 
         /**
          * Constructs a new instance and records its association to the passed-in channel.
@@ -482,12 +502,14 @@ public final class RabbitMQClientActor extends BaseClientActor {
          * @param consumerActor the ActorRef to the consumer actor
          * @param channel the channel to which this consumer is attached
          * @param address the address of the consumer
+         * @param acknowledger acknowledges the deliveries once the consumer actor handed them off
          */
         private RabbitMQMessageConsumer(final ActorRef consumerActor,
-                final Channel channel, final String address) {
+                final Channel channel, final String address, final RabbitMQAcknowledger acknowledger) {
             super(channel);
             this.consumerActor = consumerActor;
             this.address = address;
+            this.acknowledger = acknowledger;
             updateSourceStatus(ConnectivityStatus.OPEN, "Consumer initialized at " + Instant.now());
         }
 
@@ -496,19 +518,20 @@ public final class RabbitMQClientActor extends BaseClientActor {
                 final AMQP.BasicProperties properties, final byte[] body) {
 
             ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId());
+            // the consumer actor acknowledges the delivery after handing it off to the mapping
+            acknowledger.delivered(envelope.getDeliveryTag());
             try {
                 consumerActor.tell(new Delivery(envelope, properties, body), RabbitMQClientActor.this.getSelf());
             } catch (final Exception e) {
                 connectionLogger.failure("Failed to process delivery {0}: {1}", envelope.getDeliveryTag(),
                         e.getMessage());
                 log.info("Failed to process delivery <{}>: {}", envelope.getDeliveryTag(), e.getMessage());
-            } finally {
                 try {
-                    getChannel().basicAck(envelope.getDeliveryTag(), false);
-                } catch (final IOException e) {
+                    acknowledger.handedOff(envelope.getDeliveryTag());
+                } catch (final IOException ackException) {
                     connectionLogger.failure("Failed to ack delivery {0}: {1}", envelope.getDeliveryTag(),
-                            e.getMessage());
-                    log.info("Failed to ack delivery <{}>: {}", envelope.getDeliveryTag(), e.getMessage());
+                            ackException.getMessage());
+                    log.info("Failed to ack delivery <{}>: {}", envelope.getDeliveryTag(), ackException.getMessage());
                 }
             }
         }
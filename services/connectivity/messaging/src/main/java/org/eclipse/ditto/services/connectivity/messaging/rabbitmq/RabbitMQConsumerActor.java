@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -32,12 +34,17 @@ import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.Amqp091Config;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.MappingActorRestarted;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 
+import com.rabbitmq.client.AlreadyClosedException;
 import com.rabbitmq.client.BasicProperties;
 import com.rabbitmq.client.Delivery;
 import com.rabbitmq.client.Envelope;
@@ -50,22 +57,36 @@ import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Actor which receives message from an RabbitMQ source and forwards them to a {@code MessageMappingProcessorActor}.
+ * Deliveries are acknowledged in batches via a {@link RabbitMQAcknowledger} after the mapping actor reported that the
+ * signals mapped from them were handed off. Deliveries whose hand-off is not reported within the hand-off timeout are
+ * requeued.
  */
 public final class RabbitMQConsumerActor extends BaseConsumerActor {
 
     private static final String MESSAGE_ID_HEADER = "messageId";
     private static final String CONTENT_TYPE_APPLICATION_OCTET_STREAM = "application/octet-stream";
+    private static final String FLUSH_ACKNOWLEDGEMENTS = "flushAcknowledgements";
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     @Nullable
     private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
     private final PayloadMapping payloadMapping;
+    private final RabbitMQAcknowledger acknowledger;
+    private final Duration ackInterval;
+    private final Duration handOffTimeout;
 
     @SuppressWarnings("unused")
     private RabbitMQConsumerActor(final ConnectionId connectionId, final String sourceAddress,
-            final ActorRef messageMappingProcessor, final Source source) {
+            final ActorRef messageMappingProcessor, final Source source, final RabbitMQAcknowledger acknowledger) {
         super(connectionId, sourceAddress, messageMappingProcessor, source);
+        this.acknowledger = acknowledger;
+        final Amqp091Config amqp091Config = DittoConnectivityConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                .getConnectionConfig()
+                .getAmqp091Config();
+        ackInterval = amqp091Config.getAckInterval();
+        handOffTimeout = amqp091Config.getHandOffTimeout();
         headerEnforcementFilterFactory =
                 source.getEnforcement()
                         .map(value ->
@@ -82,18 +103,35 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
      * @param messageMappingProcessor the message mapping processor where received messages are forwarded to
      * @param source the configured connection source for the consumer actor.
      * @param connectionId ID of the connection
+     * @param acknowledger acknowledges the deliveries on the channel of the consumer.
      * @return the Akka configuration Props object.
      */
     static Props props(final String sourceAddress, final ActorRef messageMappingProcessor, final Source source,
-            final ConnectionId connectionId) {
+            final ConnectionId connectionId, final RabbitMQAcknowledger acknowledger) {
 
-        return Props.create(RabbitMQConsumerActor.class, connectionId, sourceAddress, messageMappingProcessor, source);
+        return Props.create(RabbitMQConsumerActor.class, connectionId, sourceAddress, messageMappingProcessor, source,
+                acknowledger);
+    }
+
+    @Override
+    public void preStart() {
+        timers().startPeriodicTimer(FLUSH_ACKNOWLEDGEMENTS, FLUSH_ACKNOWLEDGEMENTS, ackInterval);
+    }
+
+    @Override
+    public void postStop() {
+        acknowledge(acknowledger::flush, "flush");
     }
 
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
-                .match(Delivery.class, this::handleDelivery)
+                .match(Delivery.class, this::handleDeliveryAndAcknowledge)
+                .match(DeliveryMapped.class, mapped -> acknowledge(() -> acknowledger.handedOff(mapped.deliveryTag),
+                        mapped.deliveryTag))
+                .matchEquals(FLUSH_ACKNOWLEDGEMENTS, flush -> acknowledge(this::requeueStaleAndFlush, "flush"))
+                .match(MappingActorRestarted.class,
+                        restarted -> acknowledge(acknowledger::handedOffAll, "mapping restart"))
                 .match(ResourceStatus.class, this::handleAddressStatus)
                 .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .matchAny(m -> {
@@ -102,7 +140,44 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
                 }).build();
     }
 
-    private void handleDelivery(final Delivery delivery) {
+    private void handleDeliveryAndAcknowledge(final Delivery delivery) {
+        final long deliveryTag = delivery.getEnvelope().getDeliveryTag();
+        boolean awaitsMapping = false;
+        try {
+            awaitsMapping = handleDelivery(delivery);
+        } finally {
+            // failed deliveries are acknowledged as well, redelivering them would fail again
+            if (!awaitsMapping) {
+                acknowledge(() -> acknowledger.handedOff(deliveryTag), deliveryTag);
+            }
+        }
+    }
+
+    private void requeueStaleAndFlush() throws IOException {
+        final int requeued = acknowledger.requeueStale(handOffTimeout);
+        if (requeued > 0) {
+            log.warning("Requeued <{}> deliveries whose hand-off was not reported within <{}>.", requeued,
+                    handOffTimeout);
+        }
+        acknowledger.flush();
+    }
+
+    private void acknowledge(final Acknowledgement acknowledgement, final Object description) {
+        try {
+            acknowledgement.run();
+        } catch (final IOException | AlreadyClosedException e) {
+            // unacknowledged deliveries are redelivered by the broker
+            log.info("Failed to ack delivery <{}>: {}", description, e.getMessage());
+        }
+    }
+
+    /**
+     * Handles a delivery.
+     *
+     * @return whether the delivery was handed off to the mapping, which replies with {@link DeliveryMapped} once the
+     * mapped signals were handed off as well.
+     */
+    private boolean handleDelivery(final Delivery delivery) {
         final BasicProperties properties = delivery.getProperties();
         final Envelope envelope = delivery.getEnvelope();
         final byte[] body = delivery.getBody();
@@ -135,7 +210,8 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
             externalMessageBuilder.withPayloadMapping(payloadMapping);
             final ExternalMessage externalMessage = externalMessageBuilder.build();
             inboundMonitor.success(externalMessage);
-            forwardToMappingActor(externalMessage, hashKey);
+            forwardToMappingActor(externalMessage, hashKey, new DeliveryMapped(envelope.getDeliveryTag()));
+            return true;
         } catch (final DittoRuntimeException e) {
             log.warning("Processing delivery {} failed: {}", envelope.getDeliveryTag(), e.getMessage());
             if (headers != null) {
@@ -153,6 +229,7 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
                 inboundMonitor.exception(e);
             }
         }
+        return false;
     }
 
     private static boolean shouldBeInterpretedAsBytes(@Nullable final String contentType) {
@@ -190,4 +267,29 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
         return new HashMap<>();
     }
 
+    @FunctionalInterface
+    private interface Acknowledgement {
+
+        void run() throws IOException;
+
+    }
+
+    /**
+     * Reply of the mapping once the signals mapped from a delivery were handed off.
+     */
+    private static final class DeliveryMapped {
+
+        private final long deliveryTag;
+
+        private DeliveryMapped(final long deliveryTag) {
+            this.deliveryTag = deliveryTag;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [deliveryTag=" + deliveryTag + "]";
+        }
+
+    }
+
 }
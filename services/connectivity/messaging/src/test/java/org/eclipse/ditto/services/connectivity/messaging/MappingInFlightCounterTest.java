@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MappingInFlightCounter}.
+ */
+public final class MappingInFlightCounterTest {
+
+    @Test
+    public void countersAreSharedPerConnection() {
+        final ConnectionId connectionId = TestConstants.createRandomConnectionId();
+        final MappingInFlightCounter consumerSide = MappingInFlightCounter.of(connectionId);
+        final MappingInFlightCounter mappingSide = MappingInFlightCounter.of(connectionId);
+
+        consumerSide.handedOff();
+        consumerSide.handedOff();
+        mappingSide.mapped();
+
+        assertThat(consumerSide.get()).isEqualTo(1L);
+        assertThat(MappingInFlightCounter.of(TestConstants.createRandomConnectionId()).get()).isZero();
+    }
+
+    @Test
+    public void countDoesNotBecomeNegative() {
+        final MappingInFlightCounter underTest = MappingInFlightCounter.of(TestConstants.createRandomConnectionId());
+
+        underTest.mapped();
+
+        assertThat(underTest.get()).isZero();
+    }
+
+    @Test
+    public void resetForgetsMessagesInFlight() {
+        final MappingInFlightCounter underTest = MappingInFlightCounter.of(TestConstants.createRandomConnectionId());
+        underTest.handedOff();
+
+        underTest.reset();
+
+        assertThat(underTest.get()).isZero();
+    }
+
+    @Test
+    public void removeForgetsCounterOfConnection() {
+        final ConnectionId connectionId = TestConstants.createRandomConnectionId();
+        final MappingInFlightCounter removed = MappingInFlightCounter.of(connectionId);
+        removed.handedOff();
+
+        MappingInFlightCounter.remove(connectionId);
+
+        assertThat(removed.get()).isZero();
+        assertThat(MappingInFlightCounter.of(connectionId)).isNotSameAs(removed);
+    }
+
+}
@@ -57,7 +57,8 @@ public final class DefaultConnectionConfigTest {
                         SnapshotConfig.class,
                         DefaultMqttConfig.class,
                         DefaultKafkaConfig.class,
-                        DefaultAmqp10Config.class
+                        DefaultAmqp10Config.class,
+                        DefaultAmqp091Config.class
                 ).areAlsoImmutable()
         );
     }
@@ -109,6 +110,40 @@ public final class DefaultConnectionConfigTest {
                     softly.assertThat(mqttConfig.getSourceBufferSize())
                             .as(MqttConfig.MqttConfigValue.SOURCE_BUFFER_SIZE.getConfigPath())
                             .isEqualTo(7);
+                    softly.assertThat(mqttConfig.getPublisherMaxInFlight())
+                            .as(MqttConfig.MqttConfigValue.PUBLISHER_MAX_IN_FLIGHT.getConfigPath())
+                            .isEqualTo(11);
+                    softly.assertThat(mqttConfig.getPublisherMaxQueueSize())
+                            .as(MqttConfig.MqttConfigValue.PUBLISHER_MAX_QUEUE_SIZE.getConfigPath())
+                            .isEqualTo(12);
+                });
+
+        softly.assertThat(underTest.getAmqp10Config())
+                .as("amqp10Config")
+                .satisfies(amqp10Config -> {
+                    softly.assertThat(amqp10Config.getConsumerMaxInFlight())
+                            .as(Amqp10Config.Amqp10ConfigValue.CONSUMER_MAX_IN_FLIGHT.getConfigPath())
+                            .isEqualTo(42);
+                    softly.assertThat(amqp10Config.getConsumerInFlightCheckInterval())
+                            .as(Amqp10Config.Amqp10ConfigValue.CONSUMER_IN_FLIGHT_CHECK_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofMillis(20L));
+                });
+
+        softly.assertThat(underTest.getAmqp091Config())
+                .as("amqp091Config")
+                .satisfies(amqp091Config -> {
+                    softly.assertThat(amqp091Config.getPrefetchCount())
+                            .as(Amqp091Config.Amqp091ConfigValue.PREFETCH_COUNT.getConfigPath())
+                            .isEqualTo(50);
+                    softly.assertThat(amqp091Config.getAckBatchSize())
+                            .as(Amqp091Config.Amqp091ConfigValue.ACK_BATCH_SIZE.getConfigPath())
+                            .isEqualTo(10);
+                    softly.assertThat(amqp091Config.getAckInterval())
+                            .as(Amqp091Config.Amqp091ConfigValue.ACK_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(2L));
+                    softly.assertThat(amqp091Config.getHandOffTimeout())
+                            .as(Amqp091Config.Amqp091ConfigValue.HAND_OFF_TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(30L));
                 });
 
         softly.assertThat(underTest.getHttpPushConfig())
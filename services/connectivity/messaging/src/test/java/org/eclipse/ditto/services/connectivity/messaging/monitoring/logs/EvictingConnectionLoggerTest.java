@@ -309,6 +309,17 @@ public final class EvictingConnectionLoggerTest {
                 .hasMessageContainingPayload(payloadWithBadCharacters);
     }
 
+    @Test
+    public void messageArgumentsAreCapturedWhenLogging() {
+        final EvictingConnectionLogger logger = builder().build();
+
+        final StringBuilder mutableArgument = new StringBuilder("original");
+        logger.failure(randomInfoProvider(), "any message {0}", mutableArgument);
+        mutableArgument.replace(0, mutableArgument.length(), "changed");
+
+        assertThat(getFirstAndOnlyEntry(logger).getMessage()).isEqualTo("any message original");
+    }
+
     @Test
     public void testEqualsAndHashcode() {
         EqualsVerifier.forClass(EvictingConnectionLogger.class)
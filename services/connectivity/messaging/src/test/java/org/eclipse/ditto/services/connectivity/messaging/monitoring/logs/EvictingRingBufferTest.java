@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.monitoring.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link EvictingRingBuffer}.
+ */
+public final class EvictingRingBufferTest {
+
+    private static final int CAPACITY = 6;
+
+    @Test
+    public void verifyEviction() {
+        final EvictingRingBuffer<String> buffer = EvictingRingBuffer.withCapacity(CAPACITY);
+
+        final List<String> fallingOutStrings = createRandomStrings(13);
+        final List<String> remainingStrings = createRandomStrings(CAPACITY);
+
+        fallingOutStrings.forEach(buffer::add);
+        remainingStrings.forEach(buffer::add);
+
+        assertThat(buffer.getElements()).containsExactlyElementsOf(remainingStrings);
+    }
+
+    @Test
+    public void returnsElementsInInsertionOrderBeforeEviction() {
+        final EvictingRingBuffer<String> buffer = EvictingRingBuffer.withCapacity(CAPACITY);
+
+        final List<String> strings = createRandomStrings(CAPACITY - 2);
+        strings.forEach(buffer::add);
+
+        assertThat(buffer.getElements()).containsExactlyElementsOf(strings);
+    }
+
+    @Test
+    public void clearRemovesAllElements() {
+        final EvictingRingBuffer<String> buffer = EvictingRingBuffer.withCapacity(CAPACITY);
+        createRandomStrings(CAPACITY + 1).forEach(buffer::add);
+
+        buffer.clear();
+        assertThat(buffer.getElements()).isEmpty();
+
+        buffer.add("next");
+        assertThat(buffer.getElements()).containsExactly("next");
+    }
+
+    @Test
+    public void bufferWithoutCapacityStaysEmpty() {
+        final EvictingRingBuffer<String> buffer = EvictingRingBuffer.withCapacity(0);
+
+        buffer.add("any");
+
+        assertThat(buffer.getElements()).isEmpty();
+    }
+
+    private List<String> createRandomStrings(final int n) {
+        return Stream.iterate(0, UnaryOperator.identity())
+                .limit(n)
+                .map(unused -> UUID.randomUUID().toString())
+                .collect(Collectors.toList());
+    }
+
+}
@@ -16,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
 
 import org.junit.Test;
@@ -63,4 +65,27 @@ public class SlidingWindowCounterTest {
 
     }
 
+    @Test
+    public void testRotatedSlotsAreNotCounted() {
+        final long now = Instant.parse("2020-01-01T12:00:00Z").toEpochMilli();
+        final SlidingWindowCounter counter =
+                new SlidingWindowCounter(Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC),
+                        MeasurementWindow.ONE_MINUTE);
+        // the ring of the one minute window holds twice the window plus one slot
+        final long ringLap = 13 * MeasurementWindow.ONE_MINUTE.getResolution().toMillis();
+
+        // measurement in the current slot which is then overwritten by a measurement one ring lap later
+        counter.increment(true, now);
+        counter.increment(true, now + ringLap);
+        // measurement which is older than the slot at its index is dropped
+        counter.increment(true, now);
+        // measurement inside the window but in another slot
+        counter.increment(true, now - 20_000L);
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 1L);
+
+        counter.reset();
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 0L);
+    }
+
 }
@@ -20,20 +20,28 @@ import static org.mockito.Mockito.when;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.awaitility.Awaitility;
 import org.eclipse.ditto.model.base.common.ByteBufferUtils;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.MessageSendingFailedException;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractPublisherActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.junit.Test;
 
+import com.hivemq.client.mqtt.datatypes.MqttQos;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3Client;
 import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
+import com.typesafe.config.ConfigFactory;
 
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
 
 public class HiveMqtt3PublisherActorTest extends AbstractPublisherActorTest {
 
@@ -81,6 +89,84 @@ public class HiveMqtt3PublisherActorTest extends AbstractPublisherActorTest {
         assertThat(mqttMessage.getTopic().toString()).isEqualTo("replyTarget/thing:id");
     }
 
+    @Test
+    public void limitsPublishesInFlightAndDropsBeyondQueue() {
+        restartActorSystemWithSingleInFlightAndQueuedPublish();
+
+        new TestKit(actorSystem) {{
+            final List<CompletableFuture<Mqtt3Publish>> pendingPublishes = mockPendingPublishes();
+
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            for (int i = 0; i < 3; i++) {
+                publisherActor.tell(getMockOutboundSignal(), getRef());
+            }
+
+            Awaitility.await().until(() -> received.size() == 1);
+            pendingPublishes.get(0).complete(received.get(0));
+
+            Awaitility.await().until(() -> received.size() == 2);
+            pendingPublishes.get(1).complete(received.get(1));
+
+            // the third message exceeded the queue while the first publish was in flight
+            expectNoMessage();
+            assertThat(received).hasSize(2);
+        }};
+    }
+
+    @Test
+    public void queuedAtLeastOnceMessagesReplaceAtMostOnceMessagesOrAreRejected() {
+        restartActorSystemWithSingleInFlightAndQueuedPublish();
+
+        new TestKit(actorSystem) {{
+            final List<CompletableFuture<Mqtt3Publish>> pendingPublishes = mockPendingPublishes();
+            final Target atLeastOnceTarget = ConnectivityModelFactory.newTarget(createTestTarget(), OUTBOUND_ADDRESS, 1);
+
+            final ActorRef publisherActor = childActorOf(getPublisherActorProps());
+            publisherActor.tell(getMockOutboundSignal(), getRef());
+            publisherActor.tell(getMockOutboundSignal(), getRef());
+            publisherActor.tell(getMockOutboundSignal(atLeastOnceTarget), getRef());
+
+            // the queue is full of messages with QoS 1, so the sender is asked to retry
+            publisherActor.tell(getMockOutboundSignal(atLeastOnceTarget), getRef());
+            expectMsgClass(MessageSendingFailedException.class);
+
+            Awaitility.await().until(() -> received.size() == 1);
+            pendingPublishes.get(0).complete(received.get(0));
+
+            // the message with QoS 1 took the place of the queued message with QoS 0
+            Awaitility.await().until(() -> received.size() == 2);
+            assertThat(received.get(1).getQos()).isEqualTo(MqttQos.AT_LEAST_ONCE);
+            pendingPublishes.get(1).complete(received.get(1));
+
+            expectNoMessage();
+            assertThat(received).hasSize(2);
+        }};
+    }
+
+    private void restartActorSystemWithSingleInFlightAndQueuedPublish() {
+        TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                false);
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.parseString(
+                "ditto.connectivity.connection.mqtt {\n" +
+                        "  publisher-max-in-flight = 1\n" +
+                        "  publisher-max-queue-size = 1\n" +
+                        "}").withFallback(CONFIG));
+    }
+
+    private List<CompletableFuture<Mqtt3Publish>> mockPendingPublishes() {
+        final List<CompletableFuture<Mqtt3Publish>> pendingPublishes = new LinkedList<>();
+        mqtt3Client = mock(Mqtt3Client.class);
+        final Mqtt3AsyncClient asyncClient = mock(Mqtt3AsyncClient.class);
+        when(mqtt3Client.toAsync()).thenReturn(asyncClient);
+        when(asyncClient.publish(any(Mqtt3Publish.class))).thenAnswer(i -> {
+            received.add(i.getArgument(0));
+            final CompletableFuture<Mqtt3Publish> future = new CompletableFuture<>();
+            pendingPublishes.add(future);
+            return future;
+        });
+        return pendingPublishes;
+    }
+
     protected String getOutboundAddress() {
         return OUTBOUND_ADDRESS;
     }
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.rabbitmq.client.Channel;
+
+/**
+ * Unit test for {@link RabbitMQAcknowledger}.
+ */
+public final class RabbitMQAcknowledgerTest {
+
+    private Channel channel;
+
+    @Before
+    public void setUp() {
+        channel = Mockito.mock(Channel.class);
+    }
+
+    @Test
+    public void acknowledgesMultipleDeliveriesOnceBatchIsFull() throws IOException {
+        final RabbitMQAcknowledger underTest = RabbitMQAcknowledger.of(channel, 3, 0);
+        deliver(underTest, 1L, 2L, 3L);
+
+        underTest.handedOff(1L);
+        underTest.handedOff(2L);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        underTest.handedOff(3L);
+        verify(channel).basicAck(3L, true);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void doesNotAcknowledgeDeliveriesBeyondOneInProcessing() throws IOException {
+        final RabbitMQAcknowledger underTest = RabbitMQAcknowledger.of(channel, 2, 0);
+        deliver(underTest, 1L, 2L, 3L, 4L);
+
+        underTest.handedOff(1L);
+        underTest.handedOff(3L);
+        underTest.handedOff(4L);
+        verify(channel).basicAck(1L, true);
+
+        underTest.handedOff(2L);
+        verify(channel).basicAck(4L, true);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void flushAcknowledgesIncompleteBatch() throws IOException {
+        final RabbitMQAcknowledger underTest = RabbitMQAcknowledger.of(channel, 10, 0);
+        deliver(underTest, 1L, 2L);
+        underTest.handedOff(1L);
+
+        underTest.flush();
+        underTest.flush();
+
+        verify(channel).basicAck(1L, true);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void requeuesDeliveryWhoseHandOffWasNotReportedInTime() throws IOException {
+        final RabbitMQAcknowledger underTest = RabbitMQAcknowledger.of(channel, 10, 0);
+        deliver(underTest, 1L, 2L, 3L);
+        underTest.handedOff(1L);
+        underTest.handedOff(3L);
+
+        // the report of the hand-off of delivery 2 is lost
+        assertThat(underTest.requeueStale(Duration.ofMinutes(1L))).isZero();
+        underTest.flush();
+        verify(channel).basicAck(1L, true);
+
+        assertThat(underTest.requeueStale(Duration.ZERO)).isEqualTo(1);
+        verify(channel).basicNack(2L, false, true);
+        underTest.flush();
+        verify(channel).basicAck(3L, true);
+
+        // a late report of the requeued delivery is ignored
+        underTest.handedOff(2L);
+        underTest.flush();
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void acknowledgesAllDeliveriesOnceAllAreMarkedAsHandedOff() throws IOException {
+        final RabbitMQAcknowledger underTest = RabbitMQAcknowledger.of(channel, 10, 0);
+        deliver(underTest, 1L, 2L, 3L);
+        underTest.handedOff(2L);
+
+        underTest.handedOffAll();
+
+        verify(channel).basicAck(3L, true);
+        verifyNoMoreInteractions(channel);
+    }
+
+    @Test
+    public void batchSizeIsLimitedByPrefetchCount() throws IOException {
+        final RabbitMQAcknowledger underTest = RabbitMQAcknowledger.of(channel, 10, 4);
+        deliver(underTest, 1L, 2L);
+
+        underTest.handedOff(1L);
+        underTest.handedOff(2L);
+
+        verify(channel).basicAck(2L, true);
+    }
+
+    private static void deliver(final RabbitMQAcknowledger acknowledger, final long... deliveryTags) {
+        for (final long deliveryTag : deliveryTags) {
+            acknowledger.delivered(deliveryTag);
+        }
+    }
+
+}
@@ -12,6 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.header;
+
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
@@ -22,13 +25,23 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.PayloadMapping;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.MappingActorRestarted;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.junit.Test;
+import org.mockito.Mockito;
 
 import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Delivery;
 import com.rabbitmq.client.Envelope;
+import com.typesafe.config.ConfigFactory;
 
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.routing.ConsistentHashingRouter;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
 
 /**
  * Unit test for {@link RabbitMQConsumerActor}.
@@ -38,8 +51,83 @@ public final class RabbitMQConsumerActorTest extends AbstractConsumerActorTest<D
     private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
     private static final Envelope ENVELOPE = new Envelope(1, false, "inbound", "ditto");
 
+    @Test
+    public void acknowledgesDeliveryOnlyAfterMappedSignalsWereHandedOff() throws IOException {
+        new TestKit(actorSystem) {{
+            final Channel channel = Mockito.mock(Channel.class);
+            final TestProbe mappingProbe = TestProbe.apply(actorSystem);
+            final TestProbe concierge = TestProbe.apply(actorSystem);
+            final ActorRef mappingActor = setupMessageMappingProcessorActor(getRef(), concierge.ref());
+            final RabbitMQAcknowledger acknowledger = RabbitMQAcknowledger.of(channel, 1, 0);
+            final ActorRef underTest = actorSystem.actorOf(getConsumerActorProps(mappingProbe.ref(),
+                    ConnectivityModelFactory.emptyPayloadMapping(), acknowledger));
+
+            acknowledger.delivered(ENVELOPE.getDeliveryTag());
+            underTest.tell(getInboundMessage(header("device_id", TestConstants.Things.THING_ID)), getRef());
+
+            // the delivery is not acknowledged while it waits for the mapping
+            final ConsistentHashingRouter.ConsistentHashableEnvelope envelope =
+                    mappingProbe.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+            Mockito.verify(channel, Mockito.after(500L).never()).basicAck(Mockito.anyLong(), Mockito.anyBoolean());
+
+            mappingActor.tell(envelope, mappingProbe.lastSender());
+            concierge.expectMsgClass(ModifyThing.class);
+            Mockito.verify(channel, Mockito.timeout(5000L)).basicAck(ENVELOPE.getDeliveryTag(), true);
+        }};
+    }
+
+    @Test
+    public void requeuesDeliveryWhoseHandOffIsNotReported() throws IOException {
+        final ActorSystem system = ActorSystem.create("AkkaTestSystem", ConfigFactory.parseString(
+                "ditto.connectivity.connection.amqp091 { ack-interval = 100ms, hand-off-timeout = 300ms }")
+                .withFallback(ConfigFactory.load("test")));
+        try {
+            new TestKit(system) {{
+                final Channel channel = Mockito.mock(Channel.class);
+                final TestProbe mappingProbe = TestProbe.apply(system);
+                final RabbitMQAcknowledger acknowledger = RabbitMQAcknowledger.of(channel, 1, 0);
+                final ActorRef underTest = system.actorOf(getConsumerActorProps(mappingProbe.ref(),
+                        ConnectivityModelFactory.emptyPayloadMapping(), acknowledger));
+
+                acknowledger.delivered(ENVELOPE.getDeliveryTag());
+                underTest.tell(getInboundMessage(header("device_id", TestConstants.Things.THING_ID)), getRef());
+
+                // the mapping never reports the hand-off
+                mappingProbe.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+                Mockito.verify(channel, Mockito.timeout(5000L)).basicNack(ENVELOPE.getDeliveryTag(), false, true);
+                Mockito.verify(channel, Mockito.never()).basicAck(Mockito.anyLong(), Mockito.anyBoolean());
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void acknowledgesDeliveriesAwaitingHandOffWhenMappingActorRestarted() throws IOException {
+        new TestKit(actorSystem) {{
+            final Channel channel = Mockito.mock(Channel.class);
+            final TestProbe mappingProbe = TestProbe.apply(actorSystem);
+            final RabbitMQAcknowledger acknowledger = RabbitMQAcknowledger.of(channel, 1, 0);
+            final ActorRef underTest = actorSystem.actorOf(getConsumerActorProps(mappingProbe.ref(),
+                    ConnectivityModelFactory.emptyPayloadMapping(), acknowledger));
+
+            acknowledger.delivered(ENVELOPE.getDeliveryTag());
+            underTest.tell(getInboundMessage(header("device_id", TestConstants.Things.THING_ID)), getRef());
+            mappingProbe.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+
+            underTest.tell(MappingActorRestarted.getInstance(), getRef());
+            Mockito.verify(channel, Mockito.timeout(5000L)).basicAck(ENVELOPE.getDeliveryTag(), true);
+        }};
+    }
+
     @Override
     protected Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping) {
+        return getConsumerActorProps(mappingActor, payloadMapping,
+                RabbitMQAcknowledger.of(Mockito.mock(Channel.class), 1, 0));
+    }
+
+    private static Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping,
+            final RabbitMQAcknowledger acknowledger) {
         return RabbitMQConsumerActor.props("rmq-consumer", mappingActor,
                 ConnectivityModelFactory.newSourceBuilder()
                         .address("rmq-consumer")
@@ -48,7 +136,8 @@ public final class RabbitMQConsumerActorTest extends AbstractConsumerActorTest<D
                         .headerMapping(TestConstants.HEADER_MAPPING)
                         .payloadMapping(payloadMapping)
                         .build(),
-                CONNECTION_ID);
+                CONNECTION_ID,
+                acknowledger);
     }
 
     @Override
@@ -112,6 +112,13 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 .matchEquals(COMPLETE_MESSAGE, s -> logger.debug("Got stream's <{}> message.", COMPLETE_MESSAGE))
                 // If an actor downstream replies with an HTTP response, simply forward it.
                 .match(HttpResponse.class, this::completeWithResult)
+                .match(ChunkedJsonResponse.class, chunkedJsonResponse -> {
+                    final HttpResponse responseWithoutBody = enhanceResponseWithExternalDittoHeaders(
+                            HttpResponse.create().withStatus(HttpStatusCode.OK.toInt()),
+                            chunkedJsonResponse.getDittoHeaders());
+                    completeWithResult(responseWithoutBody.withEntity(
+                            HttpEntities.createChunked(CONTENT_TYPE_JSON, chunkedJsonResponse.getEntitySource())));
+                })
                 .match(SendMessageAcceptedResponse.class, cmd -> {
                     final HttpResponse httpResponse = HttpResponse.create().withStatus(HttpStatusCode.ACCEPTED.toInt());
                     completeWithResult(httpResponse);
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+
+/**
+ * Local message to an {@link AbstractHttpRequestActor} which completes the HTTP request with status {@code 200} and
+ * a chunked JSON entity emitted by a source. This allows starting the response before the complete entity is known.
+ */
+@Immutable
+public final class ChunkedJsonResponse {
+
+    private final DittoHeaders dittoHeaders;
+    private final Source<ByteString, NotUsed> entitySource;
+
+    private ChunkedJsonResponse(final DittoHeaders dittoHeaders, final Source<ByteString, NotUsed> entitySource) {
+        this.dittoHeaders = dittoHeaders;
+        this.entitySource = entitySource;
+    }
+
+    /**
+     * Returns a new instance of {@code ChunkedJsonResponse}.
+     *
+     * @param dittoHeaders the headers of the response.
+     * @param entitySource the source of the chunks which together form the JSON entity.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ChunkedJsonResponse of(final DittoHeaders dittoHeaders,
+            final Source<ByteString, NotUsed> entitySource) {
+
+        return new ChunkedJsonResponse(checkNotNull(dittoHeaders, "dittoHeaders"),
+                checkNotNull(entitySource, "entitySource"));
+    }
+
+    /**
+     * @return the headers of the response.
+     */
+    public DittoHeaders getDittoHeaders() {
+        return dittoHeaders;
+    }
+
+    /**
+     * @return the source of the chunks which together form the JSON entity.
+     */
+    public Source<ByteString, NotUsed> getEntitySource() {
+        return entitySource;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "dittoHeaders=" + dittoHeaders +
+                ", entitySource=" + entitySource +
+                "]";
+    }
+
+}
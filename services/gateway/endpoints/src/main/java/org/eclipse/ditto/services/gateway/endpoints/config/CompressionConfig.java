@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.config;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the negotiated compression of HTTP responses and the decompression of HTTP
+ * requests of the Ditto Gateway service.
+ */
+@Immutable
+public interface CompressionConfig {
+
+    /**
+     * Indicates whether responses should be compressed if the client accepts a supported encoding.
+     *
+     * @return {@code true} if responses should be compressed, {@code false} else.
+     */
+    boolean isResponseCompressionEnabled();
+
+    /**
+     * Indicates whether requests with a supported {@code Content-Encoding} should be decompressed.
+     *
+     * @return {@code true} if requests should be decompressed, {@code false} else.
+     */
+    boolean isRequestDecompressionEnabled();
+
+    /**
+     * Returns the minimum size of a response entity in bytes for being compressed. Smaller entities are sent
+     * uncompressed as compression would not pay off.
+     *
+     * @return the minimum size in bytes.
+     */
+    long getMinimumSize();
+
+    /**
+     * Returns the media types (without parameters, e.g. {@code application/json}) of response entities which may be
+     * compressed.
+     *
+     * @return an unmodifiable unsorted Set containing the media types.
+     */
+    Set<String> getMediaTypes();
+
+    /**
+     * Returns the compression level between {@code 1} (fastest) and {@code 9} (best compression).
+     *
+     * @return the compression level.
+     */
+    int getLevel();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code CompressionConfig}.
+     */
+    enum CompressionConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether responses should be compressed if the client accepts a supported encoding.
+         */
+        RESPONSE_COMPRESSION_ENABLED("response-compression-enabled", false),
+
+        /**
+         * Determines whether requests with a supported {@code Content-Encoding} should be decompressed.
+         */
+        REQUEST_DECOMPRESSION_ENABLED("request-decompression-enabled", false),
+
+        /**
+         * The minimum size of a response entity for being compressed.
+         */
+        MINIMUM_SIZE("minimum-size", 1024L),
+
+        /**
+         * The media types of response entities which may be compressed.
+         */
+        MEDIA_TYPES("media-types", Arrays.asList("application/json", "text/plain")),
+
+        /**
+         * The compression level between 1 (fastest) and 9 (best compression).
+         */
+        LEVEL("level", 6);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private CompressionConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.config;
+
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the HTTP compression config.
+ */
+@Immutable
+public final class DefaultCompressionConfig implements CompressionConfig {
+
+    private static final String CONFIG_PATH = "compression";
+
+    private final boolean responseCompressionEnabled;
+    private final boolean requestDecompressionEnabled;
+    private final long minimumSize;
+    private final Set<String> mediaTypes;
+    private final int level;
+
+    private DefaultCompressionConfig(final ScopedConfig scopedConfig) {
+        responseCompressionEnabled =
+                scopedConfig.getBoolean(CompressionConfigValue.RESPONSE_COMPRESSION_ENABLED.getConfigPath());
+        requestDecompressionEnabled =
+                scopedConfig.getBoolean(CompressionConfigValue.REQUEST_DECOMPRESSION_ENABLED.getConfigPath());
+        minimumSize = scopedConfig.getBytes(CompressionConfigValue.MINIMUM_SIZE.getConfigPath());
+        mediaTypes = Collections.unmodifiableSet(
+                new HashSet<>(scopedConfig.getStringList(CompressionConfigValue.MEDIA_TYPES.getConfigPath())));
+        level = getLevelOrThrow(scopedConfig);
+    }
+
+    private static int getLevelOrThrow(final ScopedConfig scopedConfig) {
+        final String levelConfigPath = CompressionConfigValue.LEVEL.getConfigPath();
+        final int result = scopedConfig.getInt(levelConfigPath);
+        if (Deflater.BEST_SPEED > result || Deflater.BEST_COMPRESSION < result) {
+            final String msgPattern = "The value for <{0}> must be between 1 and 9 but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, levelConfigPath, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of {@code DefaultCompressionConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the compression config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCompressionConfig of(final Config config) {
+        return new DefaultCompressionConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CompressionConfigValue.values()));
+    }
+
+    @Override
+    public boolean isResponseCompressionEnabled() {
+        return responseCompressionEnabled;
+    }
+
+    @Override
+    public boolean isRequestDecompressionEnabled() {
+        return requestDecompressionEnabled;
+    }
+
+    @Override
+    public long getMinimumSize() {
+        return minimumSize;
+    }
+
+    @Override
+    public Set<String> getMediaTypes() {
+        return mediaTypes;
+    }
+
+    @Override
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCompressionConfig that = (DefaultCompressionConfig) o;
+        return responseCompressionEnabled == that.responseCompressionEnabled &&
+                requestDecompressionEnabled == that.requestDecompressionEnabled &&
+                minimumSize == that.minimumSize &&
+                level == that.level &&
+                mediaTypes.equals(that.mediaTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(responseCompressionEnabled, requestDecompressionEnabled, minimumSize, mediaTypes, level);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "responseCompressionEnabled=" + responseCompressionEnabled +
+                ", requestDecompressionEnabled=" + requestDecompressionEnabled +
+                ", minimumSize=" + minimumSize +
+                ", mediaTypes=" + mediaTypes +
+                ", level=" + level +
+                "]";
+    }
+
+}
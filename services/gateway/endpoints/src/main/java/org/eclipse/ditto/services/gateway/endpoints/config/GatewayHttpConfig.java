@@ -45,6 +45,8 @@ public final class GatewayHttpConfig implements HttpConfig {
     private final boolean enableCors;
     private final Duration requestTimeout;
     private final String actorPropsFactoryFullQualifiedClassname;
+    private final boolean queryThingsStreamingEnabled;
+    private final CompressionConfig compressionConfig;
 
     private GatewayHttpConfig(final DefaultHttpConfig basicHttpConfig, final ScopedConfig scopedConfig,
             final Pattern redirectToHttpsBlacklistPattern) {
@@ -60,6 +62,9 @@ public final class GatewayHttpConfig implements HttpConfig {
         requestTimeout = scopedConfig.getDuration(GatewayHttpConfigValue.REQUEST_TIMEOUT.getConfigPath());
         actorPropsFactoryFullQualifiedClassname = scopedConfig.getString(
                 GatewayHttpConfigValue.ACTOR_PROPS_FACTORY.getConfigPath());
+        queryThingsStreamingEnabled =
+                scopedConfig.getBoolean(GatewayHttpConfigValue.QUERY_THINGS_STREAMING_ENABLED.getConfigPath());
+        compressionConfig = DefaultCompressionConfig.of(scopedConfig);
     }
 
     /**
@@ -137,6 +142,16 @@ public final class GatewayHttpConfig implements HttpConfig {
         return actorPropsFactoryFullQualifiedClassname;
     }
 
+    @Override
+    public boolean isQueryThingsStreamingEnabled() {
+        return queryThingsStreamingEnabled;
+    }
+
+    @Override
+    public CompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+
     @SuppressWarnings("OverlyComplexMethod")
     @Override
     public boolean equals(final Object o) {
@@ -151,17 +166,20 @@ public final class GatewayHttpConfig implements HttpConfig {
                 forceHttps == that.forceHttps &&
                 redirectToHttps == that.redirectToHttps &&
                 enableCors == that.enableCors &&
+                queryThingsStreamingEnabled == that.queryThingsStreamingEnabled &&
                 hostname.equals(that.hostname) &&
                 schemaVersions.equals(that.schemaVersions) &&
                 redirectToHttpsBlacklistPattern.equals(that.redirectToHttpsBlacklistPattern) &&
                 requestTimeout.equals(that.requestTimeout) &&
-                actorPropsFactoryFullQualifiedClassname.equals(that.actorPropsFactoryFullQualifiedClassname);
+                actorPropsFactoryFullQualifiedClassname.equals(that.actorPropsFactoryFullQualifiedClassname) &&
+                compressionConfig.equals(that.compressionConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(hostname, port, schemaVersions, forceHttps, redirectToHttps,
-                redirectToHttpsBlacklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname);
+                redirectToHttpsBlacklistPattern, enableCors, requestTimeout, actorPropsFactoryFullQualifiedClassname,
+                queryThingsStreamingEnabled, compressionConfig);
     }
 
     @Override
@@ -176,6 +194,8 @@ public final class GatewayHttpConfig implements HttpConfig {
                 ", enableCors=" + enableCors +
                 ", requestTimeout=" + requestTimeout +
                 ", actorPropsFactoryFullQualifiedClassname=" + actorPropsFactoryFullQualifiedClassname +
+                ", queryThingsStreamingEnabled=" + queryThingsStreamingEnabled +
+                ", compressionConfig=" + compressionConfig +
                 "]";
     }
 
@@ -80,6 +80,21 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
      */
     String getActorPropsFactoryFullQualifiedClassname();
 
+    /**
+     * Indicates whether the things found by a {@code QueryThings} command should be streamed to the client as chunked
+     * JSON as soon as they are retrieved instead of being aggregated before responding.
+     *
+     * @return {@code true} if search results should be streamed, {@code false} else.
+     */
+    boolean isQueryThingsStreamingEnabled();
+
+    /**
+     * Returns the configuration settings for compressing HTTP responses and decompressing HTTP requests.
+     *
+     * @return the config.
+     */
+    CompressionConfig getCompressionConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpConfig}.
@@ -122,7 +137,12 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
         /**
          * The full qualified classname of the HttpRequestActorPropsFactory to instantiate.
          */
-        ACTOR_PROPS_FACTORY("actor-props-factory", DefaultHttpRequestActorPropsFactory.class.getName())
+        ACTOR_PROPS_FACTORY("actor-props-factory", DefaultHttpRequestActorPropsFactory.class.getName()),
+
+        /**
+         * Determines whether the things found by a {@code QueryThings} command should be streamed to the client.
+         */
+        QUERY_THINGS_STREAMING_ENABLED("query-things-streaming-enabled", false)
         ;
 
         private final String path;
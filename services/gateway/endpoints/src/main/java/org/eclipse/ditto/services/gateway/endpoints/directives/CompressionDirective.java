@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.directives;
+
+import static akka.http.javadsl.server.Directives.decodeRequestWith;
+import static akka.http.javadsl.server.Directives.extractRequest;
+import static akka.http.javadsl.server.Directives.mapResponse;
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.gateway.endpoints.config.CompressionConfig;
+import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+
+import akka.http.javadsl.coding.Coder;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.ResponseEntity;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.http.javadsl.server.Route;
+import akka.util.ByteString;
+
+/**
+ * Custom Akka Http directive which compresses strict response entities with the encoding negotiated via the
+ * {@code Accept-Encoding} request header and which decompresses request entities with a {@code Content-Encoding}.
+ * Streamed responses (e. g. SSE) and responses which are already encoded are left untouched.
+ */
+@Immutable
+public final class CompressionDirective {
+
+    private static final String ACCEPT_ENCODING = "accept-encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String VARY = "Vary";
+    private static final String VARY_ACCEPT_ENCODING = "Accept-Encoding";
+
+    private static final List<Coder> REQUEST_DECODERS = Arrays.asList(Coder.Gzip, Coder.Deflate, Coder.NoCoding);
+
+    private final CompressionConfig compressionConfig;
+
+    private CompressionDirective(final CompressionConfig compressionConfig) {
+        this.compressionConfig = compressionConfig;
+    }
+
+    /**
+     * Returns an instance of {@code CompressionDirective}.
+     *
+     * @param httpConfig the configuration settings of the Gateway service's HTTP behaviour.
+     * @return the instance.
+     * @throws NullPointerException if {@code httpConfig} is {@code null}.
+     */
+    public static CompressionDirective getInstance(final HttpConfig httpConfig) {
+        checkNotNull(httpConfig, "HTTP config");
+        return new CompressionDirective(httpConfig.getCompressionConfig());
+    }
+
+    /**
+     * Decompresses the request and compresses the response of the wrapped {@code inner} Route as configured.
+     *
+     * @param inner the inner Route to wrap.
+     * @return the new Route wrapping {@code inner} with compression handling.
+     */
+    public Route handleCompression(final Supplier<Route> inner) {
+        final Supplier<Route> decodingRoute;
+        if (compressionConfig.isRequestDecompressionEnabled()) {
+            decodingRoute = () -> decodeRequestWith(REQUEST_DECODERS, inner);
+        } else {
+            decodingRoute = inner;
+        }
+
+        if (!compressionConfig.isResponseCompressionEnabled()) {
+            return decodingRoute.get();
+        }
+        return extractRequest(request -> {
+            final Encoding encoding = negotiateEncoding(request).orElse(null);
+            return mapResponse(response -> compressResponse(response, encoding), decodingRoute);
+        });
+    }
+
+    private HttpResponse compressResponse(final HttpResponse response, @Nullable final Encoding encoding) {
+        final ResponseEntity entity = response.entity();
+        if (!(entity instanceof HttpEntity.Strict) || isAlreadyEncoded(response) || !isCompressible(entity)) {
+            return response;
+        }
+        final ByteString data = ((HttpEntity.Strict) entity).getData();
+        if (data.size() < compressionConfig.getMinimumSize()) {
+            return response;
+        }
+
+        // the representation depends on the Accept-Encoding header from now on, so caches have to consider it
+        final HttpResponse varyingResponse = response.addHeader(RawHeader.create(VARY, VARY_ACCEPT_ENCODING));
+        if (null == encoding) {
+            return varyingResponse;
+        }
+        final ByteString compressed = encoding.compress(data, compressionConfig.getLevel());
+        return varyingResponse.addHeader(RawHeader.create(CONTENT_ENCODING, encoding.token))
+                .withEntity(entity.getContentType(), compressed);
+    }
+
+    private static boolean isAlreadyEncoded(final HttpResponse response) {
+        for (final HttpHeader header : response.getHeaders()) {
+            if (CONTENT_ENCODING.equalsIgnoreCase(header.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isCompressible(final ResponseEntity entity) {
+        final String mediaType = entity.getContentType().mediaType().toString().toLowerCase(Locale.ENGLISH);
+        return compressionConfig.getMediaTypes().contains(mediaType);
+    }
+
+    /**
+     * Determines the supported encoding with the highest quality value of the request's {@code Accept-Encoding}
+     * header. {@code gzip} is preferred over {@code deflate} if both have the same quality value.
+     *
+     * @param request the request to negotiate the encoding for.
+     * @return the negotiated encoding or an empty Optional if the response should not be compressed.
+     */
+    static Optional<Encoding> negotiateEncoding(final HttpRequest request) {
+        for (final HttpHeader header : request.getHeaders()) {
+            if (ACCEPT_ENCODING.equalsIgnoreCase(header.name())) {
+                return negotiateEncoding(header.value());
+            }
+        }
+        return Optional.empty();
+    }
+
+    static Optional<Encoding> negotiateEncoding(final String acceptEncoding) {
+        float gzipQuality = -1F;
+        float deflateQuality = -1F;
+        float wildcardQuality = -1F;
+        for (final String range : acceptEncoding.split(",")) {
+            final String[] parts = range.split(";");
+            final String coding = parts[0].trim().toLowerCase(Locale.ENGLISH);
+            final float quality = parseQuality(parts);
+            if (Encoding.GZIP.token.equals(coding) || "x-gzip".equals(coding)) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (Encoding.DEFLATE.token.equals(coding)) {
+                deflateQuality = Math.max(deflateQuality, quality);
+            } else if ("*".equals(coding)) {
+                wildcardQuality = quality;
+            }
+        }
+        final float effectiveGzipQuality = 0 <= gzipQuality ? gzipQuality : wildcardQuality;
+        final float effectiveDeflateQuality = 0 <= deflateQuality ? deflateQuality : wildcardQuality;
+
+        if (0 < effectiveGzipQuality && effectiveGzipQuality >= effectiveDeflateQuality) {
+            return Optional.of(Encoding.GZIP);
+        } else if (0 < effectiveDeflateQuality) {
+            return Optional.of(Encoding.DEFLATE);
+        }
+        return Optional.empty();
+    }
+
+    private static float parseQuality(final String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String parameter = parts[i].trim();
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Float.parseFloat(parameter.substring(2).trim());
+                } catch (final NumberFormatException e) {
+                    return 0F;
+                }
+            }
+        }
+        return 1F;
+    }
+
+    /**
+     * The content codings this directive is able to compress responses with.
+     */
+    enum Encoding {
+
+        GZIP("gzip") {
+            @Override
+            ByteString compress(final ByteString data, final int level) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream(initialBufferSize(data));
+                try (final GZIPOutputStream gzipStream = new LevelledGzipOutputStream(bytes, level)) {
+                    gzipStream.write(data.toArray());
+                } catch (final IOException e) {
+                    // cannot happen when writing to a byte array
+                    throw new UncheckedIOException(e);
+                }
+                return ByteString.fromArray(bytes.toByteArray());
+            }
+        },
+
+        DEFLATE("deflate") {
+            @Override
+            ByteString compress(final ByteString data, final int level) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream(initialBufferSize(data));
+                final Deflater deflater = new Deflater(level);
+                try {
+                    deflater.setInput(data.toArray());
+                    deflater.finish();
+                    final byte[] buffer = new byte[8192];
+                    while (!deflater.finished()) {
+                        final int length = deflater.deflate(buffer);
+                        bytes.write(buffer, 0, length);
+                    }
+                } finally {
+                    deflater.end();
+                }
+                return ByteString.fromArray(bytes.toByteArray());
+            }
+        };
+
+        private final String token;
+
+        Encoding(final String token) {
+            this.token = token;
+        }
+
+        abstract ByteString compress(ByteString data, int level);
+
+        private static int initialBufferSize(final ByteString data) {
+            return Math.max(64, data.size() / 4);
+        }
+
+    }
+
+    /**
+     * GZIP output stream which applies the configured compression level to its deflater.
+     */
+    private static final class LevelledGzipOutputStream extends GZIPOutputStream {
+
+        private LevelledGzipOutputStream(final OutputStream out, final int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+
+    }
+
+}
@@ -46,6 +46,7 @@ import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.services.gateway.endpoints.directives.CompressionDirective;
 import org.eclipse.ditto.services.gateway.endpoints.directives.CorsEnablingDirective;
 import org.eclipse.ditto.services.gateway.endpoints.directives.EncodingEnsuringDirective;
 import org.eclipse.ditto.services.gateway.endpoints.directives.HttpsEnsuringDirective;
@@ -196,19 +197,22 @@ public final class RootRoute extends AllDirectives {
                 EncodingEnsuringDirective.ensureEncoding(correlationId, () -> {
                     final HttpsEnsuringDirective httpsDirective = HttpsEnsuringDirective.getInstance(httpConfig);
                     final CorsEnablingDirective corsDirective = CorsEnablingDirective.getInstance(httpConfig);
+                    final CompressionDirective compressionDirective = CompressionDirective.getInstance(httpConfig);
                     return httpsDirective.ensureHttps(correlationId, () ->
                             corsDirective.enableCors(() ->
                                     SecurityResponseHeadersDirective.addSecurityResponseHeaders(() ->
-                                                /* handling the rejections is done by akka automatically, but if we
-                                                   do it here explicitly, we are able to log the status code for the
-                                                   rejection (e.g. 404 or 405) in a wrapping directive. */
-                                            handleRejections(rejectionHandler, () ->
-                                                        /* the inner handleExceptions is for handling exceptions
-                                                           occurring in the route route. It makes sure that the
-                                                           wrapping directives such as addSecurityResponseHeaders are
-                                                           even called in an error case in the route route. */
-                                                    handleExceptions(exceptionHandler, () ->
-                                                            rootRoute.apply(correlationId)
+                                            compressionDirective.handleCompression(() ->
+                                                    /* handling the rejections is done by akka automatically, but if
+                                                       we do it here explicitly, we are able to log the status code
+                                                       for the rejection (e.g. 404 or 405) in a wrapping directive. */
+                                                    handleRejections(rejectionHandler, () ->
+                                                            /* the inner handleExceptions is for handling exceptions
+                                                               occurring in the route route. It makes sure that the
+                                                               wrapping directives such as addSecurityResponseHeaders
+                                                               are even called in an error case in the route route. */
+                                                            handleExceptions(exceptionHandler, () ->
+                                                                    rootRoute.apply(correlationId)
+                                                            )
                                                     )
                                             )
                                     )
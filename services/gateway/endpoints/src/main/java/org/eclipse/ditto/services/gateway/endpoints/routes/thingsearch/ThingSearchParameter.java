@@ -35,7 +35,12 @@ public enum ThingSearchParameter {
     /**
      * Request parameter for namespaces to apply.
      */
-    NAMESPACES("namespaces");
+    NAMESPACES("namespaces"),
+
+    /**
+     * Request parameter for the mode of counting things, e.g. {@code estimated}.
+     */
+    COUNT_MODE("count-mode");
 
     private final String parameterValue;
 
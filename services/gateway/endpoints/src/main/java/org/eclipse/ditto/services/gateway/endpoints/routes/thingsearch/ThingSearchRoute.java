@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch;
 
+import static org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch.ThingSearchParameter.COUNT_MODE;
 import static org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch.ThingSearchParameter.FIELDS;
 import static org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch.ThingSearchParameter.FILTER;
 import static org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch.ThingSearchParameter.NAMESPACES;
@@ -91,11 +92,11 @@ public final class ThingSearchRoute extends AbstractRoute {
      * @return {@code /search/things/count} route.
      */
     private Route countThings(final RequestContext ctx, final DittoHeaders dittoHeaders) {
-        // GET things/count?filter=<filterString>&namespaces=<namespacesString>
+        // GET things/count?filter=<filterString>&namespaces=<namespacesString>&count-mode=<countModeString>
         return get(() -> thingSearchParameterOptional(params -> handlePerRequest(ctx,
                 CountThings.of(calculateFilter(params.get(FILTER)),
                         calculateNamespaces(params.get(NAMESPACES)),
-                        dittoHeaders))));
+                        calculateCountHeaders(params.get(COUNT_MODE), dittoHeaders)))));
     }
 
     /*
@@ -157,6 +158,16 @@ public final class ThingSearchRoute extends AbstractRoute {
         return namespacesString.map(splitAndRemoveEmpty).orElse(null);
     }
 
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private static DittoHeaders calculateCountHeaders(final Optional<String> countModeString,
+            final DittoHeaders dittoHeaders) {
+
+        // the query parameter takes precedence over a header of the same name
+        return countModeString
+                .map(countMode -> dittoHeaders.toBuilder().putHeader(CountThings.COUNT_MODE, countMode).build())
+                .orElse(dittoHeaders);
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private static List<String> calculateOptions(final Optional<String> optionsString) {
         return optionsString
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.config;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.gateway.endpoints.config.DefaultCompressionConfig}.
+ */
+public final class DefaultCompressionConfigTest {
+
+    private static Config compressionTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        compressionTestConfig = ConfigFactory.load("compression-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCompressionConfig.class, areImmutable(),
+                assumingFields("mediaTypes").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCompressionConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultCompressionConfig underTest = DefaultCompressionConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isResponseCompressionEnabled())
+                .as(CompressionConfig.CompressionConfigValue.RESPONSE_COMPRESSION_ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.isRequestDecompressionEnabled())
+                .as(CompressionConfig.CompressionConfigValue.REQUEST_DECOMPRESSION_ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getMinimumSize())
+                .as(CompressionConfig.CompressionConfigValue.MINIMUM_SIZE.getConfigPath())
+                .isEqualTo(1024L);
+        softly.assertThat(underTest.getMediaTypes())
+                .as(CompressionConfig.CompressionConfigValue.MEDIA_TYPES.getConfigPath())
+                .isEqualTo(new HashSet<>(Arrays.asList("application/json", "text/plain")));
+        softly.assertThat(underTest.getLevel())
+                .as(CompressionConfig.CompressionConfigValue.LEVEL.getConfigPath())
+                .isEqualTo(6);
+    }
+
+    @Test
+    public void underTestReturnsValuesOfBaseConfig() {
+        final DefaultCompressionConfig underTest = DefaultCompressionConfig.of(compressionTestConfig);
+
+        softly.assertThat(underTest.isResponseCompressionEnabled())
+                .as(CompressionConfig.CompressionConfigValue.RESPONSE_COMPRESSION_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.isRequestDecompressionEnabled())
+                .as(CompressionConfig.CompressionConfigValue.REQUEST_DECOMPRESSION_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMinimumSize())
+                .as(CompressionConfig.CompressionConfigValue.MINIMUM_SIZE.getConfigPath())
+                .isEqualTo(2048L);
+        softly.assertThat(underTest.getMediaTypes())
+                .as(CompressionConfig.CompressionConfigValue.MEDIA_TYPES.getConfigPath())
+                .containsOnly("application/json");
+        softly.assertThat(underTest.getLevel())
+                .as(CompressionConfig.CompressionConfigValue.LEVEL.getConfigPath())
+                .isEqualTo(9);
+    }
+
+    @Test
+    public void invalidLevelIsRejected() {
+        final Config config = ConfigFactory.parseString("compression.level = 10");
+
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() -> DefaultCompressionConfig.of(config));
+    }
+
+}
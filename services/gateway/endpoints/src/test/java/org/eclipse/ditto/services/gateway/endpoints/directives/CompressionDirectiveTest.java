@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.directives;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.Test;
+
+import akka.util.ByteString;
+
+/**
+ * Unit test for {@link CompressionDirective}.
+ */
+public final class CompressionDirectiveTest {
+
+    private static final ByteString PAYLOAD = ByteString.fromString("{\"attributes\":{\"foo\":\"bar\"}}");
+
+    @Test
+    public void negotiateGzipIfBothAreAcceptedEqually() {
+        assertThat(CompressionDirective.negotiateEncoding("deflate, gzip"))
+                .contains(CompressionDirective.Encoding.GZIP);
+    }
+
+    @Test
+    public void negotiateEncodingWithHighestQuality() {
+        assertThat(CompressionDirective.negotiateEncoding("gzip;q=0.5, deflate;q=0.8"))
+                .contains(CompressionDirective.Encoding.DEFLATE);
+    }
+
+    @Test
+    public void negotiateWildcard() {
+        assertThat(CompressionDirective.negotiateEncoding("*")).contains(CompressionDirective.Encoding.GZIP);
+        assertThat(CompressionDirective.negotiateEncoding("gzip;q=0, *"))
+                .contains(CompressionDirective.Encoding.DEFLATE);
+    }
+
+    @Test
+    public void negotiateNothingForIdentityOrExplicitlyRefusedEncodings() {
+        assertThat(CompressionDirective.negotiateEncoding("identity")).isEmpty();
+        assertThat(CompressionDirective.negotiateEncoding("gzip;q=0, deflate;q=0")).isEmpty();
+        assertThat(CompressionDirective.negotiateEncoding("br")).isEmpty();
+    }
+
+    @Test
+    public void gzipCompressionIsReversible() throws IOException {
+        final ByteString compressed = CompressionDirective.Encoding.GZIP.compress(PAYLOAD, 9);
+
+        assertThat(decompress(new GZIPInputStream(new ByteArrayInputStream(compressed.toArray()))))
+                .isEqualTo(PAYLOAD.utf8String());
+    }
+
+    @Test
+    public void deflateCompressionIsReversible() throws IOException {
+        final ByteString compressed = CompressionDirective.Encoding.DEFLATE.compress(PAYLOAD, 1);
+
+        assertThat(decompress(new InflaterInputStream(new ByteArrayInputStream(compressed.toArray()))))
+                .isEqualTo(PAYLOAD.utf8String());
+    }
+
+    private static String decompress(final InputStream inputStream) throws IOException {
+        try (final InputStream in = inputStream) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
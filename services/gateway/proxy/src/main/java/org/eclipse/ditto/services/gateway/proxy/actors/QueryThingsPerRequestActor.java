@@ -12,15 +12,29 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
+import org.eclipse.ditto.services.gateway.endpoints.actors.ChunkedJsonResponse;
 import org.eclipse.ditto.services.gateway.endpoints.config.GatewayHttpConfig;
 import org.eclipse.ditto.services.gateway.endpoints.config.HttpConfig;
+import org.eclipse.ditto.services.utils.aggregator.StreamThings;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
@@ -28,11 +42,14 @@ import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.ReceiveTimeout;
 import akka.event.DiagnosticLoggingAdapter;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
 
 /**
  * Actor which is started for each {@link QueryThings} command in the gateway handling the response from
@@ -42,6 +59,14 @@ import akka.event.DiagnosticLoggingAdapter;
  * This is needed in gateway so that we can maintain the max. cluster-message size in Ditto while still being able to
  * respond to searches with max. 200 search results.
  * </p>
+ * <p>
+ * If streaming of search results is enabled, the found things are not aggregated but streamed to the
+ * {@code originatingSender} as {@link ChunkedJsonResponse} in the order of the search result.
+ * </p>
+ * <p>
+ * If the search service projected found things from its index, only the things it could not project are retrieved
+ * and merged into the search result.
+ * </p>
  */
 final class QueryThingsPerRequestActor extends AbstractActor {
 
@@ -51,7 +76,10 @@ final class QueryThingsPerRequestActor extends AbstractActor {
     private final ActorRef aggregatorProxyActor;
     private final ActorRef originatingSender;
 
+    private final boolean streamingEnabled;
+
     private QueryThingsResponse queryThingsResponse;
+    private boolean partiallyProjected;
 
     @SuppressWarnings("unused")
     private QueryThingsPerRequestActor(final QueryThings queryThings,
@@ -62,11 +90,13 @@ final class QueryThingsPerRequestActor extends AbstractActor {
         this.aggregatorProxyActor = aggregatorProxyActor;
         this.originatingSender = originatingSender;
         queryThingsResponse = null;
+        partiallyProjected = false;
 
         final HttpConfig httpConfig = GatewayHttpConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
 
+        streamingEnabled = httpConfig.isQueryThingsStreamingEnabled();
         getContext().setReceiveTimeout(httpConfig.getRequestTimeout());
     }
 
@@ -95,9 +125,11 @@ final class QueryThingsPerRequestActor extends AbstractActor {
 
                     log.debug("Received QueryThingsResponse: {}", qtr);
 
+                    // things projected from the search index are complete, all others only contain their ID
                     final List<ThingId> thingIds = qtr.getSearchResult().stream()
-                            .map(val -> val.asObject().getValue(Thing.JsonFields.ID).orElse(null))
-                            .map(ThingId::of)
+                            .map(JsonValue::asObject)
+                            .filter(QueryThingsPerRequestActor::isThingIdOnly)
+                            .map(item -> ThingId.of(item.getValueOrThrow(Thing.JsonFields.ID)))
                             .collect(Collectors.toList());
 
                     if (thingIds.isEmpty()) {
@@ -105,13 +137,26 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                         originatingSender.tell(qtr, getSelf());
 
                         stopMyself();
+                    } else if (thingIds.size() < qtr.getSearchResult().getItems().getSize()) {
+                        log.debug("Retrieving <{}> things which were not projected from the search index.",
+                                thingIds.size());
+                        partiallyProjected = true;
+                        final RetrieveThings retrieveThings = RetrieveThings.getBuilder(thingIds)
+                                .dittoHeaders(qtr.getDittoHeaders())
+                                .selectedFields(queryThings.getFields().map(QueryThingsPerRequestActor::withThingId))
+                                .build();
+                        aggregatorProxyActor.tell(retrieveThings, getSelf());
                     } else {
                         final RetrieveThings retrieveThings = RetrieveThings.getBuilder(thingIds)
                                 .dittoHeaders(qtr.getDittoHeaders())
                                 .selectedFields(queryThings.getFields())
                                 .build();
                         // delegate to the ThingsAggregatorProxyActor which receives the results via a cluster stream:
-                        aggregatorProxyActor.tell(retrieveThings, getSelf());
+                        if (streamingEnabled) {
+                            aggregatorProxyActor.tell(StreamThings.of(retrieveThings), getSelf());
+                        } else {
+                            aggregatorProxyActor.tell(retrieveThings, getSelf());
+                        }
                     }
                 })
                 .match(RetrieveThingsResponse.class, rtr -> {
@@ -119,8 +164,11 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                     log.debug("Received RetrieveThingsResponse: {}", rtr);
 
                     if (queryThingsResponse != null) {
+                        final JsonArray retrievedThings = rtr.getEntity(rtr.getImplementedSchemaVersion()).asArray();
                         final SearchResult resultWithRetrievedItems = SearchModelFactory.newSearchResultBuilder()
-                                .addAll(rtr.getEntity(rtr.getImplementedSchemaVersion()).asArray())
+                                .addAll(partiallyProjected
+                                        ? mergeWithProjectedThings(queryThingsResponse, retrievedThings)
+                                        : retrievedThings)
                                 .nextPageOffset(queryThingsResponse.getSearchResult().getNextPageOffset().orElse(null))
                                 .cursor(queryThingsResponse.getSearchResult().getCursor().orElse(null))
                                 .build();
@@ -134,6 +182,7 @@ final class QueryThingsPerRequestActor extends AbstractActor {
 
                     stopMyself();
                 })
+                .match(Source.class, this::handleThingJsonSource)
                 .matchAny(any -> {
                     // all other messages (e.g. DittoRuntimeExceptions) are directly returned to the sender:
                     originatingSender.tell(any, getSender());
@@ -143,6 +192,79 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .build();
     }
 
+    private static boolean isThingIdOnly(final JsonObject item) {
+        return 1 == item.getSize() && item.contains(Thing.JsonFields.ID.getPointer());
+    }
+
+    private static JsonFieldSelector withThingId(final JsonFieldSelector selectedFields) {
+        final Set<JsonPointer> pointers = new LinkedHashSet<>(selectedFields.getPointers());
+        pointers.add(Thing.JsonFields.ID.getPointer());
+        return JsonFactory.newFieldSelector(pointers);
+    }
+
+    /**
+     * Replaces the items of a search result which only contain a thing ID by the retrieved things in the order of
+     * the search result. Retrieved things were requested with their ID which is removed again if it was not
+     * selected.
+     */
+    private JsonArray mergeWithProjectedThings(final QueryThingsResponse queryThingsResponse,
+            final JsonArray retrievedThings) {
+
+        final boolean thingIdSelected = queryThings.getFields()
+                .map(fields -> fields.getPointers().contains(Thing.JsonFields.ID.getPointer()))
+                .orElse(true);
+        final Map<String, JsonObject> retrievedThingsById = new HashMap<>();
+        retrievedThings.stream()
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .forEach(thing -> thing.getValue(Thing.JsonFields.ID).ifPresent(thingId ->
+                        retrievedThingsById.put(thingId,
+                                thingIdSelected ? thing : thing.remove(Thing.JsonFields.ID.getPointer()))));
+
+        return queryThingsResponse.getSearchResult().stream()
+                .map(JsonValue::asObject)
+                .map(item -> isThingIdOnly(item)
+                        ? Optional.ofNullable(retrievedThingsById.get(item.getValueOrThrow(Thing.JsonFields.ID)))
+                        : Optional.of(item))
+                .flatMap(Optional::stream)
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handleThingJsonSource(final Source thingJsonSource) {
+        if (queryThingsResponse != null) {
+            final Source<ByteString, NotUsed> entitySource =
+                    createSearchResultJsonSource((Source<String, NotUsed>) thingJsonSource, queryThingsResponse);
+            originatingSender.tell(ChunkedJsonResponse.of(queryThingsResponse.getDittoHeaders(), entitySource),
+                    getSelf());
+        } else {
+            log.warning("Did not receive a QueryThingsResponse when a source of things occurred.");
+        }
+
+        stopMyself();
+    }
+
+    /**
+     * Wraps the JSON strings of the retrieved things into the JSON of a search result: the things form the "items"
+     * array and all other fields (e.g. "nextPageOffset" or "cursor") are taken from the response of the search.
+     */
+    private static Source<ByteString, NotUsed> createSearchResultJsonSource(
+            final Source<String, NotUsed> thingJsonSource, final QueryThingsResponse queryThingsResponse) {
+
+        final JsonObject otherFields = queryThingsResponse.getEntity(queryThingsResponse.getImplementedSchemaVersion())
+                .asObject()
+                .remove(SearchResult.JsonFields.ITEMS.getPointer());
+        final String start = "{\"" + SearchResult.JsonFields.ITEMS.getPointer().getRoot().orElseThrow() + "\":[";
+        final String end;
+        if (otherFields.isEmpty()) {
+            end = "]}";
+        } else {
+            // the other fields' JSON without the opening brace is appended to the items array
+            end = "]," + otherFields.toString().substring(1);
+        }
+        return thingJsonSource.intersperse(start, ",", end).map(ByteString::fromString);
+    }
+
     private void stopMyself() {
         getContext().stop(getSelf());
     }
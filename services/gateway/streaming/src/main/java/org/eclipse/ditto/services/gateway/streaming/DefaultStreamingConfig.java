@@ -29,11 +29,14 @@ import com.typesafe.config.Config;
 public final class DefaultStreamingConfig implements StreamingConfig {
 
     private final Duration sessionCounterScrapeInterval;
+    private final Duration liveResponseTargetTimeout;
     private final WebsocketConfig websocketConfig;
 
     private DefaultStreamingConfig(final ScopedConfig scopedConfig) {
         sessionCounterScrapeInterval =
                 scopedConfig.getDuration(StreamingConfigValue.SESSION_COUNTER_SCRAPE_INTERVAL.getConfigPath());
+        liveResponseTargetTimeout =
+                scopedConfig.getDuration(StreamingConfigValue.LIVE_RESPONSE_TARGET_TIMEOUT.getConfigPath());
         websocketConfig = DefaultWebsocketConfig.of(scopedConfig);
     }
 
@@ -54,6 +57,11 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         return sessionCounterScrapeInterval;
     }
 
+    @Override
+    public Duration getLiveResponseTargetTimeout() {
+        return liveResponseTargetTimeout;
+    }
+
     @Override
     public WebsocketConfig getWebsocketConfig() {
         return websocketConfig;
@@ -69,18 +77,20 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         }
         final DefaultStreamingConfig that = (DefaultStreamingConfig) o;
         return Objects.equals(sessionCounterScrapeInterval, that.sessionCounterScrapeInterval) &&
+                Objects.equals(liveResponseTargetTimeout, that.liveResponseTargetTimeout) &&
                 Objects.equals(websocketConfig, that.websocketConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(sessionCounterScrapeInterval, websocketConfig);
+        return Objects.hash(sessionCounterScrapeInterval, liveResponseTargetTimeout, websocketConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "sessionCounterScrapeInterval=" + sessionCounterScrapeInterval +
+                ", liveResponseTargetTimeout=" + liveResponseTargetTimeout +
                 ", websocketConfig=" + websocketConfig +
                 "]";
     }
@@ -38,6 +38,14 @@ public interface StreamingConfig {
      */
     Duration getSessionCounterScrapeInterval();
 
+    /**
+     * Returns the duration for which a session keeps the target of the response to a live signal. Should equal the
+     * duration for which the enforcer keeps the receiver of the response.
+     *
+     * @return the duration.
+     */
+    Duration getLiveResponseTargetTimeout();
+
     /**
      * Returns the websocket config for streaming.
      *
@@ -54,6 +62,8 @@ public interface StreamingConfig {
         final Map<String, Object> map = new HashMap<>();
         map.put(StreamingConfig.StreamingConfigValue.SESSION_COUNTER_SCRAPE_INTERVAL.getConfigPath(),
                 getSessionCounterScrapeInterval().toMillis() + "ms");
+        map.put(StreamingConfig.StreamingConfigValue.LIVE_RESPONSE_TARGET_TIMEOUT.getConfigPath(),
+                getLiveResponseTargetTimeout().toMillis() + "ms");
         return ConfigFactory.parseMap(map)
                 .withFallback(getWebsocketConfig().render())
                 .atKey(CONFIG_PATH);
@@ -68,7 +78,12 @@ public interface StreamingConfig {
         /**
          * How often to update websocket session counter by counting child actors.
          */
-        SESSION_COUNTER_SCRAPE_INTERVAL("session-counter-scrape-interval", Duration.ofSeconds(30L));
+        SESSION_COUNTER_SCRAPE_INTERVAL("session-counter-scrape-interval", Duration.ofSeconds(30L)),
+
+        /**
+         * How long to keep the target of the response to a live signal.
+         */
+        LIVE_RESPONSE_TARGET_TIMEOUT("live-response-target-timeout", Duration.ofSeconds(120L));
 
         private final String path;
         private final Object defaultValue;
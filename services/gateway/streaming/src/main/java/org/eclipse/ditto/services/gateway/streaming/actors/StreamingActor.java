@@ -39,6 +39,7 @@ import org.eclipse.ditto.services.utils.akka.actors.RetrieveConfigBehavior;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
 
 import com.typesafe.config.Config;
 
@@ -125,7 +126,9 @@ public final class StreamingActor extends AbstractActorWithTimers
                     final String connectionCorrelationId = connect.getConnectionCorrelationId();
                     getContext().actorOf(
                             StreamingSessionActor.props(connectionCorrelationId, connect.getType(), dittoProtocolSub,
-                                    eventAndResponsePublisher, connect.getSessionExpirationTime()),
+                                    eventAndResponsePublisher, commandRouter,
+                                    streamingConfig.getLiveResponseTargetTimeout(),
+                                    connect.getSessionExpirationTime()),
                             connectionCorrelationId);
                 })
                 .match(StartStreaming.class,
@@ -147,7 +150,11 @@ public final class StreamingActor extends AbstractActorWithTimers
                             if (originOpt.isPresent()) {
                                 final String origin = originOpt.get();
                                 final Optional<ActorRef> sessionActor = getContext().findChild(origin);
-                                if (sessionActor.isPresent()) {
+                                if (sessionActor.isPresent() && signal instanceof CommandResponse) {
+                                    // the session knows whether the response may be routed directly
+                                    sessionActor.get().tell(new StreamingSessionActor.ClientCommandResponse(
+                                            (CommandResponse<?>) signal), getSelf());
+                                } else if (sessionActor.isPresent()) {
                                     final ActorRef sender = dittoHeaders.isResponseRequired() ? sessionActor.get() :
                                             ActorRef.noSender();
                                     commandRouter.tell(signal, sender);
@@ -12,18 +12,25 @@
  */
 package org.eclipse.ditto.services.gateway.streaming.actors;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.model.query.criteria.Criteria;
@@ -41,6 +48,7 @@ import org.eclipse.ditto.services.gateway.streaming.RefreshSession;
 import org.eclipse.ditto.services.gateway.streaming.StartStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StreamingAck;
+import org.eclipse.ditto.services.models.concierge.InvalidateResponseReceiver;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
@@ -57,6 +65,7 @@ import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Cancellable;
+import akka.actor.ExtendedActorSystem;
 import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.Terminated;
@@ -66,6 +75,11 @@ import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Actor handling a single streaming connection / session.
+ * <p>
+ * Live signals carrying header {@link DittoHeaderDefinition#LIVE_RESPONSE_TARGET} are answered directly: the session
+ * remembers the response target per correlation ID and delivers the matching response of its client straight to the
+ * target. The enforcer named in header {@link DittoHeaderDefinition#LIVE_RESPONSE_ENFORCER} is then told to forget the
+ * receiver it cached for the response. All other responses of the client are sent to the command router.
  */
 final class StreamingSessionActor extends AbstractActor {
 
@@ -75,25 +89,33 @@ final class StreamingSessionActor extends AbstractActor {
     private final String type;
     private final DittoProtocolSub dittoProtocolSub;
     private final ActorRef eventAndResponsePublisher;
+    private final ActorRef commandRouter;
+    private final Duration liveResponseTargetTimeout;
+    private final Map<String, LiveResponseTarget> liveResponseTargets;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private Cancellable sessionTerminationCancellable;
 
     private List<String> authorizationSubjects;
     private final Map<StreamingType, List<String>> namespacesForStreamingTypes;
-    private final Map<StreamingType, Criteria> eventFilterCriteriaForStreamingTypes;
+    private final Map<StreamingType, Predicate<Thing>> eventFilterPredicatesForStreamingTypes;
 
     @SuppressWarnings("unused")
     private StreamingSessionActor(final String connectionCorrelationId, final String type,
             final DittoProtocolSub dittoProtocolSub, final ActorRef eventAndResponsePublisher,
+            final ActorRef commandRouter, final Duration liveResponseTargetTimeout,
             final Instant sessionExpirationTime) {
         this.connectionCorrelationId = connectionCorrelationId;
         this.type = type;
         this.dittoProtocolSub = dittoProtocolSub;
         this.eventAndResponsePublisher = eventAndResponsePublisher;
+        this.commandRouter = commandRouter;
+        this.liveResponseTargetTimeout = liveResponseTargetTimeout;
+        // insertion order equals expiration order
+        liveResponseTargets = new LinkedHashMap<>();
         outstandingSubscriptionAcks = new HashSet<>();
         authorizationSubjects = Collections.emptyList();
         namespacesForStreamingTypes = new EnumMap<>(StreamingType.class);
-        eventFilterCriteriaForStreamingTypes = new EnumMap<>(StreamingType.class);
+        eventFilterPredicatesForStreamingTypes = new EnumMap<>(StreamingType.class);
 
         getContext().watch(eventAndResponsePublisher);
 
@@ -109,14 +131,17 @@ final class StreamingSessionActor extends AbstractActor {
      *
      * @param dittoProtocolSub manager of subscriptions.
      * @param eventAndResponsePublisher the {@link EventAndResponsePublisher} actor.
+     * @param commandRouter the command router used to send signals of the client into the cluster.
+     * @param liveResponseTargetTimeout how long to keep the target of the response to a live signal.
      * @return the Akka configuration Props object.
      */
     static Props props(final String connectionCorrelationId, final String type,
             final DittoProtocolSub dittoProtocolSub, final ActorRef eventAndResponsePublisher,
+            final ActorRef commandRouter, final Duration liveResponseTargetTimeout,
             final Instant sessionExpirationTime) {
 
         return Props.create(StreamingSessionActor.class, connectionCorrelationId, type, dittoProtocolSub,
-                eventAndResponsePublisher, sessionExpirationTime);
+                eventAndResponsePublisher, commandRouter, liveResponseTargetTimeout, sessionExpirationTime);
     }
 
     @Override
@@ -137,6 +162,7 @@ final class StreamingSessionActor extends AbstractActor {
                     eventAndResponsePublisher.forward(response, getContext());
                 })
                 .match(Signal.class, this::handleSignal)
+                .match(ClientCommandResponse.class, this::handleClientCommandResponse)
                 .match(DittoRuntimeException.class, cre -> {
                     LogUtil.enhanceLogWithCorrelationId(logger, cre);
                     logger.info(
@@ -152,12 +178,14 @@ final class StreamingSessionActor extends AbstractActor {
                     LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
 
                     try {
-                        eventFilterCriteriaForStreamingTypes
+                        // compile the filter once per subscription instead of once per event
+                        eventFilterPredicatesForStreamingTypes
                                 .put(startStreaming.getStreamingType(), startStreaming.getFilter()
                                         .map(f -> parseCriteria(f, DittoHeaders.newBuilder()
                                                 .correlationId(startStreaming.getConnectionCorrelationId())
                                                 .build())
                                         )
+                                        .map(ThingPredicateVisitor::apply)
                                         .orElse(null));
                     } catch (final DittoRuntimeException e) {
                         logger.info(
@@ -184,7 +212,7 @@ final class StreamingSessionActor extends AbstractActor {
                             type, stopStreaming.getStreamingType().name());
 
                     namespacesForStreamingTypes.remove(stopStreaming.getStreamingType());
-                    eventFilterCriteriaForStreamingTypes.remove(stopStreaming.getStreamingType());
+                    eventFilterPredicatesForStreamingTypes.remove(stopStreaming.getStreamingType());
 
                     // In Cluster: Unsubscribe
                     final AcknowledgeUnsubscription unsubscribeAck =
@@ -247,7 +275,7 @@ final class StreamingSessionActor extends AbstractActor {
                                         "telling eventAndResponsePublisher about it: {}",
                                 signal.getType(), type, signal);
 
-                        eventAndResponsePublisher.tell(signal, getSelf());
+                        eventAndResponsePublisher.tell(rememberLiveResponseTarget(signal), getSelf());
                     } else {
                         logger.debug("Signal does not match filter");
                     }
@@ -258,6 +286,62 @@ final class StreamingSessionActor extends AbstractActor {
         }
     }
 
+    private Signal<?> rememberLiveResponseTarget(final Signal<?> signal) {
+        final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+        final String responseTarget = dittoHeaders.get(DittoHeaderDefinition.LIVE_RESPONSE_TARGET.getKey());
+        if (null == responseTarget) {
+            return signal;
+        }
+        final Instant now = Instant.now();
+        removeExpiredLiveResponseTargets(now);
+        dittoHeaders.getCorrelationId().ifPresent(correlationId -> {
+            final ActorRef target = resolveActorRef(responseTarget);
+            final String enforcer = dittoHeaders.get(DittoHeaderDefinition.LIVE_RESPONSE_ENFORCER.getKey());
+            liveResponseTargets.put(correlationId, new LiveResponseTarget(target,
+                    null != enforcer ? resolveActorRef(enforcer) : null, dittoHeaders.getReplyTarget().orElse(null),
+                    now.plus(liveResponseTargetTimeout)));
+        });
+        // the client has no business with the response target
+        return signal.setDittoHeaders(dittoHeaders.toBuilder()
+                .removeHeader(DittoHeaderDefinition.LIVE_RESPONSE_TARGET.getKey())
+                .removeHeader(DittoHeaderDefinition.LIVE_RESPONSE_ENFORCER.getKey())
+                .build());
+    }
+
+    private ActorRef resolveActorRef(final String serializedActorPath) {
+        return ((ExtendedActorSystem) getContext().getSystem()).provider().resolveActorRef(serializedActorPath);
+    }
+
+    private void removeExpiredLiveResponseTargets(final Instant now) {
+        final Iterator<LiveResponseTarget> iterator = liveResponseTargets.values().iterator();
+        while (iterator.hasNext() && iterator.next().isExpired(now)) {
+            iterator.remove();
+        }
+    }
+
+    private void handleClientCommandResponse(final ClientCommandResponse clientCommandResponse) {
+        final CommandResponse<?> response = clientCommandResponse.response;
+        LogUtil.enhanceLogWithCorrelationId(logger, response);
+        final DittoHeaders dittoHeaders = response.getDittoHeaders();
+        final String correlationId = dittoHeaders.getCorrelationId().orElse(null);
+        final LiveResponseTarget target = Optional.ofNullable(correlationId)
+                .map(liveResponseTargets::remove)
+                .filter(liveResponseTarget -> !liveResponseTarget.isExpired(Instant.now()))
+                .orElse(null);
+        if (null != target) {
+            // the client received the live signal because it was allowed to, hence it is allowed to answer it
+            logger.debug("Routing response <{}> of <{}> session directly to <{}>", response.getType(), type,
+                    target.ref);
+            target.ref.tell(target.enhance(response), getSelf());
+            if (null != target.enforcer) {
+                target.enforcer.tell(InvalidateResponseReceiver.of(correlationId), getSelf());
+            }
+        } else {
+            final ActorRef sender = dittoHeaders.isResponseRequired() ? getSelf() : ActorRef.noSender();
+            commandRouter.tell(response, sender);
+        }
+    }
+
     private Cancellable startSessionTimeout(final Instant sessionExpirationTime) {
         final long timeout = sessionExpirationTime.minusMillis(Instant.now().toEpochMilli()).toEpochMilli();
 
@@ -362,11 +446,11 @@ final class StreamingSessionActor extends AbstractActor {
 
     private boolean doMatchFilter(final StreamingType streamingType, final Thing thing) {
 
-        final Optional<Criteria> criteria =
-                Optional.ofNullable(eventFilterCriteriaForStreamingTypes.get(streamingType));
+        final Optional<Predicate<Thing>> filterPredicate =
+                Optional.ofNullable(eventFilterPredicatesForStreamingTypes.get(streamingType));
 
-        return criteria
-                .map(c -> ThingPredicateVisitor.apply(c).test(thing))
+        return filterPredicate
+                .map(p -> p.test(thing))
                 .orElse(true); // let all events through if there was no criteria/filter set
     }
 
@@ -414,4 +498,47 @@ final class StreamingSessionActor extends AbstractActor {
             super(streamingType);
         }
     }
+
+    /**
+     * Message from the {@link StreamingActor} containing a response sent by the client of this session.
+     */
+    static final class ClientCommandResponse {
+
+        private final CommandResponse<?> response;
+
+        ClientCommandResponse(final CommandResponse<?> response) {
+            this.response = response;
+        }
+    }
+
+    /**
+     * The receiver of the response to a live signal the client of this session received.
+     */
+    private static final class LiveResponseTarget {
+
+        private final ActorRef ref;
+        @Nullable private final ActorRef enforcer;
+        @Nullable private final Integer replyTarget;
+        private final Instant expiry;
+
+        private LiveResponseTarget(final ActorRef ref, @Nullable final ActorRef enforcer,
+                @Nullable final Integer replyTarget, final Instant expiry) {
+            this.ref = ref;
+            this.enforcer = enforcer;
+            this.replyTarget = replyTarget;
+            this.expiry = expiry;
+        }
+
+        private boolean isExpired(final Instant now) {
+            return now.isAfter(expiry);
+        }
+
+        private CommandResponse<?> enhance(final CommandResponse<?> response) {
+            if (null == replyTarget) {
+                return response;
+            }
+            // restore the internal reply target of the live signal like the enforcer does
+            return response.setDittoHeaders(response.getDittoHeaders().toBuilder().replyTarget(replyTarget).build());
+        }
+    }
 }
@@ -64,6 +64,9 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSessionCounterScrapeInterval())
                 .as(StreamingConfig.StreamingConfigValue.SESSION_COUNTER_SCRAPE_INTERVAL.getConfigPath())
                 .isEqualTo(StreamingConfig.StreamingConfigValue.SESSION_COUNTER_SCRAPE_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getLiveResponseTargetTimeout())
+                .as(StreamingConfig.StreamingConfigValue.LIVE_RESPONSE_TARGET_TIMEOUT.getConfigPath())
+                .isEqualTo(StreamingConfig.StreamingConfigValue.LIVE_RESPONSE_TARGET_TIMEOUT.getDefaultValue());
     }
 
     @Test
@@ -73,6 +76,9 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSessionCounterScrapeInterval())
                 .as(StreamingConfig.StreamingConfigValue.SESSION_COUNTER_SCRAPE_INTERVAL.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(67L));
+        softly.assertThat(underTest.getLiveResponseTargetTimeout())
+                .as(StreamingConfig.StreamingConfigValue.LIVE_RESPONSE_TARGET_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(33L));
         softly.assertThat(underTest.getWebsocketConfig().getThrottlingConfig().getInterval())
                 .as("websocket.throttling.interval")
                 .isEqualTo(Duration.ofSeconds(8L));
@@ -48,6 +48,8 @@ public final class ConciergeMappingStrategies extends AbstractGlobalMappingStrat
 
         final MappingStrategies strategies = MappingStrategiesBuilder.newInstance()
                 .add(InvalidateCacheEntry.class, jsonObject -> InvalidateCacheEntry.fromJson(jsonObject)) // do not replace with lambda!
+                .add(InvalidateResponseReceiver.class,
+                        jsonObject -> InvalidateResponseReceiver.fromJson(jsonObject)) // do not replace with lambda!
                 .build();
 
         combinedStrategy.putAll(strategies.getStrategies());
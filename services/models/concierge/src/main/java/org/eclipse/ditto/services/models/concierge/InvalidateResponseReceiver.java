@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.concierge;
+
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_1;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+
+/**
+ * Concierge-service internal command signaling that the cached receiver of the response to a live signal is no longer
+ * needed. Is sent to the enforcer named in header
+ * {@link org.eclipse.ditto.model.base.headers.DittoHeaderDefinition#LIVE_RESPONSE_ENFORCER} by the edge which
+ * delivered the response directly to its receiver.
+ */
+@Immutable
+public final class InvalidateResponseReceiver implements Jsonifiable<JsonObject> {
+
+    private static final JsonFieldDefinition<String> JSON_CORRELATION_ID =
+            JsonFactory.newStringFieldDefinition("correlationId", V_1, V_2);
+
+    private final String correlationId;
+
+    private InvalidateResponseReceiver(final String correlationId) {
+        this.correlationId = correlationId;
+    }
+
+    /**
+     * Creates a new {@link InvalidateResponseReceiver} from the passed {@code correlationId}.
+     *
+     * @param correlationId the correlation ID of the live signal whose response was delivered.
+     * @return the created InvalidateResponseReceiver instance.
+     */
+    public static InvalidateResponseReceiver of(final String correlationId) {
+        return new InvalidateResponseReceiver(correlationId);
+    }
+
+    /**
+     * Creates a new {@link InvalidateResponseReceiver} from a JSON object.
+     *
+     * @param jsonObject the JsonObject to create the InvalidateResponseReceiver from.
+     * @return the created InvalidateResponseReceiver instance.
+     */
+    public static InvalidateResponseReceiver fromJson(final JsonObject jsonObject) {
+        return new InvalidateResponseReceiver(jsonObject.getValueOrThrow(JSON_CORRELATION_ID));
+    }
+
+    /**
+     * @return the correlation ID of the live signal whose response was delivered.
+     */
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return JsonFactory.newObjectBuilder()
+                .set(JSON_CORRELATION_ID, correlationId)
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof InvalidateResponseReceiver)) {
+            return false;
+        }
+        final InvalidateResponseReceiver that = (InvalidateResponseReceiver) o;
+        return Objects.equals(correlationId, that.correlationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(correlationId);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "correlationId=" + correlationId +
+                "]";
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which retrieves the statistics of the slowest query shapes the search service executed. A query shape is
+ * a search query with all its values left out.
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = SudoRetrieveQueryShapeStatistics.TYPE_PREFIX,
+        name = SudoRetrieveQueryShapeStatistics.NAME)
+public final class SudoRetrieveQueryShapeStatistics extends AbstractCommand<SudoRetrieveQueryShapeStatistics>
+        implements ThingSearchSudoCommand<SudoRetrieveQueryShapeStatistics> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "sudoRetrieveQueryShapeStatistics";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    /**
+     * Number of query shapes to retrieve if the command does not specify it.
+     */
+    public static final int DEFAULT_LIMIT = 10;
+
+    static final JsonFieldDefinition<Integer> JSON_LIMIT =
+            JsonFactory.newIntFieldDefinition("limit", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final int limit;
+
+    private SudoRetrieveQueryShapeStatistics(final int limit, final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveQueryShapeStatistics}.
+     *
+     * @param limit the maximum number of query shapes to retrieve.
+     * @param dittoHeaders the command headers of the request.
+     * @return a command for retrieving the statistics of the slowest query shapes.
+     * @throws NullPointerException if {@code dittoHeaders} is {@code null}.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    public static SudoRetrieveQueryShapeStatistics of(final int limit, final DittoHeaders dittoHeaders) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be positive, but was <" + limit + ">!");
+        }
+        return new SudoRetrieveQueryShapeStatistics(limit, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveQueryShapeStatistics} from a JSON string.
+     *
+     * @param jsonString the JSON string of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveQueryShapeStatistics fromJson(final String jsonString,
+            final DittoHeaders dittoHeaders) {
+
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveQueryShapeStatistics} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveQueryShapeStatistics fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return new CommandJsonDeserializer<SudoRetrieveQueryShapeStatistics>(TYPE, jsonObject)
+                .deserialize(() -> of(jsonObject.getValue(JSON_LIMIT).orElse(DEFAULT_LIMIT), dittoHeaders));
+    }
+
+    /**
+     * Returns the maximum number of query shapes to retrieve.
+     *
+     * @return the limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_LIMIT, limit, predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoRetrieveQueryShapeStatistics setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(limit, dittoHeaders);
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067"})
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoRetrieveQueryShapeStatistics that = (SudoRetrieveQueryShapeStatistics) o;
+        return that.canEqual(this) && limit == that.limit && super.equals(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), limit);
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return other instanceof SudoRetrieveQueryShapeStatistics;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", limit=" + limit + "]";
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+
+/**
+ * Response to a {@link SudoRetrieveQueryShapeStatistics} containing one JSON object per query shape, the slowest
+ * first.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = SudoRetrieveQueryShapeStatisticsResponse.TYPE)
+public final class SudoRetrieveQueryShapeStatisticsResponse
+        extends AbstractCommandResponse<SudoRetrieveQueryShapeStatisticsResponse>
+        implements ThingSearchSudoCommandResponse<SudoRetrieveQueryShapeStatisticsResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + SudoRetrieveQueryShapeStatistics.NAME;
+
+    private final JsonArray queryShapeStatistics;
+
+    private SudoRetrieveQueryShapeStatisticsResponse(final JsonArray queryShapeStatistics,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, HttpStatusCode.OK, dittoHeaders);
+        this.queryShapeStatistics = queryShapeStatistics;
+    }
+
+    /**
+     * Returns a new instance of {@code SudoRetrieveQueryShapeStatisticsResponse}.
+     *
+     * @param queryShapeStatistics the statistics of the slowest query shapes.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrieveQueryShapeStatisticsResponse of(final JsonArray queryShapeStatistics,
+            final DittoHeaders dittoHeaders) {
+
+        checkNotNull(queryShapeStatistics, "query shape statistics");
+
+        return new SudoRetrieveQueryShapeStatisticsResponse(queryShapeStatistics, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrieveQueryShapeStatistics} command from a JSON string.
+     *
+     * @param jsonString the JSON string of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveQueryShapeStatisticsResponse fromJson(final String jsonString,
+            final DittoHeaders dittoHeaders) {
+
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrieveQueryShapeStatistics} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static SudoRetrieveQueryShapeStatisticsResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return new CommandResponseJsonDeserializer<SudoRetrieveQueryShapeStatisticsResponse>(TYPE, jsonObject)
+                .deserialize(statusCode -> of(jsonObject.getValueOrThrow(JsonFields.PAYLOAD).asArray(),
+                        dittoHeaders));
+    }
+
+    /**
+     * Returns the statistics of the slowest query shapes.
+     *
+     * @return one JSON object per query shape, the slowest first.
+     */
+    public JsonArray getQueryShapeStatistics() {
+        return queryShapeStatistics;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.PAYLOAD, queryShapeStatistics, predicate);
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return queryShapeStatistics;
+    }
+
+    @Override
+    public SudoRetrieveQueryShapeStatisticsResponse setEntity(final JsonValue entity) {
+        checkNotNull(entity, "entity");
+        return of(entity.asArray(), getDittoHeaders());
+    }
+
+    @Override
+    public SudoRetrieveQueryShapeStatisticsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(queryShapeStatistics, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), queryShapeStatistics);
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067"})
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SudoRetrieveQueryShapeStatisticsResponse that = (SudoRetrieveQueryShapeStatisticsResponse) o;
+        return that.canEqual(this) &&
+                Objects.equals(queryShapeStatistics, that.queryShapeStatistics) &&
+                super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(final Object other) {
+        return other instanceof SudoRetrieveQueryShapeStatisticsResponse;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [queryShapeStatistics=" + queryShapeStatistics + "]";
+    }
+
+}
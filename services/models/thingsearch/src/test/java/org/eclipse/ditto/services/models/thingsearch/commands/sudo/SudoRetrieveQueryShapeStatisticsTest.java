@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.thingsearch.commands.sudo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
+import org.junit.Test;
+import org.mutabilitydetector.unittesting.MutabilityMatchers;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests the {@link SudoRetrieveQueryShapeStatistics}.
+ */
+public final class SudoRetrieveQueryShapeStatisticsTest {
+
+    private static final int LIMIT = 5;
+
+    private static final JsonObject JSON_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, SudoRetrieveQueryShapeStatistics.TYPE)
+            .set(SudoRetrieveQueryShapeStatistics.JSON_LIMIT, LIMIT)
+            .build();
+
+    /** */
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoRetrieveQueryShapeStatistics.class, MutabilityMatchers.areImmutable());
+    }
+
+    /** */
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoRetrieveQueryShapeStatistics.class)
+                .usingGetClass()
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    /** */
+    @Test
+    public void toJsonWithSchemaVersion2ReturnsExpected() {
+        final SudoRetrieveQueryShapeStatistics underTest =
+                SudoRetrieveQueryShapeStatistics.of(LIMIT, DittoHeaders.empty());
+        final JsonValue jsonValue = underTest.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+
+        assertThat(jsonValue).isEqualTo(JSON_V2);
+    }
+
+    /** */
+    @Test
+    public void fromJsonReturnsExpected() {
+        final SudoRetrieveQueryShapeStatistics underTest =
+                SudoRetrieveQueryShapeStatistics.fromJson(JSON_V2, DittoHeaders.empty());
+
+        assertThat(underTest).isEqualTo(SudoRetrieveQueryShapeStatistics.of(LIMIT, DittoHeaders.empty()));
+    }
+
+    /** */
+    @Test
+    public void fromJsonWithoutLimitUsesDefaultLimit() {
+        final JsonObject json = JSON_V2.remove(SudoRetrieveQueryShapeStatistics.JSON_LIMIT.getPointer());
+
+        final SudoRetrieveQueryShapeStatistics underTest =
+                SudoRetrieveQueryShapeStatistics.fromJson(json, DittoHeaders.empty());
+
+        assertThat(underTest.getLimit()).isEqualTo(SudoRetrieveQueryShapeStatistics.DEFAULT_LIMIT);
+    }
+
+    /** */
+    @Test(expected = IllegalArgumentException.class)
+    public void tryToCreateInstanceWithNonPositiveLimit() {
+        SudoRetrieveQueryShapeStatistics.of(0, DittoHeaders.empty());
+    }
+
+}
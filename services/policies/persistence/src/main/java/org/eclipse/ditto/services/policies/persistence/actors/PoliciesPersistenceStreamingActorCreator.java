@@ -12,8 +12,6 @@
  */
 package org.eclipse.ditto.services.policies.persistence.actors;
 
-import java.util.regex.Pattern;
-
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
@@ -32,7 +30,6 @@ public final class PoliciesPersistenceStreamingActorCreator {
      * The name of the created Actor in the ActorSystem.
      */
     public static final String ACTOR_NAME = "persistenceStreamingActor";
-    private static final Pattern PERSISTENCE_ID_PATTERN = Pattern.compile(PolicyPersistenceActor.PERSISTENCE_ID_PREFIX);
 
     private PoliciesPersistenceStreamingActorCreator() {
         throw new AssertionError();
@@ -52,11 +49,16 @@ public final class PoliciesPersistenceStreamingActorCreator {
     }
 
     private static PolicyTag createElement(final PidWithSeqNr pidWithSeqNr) {
-        final String id = PERSISTENCE_ID_PATTERN.matcher(pidWithSeqNr.getPersistenceId()).replaceFirst("");
+        final String id = stripPersistenceIdPrefix(pidWithSeqNr.getPersistenceId());
         final PolicyId policyId = PolicyId.of(id);
         return PolicyTag.of(policyId, pidWithSeqNr.getSequenceNr());
     }
 
+    private static String stripPersistenceIdPrefix(final String persistenceId) {
+        final String prefix = PolicyPersistenceActor.PERSISTENCE_ID_PREFIX;
+        return persistenceId.startsWith(prefix) ? persistenceId.substring(prefix.length()) : persistenceId;
+    }
+
     private static PidWithSeqNr createPidWithSeqNr(final EntityIdWithRevision connectionTag) {
         return new PidWithSeqNr(PolicyPersistenceActor.PERSISTENCE_ID_PREFIX + connectionTag.getEntityId(),
                 connectionTag.getRevision());
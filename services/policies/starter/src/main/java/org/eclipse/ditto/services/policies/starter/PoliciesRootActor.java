@@ -44,6 +44,7 @@ import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.credits.BackgroundLoadController;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 
 import akka.Done;
@@ -103,7 +104,8 @@ public final class PoliciesRootActor extends DittoRootActor {
 
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
                 PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
-                        actorSystem.settings().config(), policiesConfig.getPersistenceOperationsConfig()));
+                        actorSystem.settings().config(), policiesConfig.getPersistenceOperationsConfig(),
+                        BackgroundLoadController.get(actorSystem)));
 
         retrieveStatisticsDetailsResponseSupplier = RetrieveStatisticsDetailsResponseSupplier.of(policiesShardRegion,
                 PoliciesMessagingConstants.SHARD_REGION, log);
@@ -21,6 +21,8 @@ import org.eclipse.ditto.model.things.ThingLifecycle;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.things.common.config.ThingConfig;
+import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.RenderedThingCache;
+import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.ThingCommandContext;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.ThingCommandStrategies;
 import org.eclipse.ditto.services.things.persistence.actors.strategies.events.ThingEventStrategies;
 import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
@@ -30,7 +32,6 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckCo
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
-import org.eclipse.ditto.services.utils.persistentactors.commands.DefaultContext;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
@@ -66,6 +67,7 @@ public final class ThingPersistenceActor
 
     private final ThingConfig thingConfig;
     private final DistributedPub<ThingEvent> distributedPub;
+    private final ThingCommandContext strategyContext;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId, final DistributedPub<ThingEvent> distributedPub,
@@ -77,6 +79,7 @@ public final class ThingPersistenceActor
         );
         thingConfig = thingsConfig.getThingConfig();
         this.distributedPub = distributedPub;
+        strategyContext = ThingCommandContext.getInstance(thingId, log, new RenderedThingCache());
     }
 
     /**
@@ -126,7 +129,7 @@ public final class ThingPersistenceActor
 
     @Override
     protected CommandStrategy.Context<ThingId> getStrategyContext() {
-        return DefaultContext.getInstance(entityId, log);
+        return strategyContext;
     }
 
     @Override
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
+import org.eclipse.ditto.services.utils.akka.controlflow.BackgroundThrottle;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.ops.eventsource.MongoEventSourceSettings;
@@ -63,6 +64,26 @@ public final class ThingPersistenceOperationsActor extends AbstractPersistenceOp
             final Config config,
             final PersistenceOperationsConfig persistenceOperationsConfig) {
 
+        return props(pubSubMediator, mongoDbConfig, config, persistenceOperationsConfig,
+                BackgroundThrottle.unlimited());
+    }
+
+    /**
+     * Create Props of this actor whose namespace purges are regulated by a background throttle.
+     *
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param mongoDbConfig the MongoDB configuration settings.
+     * @param config Configuration with info about event journal, snapshot store and database.
+     * @param persistenceOperationsConfig the persistence operations config.
+     * @param backgroundThrottle the throttle to wait for before each namespace purge.
+     * @return a Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final MongoDbConfig mongoDbConfig,
+            final Config config,
+            final PersistenceOperationsConfig persistenceOperationsConfig,
+            final BackgroundThrottle backgroundThrottle) {
+
         return Props.create(ThingPersistenceOperationsActor.class, () -> {
             final MongoEventSourceSettings eventSourceSettings =
                     MongoEventSourceSettings.fromConfig(config, ThingPersistenceActor.PERSISTENCE_ID_PREFIX, true,
@@ -72,7 +93,7 @@ public final class ThingPersistenceOperationsActor extends AbstractPersistenceOp
             final MongoDatabase db = mongoClient.getDefaultDatabase();
 
             final NamespacePersistenceOperations namespaceOps =
-                    MongoNamespacePersistenceOperations.of(db, eventSourceSettings);
+                    MongoNamespacePersistenceOperations.of(db, eventSourceSettings, backgroundThrottle);
 
             return new ThingPersistenceOperationsActor(pubSubMediator, namespaceOps, mongoClient,
                     persistenceOperationsConfig);
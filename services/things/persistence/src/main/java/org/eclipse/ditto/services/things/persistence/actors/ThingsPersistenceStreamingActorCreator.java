@@ -12,8 +12,6 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
-import java.util.regex.Pattern;
-
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.things.ThingTag;
@@ -33,8 +31,6 @@ public final class ThingsPersistenceStreamingActorCreator {
      */
     public static final String ACTOR_NAME = "persistenceStreamingActor";
 
-    private static final Pattern PERSISTENCE_ID_PATTERN = Pattern.compile(ThingPersistenceActor.PERSISTENCE_ID_PREFIX);
-
     private ThingsPersistenceStreamingActorCreator() {
         throw new AssertionError();
     }
@@ -53,11 +49,16 @@ public final class ThingsPersistenceStreamingActorCreator {
     }
 
     private static ThingTag createElement(final PidWithSeqNr pidWithSeqNr) {
-        final String id = PERSISTENCE_ID_PATTERN.matcher(pidWithSeqNr.getPersistenceId()).replaceFirst("");
+        final String id = stripPersistenceIdPrefix(pidWithSeqNr.getPersistenceId());
         final ThingId thingId = ThingId.of(id);
         return ThingTag.of(thingId, pidWithSeqNr.getSequenceNr());
     }
 
+    private static String stripPersistenceIdPrefix(final String persistenceId) {
+        final String prefix = ThingPersistenceActor.PERSISTENCE_ID_PREFIX;
+        return persistenceId.startsWith(prefix) ? persistenceId.substring(prefix.length()) : persistenceId;
+    }
+
     private static PidWithSeqNr createPidWithSeqNr(final EntityIdWithRevision connectionTag) {
         return new PidWithSeqNr(ThingPersistenceActor.PERSISTENCE_ID_PREFIX + connectionTag.getEntityId(),
                 connectionTag.getRevision());
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.commands;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingRevision;
+
+/**
+ * Caches the JSON renderings of the current state of one Thing per schema version and field selector. The renderings
+ * are tagged with the Thing instance and its revision they were rendered from; as each event replaces the Thing
+ * instance of the persistence actor, the first read after an event invalidates all renderings of the previous state.
+ * <p>
+ * An instance belongs to exactly one persistence actor and must only be accessed by it.
+ * </p>
+ */
+@NotThreadSafe
+public final class RenderedThingCache {
+
+    /**
+     * Maximum number of different renderings kept for one state of a Thing. If clients request more different field
+     * selections, the cache starts over in order to not grow with the number of distinct queries.
+     */
+    static final int MAX_RENDERINGS = 16;
+
+    private final Map<RenderingKey, JsonObject> renderings;
+    @Nullable private Thing renderedThing;
+    private long renderedRevision;
+
+    /**
+     * Constructs a new, empty {@code RenderedThingCache}.
+     */
+    public RenderedThingCache() {
+        renderings = new HashMap<>();
+        renderedThing = null;
+        renderedRevision = 0L;
+    }
+
+    /**
+     * Returns the JSON representation of the given Thing with regular fields only, rendering it if the same
+     * representation of the same state of the Thing was not requested before.
+     *
+     * @param thing the current state of the Thing.
+     * @param schemaVersion the schema version to render.
+     * @param selectedFields the fields to render or {@code null} for all fields.
+     * @return the JSON representation.
+     */
+    JsonObject getRegularFields(final Thing thing, final JsonSchemaVersion schemaVersion,
+            @Nullable final JsonFieldSelector selectedFields) {
+
+        return getOrRender(thing, new RenderingKey(schemaVersion, selectedFields, false));
+    }
+
+    /**
+     * Returns the JSON representation of the given Thing including special fields, rendering it if the same
+     * representation of the same state of the Thing was not requested before.
+     *
+     * @param thing the current state of the Thing.
+     * @param schemaVersion the schema version to render.
+     * @param selectedFields the fields to render or {@code null} for all fields.
+     * @return the JSON representation.
+     */
+    JsonObject getRegularOrSpecialFields(final Thing thing, final JsonSchemaVersion schemaVersion,
+            @Nullable final JsonFieldSelector selectedFields) {
+
+        return getOrRender(thing, new RenderingKey(schemaVersion, selectedFields, true));
+    }
+
+    /**
+     * Renders the given Thing without caching.
+     */
+    static JsonObject render(final Thing thing, final JsonSchemaVersion schemaVersion,
+            @Nullable final JsonFieldSelector selectedFields, final boolean withSpecialFields) {
+
+        if (withSpecialFields) {
+            return null != selectedFields
+                    ? thing.toJson(schemaVersion, selectedFields, FieldType.regularOrSpecial())
+                    : thing.toJson(schemaVersion, FieldType.regularOrSpecial());
+        } else {
+            return null != selectedFields
+                    ? thing.toJson(schemaVersion, selectedFields)
+                    : thing.toJson(schemaVersion);
+        }
+    }
+
+    private JsonObject getOrRender(final Thing thing, final RenderingKey key) {
+        final long revision = thing.getRevision().map(ThingRevision::toLong).orElse(0L);
+        if (thing != renderedThing || revision != renderedRevision || renderings.size() >= MAX_RENDERINGS) {
+            renderings.clear();
+            renderedThing = thing;
+            renderedRevision = revision;
+        }
+        return renderings.computeIfAbsent(key,
+                k -> render(thing, k.schemaVersion, k.selectedFields, k.withSpecialFields));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "renderedRevision=" + renderedRevision +
+                ", renderings=" + renderings.size() +
+                "]";
+    }
+
+    @Immutable
+    private static final class RenderingKey {
+
+        private final JsonSchemaVersion schemaVersion;
+        @Nullable private final JsonFieldSelector selectedFields;
+        private final boolean withSpecialFields;
+
+        private RenderingKey(final JsonSchemaVersion schemaVersion, @Nullable final JsonFieldSelector selectedFields,
+                final boolean withSpecialFields) {
+            this.schemaVersion = schemaVersion;
+            this.selectedFields = selectedFields;
+            this.withSpecialFields = withSpecialFields;
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final RenderingKey that = (RenderingKey) o;
+            return withSpecialFields == that.withSpecialFields &&
+                    schemaVersion == that.schemaVersion &&
+                    Objects.equals(selectedFields, that.selectedFields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(schemaVersion, selectedFields, withSpecialFields);
+        }
+
+    }
+
+}
@@ -59,23 +59,23 @@ final class RetrieveThingStrategy extends AbstractThingCommandStrategy<RetrieveT
             final long nextRevision, final RetrieveThing command) {
 
         return ResultFactory.newQueryResult(command,
-                appendETagHeaderIfProvided(command, getRetrieveThingResponse(thing, command), thing));
+                appendETagHeaderIfProvided(command, getRetrieveThingResponse(context, thing, command), thing));
     }
 
-    private static WithDittoHeaders getRetrieveThingResponse(@Nullable final Thing thing,
-            final ThingQueryCommand<RetrieveThing> command) {
+    private static WithDittoHeaders getRetrieveThingResponse(final Context<ThingId> context,
+            @Nullable final Thing thing, final ThingQueryCommand<RetrieveThing> command) {
         if (thing != null) {
-            return RetrieveThingResponse.of(command.getThingEntityId(), getThingJson(thing, command),
+            return RetrieveThingResponse.of(command.getThingEntityId(), getThingJson(context, thing, command),
                     command.getDittoHeaders());
         } else {
             return notAccessible(command);
         }
     }
 
-    private static JsonObject getThingJson(final Thing thing, final ThingQueryCommand<RetrieveThing> command) {
-        return command.getSelectedFields()
-                .map(selectedFields -> thing.toJson(command.getImplementedSchemaVersion(), selectedFields))
-                .orElseGet(() -> thing.toJson(command.getImplementedSchemaVersion()));
+    private static JsonObject getThingJson(final Context<ThingId> context, final Thing thing,
+            final ThingQueryCommand<RetrieveThing> command) {
+        return ThingCommandContext.renderRegularFields(context, thing, command.getImplementedSchemaVersion(),
+                command.getSelectedFields().orElse(null));
     }
 
     private static ThingNotAccessibleException notAccessible(final ThingQueryCommand<?> command) {
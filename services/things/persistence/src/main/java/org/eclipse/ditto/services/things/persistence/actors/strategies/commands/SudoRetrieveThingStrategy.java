@@ -20,7 +20,6 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
-import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
@@ -61,9 +60,8 @@ final class SudoRetrieveThingStrategy extends AbstractThingCommandStrategy<SudoR
         final Thing theThing = getEntityOrThrow(thing);
 
         final JsonSchemaVersion jsonSchemaVersion = determineSchemaVersion(command, theThing);
-        final JsonObject thingJson = command.getSelectedFields()
-                .map(selectedFields -> theThing.toJson(jsonSchemaVersion, selectedFields, FieldType.regularOrSpecial()))
-                .orElseGet(() -> theThing.toJson(jsonSchemaVersion, FieldType.regularOrSpecial()));
+        final JsonObject thingJson = ThingCommandContext.renderRegularOrSpecialFields(context, theThing,
+                jsonSchemaVersion, command.getSelectedFields().orElse(null));
 
         return ResultFactory.newQueryResult(command,
                 appendETagHeaderIfProvided(command, SudoRetrieveThingResponse.of(thingJson, command.getDittoHeaders()),
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.commands;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
+
+import akka.event.DiagnosticLoggingAdapter;
+
+/**
+ * Context of the thing command strategies which additionally provides the {@link RenderedThingCache} of the
+ * persistence actor.
+ */
+public final class ThingCommandContext implements CommandStrategy.Context<ThingId> {
+
+    private final ThingId thingId;
+    private final DiagnosticLoggingAdapter log;
+    private final RenderedThingCache renderedThingCache;
+
+    private ThingCommandContext(final ThingId thingId, final DiagnosticLoggingAdapter log,
+            final RenderedThingCache renderedThingCache) {
+
+        this.thingId = checkNotNull(thingId, "thingId");
+        this.log = checkNotNull(log, "DiagnosticLoggingAdapter");
+        this.renderedThingCache = checkNotNull(renderedThingCache, "renderedThingCache");
+    }
+
+    /**
+     * Returns an instance of {@code ThingCommandContext}.
+     *
+     * @param thingId the ID of the Thing.
+     * @param log the logging adapter to be used.
+     * @param renderedThingCache the cache of JSON renderings of the Thing of the persistence actor.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ThingCommandContext getInstance(final ThingId thingId, final DiagnosticLoggingAdapter log,
+            final RenderedThingCache renderedThingCache) {
+
+        return new ThingCommandContext(thingId, log, renderedThingCache);
+    }
+
+    /**
+     * Renders the regular fields of the given Thing, using the {@link RenderedThingCache} if the context provides one.
+     */
+    static JsonObject renderRegularFields(final CommandStrategy.Context<ThingId> context,
+            final Thing thing,
+            final JsonSchemaVersion schemaVersion,
+            @Nullable final JsonFieldSelector selectedFields) {
+
+        if (context instanceof ThingCommandContext) {
+            return ((ThingCommandContext) context).renderedThingCache
+                    .getRegularFields(thing, schemaVersion, selectedFields);
+        }
+        return RenderedThingCache.render(thing, schemaVersion, selectedFields, false);
+    }
+
+    /**
+     * Renders the regular and special fields of the given Thing, using the {@link RenderedThingCache} if the context
+     * provides one.
+     */
+    static JsonObject renderRegularOrSpecialFields(final CommandStrategy.Context<ThingId> context,
+            final Thing thing,
+            final JsonSchemaVersion schemaVersion,
+            @Nullable final JsonFieldSelector selectedFields) {
+
+        if (context instanceof ThingCommandContext) {
+            return ((ThingCommandContext) context).renderedThingCache
+                    .getRegularOrSpecialFields(thing, schemaVersion, selectedFields);
+        }
+        return RenderedThingCache.render(thing, schemaVersion, selectedFields, true);
+    }
+
+    @Override
+    public ThingId getState() {
+        return thingId;
+    }
+
+    @Override
+    public DiagnosticLoggingAdapter getLog() {
+        return log;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ThingCommandContext that = (ThingCommandContext) o;
+        return Objects.equals(thingId, that.thingId) &&
+                Objects.equals(log, that.log) &&
+                Objects.equals(renderedThingCache, that.renderedThingCache);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(thingId, log, renderedThingCache);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "thingId=" + thingId +
+                ", log=" + log +
+                ", renderedThingCache=" + renderedThingCache +
+                "]";
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.commands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.things.TestConstants.Thing.THING_V2;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RenderedThingCache}.
+ */
+public final class RenderedThingCacheTest {
+
+    private static final JsonFieldSelector FIELD_SELECTOR = JsonFactory.newFieldSelector("/thingId,/attributes");
+
+    private RenderedThingCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = new RenderedThingCache();
+    }
+
+    @Test
+    public void rendersSameJsonAsThing() {
+        assertThat(underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2, null))
+                .isEqualTo(THING_V2.toJson(JsonSchemaVersion.V_2));
+        assertThat(underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2, FIELD_SELECTOR))
+                .isEqualTo(THING_V2.toJson(JsonSchemaVersion.V_2, FIELD_SELECTOR));
+        assertThat(underTest.getRegularOrSpecialFields(THING_V2, JsonSchemaVersion.V_2, null))
+                .isEqualTo(THING_V2.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()));
+        assertThat(underTest.getRegularOrSpecialFields(THING_V2, JsonSchemaVersion.V_2, FIELD_SELECTOR))
+                .isEqualTo(THING_V2.toJson(JsonSchemaVersion.V_2, FIELD_SELECTOR, FieldType.regularOrSpecial()));
+    }
+
+    @Test
+    public void reusesRenderingOfUnchangedThing() {
+        final JsonObject first = underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2, FIELD_SELECTOR);
+        final JsonObject second = underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2,
+                JsonFactory.newFieldSelector("/thingId,/attributes"));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void distinguishesRenderings() {
+        final JsonObject regular = underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2, null);
+        final JsonObject withSpecialFields = underTest.getRegularOrSpecialFields(THING_V2, JsonSchemaVersion.V_2, null);
+        final JsonObject selected = underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2, FIELD_SELECTOR);
+
+        assertThat(withSpecialFields).isNotSameAs(regular);
+        assertThat(selected).isNotSameAs(regular);
+        assertThat(underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2, null)).isSameAs(regular);
+    }
+
+    @Test
+    public void rendersChangedThingAgain() {
+        final JsonObject before = underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2, null);
+        final Thing changedThing = THING_V2.setAttribute(JsonPointer.of("changed"), JsonValue.of(true));
+
+        final JsonObject after = underTest.getRegularFields(changedThing, JsonSchemaVersion.V_2, null);
+
+        assertThat(after).isNotSameAs(before).isEqualTo(changedThing.toJson(JsonSchemaVersion.V_2));
+    }
+
+    @Test
+    public void startsOverWhenTooManyRenderingsAreRequested() {
+        final JsonObject first = underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2, null);
+        for (int i = 0; i < RenderedThingCache.MAX_RENDERINGS; i++) {
+            underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2,
+                    JsonFactory.newFieldSelector("attributes/attr" + i));
+        }
+
+        assertThat(underTest.getRegularFields(THING_V2, JsonSchemaVersion.V_2, null))
+                .isNotSameAs(first)
+                .isEqualTo(first);
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -19,6 +21,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
 
 import com.typesafe.config.Config;
 
@@ -31,12 +34,25 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
     private static final String CONFIG_PATH = "persistence";
 
     private final int maxBulkSize;
+    private final int minBulkSize;
+    private final Duration targetBulkWriteLatency;
+    private final Duration maxWriteInterval;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
             final DefaultStreamStageConfig defaultStreamStageConfig) {
 
-        maxBulkSize = persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath());
+        final int configuredMaxBulkSize =
+                persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath());
+        final int configuredMinBulkSize =
+                persistenceStreamScopedConfig.getInt(PersistenceStreamConfigValue.MIN_BULK_SIZE.getConfigPath());
+        validateBulkSizes(configuredMinBulkSize, configuredMaxBulkSize);
+        maxBulkSize = configuredMaxBulkSize;
+        minBulkSize = configuredMinBulkSize;
+        targetBulkWriteLatency = persistenceStreamScopedConfig.getDuration(
+                PersistenceStreamConfigValue.TARGET_BULK_WRITE_LATENCY.getConfigPath());
+        maxWriteInterval = persistenceStreamScopedConfig.getDuration(
+                PersistenceStreamConfigValue.MAX_WRITE_INTERVAL.getConfigPath());
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -53,11 +69,35 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                 DefaultStreamStageConfig.getInstance(config, CONFIG_PATH));
     }
 
+    private static void validateBulkSizes(final int minBulkSize, final int maxBulkSize) {
+        if (minBulkSize < 1 || maxBulkSize < minBulkSize) {
+            final String msgPattern = "Expect 0 < <{0}> <= <{1}>, got <{2}> and <{3}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern,
+                    PersistenceStreamConfigValue.MIN_BULK_SIZE.getConfigPath(),
+                    PersistenceStreamConfigValue.MAX_BULK_SIZE.getConfigPath(), minBulkSize, maxBulkSize));
+        }
+    }
+
     @Override
     public int getMaxBulkSize() {
         return maxBulkSize;
     }
 
+    @Override
+    public int getMinBulkSize() {
+        return minBulkSize;
+    }
+
+    @Override
+    public Duration getTargetBulkWriteLatency() {
+        return targetBulkWriteLatency;
+    }
+
+    @Override
+    public Duration getMaxWriteInterval() {
+        return maxWriteInterval;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -78,18 +118,25 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         }
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return maxBulkSize == that.maxBulkSize &&
+                minBulkSize == that.minBulkSize &&
+                targetBulkWriteLatency.equals(that.targetBulkWriteLatency) &&
+                maxWriteInterval.equals(that.maxWriteInterval) &&
                 defaultStreamStageConfig.equals(that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxBulkSize, defaultStreamStageConfig);
+        return Objects.hash(maxBulkSize, minBulkSize, targetBulkWriteLatency, maxWriteInterval,
+                defaultStreamStageConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maxBulkSize=" + maxBulkSize +
+                ", minBulkSize=" + minBulkSize +
+                ", targetBulkWriteLatency=" + targetBulkWriteLatency +
+                ", maxWriteInterval=" + maxWriteInterval +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link QueryConfig}.
+ */
+@Immutable
+public final class DefaultQueryConfig implements QueryConfig {
+
+    static final String CONFIG_PATH = "query";
+
+    private static final String COUNT_CACHE_CONFIG_PATH = "count-cache";
+    private static final String RESULT_CACHE_CONFIG_PATH = "result-cache";
+    private static final String QUERY_PLAN_CACHE_CONFIG_PATH = "query-plan-cache";
+    private static final String CRITERIA_CACHE_CONFIG_PATH = "criteria-cache";
+
+    private final boolean indexProjectionEnabled;
+    private final boolean countCacheEnabled;
+    private final CacheConfig countCacheConfig;
+    private final boolean resultCacheEnabled;
+    private final CacheConfig resultCacheConfig;
+    private final int estimatedCountLimit;
+    private final CacheConfig queryPlanCacheConfig;
+    private final CacheConfig criteriaCacheConfig;
+    private final int maxQueryShapes;
+
+    private DefaultQueryConfig(final ConfigWithFallback configWithFallback) {
+        indexProjectionEnabled =
+                configWithFallback.getBoolean(QueryConfigValue.INDEX_PROJECTION_ENABLED.getConfigPath());
+        countCacheEnabled = configWithFallback.getBoolean(QueryConfigValue.COUNT_CACHE_ENABLED.getConfigPath());
+        countCacheConfig = DefaultCacheConfig.of(configWithFallback, COUNT_CACHE_CONFIG_PATH);
+        resultCacheEnabled = configWithFallback.getBoolean(QueryConfigValue.RESULT_CACHE_ENABLED.getConfigPath());
+        resultCacheConfig = DefaultCacheConfig.of(configWithFallback, RESULT_CACHE_CONFIG_PATH);
+        estimatedCountLimit = getPositiveIntOrThrow(configWithFallback, QueryConfigValue.ESTIMATED_COUNT_LIMIT);
+        queryPlanCacheConfig = DefaultCacheConfig.of(configWithFallback, QUERY_PLAN_CACHE_CONFIG_PATH);
+        criteriaCacheConfig = DefaultCacheConfig.of(configWithFallback, CRITERIA_CACHE_CONFIG_PATH);
+        maxQueryShapes = getPositiveIntOrThrow(configWithFallback, QueryConfigValue.MAX_QUERY_SHAPES);
+    }
+
+    private static int getPositiveIntOrThrow(final ConfigWithFallback configWithFallback,
+            final QueryConfigValue configValue) {
+
+        final String limitConfigPath = configValue.getConfigPath();
+        final int result = configWithFallback.getInt(limitConfigPath);
+        if (1 > result) {
+            final String msgPattern = "The value for <{0}> must be positive but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, limitConfigPath, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of DefaultQueryConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the query config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultQueryConfig of(final Config config) {
+        return new DefaultQueryConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, QueryConfigValue.values()));
+    }
+
+    @Override
+    public boolean isIndexProjectionEnabled() {
+        return indexProjectionEnabled;
+    }
+
+    @Override
+    public boolean isCountCacheEnabled() {
+        return countCacheEnabled;
+    }
+
+    @Override
+    public CacheConfig getCountCacheConfig() {
+        return countCacheConfig;
+    }
+
+    @Override
+    public boolean isResultCacheEnabled() {
+        return resultCacheEnabled;
+    }
+
+    @Override
+    public CacheConfig getResultCacheConfig() {
+        return resultCacheConfig;
+    }
+
+    @Override
+    public int getEstimatedCountLimit() {
+        return estimatedCountLimit;
+    }
+
+    @Override
+    public CacheConfig getQueryPlanCacheConfig() {
+        return queryPlanCacheConfig;
+    }
+
+    @Override
+    public CacheConfig getCriteriaCacheConfig() {
+        return criteriaCacheConfig;
+    }
+
+    @Override
+    public int getMaxQueryShapes() {
+        return maxQueryShapes;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultQueryConfig that = (DefaultQueryConfig) o;
+        return indexProjectionEnabled == that.indexProjectionEnabled &&
+                countCacheEnabled == that.countCacheEnabled &&
+                resultCacheEnabled == that.resultCacheEnabled &&
+                estimatedCountLimit == that.estimatedCountLimit &&
+                maxQueryShapes == that.maxQueryShapes &&
+                Objects.equals(countCacheConfig, that.countCacheConfig) &&
+                Objects.equals(resultCacheConfig, that.resultCacheConfig) &&
+                Objects.equals(queryPlanCacheConfig, that.queryPlanCacheConfig) &&
+                Objects.equals(criteriaCacheConfig, that.criteriaCacheConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(indexProjectionEnabled, countCacheEnabled, countCacheConfig, resultCacheEnabled,
+                resultCacheConfig, estimatedCountLimit, queryPlanCacheConfig, criteriaCacheConfig, maxQueryShapes);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "indexProjectionEnabled=" + indexProjectionEnabled +
+                ", countCacheEnabled=" + countCacheEnabled +
+                ", countCacheConfig=" + countCacheConfig +
+                ", resultCacheEnabled=" + resultCacheEnabled +
+                ", resultCacheConfig=" + resultCacheConfig +
+                ", estimatedCountLimit=" + estimatedCountLimit +
+                ", queryPlanCacheConfig=" + queryPlanCacheConfig +
+                ", criteriaCacheConfig=" + criteriaCacheConfig +
+                ", maxQueryShapes=" + maxQueryShapes +
+                "]";
+    }
+
+}
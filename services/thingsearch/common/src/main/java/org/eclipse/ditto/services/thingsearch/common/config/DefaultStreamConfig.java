@@ -33,6 +33,7 @@ public final class DefaultStreamConfig implements StreamConfig {
     private final int maxArraySize;
     private final Duration writeInterval;
     private final Duration askTimeout;
+    private final int maxQueueSize;
     private final DefaultStreamStageConfig retrievalConfig;
     private final DefaultPersistenceStreamConfig persistenceStreamConfig;
     private final DefaultStreamCacheConfig streamCacheConfig;
@@ -41,6 +42,7 @@ public final class DefaultStreamConfig implements StreamConfig {
         maxArraySize = streamScopedConfig.getInt(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath());
         writeInterval = streamScopedConfig.getDuration(StreamConfigValue.WRITE_INTERVAL.getConfigPath());
         askTimeout = streamScopedConfig.getDuration(StreamConfigValue.ASK_TIMEOUT.getConfigPath());
+        maxQueueSize = streamScopedConfig.getInt(StreamConfigValue.MAX_QUEUE_SIZE.getConfigPath());
         retrievalConfig = DefaultStreamStageConfig.getInstance(streamScopedConfig, RETRIEVAL_CONFIG_PATH);
         persistenceStreamConfig = DefaultPersistenceStreamConfig.of(streamScopedConfig);
         streamCacheConfig = DefaultStreamCacheConfig.of(streamScopedConfig);
@@ -72,6 +74,11 @@ public final class DefaultStreamConfig implements StreamConfig {
         return askTimeout;
     }
 
+    @Override
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
     @Override
     public StreamStageConfig getRetrievalConfig() {
         return retrievalConfig;
@@ -99,6 +106,7 @@ public final class DefaultStreamConfig implements StreamConfig {
         return maxArraySize == that.maxArraySize &&
                 writeInterval.equals(that.writeInterval) &&
                 askTimeout.equals(that.askTimeout) &&
+                maxQueueSize == that.maxQueueSize &&
                 retrievalConfig.equals(that.retrievalConfig) &&
                 persistenceStreamConfig.equals(that.persistenceStreamConfig) &&
                 streamCacheConfig.equals(that.streamCacheConfig);
@@ -106,8 +114,8 @@ public final class DefaultStreamConfig implements StreamConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(maxArraySize, writeInterval, askTimeout, retrievalConfig, persistenceStreamConfig,
-                streamCacheConfig);
+        return Objects.hash(maxArraySize, writeInterval, askTimeout, maxQueueSize, retrievalConfig,
+                persistenceStreamConfig, streamCacheConfig);
     }
 
     @Override
@@ -116,6 +124,7 @@ public final class DefaultStreamConfig implements StreamConfig {
                 "maxArraySize=" + maxArraySize +
                 ", writeInterval=" + writeInterval +
                 ", askTimeout=" + askTimeout +
+                ", maxQueueSize=" + maxQueueSize +
                 ", retrievalConfig=" + retrievalConfig +
                 ", persistenceStreamConfig=" + persistenceStreamConfig +
                 ", streamCacheConfig=" + streamCacheConfig +
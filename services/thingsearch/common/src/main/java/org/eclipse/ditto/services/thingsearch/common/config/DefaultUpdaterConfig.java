@@ -40,6 +40,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     private final int maxBulkSize;
     private final Duration shardingStatePollInterval;
     private final boolean eventProcessingActive;
+    private final boolean revisionTableActive;
     private final SyncConfig thingsSyncConfig;
     private final SyncConfig policiesSyncConfig;
 
@@ -50,6 +51,8 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 updaterScopedConfig.getDuration(UpdaterConfigValue.SHARDING_STATE_POLL_INTERVAL.getConfigPath());
         eventProcessingActive =
                 updaterScopedConfig.getBoolean(UpdaterConfigValue.EVENT_PROCESSING_ACTIVE.getConfigPath());
+        revisionTableActive =
+                updaterScopedConfig.getBoolean(UpdaterConfigValue.REVISION_TABLE_ACTIVE.getConfigPath());
         thingsSyncConfig = DefaultSyncConfig.getInstance(updaterScopedConfig, THINGS_SYNC_CONFIG_PATH);
         policiesSyncConfig = DefaultSyncConfig.getInstance(updaterScopedConfig, POLICIES_SYNC_CONFIG_PATH);
     }
@@ -86,6 +89,11 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         return eventProcessingActive;
     }
 
+    @Override
+    public boolean isRevisionTableActive() {
+        return revisionTableActive;
+    }
+
     @Override
     public SyncConfig getThingsSyncConfig() {
         return thingsSyncConfig;
@@ -107,6 +115,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
         final DefaultUpdaterConfig that = (DefaultUpdaterConfig) o;
         return maxBulkSize == that.maxBulkSize &&
                 eventProcessingActive == that.eventProcessingActive &&
+                revisionTableActive == that.revisionTableActive &&
                 Objects.equals(maxIdleTime, that.maxIdleTime) &&
                 Objects.equals(shardingStatePollInterval, that.shardingStatePollInterval) &&
                 Objects.equals(thingsSyncConfig, that.thingsSyncConfig) &&
@@ -116,7 +125,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
     @Override
     public int hashCode() {
         return Objects.hash(maxIdleTime, maxBulkSize, shardingStatePollInterval, eventProcessingActive,
-                thingsSyncConfig, policiesSyncConfig);
+                revisionTableActive, thingsSyncConfig, policiesSyncConfig);
     }
 
     @Override
@@ -126,6 +135,7 @@ public final class DefaultUpdaterConfig implements UpdaterConfig {
                 ", maxBulkSize=" + maxBulkSize +
                 ", shardingStatePollInterval=" + shardingStatePollInterval +
                 ", eventProcessingActive=" + eventProcessingActive +
+                ", revisionTableActive=" + revisionTableActive +
                 ", thingsSyncConfig=" + thingsSyncConfig +
                 ", policiesSyncConfig=" + policiesSyncConfig +
                 "]";
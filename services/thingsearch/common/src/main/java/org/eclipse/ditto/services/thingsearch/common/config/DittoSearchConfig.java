@@ -12,8 +12,14 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -23,6 +29,7 @@ import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.health.config.DefaultHealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
@@ -42,10 +49,16 @@ public final class DittoSearchConfig implements SearchConfig {
 
     private static final String CONFIG_PATH = "things-search";
 
+    private static final Pattern MATERIALIZED_FIELD_PATTERN =
+            Pattern.compile("/?(attributes|features/[^/.$~]+/properties)(/[^/.$~]+)+");
+
     private final DittoServiceConfig dittoServiceConfig;
     @Nullable private final String mongoHintsByNamespace;
+    private final List<String> materializedFields;
+    private final List<String> backfilledMaterializedFields;
     private final DeleteConfig deleteConfig;
     private final DeletionConfig deletionConfig;
+    private final QueryConfig queryConfig;
     private final UpdaterConfig updaterConfig;
     private final HealthCheckConfig healthCheckConfig;
     private final IndexInitializationConfig indexInitializationConfig;
@@ -62,11 +75,35 @@ public final class DittoSearchConfig implements SearchConfig {
         final ConfigWithFallback configWithFallback =
                 ConfigWithFallback.newInstance(dittoScopedConfig, CONFIG_PATH, SearchConfigValue.values());
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
+        final List<String> theMaterializedFields = getMaterializedFields(configWithFallback);
+        materializedFields = Collections.unmodifiableList(new ArrayList<>(theMaterializedFields));
+        backfilledMaterializedFields = Collections.unmodifiableList(
+                new ArrayList<>(getBackfilledMaterializedFields(configWithFallback, theMaterializedFields)));
         deleteConfig = DefaultDeleteConfig.of(configWithFallback);
         deletionConfig = DefaultDeletionConfig.of(configWithFallback);
+        final QueryConfig defaultQueryConfig = DefaultQueryConfig.of(configWithFallback);
+        final StreamConfig defaultStreamConfig = DefaultStreamConfig.of(configWithFallback);
+        validateResultCacheStaleness(defaultQueryConfig, defaultStreamConfig);
+        queryConfig = defaultQueryConfig;
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
-        streamConfig = DefaultStreamConfig.of(configWithFallback);
+        streamConfig = defaultStreamConfig;
+    }
+
+    /*
+     * Cached search results are stale by the delay of the search updater plus their age, hence they must not be cached
+     * for longer than the updater takes between two writes.
+     */
+    private static void validateResultCacheStaleness(final QueryConfig queryConfig, final StreamConfig streamConfig) {
+        if (queryConfig.isResultCacheEnabled()) {
+            final Duration expireAfterWrite = queryConfig.getResultCacheConfig().getExpireAfterWrite();
+            final Duration writeInterval = streamConfig.getWriteInterval();
+            if (0 < expireAfterWrite.compareTo(writeInterval)) {
+                final String msgPattern = "The expire-after-write <{0}> of the search result cache must not exceed " +
+                        "the write interval <{1}> of the search updater!";
+                throw new DittoConfigError(MessageFormat.format(msgPattern, expireAfterWrite, writeInterval));
+            }
+        }
     }
 
     /**
@@ -81,11 +118,49 @@ public final class DittoSearchConfig implements SearchConfig {
         return new DittoSearchConfig(dittoScopedConfig);
     }
 
+    private static List<String> getMaterializedFields(final ConfigWithFallback configWithFallback) {
+        final String configPath = SearchConfigValue.MATERIALIZED_FIELDS.getConfigPath();
+        final List<String> result = configWithFallback.getStringList(configPath);
+        for (final String materializedField : result) {
+            if (!MATERIALIZED_FIELD_PATTERN.matcher(materializedField).matches()) {
+                final String msgPattern = "The value for <{0}> must contain only attributes or feature properties " +
+                        "without the characters '.', '$' and '~' but it contained <{1}>!";
+                throw new DittoConfigError(MessageFormat.format(msgPattern, configPath, materializedField));
+            }
+        }
+        return result;
+    }
+
+    private static List<String> getBackfilledMaterializedFields(final ConfigWithFallback configWithFallback,
+            final List<String> materializedFields) {
+
+        final String configPath = SearchConfigValue.BACKFILLED_MATERIALIZED_FIELDS.getConfigPath();
+        final List<String> result = configWithFallback.getStringList(configPath);
+        for (final String backfilledField : result) {
+            if (!materializedFields.contains(backfilledField)) {
+                final String msgPattern = "The value for <{0}> must contain only materialized fields but it " +
+                        "contained <{1}>!";
+                throw new DittoConfigError(MessageFormat.format(msgPattern, configPath, backfilledField));
+            }
+        }
+        return result;
+    }
+
     @Override
     public Optional<String> getMongoHintsByNamespace() {
         return Optional.ofNullable(mongoHintsByNamespace);
     }
 
+    @Override
+    public List<String> getMaterializedFields() {
+        return materializedFields;
+    }
+
+    @Override
+    public List<String> getBackfilledMaterializedFields() {
+        return backfilledMaterializedFields;
+    }
+
     @Override
     public DeleteConfig getDeleteConfig() {
         return deleteConfig;
@@ -96,6 +171,11 @@ public final class DittoSearchConfig implements SearchConfig {
         return deletionConfig;
     }
 
+    @Override
+    public QueryConfig getQueryConfig() {
+        return queryConfig;
+    }
+
     @Override
     public UpdaterConfig getUpdaterConfig() {
         return updaterConfig;
@@ -157,8 +237,11 @@ public final class DittoSearchConfig implements SearchConfig {
         }
         final DittoSearchConfig that = (DittoSearchConfig) o;
         return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
+                Objects.equals(materializedFields, that.materializedFields) &&
+                Objects.equals(backfilledMaterializedFields, that.backfilledMaterializedFields) &&
                 Objects.equals(deleteConfig, that.deleteConfig) &&
                 Objects.equals(deletionConfig, that.deletionConfig) &&
+                Objects.equals(queryConfig, that.queryConfig) &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
                 Objects.equals(dittoServiceConfig, that.dittoServiceConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
@@ -170,16 +253,20 @@ public final class DittoSearchConfig implements SearchConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig,
-                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
+        return Objects.hash(mongoHintsByNamespace, materializedFields, backfilledMaterializedFields, deleteConfig,
+                deletionConfig, queryConfig, updaterConfig, dittoServiceConfig, healthCheckConfig,
+                indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
+                ", materializedFields=" + materializedFields +
+                ", backfilledMaterializedFields=" + backfilledMaterializedFields +
                 ", deleteConfig=" + deleteConfig +
                 ", deletionConfig=" + deletionConfig +
+                ", queryConfig=" + queryConfig +
                 ", updaterConfig=" + updaterConfig +
                 ", dittoServiceConfig=" + dittoServiceConfig +
                 ", healthCheckConfig=" + healthCheckConfig +
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
@@ -29,6 +31,27 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     int getMaxBulkSize();
 
+    /**
+     * Returns the least amount of write operations to perform in one bulk when the persistence is under pressure.
+     *
+     * @return the min bulk size.
+     */
+    int getMinBulkSize();
+
+    /**
+     * Returns the bulk write latency above which bulks are shrunk and the write interval is increased.
+     *
+     * @return the target latency of a bulk write.
+     */
+    Duration getTargetBulkWriteLatency();
+
+    /**
+     * Returns the upper bound of the delay between bulk writes when the persistence is under pressure.
+     *
+     * @return the max write interval.
+     */
+    Duration getMaxWriteInterval();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -39,7 +62,22 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
         /**
          * The amount of write operations to perform in one bulk.
          */
-        MAX_BULK_SIZE("max-bulk-size", 250);
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * The least amount of write operations to perform in one bulk.
+         */
+        MIN_BULK_SIZE("min-bulk-size", 10),
+
+        /**
+         * The bulk write latency above which bulks are shrunk and the write interval is increased.
+         */
+        TARGET_BULK_WRITE_LATENCY("target-bulk-write-latency", Duration.ofSeconds(1L)),
+
+        /**
+         * The upper bound of the delay between bulk writes.
+         */
+        MAX_WRITE_INTERVAL("max-write-interval", Duration.ofSeconds(10L));
 
         private final String configPath;
         private final Object defaultValue;
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of the "query" section which determines how search queries are answered.
+ */
+@Immutable
+public interface QueryConfig {
+
+    /**
+     * Indicates whether the things of a search result should be reconstructed from the search index for the
+     * requesting subjects instead of being retrieved from the Things service one by one. Things whose requested
+     * fields cannot be answered from the search index are still retrieved from the Things service.
+     *
+     * @return {@code true} if search results should be projected from the search index, {@code false} else.
+     */
+    boolean isIndexProjectionEnabled();
+
+    /**
+     * Indicates whether the results of count queries should be cached for a short time. Cached counts are keyed by
+     * the parsed query and the authorization subjects of the requester.
+     *
+     * @return {@code true} if count results should be cached, {@code false} else.
+     */
+    boolean isCountCacheEnabled();
+
+    /**
+     * Returns the configuration settings of the cache for count results.
+     *
+     * @return the config of the count cache.
+     */
+    CacheConfig getCountCacheConfig();
+
+    /**
+     * Indicates whether the results of search queries should be cached for a short time. Cached results are keyed by
+     * the parsed query including its cursor, the namespaces, the selected fields and the authorization subjects of the
+     * requester.
+     *
+     * @return {@code true} if search results should be cached, {@code false} else.
+     */
+    boolean isResultCacheEnabled();
+
+    /**
+     * Returns the configuration settings of the cache for search results. Its expire-after-write is the bound of
+     * staleness which search results gain in addition to the delay of the search updater.
+     *
+     * @return the config of the result cache.
+     */
+    CacheConfig getResultCacheConfig();
+
+    /**
+     * Returns the maximum number of things an estimated count scans. Estimated counts reaching this limit are
+     * reported as not exact.
+     *
+     * @return the limit of estimated counts.
+     */
+    int getEstimatedCountLimit();
+
+    /**
+     * Returns the configuration settings of the cache for the MongoDB filter and sort documents of search queries.
+     *
+     * @return the config of the query plan cache.
+     */
+    CacheConfig getQueryPlanCacheConfig();
+
+    /**
+     * Returns the configuration settings of the cache for the parsed criteria of recurring filters.
+     *
+     * @return the config of the criteria cache.
+     */
+    CacheConfig getCriteriaCacheConfig();
+
+    /**
+     * Returns the maximum number of query shapes to record statistics for. Queries of further shapes are not
+     * recorded.
+     *
+     * @return the maximum number of query shapes.
+     */
+    int getMaxQueryShapes();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code QueryConfig}.
+     */
+    enum QueryConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether search results should be projected from the search index.
+         */
+        INDEX_PROJECTION_ENABLED("index-projection-enabled", false),
+
+        /**
+         * Determines whether count results should be cached.
+         */
+        COUNT_CACHE_ENABLED("count-cache-enabled", false),
+
+        /**
+         * Determines whether search results should be cached.
+         */
+        RESULT_CACHE_ENABLED("result-cache-enabled", false),
+
+        /**
+         * The maximum number of things an estimated count scans.
+         */
+        ESTIMATED_COUNT_LIMIT("estimated-count-limit", 10_000),
+
+        /**
+         * The maximum number of query shapes to record statistics for.
+         */
+        MAX_QUERY_SHAPES("max-query-shapes", 1000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        private QueryConfigValue(final String path, final Object defaultValue) {
+            this.path = path;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
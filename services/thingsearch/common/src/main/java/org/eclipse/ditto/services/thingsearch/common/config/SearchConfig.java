@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.thingsearch.common.config;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import javax.annotation.concurrent.Immutable;
@@ -32,6 +34,22 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
 
     Optional<String> getMongoHintsByNamespace();
 
+    /**
+     * Returns the paths of attributes and feature properties to write as top-level fields with their own index into
+     * the search index, e.g. {@code attributes/location/site} or {@code features/status/properties/state}.
+     *
+     * @return the paths of the materialized fields.
+     */
+    List<String> getMaterializedFields();
+
+    /**
+     * Returns the paths of the materialized fields which are written to all documents of the search index. Only
+     * these materialized fields are queried; queries on all other fields use the generic key-value index.
+     *
+     * @return the paths of the backfilled materialized fields.
+     */
+    List<String> getBackfilledMaterializedFields();
+
     /**
      * Returns the configuration settings of the "delete" section.
      *
@@ -47,6 +65,13 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     DeletionConfig getDeletionConfig();
 
+    /**
+     * Returns the configuration settings for answering search queries.
+     *
+     * @return the config.
+     */
+    QueryConfig getQueryConfig();
+
     /**
      * Returns the configuration settings for the search updating functionality.
      *
@@ -69,7 +94,17 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
         /**
          * Default value is {@code null}.
          */
-        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null);
+        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null),
+
+        /**
+         * Paths of the materialized fields.
+         */
+        MATERIALIZED_FIELDS("materialized-fields", Collections.emptyList()),
+
+        /**
+         * Paths of the materialized fields which are written to all documents of the search index.
+         */
+        BACKFILLED_MATERIALIZED_FIELDS("backfilled-materialized-fields", Collections.emptyList());
 
         private final String path;
         private final Object defaultValue;
@@ -45,6 +45,13 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns the maximum number of distinct things with pending changes in the change queue.
+     *
+     * @return the max queue size.
+     */
+    int getMaxQueueSize();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -84,7 +91,12 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The maximum number of distinct things with pending changes in the change queue.
+         */
+        MAX_QUEUE_SIZE("max-queue-size", 100_000);
 
         private final String configPath;
         private final Object defaultValue;
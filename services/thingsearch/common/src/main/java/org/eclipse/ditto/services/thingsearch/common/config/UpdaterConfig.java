@@ -54,6 +54,14 @@ public interface UpdaterConfig {
      */
     boolean isEventProcessingActive();
 
+    /**
+     * Indicates whether the state of things is kept in 1 revision table per shard instead of 1 ThingUpdater actor
+     * per thing.
+     *
+     * @return {@code true} if revision tables should be used, {@code false} else.
+     */
+    boolean isRevisionTableActive();
+
     /**
      * Returns the synchronization settings for the Things service.
      *
@@ -93,7 +101,12 @@ public interface UpdaterConfig {
         /**
          * Determines whether event processing should be active.
          */
-        EVENT_PROCESSING_ACTIVE("event-processing-active", true);
+        EVENT_PROCESSING_ACTIVE("event-processing-active", true),
+
+        /**
+         * Determines whether the state of things is kept in 1 revision table per shard instead of 1 actor per thing.
+         */
+        REVISION_TABLE_ACTIVE("revision-table-active", false);
 
         private final String path;
         private final Object defaultValue;
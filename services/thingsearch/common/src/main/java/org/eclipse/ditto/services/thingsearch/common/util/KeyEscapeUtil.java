@@ -41,4 +41,20 @@ public final class KeyEscapeUtil {
                 .replace("$", FAKE_DOLLAR)
                 .replace(".", FAKE_DOT);
     }
+
+    /**
+     * Reverts the escaping of {@link #escape(String)}.
+     *
+     * @param str the escaped String
+     * @return the original String
+     */
+    public static String unescape(final String str) {
+        requireNonNull(str);
+        if (str.indexOf('~') < 0) {
+            return str;
+        }
+        return str.replace(FAKE_DOT, ".")
+                .replace(FAKE_DOLLAR, "$")
+                .replace(FAKE_TILDA, "~");
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryConfig.QueryConfigValue;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultQueryConfig}.
+ */
+public final class DefaultQueryConfigTest {
+
+    private static Config queryTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        queryTestConfig = ConfigFactory.load("query-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultQueryConfig.class, areImmutable(),
+                provided(CacheConfig.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultQueryConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultQueryConfig underTest = DefaultQueryConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isIndexProjectionEnabled())
+                .as(QueryConfigValue.INDEX_PROJECTION_ENABLED.getConfigPath())
+                .isEqualTo(QueryConfigValue.INDEX_PROJECTION_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.isCountCacheEnabled())
+                .as(QueryConfigValue.COUNT_CACHE_ENABLED.getConfigPath())
+                .isEqualTo(QueryConfigValue.COUNT_CACHE_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.isResultCacheEnabled())
+                .as(QueryConfigValue.RESULT_CACHE_ENABLED.getConfigPath())
+                .isEqualTo(QueryConfigValue.RESULT_CACHE_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getEstimatedCountLimit())
+                .as(QueryConfigValue.ESTIMATED_COUNT_LIMIT.getConfigPath())
+                .isEqualTo(QueryConfigValue.ESTIMATED_COUNT_LIMIT.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxQueryShapes())
+                .as(QueryConfigValue.MAX_QUERY_SHAPES.getConfigPath())
+                .isEqualTo(QueryConfigValue.MAX_QUERY_SHAPES.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultQueryConfig underTest = DefaultQueryConfig.of(queryTestConfig);
+        final Config queryScopedRawConfig = queryTestConfig.getConfig(DefaultQueryConfig.CONFIG_PATH);
+
+        softly.assertThat(underTest.isIndexProjectionEnabled())
+                .as(QueryConfigValue.INDEX_PROJECTION_ENABLED.getConfigPath())
+                .isEqualTo(queryScopedRawConfig.getBoolean(
+                        QueryConfigValue.INDEX_PROJECTION_ENABLED.getConfigPath()));
+
+        softly.assertThat(underTest.isCountCacheEnabled())
+                .as(QueryConfigValue.COUNT_CACHE_ENABLED.getConfigPath())
+                .isEqualTo(queryScopedRawConfig.getBoolean(QueryConfigValue.COUNT_CACHE_ENABLED.getConfigPath()));
+
+        softly.assertThat(underTest.getCountCacheConfig().getMaximumSize())
+                .as("count-cache.maximum-size")
+                .isEqualTo(42L);
+
+        softly.assertThat(underTest.getCountCacheConfig().getExpireAfterWrite())
+                .as("count-cache.expire-after-write")
+                .isEqualTo(Duration.ofSeconds(3L));
+
+        softly.assertThat(underTest.isResultCacheEnabled())
+                .as(QueryConfigValue.RESULT_CACHE_ENABLED.getConfigPath())
+                .isEqualTo(queryScopedRawConfig.getBoolean(QueryConfigValue.RESULT_CACHE_ENABLED.getConfigPath()));
+
+        softly.assertThat(underTest.getResultCacheConfig().getMaximumSize())
+                .as("result-cache.maximum-size")
+                .isEqualTo(7L);
+
+        softly.assertThat(underTest.getResultCacheConfig().getExpireAfterWrite())
+                .as("result-cache.expire-after-write")
+                .isEqualTo(Duration.ofMillis(500L));
+
+        softly.assertThat(underTest.getEstimatedCountLimit())
+                .as(QueryConfigValue.ESTIMATED_COUNT_LIMIT.getConfigPath())
+                .isEqualTo(queryScopedRawConfig.getInt(QueryConfigValue.ESTIMATED_COUNT_LIMIT.getConfigPath()));
+
+        softly.assertThat(underTest.getQueryPlanCacheConfig().getMaximumSize())
+                .as("query-plan-cache.maximum-size")
+                .isEqualTo(11L);
+
+        softly.assertThat(underTest.getQueryPlanCacheConfig().getExpireAfterAccess())
+                .as("query-plan-cache.expire-after-access")
+                .isEqualTo(Duration.ofHours(1L));
+
+        softly.assertThat(underTest.getCriteriaCacheConfig().getMaximumSize())
+                .as("criteria-cache.maximum-size")
+                .isEqualTo(13L);
+
+        softly.assertThat(underTest.getCriteriaCacheConfig().getExpireAfterWrite())
+                .as("criteria-cache.expire-after-write")
+                .isEqualTo(Duration.ofHours(2L));
+
+        softly.assertThat(underTest.getMaxQueryShapes())
+                .as(QueryConfigValue.MAX_QUERY_SHAPES.getConfigPath())
+                .isEqualTo(queryScopedRawConfig.getInt(QueryConfigValue.MAX_QUERY_SHAPES.getConfigPath()));
+    }
+
+}
@@ -82,6 +82,9 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(UpdaterConfigValue.MAX_IDLE_TIME.getDefaultValue());
+        softly.assertThat(underTest.isRevisionTableActive())
+                .as(UpdaterConfigValue.REVISION_TABLE_ACTIVE.getConfigPath())
+                .isEqualTo(UpdaterConfigValue.REVISION_TABLE_ACTIVE.getDefaultValue());
         softly.assertThat(underTest.getThingsSyncConfig())
                 .satisfies(thingsSyncConfig -> assertThat(thingsSyncConfig.getElementsStreamedPerBatch())
                         .as(SyncConfig.SyncConfigValue.ELEMENT_STREAM_BATCH_SIZE.getConfigPath())
@@ -111,6 +114,10 @@ public final class DefaultUpdaterConfigTest {
         softly.assertThat(underTest.getMaxIdleTime())
                 .as(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath())
                 .isEqualTo(updaterScopedRawConfig.getDuration(UpdaterConfigValue.MAX_IDLE_TIME.getConfigPath()));
+        softly.assertThat(underTest.isRevisionTableActive())
+                .as(UpdaterConfigValue.REVISION_TABLE_ACTIVE.getConfigPath())
+                .isEqualTo(
+                        updaterScopedRawConfig.getBoolean(UpdaterConfigValue.REVISION_TABLE_ACTIVE.getConfigPath()));
         softly.assertThat(underTest.getThingsSyncConfig())
                 .as(DefaultUpdaterConfig.THINGS_SYNC_CONFIG_PATH)
                 .isEqualTo(thingsSyncConfig);
@@ -22,6 +22,7 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -74,4 +75,16 @@ public final class Indices {
                 Arrays.asList(KEY_VALUE, GLOBAL_READ, POLICY, NAMESPACE, DELETE_AT));
     }
 
+    /**
+     * Gets all defined indices together with the indices of materialized fields.
+     *
+     * @param materializedFields the materialized fields.
+     * @return the indices
+     */
+    public static List<Index> all(final MaterializedFields materializedFields) {
+        final List<Index> indices = new ArrayList<>(all());
+        indices.addAll(materializedFields.getIndices());
+        return Collections.unmodifiableList(indices);
+    }
+
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_MATERIALIZED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.SLASH;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexFactory;
+
+/**
+ * Attributes and feature properties which are written as top-level fields of the search index documents in addition to
+ * the generic key-value array. Each materialized field is an array of value, grants and revokes of the flattened
+ * entries of its key and has an index of its own, so that queries on it do not scan the key-value index.
+ * <p>
+ * Documents which were written before a field was materialized lack that field until they are written again. Queries
+ * therefore use only materialized fields whose backfill is marked as complete and use the key-value array for all
+ * other fields.
+ * </p>
+ */
+@Immutable
+public final class MaterializedFields {
+
+    private static final MaterializedFields EMPTY =
+            new MaterializedFields(Collections.emptyMap(), Collections.emptySet());
+
+    private static final String FIELD_NAME_SEPARATOR = "~";
+
+    private final Map<String, String> fieldNamesByKey;
+    private final Set<String> backfilledKeys;
+
+    private MaterializedFields(final Map<String, String> fieldNamesByKey, final Set<String> backfilledKeys) {
+        this.fieldNamesByKey = Collections.unmodifiableMap(fieldNamesByKey);
+        this.backfilledKeys = Collections.unmodifiableSet(backfilledKeys);
+    }
+
+    /**
+     * Returns an instance without any materialized field.
+     *
+     * @return the instance.
+     */
+    public static MaterializedFields empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an instance materializing the given attribute or feature property paths whose backfill is complete.
+     *
+     * @param paths paths like {@code attributes/location/site} or {@code features/status/properties/state}. They
+     * must not contain the characters {@code .}, {@code $} or {@code ~}.
+     * @return the instance.
+     * @throws NullPointerException if {@code paths} is {@code null}.
+     * @throws IllegalArgumentException if a path contains a forbidden character.
+     */
+    public static MaterializedFields of(final Collection<String> paths) {
+        return of(paths, paths);
+    }
+
+    /**
+     * Returns an instance materializing the given attribute or feature property paths. Only the backfilled paths are
+     * queried via their materialized fields.
+     *
+     * @param paths paths like {@code attributes/location/site} or {@code features/status/properties/state}. They
+     * must not contain the characters {@code .}, {@code $} or {@code ~}.
+     * @param backfilledPaths the paths of {@code paths} which are materialized in all documents of the search index.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if a path contains a forbidden character or if a backfilled path is not
+     * contained in {@code paths}.
+     */
+    public static MaterializedFields of(final Collection<String> paths, final Collection<String> backfilledPaths) {
+        checkNotNull(paths, "paths");
+        checkNotNull(backfilledPaths, "backfilledPaths");
+        if (paths.isEmpty() && backfilledPaths.isEmpty()) {
+            return EMPTY;
+        }
+        final Map<String, String> fieldNamesByKey = new LinkedHashMap<>();
+        for (final String path : paths) {
+            if (path.contains(DOT) || path.contains("$") || path.contains(FIELD_NAME_SEPARATOR)) {
+                throw new IllegalArgumentException("Materialized field <" + path + "> contains a forbidden character!");
+            }
+            final String key = toKey(path);
+            fieldNamesByKey.put(key, key.substring(1).replace(SLASH, FIELD_NAME_SEPARATOR));
+        }
+        final Set<String> backfilledKeys = new HashSet<>();
+        for (final String backfilledPath : backfilledPaths) {
+            final String key = toKey(backfilledPath);
+            if (!fieldNamesByKey.containsKey(key)) {
+                throw new IllegalArgumentException("Backfilled field <" + backfilledPath + "> is not materialized!");
+            }
+            backfilledKeys.add(key);
+        }
+        return new MaterializedFields(fieldNamesByKey, backfilledKeys);
+    }
+
+    private static String toKey(final String path) {
+        return path.startsWith(SLASH) ? path : SLASH + path;
+    }
+
+    /**
+     * Indicates whether no field is materialized.
+     *
+     * @return whether no field is materialized.
+     */
+    public boolean isEmpty() {
+        return fieldNamesByKey.isEmpty();
+    }
+
+    /**
+     * Returns the name of the materialized field of a key inside the {@value PersistenceConstants#FIELD_MATERIALIZED}
+     * document.
+     *
+     * @param key the key of the flattened entries, e.g. {@code /attributes/location/site}.
+     * @return the field name, or an empty optional if the key is not materialized.
+     */
+    public Optional<String> getFieldName(final String key) {
+        return Optional.ofNullable(fieldNamesByKey.get(key));
+    }
+
+    /**
+     * Returns the path of the materialized field to query for a key in the search index documents.
+     *
+     * @param key the key of the flattened entries, e.g. {@code /attributes/location/site}.
+     * @return the path, or an empty optional if the key is not materialized or its backfill is not complete.
+     */
+    public Optional<String> getQueriedFieldPath(final String key) {
+        if (!backfilledKeys.contains(key)) {
+            return Optional.empty();
+        }
+        return getFieldName(key).map(MaterializedFields::toFieldPath);
+    }
+
+    /**
+     * Returns the indices of the materialized fields.
+     *
+     * @return one index per materialized field.
+     */
+    public List<Index> getIndices() {
+        return fieldNamesByKey.values()
+                .stream()
+                .map(fieldName -> {
+                    final String fieldPath = toFieldPath(fieldName);
+                    return IndexFactory.newInstance(FIELD_MATERIALIZED + FIELD_NAME_SEPARATOR + fieldName,
+                            Arrays.asList(fieldPath + DOT + FIELD_INTERNAL_VALUE, fieldPath + DOT + FIELD_GRANTED, FIELD_ID),
+                            false);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static String toFieldPath(final String fieldName) {
+        return FIELD_MATERIALIZED + DOT + fieldName;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MaterializedFields that = (MaterializedFields) o;
+        return fieldNamesByKey.equals(that.fieldNamesByKey) && backfilledKeys.equals(that.backfilledKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldNamesByKey, backfilledKeys);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "fieldNamesByKey=" + fieldNamesByKey +
+                ", backfilledKeys=" + backfilledKeys +
+                "]";
+    }
+
+}
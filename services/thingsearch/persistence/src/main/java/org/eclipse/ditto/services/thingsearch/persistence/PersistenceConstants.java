@@ -161,6 +161,11 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_REVOKED = "r";
 
+    /**
+     * Field name for materialized fields with their own indices.
+     */
+    public static final String FIELD_MATERIALIZED = "m";
+
     /**
      * Mark a document for deletion.
      */
@@ -12,8 +12,11 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.query;
 
+import java.util.Objects;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.QueryBuilder;
@@ -26,12 +29,18 @@ import org.eclipse.ditto.model.rql.ParserException;
 import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.query.filter.ParameterOptionVisitor;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.ThingSearchQueryCommand;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 /**
- * Create Query objects from search commands.
+ * Create Query objects from search commands. The criteria of recently used filters are cached, so that recurring
+ * filters are parsed only once.
  */
 public final class QueryParser {
 
@@ -39,15 +48,22 @@ public final class QueryParser {
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final QueryBuilderFactory queryBuilderFactory;
     private final RqlOptionParser rqlOptionParser;
+    private final Cache<CriteriaCacheKey, Criteria> criteriaCache;
 
     private QueryParser(final CriteriaFactory criteriaFactory,
             final ThingsFieldExpressionFactory fieldExpressionFactory,
-            final QueryBuilderFactory queryBuilderFactory) {
+            final QueryBuilderFactory queryBuilderFactory,
+            final CacheConfig criteriaCacheConfig) {
 
         this.queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
         this.fieldExpressionFactory = fieldExpressionFactory;
         this.queryBuilderFactory = queryBuilderFactory;
         rqlOptionParser = new RqlOptionParser();
+        criteriaCache = Caffeine.newBuilder()
+                .maximumSize(criteriaCacheConfig.getMaximumSize())
+                .expireAfterWrite(criteriaCacheConfig.getExpireAfterWrite())
+                .expireAfterAccess(criteriaCacheConfig.getExpireAfterAccess())
+                .build();
     }
 
     /**
@@ -56,13 +72,15 @@ public final class QueryParser {
      * @param criteriaFactory a factory to create criteria.
      * @param fieldExpressionFactory a factory to retrieve things field expressions.
      * @param queryBuilderFactory a factory to create a query builder.
+     * @param criteriaCacheConfig the config of the cache for the criteria of recurring filters.
      * @return the query factory.
      */
     public static QueryParser of(final CriteriaFactory criteriaFactory,
             final ThingsFieldExpressionFactory fieldExpressionFactory,
-            final QueryBuilderFactory queryBuilderFactory) {
+            final QueryBuilderFactory queryBuilderFactory,
+            final CacheConfig criteriaCacheConfig) {
 
-        return new QueryParser(criteriaFactory, fieldExpressionFactory, queryBuilderFactory);
+        return new QueryParser(criteriaFactory, fieldExpressionFactory, queryBuilderFactory, criteriaCacheConfig);
     }
 
     /**
@@ -85,6 +103,17 @@ public final class QueryParser {
         }
     }
 
+    /**
+     * Parses a CountThings command into a query which counts at most {@code maxCount} things.
+     *
+     * @param countThings the command.
+     * @param maxCount the maximum number of things to count.
+     * @return the query.
+     */
+    public Query parseLimitedCount(final CountThings countThings, final int maxCount) {
+        return queryBuilderFactory.newUnlimitedBuilder(parseCriteria(countThings)).limit(maxCount).build();
+    }
+
     /**
      * Parses a SudoCountThings command into a query.
      *
@@ -94,7 +123,7 @@ public final class QueryParser {
     public Query parseSudoCountThings(final SudoCountThings sudoCountThings) {
         final DittoHeaders headers = sudoCountThings.getDittoHeaders();
         final String filters = sudoCountThings.getFilter().orElse(null);
-        final Criteria criteria = queryFilterCriteriaFactory.filterCriteria(filters, headers);
+        final Criteria criteria = getCriteria(filters, null, headers);
         return queryBuilderFactory.newUnlimitedBuilder(criteria).build();
     }
 
@@ -106,14 +135,24 @@ public final class QueryParser {
     }
 
     private Criteria parseCriteria(final ThingSearchQueryCommand<?> command) {
-        final DittoHeaders headers = command.getDittoHeaders();
         final Set<String> namespaces = command.getNamespaces().orElse(null);
         final String filter = command.getFilter().orElse(null);
-        if (namespaces == null) {
-            return queryFilterCriteriaFactory.filterCriteria(filter, command.getDittoHeaders());
-        } else {
-            return queryFilterCriteriaFactory.filterCriteriaRestrictedByNamespaces(filter, headers, namespaces);
-        }
+        return getCriteria(filter, namespaces, command.getDittoHeaders());
+    }
+
+    /*
+     * Parse errors are not cached; they are thrown with the headers of each failing command.
+     */
+    private Criteria getCriteria(@Nullable final String filter, @Nullable final Set<String> namespaces,
+            final DittoHeaders headers) {
+
+        return criteriaCache.get(new CriteriaCacheKey(filter, namespaces), key -> {
+            if (namespaces == null) {
+                return queryFilterCriteriaFactory.filterCriteria(filter, headers);
+            } else {
+                return queryFilterCriteriaFactory.filterCriteriaRestrictedByNamespaces(filter, headers, namespaces);
+            }
+        });
     }
 
     private void setOptions(final String options, final QueryBuilder queryBuilder, final DittoHeaders headers) {
@@ -128,4 +167,34 @@ public final class QueryParser {
                     .build();
         }
     }
+
+    private static final class CriteriaCacheKey {
+
+        @Nullable private final String filter;
+        @Nullable private final Set<String> namespaces;
+
+        private CriteriaCacheKey(@Nullable final String filter, @Nullable final Set<String> namespaces) {
+            this.filter = filter;
+            this.namespaces = namespaces;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CriteriaCacheKey that = (CriteriaCacheKey) o;
+            return Objects.equals(filter, that.filter) && Objects.equals(namespaces, that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, namespaces);
+        }
+
+    }
+
 }
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.SLASH;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+
+/**
+ * Reconstructs the JSON of a Thing as visible to some authorization subjects from its search index document.
+ * <p>
+ * The values are taken from the hierarchical copy of the Thing in the search index document. Each value is only
+ * included if the read grants and revokes of its flattened entry permit the subjects to read it, which is the same
+ * condition the search applies when filtering. A Thing cannot be projected if a requested value cannot be answered
+ * from the search index, namely for special fields like {@code _modified}, for arrays which may have been truncated
+ * while indexing, for values without flattened entry and for Things with an ACL.
+ * </p>
+ */
+@Immutable
+public final class IndexedThingProjector {
+
+    private static final String SPECIAL_FIELD_PREFIX = "_";
+    private static final String ACL_KEY = Thing.JsonFields.ACL.getPointer().toString().substring(1);
+
+    private final int maxArraySize;
+
+    private IndexedThingProjector(final int maxArraySize) {
+        this.maxArraySize = maxArraySize;
+    }
+
+    /**
+     * Returns an instance of {@code IndexedThingProjector}.
+     *
+     * @param maxArraySize the maximum size of arrays in the search index as configured for the search updater; a
+     * negative number means that arrays are never truncated.
+     * @return the instance.
+     */
+    public static IndexedThingProjector of(final int maxArraySize) {
+        return new IndexedThingProjector(maxArraySize);
+    }
+
+    /**
+     * Reconstructs the Thing of a search index document as visible to the given authorization subjects.
+     *
+     * @param document the search index document containing the hierarchical and the flattened values of the Thing.
+     * @param authorizationSubjectIds the IDs of the subjects to reconstruct the Thing for.
+     * @param selectedFields the fields to reconstruct or {@code null} to reconstruct all regular fields.
+     * @return the visible selected fields of the Thing or an empty Optional if the search index document cannot
+     * answer them.
+     * @throws NullPointerException if {@code document} or {@code authorizationSubjectIds} is {@code null}.
+     */
+    public Optional<JsonObject> project(final BsonDocument document,
+            final Collection<String> authorizationSubjectIds,
+            @Nullable final JsonFieldSelector selectedFields) {
+
+        checkNotNull(document, "document");
+        checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
+        if (selectsSpecialField(selectedFields)) {
+            return Optional.empty();
+        }
+        final BsonValue thingCopy = document.get(FIELD_SORTING);
+        final BsonValue flattenedValues = document.get(FIELD_INTERNAL);
+        if (!(thingCopy instanceof BsonDocument) || !(flattenedValues instanceof BsonArray) ||
+                ((BsonDocument) thingCopy).containsKey(ACL_KEY)) {
+            return Optional.empty();
+        }
+
+        final Projection projection =
+                new Projection(getReadability((BsonArray) flattenedValues, authorizationSubjectIds));
+        final JsonObject visibleThing = projection.projectRoot((BsonDocument) thingCopy);
+        if (null == selectedFields) {
+            return projection.unanswerable.isEmpty() ? Optional.of(visibleThing) : Optional.empty();
+        }
+        for (final JsonPointer selectedPointer : selectedFields) {
+            if (projection.isUnanswerable(selectedPointer.toString())) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(visibleThing.get(selectedFields));
+    }
+
+    private static boolean selectsSpecialField(@Nullable final JsonFieldSelector selectedFields) {
+        if (null != selectedFields) {
+            for (final JsonPointer selectedPointer : selectedFields) {
+                if (selectedPointer.getRoot().filter(key -> key.toString().startsWith(SPECIAL_FIELD_PREFIX))
+                        .isPresent()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines for each key of the flattened values whether it is readable: at least one of the subjects is granted
+     * and none is revoked. A key occurring several times (e.g. for array elements) is only readable if all its
+     * entries are.
+     */
+    private static NavigableMap<String, Boolean> getReadability(final BsonArray flattenedValues,
+            final Collection<String> authorizationSubjectIds) {
+
+        final NavigableMap<String, Boolean> readability = new TreeMap<>();
+        for (final BsonValue flattenedValue : flattenedValues) {
+            if (flattenedValue instanceof BsonDocument) {
+                final BsonDocument entry = (BsonDocument) flattenedValue;
+                final boolean readable = containsAny(entry.get(FIELD_GRANTED), authorizationSubjectIds) &&
+                        !containsAny(entry.get(FIELD_REVOKED), authorizationSubjectIds);
+                readability.merge(entry.getString(FIELD_INTERNAL_KEY).getValue(), readable, Boolean::logicalAnd);
+            }
+        }
+        return readability;
+    }
+
+    private static boolean containsAny(@Nullable final BsonValue subjectIds,
+            final Collection<String> authorizationSubjectIds) {
+
+        if (subjectIds instanceof BsonArray) {
+            for (final BsonValue subjectId : (BsonArray) subjectIds) {
+                if (subjectId.isString() && authorizationSubjectIds.contains(subjectId.asString().getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Holds the state of projecting one search index document.
+     */
+    private final class Projection {
+
+        private final NavigableMap<String, Boolean> readability;
+        private final List<String> unanswerable;
+
+        private Projection(final NavigableMap<String, Boolean> readability) {
+            this.readability = readability;
+            unanswerable = new ArrayList<>();
+        }
+
+        private JsonObject projectRoot(final BsonDocument thingCopy) {
+            final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+            for (final Map.Entry<String, BsonValue> entry : thingCopy.entrySet()) {
+                final String key = KeyEscapeUtil.unescape(entry.getKey());
+                // special fields are no regular fields and cannot be selected from the index
+                if (!key.startsWith(SPECIAL_FIELD_PREFIX)) {
+                    final JsonKey jsonKey = JsonKey.of(key);
+                    project(JsonPointer.empty().addLeaf(jsonKey), entry.getValue())
+                            .ifPresent(value -> builder.set(jsonKey, value));
+                }
+            }
+            return builder.build();
+        }
+
+        private Optional<JsonValue> project(final JsonPointer pointer, final BsonValue value) {
+            if (value instanceof BsonDocument && !((BsonDocument) value).isEmpty()) {
+                final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+                for (final Map.Entry<String, BsonValue> entry : ((BsonDocument) value).entrySet()) {
+                    final JsonKey jsonKey = JsonKey.of(KeyEscapeUtil.unescape(entry.getKey()));
+                    project(pointer.addLeaf(jsonKey), entry.getValue())
+                            .ifPresent(childValue -> builder.set(jsonKey, childValue));
+                }
+                final JsonObject jsonObject = builder.build();
+                return jsonObject.isEmpty() ? Optional.empty() : Optional.of(jsonObject);
+            } else if (value instanceof BsonArray) {
+                return projectArray(pointer, (BsonArray) value);
+            } else {
+                return projectLeaf(pointer, value);
+            }
+        }
+
+        private Optional<JsonValue> projectArray(final JsonPointer pointer, final BsonArray array) {
+            final String key = pointer.toString();
+            if (0 <= maxArraySize && maxArraySize <= array.size()) {
+                // the array may have been truncated
+                return markUnanswerable(key);
+            }
+            boolean anyReadable = false;
+            boolean anyUnreadable = false;
+            for (final Map.Entry<String, Boolean> entry :
+                    readability.subMap(key, true, key + SLASH + Character.MAX_VALUE, true).entrySet()) {
+                if (isSameOrDescendant(entry.getKey(), key)) {
+                    anyReadable |= entry.getValue();
+                    anyUnreadable |= !entry.getValue();
+                }
+            }
+            if (!anyReadable) {
+                // either not readable at all or not indexed
+                return anyUnreadable ? Optional.empty() : markUnanswerable(key);
+            } else if (anyUnreadable) {
+                // partially readable arrays are not reconstructed
+                return markUnanswerable(key);
+            }
+            final Optional<JsonValue> converted = convert(array);
+            if (!converted.isPresent()) {
+                return markUnanswerable(key);
+            }
+            return converted;
+        }
+
+        private Optional<JsonValue> projectLeaf(final JsonPointer pointer, final BsonValue value) {
+            final String key = pointer.toString();
+            final Boolean readable = readability.get(key);
+            if (null == readable) {
+                // no flattened entry, e.g. because it exceeded the index length restriction
+                return markUnanswerable(key);
+            } else if (!readable) {
+                return Optional.empty();
+            }
+            final Optional<JsonValue> converted = convert(value);
+            if (!converted.isPresent()) {
+                return markUnanswerable(key);
+            }
+            return converted;
+        }
+
+        private Optional<JsonValue> markUnanswerable(final String key) {
+            unanswerable.add(key);
+            return Optional.empty();
+        }
+
+        /**
+         * Indicates whether the value at the selected pointer depends on a value which cannot be answered from the
+         * index. This is the case if the unanswerable value is contained in the selected value or vice versa.
+         */
+        private boolean isUnanswerable(final String selectedKey) {
+            for (final String unanswerableKey : unanswerable) {
+                if (isSameOrDescendant(unanswerableKey, selectedKey) ||
+                        isSameOrDescendant(selectedKey, unanswerableKey)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    private static boolean isSameOrDescendant(final String key, final String ancestorKey) {
+        return key.startsWith(ancestorKey) &&
+                (key.length() == ancestorKey.length() || key.startsWith(SLASH, ancestorKey.length()));
+    }
+
+    private static Optional<JsonValue> convert(final BsonValue value) {
+        switch (value.getBsonType()) {
+            case NULL:
+                return Optional.of(JsonFactory.nullLiteral());
+            case BOOLEAN:
+                return Optional.of(JsonValue.of(value.asBoolean().getValue()));
+            case STRING:
+                return Optional.of(JsonValue.of(value.asString().getValue()));
+            case INT32:
+                return Optional.of(JsonValue.of(value.asInt32().getValue()));
+            case INT64:
+                return Optional.of(JsonValue.of(value.asInt64().getValue()));
+            case DOUBLE:
+                return Optional.of(JsonValue.of(value.asDouble().getValue()));
+            case ARRAY:
+                final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+                for (final BsonValue element : value.asArray()) {
+                    final Optional<JsonValue> convertedElement = convert(element);
+                    if (!convertedElement.isPresent()) {
+                        return Optional.empty();
+                    }
+                    arrayBuilder.add(convertedElement.get());
+                }
+                return Optional.of(arrayBuilder.build());
+            case DOCUMENT:
+                final JsonObjectBuilder objectBuilder = JsonFactory.newObjectBuilder();
+                for (final Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                    final Optional<JsonValue> convertedValue = convert(entry.getValue());
+                    if (!convertedValue.isPresent()) {
+                        return Optional.empty();
+                    }
+                    objectBuilder.set(KeyEscapeUtil.unescape(entry.getKey()), convertedValue.get());
+                }
+                return Optional.of(objectBuilder.build());
+            default:
+                return Optional.empty();
+        }
+    }
+
+}
@@ -21,27 +21,35 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultQueryConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
 import org.eclipse.ditto.services.thingsearch.persistence.Indices;
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
-import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor;
-import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
-import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayQueryTimeExceededException;
@@ -52,6 +60,7 @@ import com.mongodb.client.model.CountOptions;
 import com.mongodb.reactivestreams.client.AggregatePublisher;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import com.typesafe.config.ConfigFactory;
 
 import akka.NotUsed;
 import akka.actor.ActorSystem;
@@ -73,6 +82,11 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final IndexedThingProjector projector;
+    private final CacheConfig queryPlanCacheConfig;
+    private final QueryPlanCache queryPlanCache;
+    private final QueryShapeStatistics queryShapeStatistics;
+    private final MaterializedFields materializedFields;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -92,6 +106,13 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         indexInitializer = IndexInitializer.of(database, materializer);
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        // arrays are not indexed by default, see the max-array-size of the search updater
+        projector = IndexedThingProjector.of(0);
+        final QueryConfig queryConfig = DefaultQueryConfig.of(ConfigFactory.empty());
+        queryPlanCacheConfig = queryConfig.getQueryPlanCacheConfig();
+        queryPlanCache = QueryPlanCache.of(queryPlanCacheConfig);
+        queryShapeStatistics = QueryShapeStatistics.of(queryConfig.getMaxQueryShapes());
+        materializedFields = MaterializedFields.empty();
     }
 
     private MongoThingsSearchPersistence(
@@ -99,13 +120,23 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final IndexedThingProjector projector,
+            final CacheConfig queryPlanCacheConfig,
+            final QueryPlanCache queryPlanCache,
+            final QueryShapeStatistics queryShapeStatistics,
+            final MaterializedFields materializedFields) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.projector = projector;
+        this.queryPlanCacheConfig = queryPlanCacheConfig;
+        this.queryPlanCache = queryPlanCache;
+        this.queryShapeStatistics = queryShapeStatistics;
+        this.materializedFields = materializedFields;
     }
 
     /**
@@ -116,12 +147,52 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, projector,
+                queryPlanCacheConfig, queryPlanCache, queryShapeStatistics, materializedFields);
+    }
+
+    /**
+     * Create a copy of this object which projects Things from the search index as written with the given maximum
+     * array size.
+     *
+     * @param maxArraySize the maximum size of arrays in the search index as configured for the search updater.
+     * @return copy of this object with the maximum array size configured.
+     */
+    public MongoThingsSearchPersistence withMaxArraySize(final int maxArraySize) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints,
+                IndexedThingProjector.of(maxArraySize), queryPlanCacheConfig, queryPlanCache, queryShapeStatistics,
+                materializedFields);
+    }
+
+    /**
+     * Create a copy of this object which queries and indexes the given materialized fields instead of the key-value
+     * array.
+     *
+     * @param materializedFields the materialized fields as configured for the search updater.
+     * @return copy of this object with the materialized fields configured.
+     */
+    public MongoThingsSearchPersistence withMaterializedFields(final MaterializedFields materializedFields) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, projector,
+                queryPlanCacheConfig, QueryPlanCache.of(queryPlanCacheConfig, materializedFields),
+                queryShapeStatistics, materializedFields);
+    }
+
+    /**
+     * Create a copy of this object whose query plan cache and query shape statistics are sized as configured.
+     *
+     * @param queryConfig the config of search queries.
+     * @return copy of this object with the query plan cache and the query shape statistics configured.
+     */
+    public MongoThingsSearchPersistence withQueryConfig(final QueryConfig queryConfig) {
+        final CacheConfig cacheConfig = queryConfig.getQueryPlanCacheConfig();
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, projector,
+                cacheConfig, QueryPlanCache.of(cacheConfig, materializedFields),
+                QueryShapeStatistics.of(queryConfig.getMaxQueryShapes()), materializedFields);
     }
 
     @Override
     public CompletionStage<Void> initializeIndices() {
-        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, Indices.all())
+        return indexInitializer.initialize(PersistenceConstants.THINGS_COLLECTION_NAME, Indices.all(materializedFields))
                 .exceptionally(t -> {
                     log.error(t, "Index-Initialization failed: {}", t.getMessage());
                     return null;
@@ -160,7 +231,9 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        final long startNanos = System.nanoTime();
+        final QueryPlanCache.QueryPlan queryPlan = queryPlanCache.getQueryPlan(query, authorizationSubjectIds);
+        final BsonDocument queryFilter = queryPlan.getFilter();
         log.debug("count with query filter <{}>.", queryFilter);
 
         final CountOptions countOptions = new CountOptions()
@@ -169,6 +242,10 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
         return Source.fromPublisher(collection.count(queryFilter, countOptions))
+                .map(count -> {
+                    recordQuery(queryPlan, startNanos, count);
+                    return count;
+                })
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("count");
     }
@@ -185,12 +262,14 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
         checkNotNull(query, "query");
 
-        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        final long startNanos = System.nanoTime();
+        final QueryPlanCache.QueryPlan queryPlan = queryPlanCache.getQueryPlan(query, authorizationSubjectIds);
+        final BsonDocument queryFilter = queryPlan.getFilter();
         if (log.isDebugEnabled()) {
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
 
-        final Bson sortOptions = getMongoSort(query);
+        final Bson sortOptions = queryPlan.getSort();
 
         final int limit = query.getLimit();
         final int skip = query.getSkip();
@@ -207,27 +286,86 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                         .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
-                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
+                .map(resultsPlus0ne -> {
+                    recordQuery(queryPlan, startNanos, resultsPlus0ne.size());
+                    return toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                            MongoThingsSearchPersistence::toIds, Function.identity());
+                })
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("findAll");
     }
 
-    private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
-            final List<SortOption> sortOptions) {
+    @Override
+    public Source<ResultList<JsonObject>, NotUsed> findAllProjected(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector selectedFields) {
+
+        checkNotNull(query, "query");
+        checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
+
+        final long startNanos = System.nanoTime();
+        final QueryPlanCache.QueryPlan queryPlan = queryPlanCache.getQueryPlan(query, authorizationSubjectIds);
+        final BsonDocument queryFilter = queryPlan.getFilter();
+        if (log.isDebugEnabled()) {
+            log.debug("findAllProjected with query filter <{}>.", queryFilter);
+        }
+
+        final Bson sortOptions = queryPlan.getSort();
+
+        final int limit = query.getLimit();
+        final int skip = query.getSkip();
+        final int limitPlusOne = limit + 1;
+        final Document projection = new Document(PersistenceConstants.FIELD_SORTING, true)
+                .append(PersistenceConstants.FIELD_INTERNAL, true);
+        // sort keys within the sorting field are already projected
+        GetSortBsonVisitor.projections(query.getSortOptions()).keySet().stream()
+                .filter(path -> !path.startsWith(PersistenceConstants.FIELD_SORTING + PersistenceConstants.DOT))
+                .forEach(path -> projection.append(path, true));
+
+        return Source.fromPublisher(
+                collection.find(queryFilter, BsonDocument.class)
+                        .hint(hints.getHint(namespaces).orElse(null))
+                        .sort(sortOptions)
+                        .limit(limitPlusOne)
+                        .skip(skip)
+                        .projection(projection)
+                        .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
+                .grouped(limitPlusOne)
+                .orElse(Source.single(Collections.emptyList()))
+                .map(resultsPlus0ne -> {
+                    recordQuery(queryPlan, startNanos, resultsPlus0ne.size());
+                    return toResultList(resultsPlus0ne, skip, limit, query.getSortOptions(),
+                            docs -> toProjectedThings(docs, authorizationSubjectIds, selectedFields),
+                            MongoThingsSearchPersistence::toDocument);
+                })
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("findAllProjected");
+    }
+
+    @Override
+    public JsonArray getSlowestQueryShapes(final int limit) {
+        return queryShapeStatistics.getSlowest(limit);
+    }
+
+    private <T, R> ResultList<R> toResultList(final List<T> resultsPlus0ne, final int skip, final int limit,
+            final List<SortOption> sortOptions,
+            final Function<List<T>, List<R>> resultsMapper,
+            final Function<T, Document> toDocument) {
 
         log.debug("Creating paged ResultList from parameters: resultsPlusOne=<{}>,skip={},limit={}",
                 resultsPlus0ne, skip, limit);
 
-        final ResultList<ThingId> pagedResultList;
+        final ResultList<R> pagedResultList;
         if (resultsPlus0ne.size() <= limit || limit <= 0) {
-            pagedResultList = new ResultListImpl<>(toIds(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
+            pagedResultList = new ResultListImpl<>(resultsMapper.apply(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
         } else {
             // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
-            final List<Document> results = resultsPlus0ne.subList(0, limit);
-            final Document lastResult = results.get(limit - 1);
+            final List<T> results = resultsPlus0ne.subList(0, limit);
+            final Document lastResult = toDocument.apply(results.get(limit - 1));
             final long nextPageOffset = (long) skip + limit;
             final JsonArray sortValues = GetSortBsonVisitor.sortValuesAsArray(lastResult, sortOptions);
-            pagedResultList = new ResultListImpl<>(toIds(results), nextPageOffset, sortValues);
+            pagedResultList = new ResultListImpl<>(resultsMapper.apply(results), nextPageOffset, sortValues);
         }
 
         log.debug("Returning paged ResultList: {}", pagedResultList);
@@ -241,19 +379,28 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .collect(Collectors.toList());
     }
 
-    private static BsonDocument getMongoFilter(final Query query,
-            @Nullable final List<String> authorizationSubjectIds) {
+    private List<JsonObject> toProjectedThings(final List<BsonDocument> docs,
+            final List<String> authorizationSubjectIds,
+            @Nullable final JsonFieldSelector selectedFields) {
 
-        if (authorizationSubjectIds != null) {
-            return BsonUtil.toBsonDocument(CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds));
-        } else {
-            return BsonUtil.toBsonDocument(CreateBsonVisitor.sudoApply(query.getCriteria()));
-        }
+        return docs.stream()
+                .map(doc -> projector.project(doc, authorizationSubjectIds, selectedFields)
+                        .orElseGet(() -> JsonObject.newBuilder()
+                                .set(Thing.JsonFields.ID,
+                                        doc.getString(PersistenceConstants.FIELD_ID).getValue())
+                                .build()))
+                .collect(Collectors.toList());
     }
 
-    private static Bson getMongoSort(final Query query) {
-        final MongoQuery mongoQuery = (MongoQuery) query;
-        return mongoQuery.getSortOptionsAsBson();
+    private static Document toDocument(final BsonDocument bsonDocument) {
+        return new DocumentCodec().decode(new BsonDocumentReader(bsonDocument), DecoderContext.builder().build());
+    }
+
+    private void recordQuery(final QueryPlanCache.QueryPlan queryPlan, final long startNanos,
+            final long documents) {
+
+        queryShapeStatistics.record(queryPlan.getShape(), Duration.ofNanos(System.nanoTime() - startNanos),
+                documents);
     }
 
     private static PartialFunction<Throwable, Throwable> handleMongoExecutionTimeExceededException() {
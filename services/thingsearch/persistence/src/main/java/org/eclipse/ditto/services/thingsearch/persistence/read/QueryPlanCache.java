@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
+import org.eclipse.ditto.services.thingsearch.persistence.read.criteria.visitors.CreateBsonVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Package-private cache of the MongoDB filter and sort documents of search queries, keyed by the criteria, the sort
+ * options and the set of authorization subjects of a query.
+ */
+@ThreadSafe
+final class QueryPlanCache {
+
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    private final Cache<Key, QueryPlan> cache;
+    private final MaterializedFields materializedFields;
+
+    private QueryPlanCache(final CacheConfig cacheConfig, final MaterializedFields materializedFields) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(cacheConfig.getExpireAfterWrite())
+                .expireAfterAccess(cacheConfig.getExpireAfterAccess())
+                .build();
+        this.materializedFields = materializedFields;
+    }
+
+    /**
+     * Returns a new query plan cache.
+     *
+     * @param cacheConfig the config of the cache.
+     * @return the cache.
+     */
+    static QueryPlanCache of(final CacheConfig cacheConfig) {
+        return of(cacheConfig, MaterializedFields.empty());
+    }
+
+    /**
+     * Returns a new query plan cache whose plans query materialized fields instead of the key-value array.
+     *
+     * @param cacheConfig the config of the cache.
+     * @param materializedFields the materialized fields.
+     * @return the cache.
+     */
+    static QueryPlanCache of(final CacheConfig cacheConfig, final MaterializedFields materializedFields) {
+        return new QueryPlanCache(cacheConfig, materializedFields);
+    }
+
+    /**
+     * Returns the plan of a query, creating it if it is not cached.
+     *
+     * @param query the query.
+     * @param authorizationSubjectIds authorization subjects whose visibility restricts the query, or {@code null} if
+     * the query is not restricted.
+     * @return the query plan.
+     */
+    QueryPlan getQueryPlan(final Query query, @Nullable final List<String> authorizationSubjectIds) {
+        final Key key = new Key(query.getCriteria(), query.getSortOptions(), authorizationSubjectIds);
+        return cache.get(key, theKey -> createQueryPlan((MongoQuery) query, authorizationSubjectIds));
+    }
+
+    private QueryPlan createQueryPlan(final MongoQuery query, @Nullable final List<String> authorizationSubjectIds) {
+        final Bson filter = authorizationSubjectIds != null
+                ? CreateBsonVisitor.apply(query.getCriteria(), authorizationSubjectIds, materializedFields)
+                : CreateBsonVisitor.sudoApply(query.getCriteria(), materializedFields);
+        final BsonDocument filterDocument = BsonUtil.toBsonDocument(filter);
+        final BsonDocument sortDocument = BsonUtil.toBsonDocument(query.getSortOptionsAsBson());
+        return new QueryPlan(filterDocument, sortDocument, getShape(filterDocument, sortDocument));
+    }
+
+    /*
+     * The shape of a query is its filter with all values replaced by placeholders together with its sort document.
+     * Index keys are kept because they determine the fields a query touches.
+     */
+    private static String getShape(final BsonDocument filter, final BsonDocument sort) {
+        return new BsonDocument()
+                .append("filter", toShape(filter))
+                .append("sort", sort)
+                .toJson();
+    }
+
+    private static BsonValue toShape(final BsonValue value) {
+        if (value.isDocument()) {
+            final BsonDocument shape = new BsonDocument();
+            for (final Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                final BsonValue entryValue = entry.getValue();
+                shape.append(entry.getKey(), FIELD_INTERNAL_KEY.equals(entry.getKey()) && entryValue.isString()
+                        ? entryValue
+                        : toShape(entryValue));
+            }
+            return shape;
+        } else if (value.isArray() && value.asArray().stream().allMatch(BsonValue::isDocument)) {
+            // arrays of sub-filters of $and, $or and $nor
+            final BsonArray shape = new BsonArray();
+            value.asArray().forEach(element -> shape.add(toShape(element)));
+            return shape;
+        } else {
+            return PLACEHOLDER;
+        }
+    }
+
+    /**
+     * Filter, sort and shape of a query. The documents must not be modified.
+     */
+    @Immutable
+    static final class QueryPlan {
+
+        private final BsonDocument filter;
+        private final BsonDocument sort;
+        private final String shape;
+
+        private QueryPlan(final BsonDocument filter, final BsonDocument sort, final String shape) {
+            this.filter = filter;
+            this.sort = sort;
+            this.shape = shape;
+        }
+
+        BsonDocument getFilter() {
+            return filter;
+        }
+
+        BsonDocument getSort() {
+            return sort;
+        }
+
+        String getShape() {
+            return shape;
+        }
+
+    }
+
+    private static final class Key {
+
+        private final Criteria criteria;
+        private final List<SortOption> sortOptions;
+        @Nullable private final List<String> subjectIds;
+
+        private Key(final Criteria criteria, final List<SortOption> sortOptions,
+                @Nullable final List<String> subjectIds) {
+
+            this.criteria = criteria;
+            this.sortOptions = sortOptions;
+            if (null == subjectIds) {
+                this.subjectIds = null;
+            } else {
+                final List<String> sortedSubjectIds = new ArrayList<>(subjectIds);
+                Collections.sort(sortedSubjectIds);
+                this.subjectIds = sortedSubjectIds;
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return criteria.equals(that.criteria) && sortOptions.equals(that.sortOptions) &&
+                    Objects.equals(subjectIds, that.subjectIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(criteria, sortOptions, subjectIds);
+        }
+
+    }
+
+}
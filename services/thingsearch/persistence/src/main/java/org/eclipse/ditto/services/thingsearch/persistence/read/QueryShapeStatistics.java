@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Package-private statistics of the executed search queries per query shape. Query shapes exceeding the maximum
+ * number of shapes are not recorded.
+ */
+@ThreadSafe
+final class QueryShapeStatistics {
+
+    private final int maxShapes;
+    private final Map<String, ShapeStatistics> statistics;
+
+    private QueryShapeStatistics(final int maxShapes) {
+        this.maxShapes = maxShapes;
+        statistics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns new empty statistics.
+     *
+     * @param maxShapes the maximum number of query shapes to record.
+     * @return the statistics.
+     */
+    static QueryShapeStatistics of(final int maxShapes) {
+        return new QueryShapeStatistics(maxShapes);
+    }
+
+    /**
+     * Records an executed query.
+     *
+     * @param shape the shape of the query.
+     * @param duration how long the query took.
+     * @param documents the number of documents the query returned or counted.
+     */
+    void record(final String shape, final Duration duration, final long documents) {
+        ShapeStatistics shapeStatistics = statistics.get(shape);
+        if (null == shapeStatistics) {
+            if (statistics.size() >= maxShapes) {
+                return;
+            }
+            shapeStatistics = statistics.computeIfAbsent(shape, ShapeStatistics::new);
+        }
+        shapeStatistics.record(duration.toNanos(), documents);
+    }
+
+    /**
+     * Returns the statistics of the query shapes with the highest mean duration.
+     *
+     * @param limit the maximum number of query shapes to return.
+     * @return one JSON object per query shape, the slowest first.
+     */
+    JsonArray getSlowest(final int limit) {
+        return statistics.values()
+                .stream()
+                .map(ShapeStatistics::snapshot)
+                .sorted(Comparator.comparingLong(Snapshot::getMeanNanos).reversed())
+                .limit(limit)
+                .map(Snapshot::toJson)
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    private static final class ShapeStatistics {
+
+        private final String shape;
+        private final LongAdder count;
+        private final LongAdder totalNanos;
+        private final LongAccumulator maxNanos;
+        private final LongAdder totalDocuments;
+
+        private ShapeStatistics(final String shape) {
+            this.shape = shape;
+            count = new LongAdder();
+            totalNanos = new LongAdder();
+            maxNanos = new LongAccumulator(Math::max, 0L);
+            totalDocuments = new LongAdder();
+        }
+
+        private void record(final long nanos, final long documents) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            totalDocuments.add(documents);
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(shape, count.sum(), totalNanos.sum(), maxNanos.get(), totalDocuments.sum());
+        }
+
+    }
+
+    private static final class Snapshot {
+
+        private final String shape;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long totalDocuments;
+
+        private Snapshot(final String shape, final long count, final long totalNanos, final long maxNanos,
+                final long totalDocuments) {
+
+            this.shape = shape;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.totalDocuments = totalDocuments;
+        }
+
+        private long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        private JsonObject toJson() {
+            return JsonObject.newBuilder()
+                    .set("shape", shape)
+                    .set("count", count)
+                    .set("meanMillis", Duration.ofNanos(getMeanNanos()).toMillis())
+                    .set("maxMillis", Duration.ofNanos(maxNanos).toMillis())
+                    .set("totalMillis", Duration.ofNanos(totalNanos).toMillis())
+                    .set("meanDocuments", count == 0 ? 0 : totalDocuments / count)
+                    .build();
+        }
+
+    }
+
+}
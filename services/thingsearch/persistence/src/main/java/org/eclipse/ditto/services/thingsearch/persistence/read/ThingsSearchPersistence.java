@@ -18,6 +18,9 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
@@ -77,6 +80,21 @@ public interface ThingsSearchPersistence {
     Source<ResultList<ThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the Things of all found documents as reconstructed from the search index for the given authorization
+     * subjects. Things whose selected fields cannot be answered from the search index are represented by a JSON
+     * object containing only their ID, so that they can be retrieved from the Things service instead.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param selectedFields the fields of the Things to reconstruct, or null for all regular fields.
+     * @return an {@link Source} which emits the Things.
+     * @throws NullPointerException if {@code query} or {@code authorizationSubjectIds} is {@code null}.
+     */
+    Source<ResultList<JsonObject>, NotUsed> findAllProjected(Query query, List<String> authorizationSubjectIds,
+            @Nullable Set<String> namespaces, @Nullable JsonFieldSelector selectedFields);
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -89,4 +107,15 @@ public interface ThingsSearchPersistence {
         return findAll(query, authorizationSubjectIds, null);
     }
 
+    /**
+     * Returns the statistics of the query shapes with the highest mean duration. A query shape is a query with all
+     * values left out, i. e., queries which only differ in their values have the same shape.
+     *
+     * @param limit the maximum number of query shapes to return.
+     * @return one JSON object per query shape, the slowest first, or an empty array if no statistics are recorded.
+     */
+    default JsonArray getSlowestQueryShapes(final int limit) {
+        return JsonArray.empty();
+    }
+
 }
@@ -32,6 +32,7 @@ import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 
 import com.mongodb.client.model.Filters;
 
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.AbstractFieldBsonCreator;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetExistsBsonVisitor;
 import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetFilterBsonVisitor;
@@ -43,9 +44,13 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
 
     @Nullable
     private final List<String> authorizationSubjectIds;
+    private final MaterializedFields materializedFields;
+
+    private CreateBsonVisitor(@Nullable final List<String> authorizationSubjectIds,
+            final MaterializedFields materializedFields) {
 
-    private CreateBsonVisitor(@Nullable final List<String> authorizationSubjectIds) {
         this.authorizationSubjectIds = authorizationSubjectIds;
+        this.materializedFields = materializedFields;
     }
 
     /**
@@ -55,8 +60,19 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      * @return the Bson object
      */
     public static Bson sudoApply(final Criteria criteria) {
+        return sudoApply(criteria, MaterializedFields.empty());
+    }
+
+    /**
+     * Creates the Bson object used for querying with no restriction of visibility.
+     *
+     * @param criteria the criteria to create Bson for.
+     * @param materializedFields the materialized fields to query instead of the key-value array.
+     * @return the Bson object
+     */
+    public static Bson sudoApply(final Criteria criteria, final MaterializedFields materializedFields) {
         // not adding the deleteAt filter here as this would cause a COLLSCAN for our stats-only sudoCount.
-        return criteria.accept(new CreateBsonVisitor(null));
+        return criteria.accept(new CreateBsonVisitor(null, materializedFields));
     }
 
     /**
@@ -67,9 +83,24 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
      * @return the Bson object
      */
     public static Bson apply(final Criteria criteria, List<String> authorizationSubjectIds) {
+        return apply(criteria, authorizationSubjectIds, MaterializedFields.empty());
+    }
+
+    /**
+     * Creates the Bson object used for querying.
+     *
+     * @param criteria the criteria to create Bson for.
+     * @param authorizationSubjectIds subject ids with which to restrict visibility.
+     * @param materializedFields the materialized fields to query instead of the key-value array.
+     * @return the Bson object
+     */
+    public static Bson apply(final Criteria criteria, final List<String> authorizationSubjectIds,
+            final MaterializedFields materializedFields) {
+
         checkNotNull(criteria, "criteria");
         checkNotNull(authorizationSubjectIds, "authorizationSubjectIds");
-        final Bson baseFilter = criteria.accept(new CreateBsonVisitor(authorizationSubjectIds));
+        checkNotNull(materializedFields, "materializedFields");
+        final Bson baseFilter = criteria.accept(new CreateBsonVisitor(authorizationSubjectIds, materializedFields));
         final Bson globalReadableFilter = AbstractFieldBsonCreator.getGlobalReadBson(authorizationSubjectIds);
         final Bson notDeletedFilter = Filters.exists(FIELD_DELETE_AT, false);
 
@@ -87,7 +118,8 @@ public class CreateBsonVisitor implements CriteriaVisitor<Bson> {
     @Override
     public Bson visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
         final Function<String, Bson> predicateCreator = predicate.accept(CreateBsonPredicateVisitor.getInstance());
-        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, authorizationSubjectIds);
+        return GetFilterBsonVisitor.apply(fieldExpression, predicateCreator, authorizationSubjectIds,
+                materializedFields);
     }
 
     @Override
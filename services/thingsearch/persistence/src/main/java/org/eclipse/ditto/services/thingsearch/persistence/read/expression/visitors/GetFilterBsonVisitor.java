@@ -20,6 +20,7 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.PROPERTIES;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -27,6 +28,7 @@ import javax.annotation.Nullable;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
 
 import com.mongodb.client.model.Filters;
 
@@ -37,6 +39,7 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
 
     private final Function<String, Bson> predicateFunction;
     private final Bson valueFilter;
+    private final MaterializedFields materializedFields;
 
     /**
      * Creates a visitor object to create a Mongo Bson object for field-based search criteria.
@@ -44,11 +47,13 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
      * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
      */
     private GetFilterBsonVisitor(final Function<String, Bson> predicateFunction,
-            @Nullable List<String> authorizationSubjectIds) {
+            @Nullable List<String> authorizationSubjectIds,
+            final MaterializedFields materializedFields) {
 
         super(authorizationSubjectIds);
         this.predicateFunction = predicateFunction;
         this.valueFilter = predicateFunction.apply(FIELD_INTERNAL_VALUE);
+        this.materializedFields = materializedFields;
     }
 
     /**
@@ -63,7 +68,26 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
             final Function<String, Bson> predicateFunction,
             @Nullable final List<String> authorizationSubjectIds) {
 
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, authorizationSubjectIds));
+        return apply(expression, predicateFunction, authorizationSubjectIds, MaterializedFields.empty());
+    }
+
+    /**
+     * Creates a Mongo Bson object for field-based search criteria which queries materialized fields instead of the
+     * key-value array where possible.
+     *
+     * @param expression the expression to create a filter for.
+     * @param predicateFunction the function for creating the predicate-part (e.g. "eq", "ne", ...) of the criteria
+     * @param authorizationSubjectIds subject IDs to check for authorization, or null to not restrict visibility at all
+     * @param materializedFields the materialized fields.
+     * @return the complete Bson for the field-based search criteria
+     */
+    public static Bson apply(final FilterFieldExpression expression,
+            final Function<String, Bson> predicateFunction,
+            @Nullable final List<String> authorizationSubjectIds,
+            final MaterializedFields materializedFields) {
+
+        return expression.acceptFilterVisitor(
+                new GetFilterBsonVisitor(predicateFunction, authorizationSubjectIds, materializedFields));
     }
 
     /**
@@ -75,7 +99,8 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
      */
     public static Bson sudoApply(final FilterFieldExpression expression,
             final Function<String, Bson> predicateFunction) {
-        return expression.acceptFilterVisitor(new GetFilterBsonVisitor(predicateFunction, null));
+        return expression.acceptFilterVisitor(
+                new GetFilterBsonVisitor(predicateFunction, null, MaterializedFields.empty()));
     }
 
     @Override
@@ -100,6 +125,14 @@ public class GetFilterBsonVisitor extends AbstractFieldBsonCreator implements Fi
     }
 
     private Bson matchKeyValue(final String key) {
+        final Optional<String> materializedFieldPath = materializedFields.getQueriedFieldPath(key);
+        if (materializedFieldPath.isPresent()) {
+            // the array of a materialized field contains the entries of its key only
+            return Filters.elemMatch(materializedFieldPath.get(),
+                    getAuthorizationBson()
+                            .map(authBson -> Filters.and(valueFilter, authBson))
+                            .orElse(valueFilter));
+        }
         final Bson keyValueFilter = Filters.and(Filters.eq(FIELD_INTERNAL_KEY, key), valueFilter);
         return Filters.elemMatch(FIELD_INTERNAL,
                 getAuthorizationBson()
@@ -15,6 +15,8 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_MATERIALIZED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_NAMESPACE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
@@ -25,6 +27,7 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 import org.bson.BsonArray;
+import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.Document;
@@ -39,6 +42,7 @@ import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
@@ -94,6 +98,26 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             final int maxArraySize) {
 
+        return toWriteModel(thing, enforcer, policyRevision, maxArraySize, MaterializedFields.empty());
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model.
+     *
+     * @param thing the Thing in JSON format.
+     * @param enforcer the policy- or ACL-enforcer of the Thing.
+     * @param policyRevision revision of the policy for an policy enforcer, or any number for an ACL enforcer.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param materializedFields the fields to write as top-level fields in addition to the flattened values.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Enforcer enforcer,
+            final long policyRevision,
+            final int maxArraySize,
+            final MaterializedFields materializedFields) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final ThingId thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -116,9 +140,40 @@ public final class EnforcedThingMapper {
                         .append(FIELD_SORTING, thingCopyForSorting)
                         .append(FIELD_INTERNAL, flattenedValues);
 
+        if (!materializedFields.isEmpty()) {
+            final Document materializedValues = materialize(flattenedValues, materializedFields);
+            if (!materializedValues.isEmpty()) {
+                thingDocument.append(FIELD_MATERIALIZED, materializedValues);
+            }
+        }
+
         return ThingWriteModel.of(metadata, thingDocument);
     }
 
+    /**
+     * Copy the flattened values of materialized keys into one array per materialized field.
+     *
+     * @param flattenedValues the flattened values.
+     * @param materializedFields the materialized fields.
+     * @return document of the materialized fields present in the flattened values.
+     */
+    private static Document materialize(final BsonArray flattenedValues,
+            final MaterializedFields materializedFields) {
+
+        final Document materializedValues = new Document();
+        for (final BsonValue flattenedValue : flattenedValues) {
+            final BsonDocument entry = flattenedValue.asDocument();
+            materializedFields.getFieldName(entry.getString(FIELD_INTERNAL_KEY).getValue())
+                    .ifPresent(fieldName -> {
+                        final BsonDocument materializedEntry = entry.clone();
+                        materializedEntry.remove(FIELD_INTERNAL_KEY);
+                        ((BsonArray) materializedValues.computeIfAbsent(fieldName, name -> new BsonArray()))
+                                .add(materializedEntry);
+                    });
+        }
+        return materializedValues;
+    }
+
     private static BsonArray getGlobalRead(final Enforcer enforcer) {
 
         final BsonArray bsonArray = new BsonArray();
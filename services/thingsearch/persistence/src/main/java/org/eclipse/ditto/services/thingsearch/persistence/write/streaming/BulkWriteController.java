@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+/**
+ * Adapts bulk size and delay between bulk writes to the observed latency of bulk writes:
+ * Bulks grow additively and the delay shrinks as long as bulk writes complete within the target latency;
+ * bulks are halved and the delay is doubled whenever a bulk write is slow or fails.
+ */
+@ThreadSafe
+final class BulkWriteController {
+
+    private static final String GAUGE_BULK_SIZE = "things_search_thing_bulkUpdate_bulk_size";
+    private static final String GAUGE_WRITE_INTERVAL = "things_search_thing_bulkUpdate_write_interval_millis";
+
+    private final int minBulkSize;
+    private final int maxBulkSize;
+    private final int bulkSizeIncrement;
+    private final Duration minWriteInterval;
+    private final Duration maxWriteInterval;
+    private final Duration writeIntervalStep;
+    private final Duration targetLatency;
+    private final Gauge bulkSizeGauge;
+    private final Gauge writeIntervalGauge;
+
+    private int bulkSize;
+    private Duration writeInterval;
+
+    private BulkWriteController(final int minBulkSize,
+            final int maxBulkSize,
+            final Duration minWriteInterval,
+            final Duration maxWriteInterval,
+            final Duration targetLatency) {
+
+        this.minBulkSize = minBulkSize;
+        this.maxBulkSize = maxBulkSize;
+        this.minWriteInterval = minWriteInterval;
+        this.maxWriteInterval = maxWriteInterval;
+        this.targetLatency = targetLatency;
+        bulkSizeIncrement = Math.max(1, maxBulkSize / 10);
+        writeIntervalStep = targetLatency.dividedBy(10L);
+        bulkSizeGauge = DittoMetrics.gauge(GAUGE_BULK_SIZE);
+        writeIntervalGauge = DittoMetrics.gauge(GAUGE_WRITE_INTERVAL);
+        bulkSize = maxBulkSize;
+        writeInterval = minWriteInterval;
+        publish();
+    }
+
+    /**
+     * Create a controller starting with the maximum bulk size and the minimum write interval.
+     *
+     * @param minBulkSize the least bulk size under pressure.
+     * @param maxBulkSize the greatest bulk size.
+     * @param minWriteInterval the least delay between bulk writes.
+     * @param maxWriteInterval the greatest delay between bulk writes under pressure.
+     * @param targetLatency bulk writes slower than this count as pressure.
+     * @return the controller.
+     */
+    static BulkWriteController of(final int minBulkSize,
+            final int maxBulkSize,
+            final Duration minWriteInterval,
+            final Duration maxWriteInterval,
+            final Duration targetLatency) {
+
+        final int boundedMinBulkSize = Math.max(1, Math.min(minBulkSize, maxBulkSize));
+        final Duration boundedMaxWriteInterval =
+                maxWriteInterval.compareTo(minWriteInterval) < 0 ? minWriteInterval : maxWriteInterval;
+        return new BulkWriteController(boundedMinBulkSize, Math.max(1, maxBulkSize), minWriteInterval,
+                boundedMaxWriteInterval, targetLatency);
+    }
+
+    /**
+     * @return how many write operations to perform in the next bulk.
+     */
+    synchronized int getBulkSize() {
+        return bulkSize;
+    }
+
+    /**
+     * @return how long to wait before the next bulk write.
+     */
+    synchronized Duration getWriteInterval() {
+        return writeInterval;
+    }
+
+    /**
+     * Adapt to a completed bulk write.
+     *
+     * @param latency how long the bulk write took.
+     */
+    synchronized void onSuccess(final Duration latency) {
+        if (latency.compareTo(targetLatency) > 0) {
+            backOff();
+        } else {
+            bulkSize = Math.min(maxBulkSize, bulkSize + bulkSizeIncrement);
+            final Duration halvedInterval = writeInterval.dividedBy(2L);
+            writeInterval = halvedInterval.compareTo(writeIntervalStep) < 0 ||
+                    halvedInterval.compareTo(minWriteInterval) < 0
+                    ? minWriteInterval
+                    : halvedInterval;
+        }
+        publish();
+    }
+
+    /**
+     * Adapt to a failed bulk write.
+     */
+    synchronized void onError() {
+        backOff();
+        publish();
+    }
+
+    private void backOff() {
+        bulkSize = Math.max(minBulkSize, bulkSize / 2);
+        final Duration doubledInterval = writeInterval.multipliedBy(2L);
+        final Duration nextInterval =
+                doubledInterval.compareTo(writeIntervalStep) < 0 ? writeIntervalStep : doubledInterval;
+        writeInterval = nextInterval.compareTo(maxWriteInterval) > 0 ? maxWriteInterval : nextInterval;
+    }
+
+    private void publish() {
+        bulkSizeGauge.set((long) bulkSize);
+        writeIntervalGauge.set(writeInterval.toMillis());
+    }
+
+}
@@ -18,6 +18,8 @@ import java.util.Map;
 
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 
 import akka.NotUsed;
 import akka.actor.AbstractActor;
@@ -32,6 +34,8 @@ import akka.stream.javadsl.Source;
 
 /**
  * Collects changes from ThingUpdaters and forward them downstream on demand.
+ * The queue holds changes of at most a configured number of things; each change is answered by an
+ * {@link EnqueueResult} so that senders can hold back further changes while the queue is full.
  */
 public final class ChangeQueueActor extends AbstractActor {
 
@@ -42,6 +46,8 @@ public final class ChangeQueueActor extends AbstractActor {
 
     private static final Duration ASK_SELF_TIMEOUT = Duration.ofSeconds(5L);
 
+    private static final String GAUGE_QUEUE_SIZE = "things_search_updater_change_queue_size";
+
     /**
      * Caching changes of 1 Thing per key.
      * Change type values according to caching strategy;
@@ -49,15 +55,22 @@ public final class ChangeQueueActor extends AbstractActor {
      */
     private Map<ThingId, Metadata> cache = new HashMap<>();
 
-    private ChangeQueueActor() {
-        // prevent instantiation elsewhere
+    private final int maxQueueSize;
+    private final Gauge queueSizeGauge;
+
+    @SuppressWarnings("unused") // called by reflection
+    private ChangeQueueActor(final int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+        queueSizeGauge = DittoMetrics.gauge(GAUGE_QUEUE_SIZE);
+        queueSizeGauge.set(0L);
     }
 
     /**
+     * @param maxQueueSize how many things may have pending changes before further things are rejected.
      * @return Props of a ChangeQueueActor.
      */
-    public static Props props() {
-        return Props.create(ChangeQueueActor.class);
+    public static Props props(final int maxQueueSize) {
+        return Props.create(ChangeQueueActor.class, maxQueueSize);
     }
 
     @Override
@@ -69,12 +82,20 @@ public final class ChangeQueueActor extends AbstractActor {
     }
 
     /**
-     * Enqueue a change.
+     * Enqueue a change. Changes of things already in the queue replace the queued change and are always accepted;
+     * changes of other things are rejected while the queue is full.
      *
      * @param metadata a description of the change.
      */
     private void enqueue(final Metadata metadata) {
-        cache.put(metadata.getThingId(), metadata);
+        final ThingId thingId = metadata.getThingId();
+        if (cache.size() < maxQueueSize || cache.containsKey(thingId)) {
+            cache.put(thingId, metadata);
+            queueSizeGauge.set((long) cache.size());
+            getSender().tell(EnqueueResult.ACCEPTED, getSelf());
+        } else {
+            getSender().tell(EnqueueResult.REJECTED, getSelf());
+        }
     }
 
     /**
@@ -97,6 +118,7 @@ public final class ChangeQueueActor extends AbstractActor {
     private void dump(final Control dump) {
         getSender().tell(cache, getSelf());
         cache = new HashMap<>();
+        queueSizeGauge.set(0L);
     }
 
     private static Function<Control, Source<Map<ThingId, Metadata>, NotUsed>> askSelf(final ActorRef self) {
@@ -113,6 +135,22 @@ public final class ChangeQueueActor extends AbstractActor {
                         .mapMaterializedValue(whatever -> NotUsed.getInstance());
     }
 
+    /**
+     * Replies of the change queue to enqueued changes.
+     */
+    public enum EnqueueResult {
+
+        /**
+         * The change is in the queue.
+         */
+        ACCEPTED,
+
+        /**
+         * The queue is full; the change should be enqueued again later.
+         */
+        REJECTED
+    }
+
     private enum Control {
         DUMP
     }
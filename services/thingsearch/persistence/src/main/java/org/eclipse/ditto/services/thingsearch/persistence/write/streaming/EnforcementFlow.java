@@ -35,6 +35,7 @@ import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
@@ -72,6 +73,7 @@ final class EnforcementFlow {
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
+    private final MaterializedFields materializedFields;
     private final boolean deleteEvent;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
@@ -79,6 +81,7 @@ final class EnforcementFlow {
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
             final int maxArraySize,
+            final MaterializedFields materializedFields,
             final boolean deleteEvent) {
 
         this.thingsShardRegion = thingsShardRegion;
@@ -86,6 +89,7 @@ final class EnforcementFlow {
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
+        this.materializedFields = materializedFields;
         this.deleteEvent = deleteEvent;
     }
 
@@ -96,12 +100,14 @@ final class EnforcementFlow {
      * @param thingsShardRegion the shard region to retrieve things from.
      * @param policiesShardRegion the shard region to retrieve policies from.
      * @param cacheDispatcher dispatcher for the enforcer cache.
+     * @param materializedFields the fields to materialize in the search index.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
             final ActorRef thingsShardRegion,
             final ActorRef policiesShardRegion,
             final MessageDispatcher cacheDispatcher,
+            final MaterializedFields materializedFields,
             final boolean deleteEvent) {
 
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
@@ -114,7 +120,8 @@ final class EnforcementFlow {
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher);
 
         return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent);
+                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), materializedFields,
+                deleteEvent);
     }
 
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
@@ -225,7 +232,8 @@ final class EnforcementFlow {
                             try {
                                 return EnforcedThingMapper.toWriteModel(thing, entry.getValueOrThrow(),
                                         entry.getRevision(),
-                                        maxArraySize);
+                                        maxArraySize,
+                                        materializedFields);
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
                                 return ThingDeleteModel.of(metadata);
@@ -15,10 +15,13 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 
 import org.bson.Document;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,7 +37,6 @@ import akka.NotUsed;
 import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.Attributes;
-import akka.stream.DelayOverflowStrategy;
 import akka.stream.FanInShape2;
 import akka.stream.FlowShape;
 import akka.stream.Graph;
@@ -44,7 +46,6 @@ import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.Zip;
-import kamon.Kamon;
 
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 
@@ -57,6 +58,10 @@ final class MongoSearchUpdaterFlow {
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
 
+    private static final Histogram BULK_UPDATES_PER_BULK = DittoMetrics.histogram(COUNT_THING_BULK_UPDATES_PER_BULK);
+    private static final PreparedTimer BULK_UPDATE_TIMER = DittoMetrics.boundTimer(TRACE_THING_BULK_UPDATE,
+            Collections.singletonMap(UPDATE_TYPE_TAG, "bulkUpdate"));
+
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<Document> collection;
@@ -77,7 +82,7 @@ final class MongoSearchUpdaterFlow {
 
 
     /**
-     * Create a new flow through the search persistence.
+     * Create a new flow through the search persistence with fixed bulk size and write interval.
      * No logging or recovery is attempted.
      *
      * @param parallelism How many write operations may run in parallel for this sink.
@@ -89,20 +94,56 @@ final class MongoSearchUpdaterFlow {
             final int maxBulkSize,
             final Duration writeInterval) {
 
+        return start(parallelism, BulkWriteController.of(maxBulkSize, maxBulkSize, writeInterval, writeInterval,
+                writeInterval));
+    }
+
+    /**
+     * Create a new flow through the search persistence whose bulk size and write interval adapt to the latency of
+     * bulk writes.
+     * No logging or recovery is attempted.
+     *
+     * @param parallelism How many write operations may run in parallel for this sink.
+     * @param minBulkSize How many writes to perform in one bulk at least when the persistence is under pressure.
+     * @param maxBulkSize How many writes to perform in one bulk at most.
+     * @param minWriteInterval Least delay between bulk operation requests. MongoDB backpressure is insufficient.
+     * @param maxWriteInterval Greatest delay between bulk operation requests when the persistence is under pressure.
+     * @param targetBulkWriteLatency Bulk writes slower than this shrink bulks and increase the write interval.
+     * @return the sink.
+     */
+    public Flow<Source<AbstractWriteModel, NotUsed>, BulkWriteResult, NotUsed> start(final int parallelism,
+            final int minBulkSize,
+            final int maxBulkSize,
+            final Duration minWriteInterval,
+            final Duration maxWriteInterval,
+            final Duration targetBulkWriteLatency) {
+
+        return start(parallelism, BulkWriteController.of(minBulkSize, maxBulkSize, minWriteInterval,
+                maxWriteInterval, targetBulkWriteLatency));
+    }
+
+    private Flow<Source<AbstractWriteModel, NotUsed>, BulkWriteResult, NotUsed> start(final int parallelism,
+            final BulkWriteController controller) {
+
+        // bulk size is decided once per queue dump
         final Flow<Source<AbstractWriteModel, NotUsed>, List<WriteModel<Document>>, NotUsed> batchFlow =
                 Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.map(AbstractWriteModel::toMongo).grouped(maxBulkSize));
-
-        final Flow<List<WriteModel<Document>>, List<WriteModel<Document>>, NotUsed> throttleFlow;
-        if (Duration.ZERO.minus(writeInterval).isNegative()) {
-            throttleFlow = Flow.<List<WriteModel<Document>>>create()
-                    .delay(writeInterval, DelayOverflowStrategy.backpressure());
-        } else {
-            throttleFlow = Flow.create();
-        }
+                        .flatMapConcat(source -> source.map(AbstractWriteModel::toMongo)
+                                .grouped(controller.getBulkSize()));
+
+        final Flow<List<WriteModel<Document>>, List<WriteModel<Document>>, NotUsed> throttleFlow =
+                Flow.<List<WriteModel<Document>>>create()
+                        .flatMapConcat(bulk -> {
+                            final Duration writeInterval = controller.getWriteInterval();
+                            if (Duration.ZERO.minus(writeInterval).isNegative()) {
+                                return Source.single(bulk).initialDelay(writeInterval);
+                            } else {
+                                return Source.single(bulk);
+                            }
+                        });
 
         final Flow<List<WriteModel<Document>>, BulkWriteResult, NotUsed> writeFlow =
-                throttleFlow.flatMapMerge(parallelism, this::executeBulkWrite)
+                throttleFlow.flatMapMerge(parallelism, writeModels -> executeBulkWrite(writeModels, controller))
                         // never initiate more than "parallelism" writes against the persistence
                         .withAttributes(Attributes.inputBuffer(parallelism, parallelism));
 
@@ -112,26 +153,36 @@ final class MongoSearchUpdaterFlow {
         return Flow.fromGraph(assembleFlows(batchFlow, writeFlow, startTimerFlow, stopTimerFlow));
     }
 
-    private Source<BulkWriteResult, NotUsed> executeBulkWrite(final List<WriteModel<Document>> writeModel) {
-        return Source.fromPublisher(collection.bulkWrite(writeModel, new BulkWriteOptions().ordered(false)))
-                .recoverWithRetries(1, new PFBuilder<Throwable, Source<BulkWriteResult, NotUsed>>()
-                        .match(MongoBulkWriteException.class, bulkWriteException -> {
-                            log.info("Got MongoBulkWriteException; may ignore if all are duplicate key errors:",
-                                    bulkWriteException);
-                            return Source.single(bulkWriteException.getWriteResult());
-                        })
-                        .matchAny(error -> {
-                            log.error("Unexpected error", error);
-                            return Source.failed(error);
-                        })
-                        .build());
-
+    private Source<BulkWriteResult, NotUsed> executeBulkWrite(final List<WriteModel<Document>> writeModel,
+            final BulkWriteController controller) {
+
+        return Source.lazily(() -> {
+            final long startNanos = System.nanoTime();
+            return Source.fromPublisher(collection.bulkWrite(writeModel, new BulkWriteOptions().ordered(false)))
+                    .map(result -> {
+                        controller.onSuccess(Duration.ofNanos(System.nanoTime() - startNanos));
+                        return result;
+                    })
+                    .recoverWithRetries(1, new PFBuilder<Throwable, Source<BulkWriteResult, NotUsed>>()
+                            .match(MongoBulkWriteException.class, bulkWriteException -> {
+                                log.info("Got MongoBulkWriteException; may ignore if all are duplicate key errors:",
+                                        bulkWriteException);
+                                controller.onSuccess(Duration.ofNanos(System.nanoTime() - startNanos));
+                                return Source.single(bulkWriteException.getWriteResult());
+                            })
+                            .matchAny(error -> {
+                                log.error("Unexpected error", error);
+                                controller.onError();
+                                return Source.failed(error);
+                            })
+                            .build());
+        }).mapMaterializedValue(whatever -> NotUsed.getInstance());
     }
 
     private static Flow<List<WriteModel<Document>>, StartedTimer, NotUsed> createStartTimerFlow() {
         return Flow.fromFunction(writeModels -> {
-            Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record(writeModels.size());
-            return DittoMetrics.expiringTimer(TRACE_THING_BULK_UPDATE).tag(UPDATE_TYPE_TAG, "bulkUpdate").build();
+            BULK_UPDATES_PER_BULK.record((long) writeModels.size());
+            return DittoMetrics.expiringTimer(BULK_UPDATE_TIMER).build();
         });
     }
 
@@ -26,6 +26,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
@@ -101,8 +102,11 @@ public final class SearchUpdaterStream {
         final DeleteConfig deleteConfig = searchConfig.getDeleteConfig();
         final boolean deleteEvent = deleteConfig.isDeleteEvent();
 
+        final MaterializedFields materializedFields = MaterializedFields.of(searchConfig.getMaterializedFields(),
+                searchConfig.getBackfilledMaterializedFields());
+
         final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
+                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher, materializedFields,
                         deleteEvent);
 
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
@@ -148,10 +152,14 @@ public final class SearchUpdaterStream {
         final PersistenceStreamConfig persistenceConfig = streamConfig.getPersistenceConfig();
 
         final int parallelism = persistenceConfig.getParallelism();
+        final int minBulkSize = persistenceConfig.getMinBulkSize();
         final int maxBulkSize = persistenceConfig.getMaxBulkSize();
         final Duration writeInterval = streamConfig.getWriteInterval();
+        final Duration maxWriteInterval = persistenceConfig.getMaxWriteInterval();
+        final Duration targetBulkWriteLatency = persistenceConfig.getTargetBulkWriteLatency();
         final Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> sink =
-                mongoSearchUpdaterFlow.start(parallelism, maxBulkSize, writeInterval)
+                mongoSearchUpdaterFlow.start(parallelism, minBulkSize, maxBulkSize, writeInterval, maxWriteInterval,
+                        targetBulkWriteLatency)
                         .map(SearchUpdaterStream::logResult)
                         .log("SearchUpdaterStream/BulkWriteResult")
                         .withAttributes(Attributes.logLevels(
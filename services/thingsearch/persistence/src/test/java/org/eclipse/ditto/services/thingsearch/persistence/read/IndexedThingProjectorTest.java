@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+import org.junit.Test;
+
+/**
+ * Tests {@link IndexedThingProjector}.
+ */
+public final class IndexedThingProjectorTest {
+
+    private static final List<String> FULL_READER = Collections.singletonList("user:full");
+    private static final List<String> ATTRIBUTE_READER = Collections.singletonList("user:attributes");
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("solar.system", "policy"))
+                    .forLabel("full")
+                    .setSubject("user:full", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .forLabel("attributes")
+                    .setSubject("user:attributes", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/attributes", Permission.READ)
+                    .setRevokedPermissions(THING, "/attributes/secret", Permission.READ)
+                    .build());
+
+    private static final JsonObject THING_JSON = JsonFactory.newObject("{" +
+            "\"thingId\":\"solar.system:pluto\"," +
+            "\"policyId\":\"solar.system:policy\"," +
+            "\"_revision\":42," +
+            "\"attributes\":{" +
+            "\"public\":1," +
+            "\"secret\":\"x\"," +
+            "\"dotted.key\":{\"a\":true,\"b\":null}," +
+            "\"list\":[1,2]," +
+            "\"empty\":{}" +
+            "}," +
+            "\"features\":{\"f1\":{\"properties\":{\"p\":2.5,\"q\":123456789012}}}" +
+            "}");
+
+    @Test
+    public void projectAllRegularFieldsForFullReader() {
+        final IndexedThingProjector underTest = IndexedThingProjector.of(-1);
+
+        final JsonObject expected = THING_JSON.remove("_revision");
+
+        assertThat(underTest.project(toIndexDocument(-1), FULL_READER, null)).contains(expected);
+    }
+
+    @Test
+    public void projectOnlyReadableFields() {
+        final IndexedThingProjector underTest = IndexedThingProjector.of(-1);
+
+        final JsonObject expected = JsonFactory.newObject("{\"attributes\":{" +
+                "\"public\":1," +
+                "\"dotted.key\":{\"a\":true,\"b\":null}," +
+                "\"list\":[1,2]," +
+                "\"empty\":{}" +
+                "}}");
+
+        assertThat(underTest.project(toIndexDocument(-1), ATTRIBUTE_READER, null)).contains(expected);
+    }
+
+    @Test
+    public void projectSelectedFields() {
+        final IndexedThingProjector underTest = IndexedThingProjector.of(-1);
+        final JsonFieldSelector selectedFields =
+                JsonFactory.newFieldSelector("thingId,attributes/public,attributes/secret,features/f1/properties/p",
+                        JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+
+        assertThat(underTest.project(toIndexDocument(-1), FULL_READER, selectedFields))
+                .contains(JsonFactory.newObject("{\"thingId\":\"solar.system:pluto\"," +
+                        "\"attributes\":{\"public\":1,\"secret\":\"x\"}," +
+                        "\"features\":{\"f1\":{\"properties\":{\"p\":2.5}}}}"));
+        assertThat(underTest.project(toIndexDocument(-1), ATTRIBUTE_READER, selectedFields))
+                .contains(JsonFactory.newObject("{\"attributes\":{\"public\":1}}"));
+    }
+
+    @Test
+    public void doNotProjectSpecialFields() {
+        final IndexedThingProjector underTest = IndexedThingProjector.of(-1);
+        final JsonFieldSelector selectedFields = JsonFactory.newFieldSelector("thingId,_revision",
+                JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+
+        assertThat(underTest.project(toIndexDocument(-1), FULL_READER, selectedFields)).isEmpty();
+    }
+
+    @Test
+    public void doNotProjectPossiblyTruncatedArrays() {
+        final IndexedThingProjector underTest = IndexedThingProjector.of(0);
+        final JsonFieldSelector arrayIndependentFields = JsonFactory.newFieldSelector("thingId,attributes/public",
+                JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+
+        assertThat(underTest.project(toIndexDocument(0), FULL_READER, null)).isEmpty();
+        assertThat(underTest.project(toIndexDocument(0), FULL_READER, arrayIndependentFields))
+                .contains(JsonFactory.newObject("{\"thingId\":\"solar.system:pluto\",\"attributes\":{\"public\":1}}"));
+    }
+
+    @Test
+    public void projectNothingForUnknownSubject() {
+        final IndexedThingProjector underTest = IndexedThingProjector.of(-1);
+
+        assertThat(underTest.project(toIndexDocument(-1), Collections.singletonList("user:unknown"), null))
+                .contains(JsonObject.empty());
+    }
+
+    private static BsonDocument toIndexDocument(final int maxArraySize) {
+        return BsonUtil.toBsonDocument(
+                EnforcedThingMapper.toWriteModel(THING_JSON, ENFORCER, 1L, maxArraySize).getThingDocument());
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.model.query.SortDirection;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link QueryPlanCache}.
+ */
+public final class QueryPlanCacheTest {
+
+    private static final CriteriaFactory CF = new CriteriaFactoryImpl();
+    private static final ThingsFieldExpressionFactory EF = new ThingsFieldExpressionFactoryImpl();
+    private static final List<SortOption> SORT_OPTIONS =
+            Collections.singletonList(new SortOption(EF.sortByThingId(), SortDirection.ASC));
+
+    private static final CacheConfig CACHE_CONFIG =
+            DefaultCacheConfig.of(ConfigFactory.parseString("query-plan-cache.maximum-size = 10"), "query-plan-cache");
+
+    private final QueryPlanCache underTest = QueryPlanCache.of(CACHE_CONFIG);
+
+    @Test
+    public void planIsReusedForEqualQueriesAndSubjectSets() {
+        final QueryPlanCache.QueryPlan plan =
+                underTest.getQueryPlan(query(attributeEquals("x", 1)), Arrays.asList("a", "b"));
+        final QueryPlanCache.QueryPlan samePlan =
+                underTest.getQueryPlan(query(attributeEquals("x", 1)), Arrays.asList("b", "a"));
+        final QueryPlanCache.QueryPlan otherPlan =
+                underTest.getQueryPlan(query(attributeEquals("x", 1)), Collections.singletonList("a"));
+
+        assertThat(samePlan).isSameAs(plan);
+        assertThat(otherPlan).isNotSameAs(plan);
+    }
+
+    @Test
+    public void queriesDifferingInValuesOrSubjectsHaveTheSameShape() {
+        final QueryPlanCache.QueryPlan plan =
+                underTest.getQueryPlan(query(attributeEquals("x", 1)), Collections.singletonList("a"));
+        final QueryPlanCache.QueryPlan planWithOtherValues =
+                underTest.getQueryPlan(query(attributeEquals("x", "foo")), Arrays.asList("b", "c"));
+        final QueryPlanCache.QueryPlan planWithOtherField =
+                underTest.getQueryPlan(query(attributeEquals("y", 1)), Collections.singletonList("a"));
+
+        assertThat(planWithOtherValues.getFilter()).isNotEqualTo(plan.getFilter());
+        assertThat(planWithOtherValues.getShape()).isEqualTo(plan.getShape());
+        assertThat(planWithOtherField.getShape()).isNotEqualTo(plan.getShape());
+        assertThat(plan.getShape()).doesNotContain("\"a\"");
+    }
+
+    @Test
+    public void materializedFieldsAreQueriedInsteadOfKeyValueArray() {
+        final QueryPlanCache cacheWithMaterializedFields =
+                QueryPlanCache.of(CACHE_CONFIG, MaterializedFields.of(Collections.singletonList("attributes/x")));
+
+        final QueryPlanCache.QueryPlan plan =
+                cacheWithMaterializedFields.getQueryPlan(query(attributeEquals("x", 1)), null);
+        final QueryPlanCache.QueryPlan planOfOtherField =
+                cacheWithMaterializedFields.getQueryPlan(query(attributeEquals("y", 1)), null);
+
+        assertThat(plan.getFilter()).isEqualTo(BsonDocument.parse("{\"m.attributes~x\":{\"$elemMatch\":{\"v\":1}}}"));
+        assertThat(planOfOtherField.getFilter())
+                .isEqualTo(BsonDocument.parse("{\"d\":{\"$elemMatch\":{\"k\":\"/attributes/y\",\"v\":1}}}"));
+    }
+
+    @Test
+    public void materializedFieldsAreNotQueriedBeforeTheirBackfillIsComplete() {
+        final QueryPlanCache cacheWithMaterializedFields = QueryPlanCache.of(CACHE_CONFIG,
+                MaterializedFields.of(Arrays.asList("attributes/x", "attributes/y"),
+                        Collections.singletonList("attributes/x")));
+
+        final QueryPlanCache.QueryPlan plan =
+                cacheWithMaterializedFields.getQueryPlan(query(attributeEquals("x", 1)), null);
+        final QueryPlanCache.QueryPlan planOfFieldWithoutBackfill =
+                cacheWithMaterializedFields.getQueryPlan(query(attributeEquals("y", 1)), null);
+
+        assertThat(plan.getFilter()).isEqualTo(BsonDocument.parse("{\"m.attributes~x\":{\"$elemMatch\":{\"v\":1}}}"));
+        assertThat(planOfFieldWithoutBackfill.getFilter())
+                .isEqualTo(BsonDocument.parse("{\"d\":{\"$elemMatch\":{\"k\":\"/attributes/y\",\"v\":1}}}"));
+    }
+
+    private static Criteria attributeEquals(final String attribute, final Object value) {
+        return CF.fieldCriteria(EF.filterByAttribute(attribute), CF.eq(value));
+    }
+
+    private static MongoQuery query(final Criteria criteria) {
+        return new MongoQuery(criteria, SORT_OPTIONS, 25, 0);
+    }
+
+}
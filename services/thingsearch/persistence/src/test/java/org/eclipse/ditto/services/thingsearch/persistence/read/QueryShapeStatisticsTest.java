@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Tests {@link QueryShapeStatistics}.
+ */
+public final class QueryShapeStatisticsTest {
+
+    @Test
+    public void returnsSlowestShapesFirst() {
+        final QueryShapeStatistics underTest = QueryShapeStatistics.of(10);
+        underTest.record("fast", Duration.ofMillis(1), 5);
+        underTest.record("slow", Duration.ofMillis(100), 2);
+        underTest.record("slow", Duration.ofMillis(300), 4);
+        underTest.record("medium", Duration.ofMillis(50), 0);
+
+        final JsonArray slowest = underTest.getSlowest(2);
+
+        assertThat(slowest).containsExactly(
+                JsonObject.newBuilder()
+                        .set("shape", "slow")
+                        .set("count", 2L)
+                        .set("meanMillis", 200L)
+                        .set("maxMillis", 300L)
+                        .set("totalMillis", 400L)
+                        .set("meanDocuments", 3L)
+                        .build(),
+                JsonObject.newBuilder()
+                        .set("shape", "medium")
+                        .set("count", 1L)
+                        .set("meanMillis", 50L)
+                        .set("maxMillis", 50L)
+                        .set("totalMillis", 50L)
+                        .set("meanDocuments", 0L)
+                        .build());
+    }
+
+    @Test
+    public void doesNotRecordMoreThanMaximumShapes() {
+        final QueryShapeStatistics underTest = QueryShapeStatistics.of(1);
+        underTest.record("first", Duration.ofMillis(1), 1);
+        underTest.record("second", Duration.ofMillis(100), 1);
+        underTest.record("first", Duration.ofMillis(3), 1);
+
+        final JsonArray slowest = underTest.getSlowest(10);
+
+        assertThat(slowest).hasSize(1);
+        assertThat(slowest.get(0)).contains(JsonObject.newBuilder()
+                .set("shape", "first")
+                .set("count", 2L)
+                .set("meanMillis", 2L)
+                .set("maxMillis", 3L)
+                .set("totalMillis", 4L)
+                .set("meanDocuments", 1L)
+                .build());
+    }
+
+}
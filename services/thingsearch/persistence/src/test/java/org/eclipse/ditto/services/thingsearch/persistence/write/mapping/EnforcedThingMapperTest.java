@@ -15,6 +15,9 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.mapping;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.bson.Document;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
@@ -24,6 +27,8 @@ import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.SubjectType;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
+import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.junit.Test;
 
 public final class EnforcedThingMapperTest {
@@ -104,4 +109,61 @@ public final class EnforcedThingMapperTest {
 
         assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(expectedJson);
     }
+
+    @Test
+    public void materializedFieldsContainFlattenedValuesOfTheirKeys() {
+        final JsonObject thing = JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"_revision\": 1,\n" +
+                "  \"features\": { \"status\": { \"properties\": { \"state\": \"on\" } } },\n" +
+                "  \"attributes\": { \"location\": { \"site\": [\"a\", \"b\"] }, \"other\": 1 }\n" +
+                "}");
+
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                        .forLabel("grant-root")
+                        .setSubject("g:0", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ)
+                        .forLabel("revoke-site")
+                        .setSubject("g:1", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ)
+                        .setRevokedPermissions(THING, "/attributes/location", Permission.READ)
+                        .build());
+
+        final MaterializedFields materializedFields = MaterializedFields.of(Arrays.asList(
+                "attributes/location/site", "/features/*/properties/state", "attributes/unknown"));
+
+        final JsonObject expectedJson = JsonFactory.newObject("{\n" +
+                "  \"attributes~location~site\": [\n" +
+                "    { \"v\": \"a\", \"g\": [ \"g:0\" ], \"r\": [ \"g:1\" ] },\n" +
+                "    { \"v\": \"b\", \"g\": [ \"g:0\" ], \"r\": [ \"g:1\" ] }\n" +
+                "  ],\n" +
+                "  \"features~*~properties~state\": [\n" +
+                "    { \"v\": \"on\", \"g\": [ \"g:0\", \"g:1\" ], \"r\": [] }\n" +
+                "  ]\n" +
+                "}");
+
+        final Document result =
+                EnforcedThingMapper.toWriteModel(thing, enforcer, 1L, -1, materializedFields).getThingDocument();
+
+        assertThat(JsonFactory.newObject(result.get(PersistenceConstants.FIELD_MATERIALIZED, Document.class).toJson()))
+                .isEqualTo(expectedJson);
+    }
+
+    @Test
+    public void noMaterializedFieldsAreWrittenIfNoneIsConfigured() {
+        final JsonObject thing = JsonFactory.newObject("{\"thingId\":\"hello:world\",\"_revision\":1," +
+                "\"attributes\":{\"location\":{\"site\":\"a\"}}}");
+        final Enforcer enforcer = PolicyEnforcers.defaultEvaluator(
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                        .forLabel("grant-root")
+                        .setSubject("g:0", SubjectType.GENERATED)
+                        .setGrantedPermissions(THING, "/", Permission.READ)
+                        .build());
+
+        final Document result = EnforcedThingMapper.toWriteModel(thing, enforcer, 1L, -1,
+                MaterializedFields.of(Collections.singletonList("attributes/unknown"))).getThingDocument();
+
+        assertThat(result).doesNotContainKey(PersistenceConstants.FIELD_MATERIALIZED);
+    }
 }
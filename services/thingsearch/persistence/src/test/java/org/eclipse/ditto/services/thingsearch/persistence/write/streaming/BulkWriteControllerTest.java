@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link BulkWriteController}.
+ */
+public final class BulkWriteControllerTest {
+
+    private static final Duration MIN_INTERVAL = Duration.ofMillis(100L);
+    private static final Duration MAX_INTERVAL = Duration.ofSeconds(10L);
+    private static final Duration TARGET_LATENCY = Duration.ofSeconds(1L);
+
+    @Test
+    public void startsWithMaxBulkSizeAndMinInterval() {
+        final BulkWriteController underTest = createController();
+
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+        assertThat(underTest.getWriteInterval()).isEqualTo(MIN_INTERVAL);
+    }
+
+    @Test
+    public void slowWritesHalveBulkSizeAndDoubleInterval() {
+        final BulkWriteController underTest = createController();
+
+        underTest.onSuccess(TARGET_LATENCY.multipliedBy(2L));
+        assertThat(underTest.getBulkSize()).isEqualTo(50);
+        assertThat(underTest.getWriteInterval()).isEqualTo(MIN_INTERVAL.multipliedBy(2L));
+
+        underTest.onError();
+        assertThat(underTest.getBulkSize()).isEqualTo(25);
+        assertThat(underTest.getWriteInterval()).isEqualTo(MIN_INTERVAL.multipliedBy(4L));
+    }
+
+    @Test
+    public void staysWithinBoundsUnderPressure() {
+        final BulkWriteController underTest = createController();
+
+        for (int i = 0; i < 20; ++i) {
+            underTest.onError();
+        }
+
+        assertThat(underTest.getBulkSize()).isEqualTo(10);
+        assertThat(underTest.getWriteInterval()).isEqualTo(MAX_INTERVAL);
+    }
+
+    @Test
+    public void recoversOnFastWrites() {
+        final BulkWriteController underTest = createController();
+        for (int i = 0; i < 20; ++i) {
+            underTest.onError();
+        }
+
+        underTest.onSuccess(Duration.ofMillis(10L));
+        assertThat(underTest.getBulkSize()).isEqualTo(20);
+        assertThat(underTest.getWriteInterval()).isEqualTo(MAX_INTERVAL.dividedBy(2L));
+
+        for (int i = 0; i < 20; ++i) {
+            underTest.onSuccess(Duration.ofMillis(10L));
+        }
+        assertThat(underTest.getBulkSize()).isEqualTo(100);
+        assertThat(underTest.getWriteInterval()).isEqualTo(MIN_INTERVAL);
+    }
+
+    @Test
+    public void fixedSettingsDoNotAdapt() {
+        final BulkWriteController underTest =
+                BulkWriteController.of(1, 1, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+        underTest.onError();
+        assertThat(underTest.getBulkSize()).isEqualTo(1);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ZERO);
+
+        underTest.onSuccess(Duration.ZERO);
+        assertThat(underTest.getBulkSize()).isEqualTo(1);
+        assertThat(underTest.getWriteInterval()).isEqualTo(Duration.ZERO);
+    }
+
+    private static BulkWriteController createController() {
+        return BulkWriteController.of(10, 100, MIN_INTERVAL, MAX_INTERVAL, TARGET_LATENCY);
+    }
+
+}
@@ -12,15 +12,22 @@
  */
 package org.eclipse.ditto.services.thingsearch.starter.actors;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -34,10 +41,15 @@ import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveQueryShapeStatistics;
+import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveQueryShapeStatisticsResponse;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -48,6 +60,8 @@ import org.eclipse.ditto.signals.commands.thingsearch.query.CountThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
 import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -60,6 +74,7 @@ import akka.stream.ActorMaterializer;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import scala.PartialFunction;
 
 /**
  * Actor handling all supported {@link ThingSearchCommand}s. Currently those are {@link CountThings} and {@link
@@ -74,6 +89,21 @@ import akka.stream.javadsl.Source;
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
  * things have to be retrieved from Things Service via distributed pub/sub.
+ * <p>
+ * If index projection is enabled, the ThingsSearchPersistence reconstructs the things of API version 2 queries from
+ * the search index instead. Only the things it cannot reconstruct are returned as IDs and retrieved from the Things
+ * Service.
+ * <p>
+ * If the count cache is enabled, counts are cached per parsed query and authorization subjects for a short time.
+ * Counts with header {@value CountThings#COUNT_MODE} set to {@value CountThings#COUNT_MODE_ESTIMATED} stop at the
+ * configured estimated count limit and report in header {@value CountThingsResponse#COUNT_EXACT} whether the limit
+ * was reached.
+ * <p>
+ * If the result cache is enabled, search results are cached per parsed query including its cursor, namespaces,
+ * selected fields and authorization subjects for at most the write interval of the search updater.
+ * <p>
+ * {@link SudoRetrieveQueryShapeStatistics} returns the query shapes with the highest mean duration recorded by the
+ * ThingsSearchPersistence.
  */
 public final class SearchActor extends AbstractActor {
 
@@ -89,21 +119,52 @@ public final class SearchActor extends AbstractActor {
     private static final String DATABASE_ACCESS_SEGMENT_NAME = "database_access";
     private static final String QUERY_TYPE_TAG = "query_type";
     private static final String API_VERSION_TAG = "api_version";
+    private static final String COUNT_CACHE_NAME = "things_search_count_cache";
+    private static final String RESULT_CACHE_NAME = "things_search_result_cache";
+
+    // failed cache loads complete the futures of the cache exceptionally with a CompletionException
+    private static final PartialFunction<Throwable, Throwable> UNWRAP_COMPLETION_EXCEPTION =
+            new PFBuilder<Throwable, Throwable>()
+                    .match(CompletionException.class, error -> null != error.getCause(), Throwable::getCause)
+                    .build();
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final QueryParser queryParser;
     private final ThingsSearchPersistence searchPersistence;
+    private final boolean indexProjectionEnabled;
+    private final int estimatedCountLimit;
     private final ActorMaterializer materializer;
+    @Nullable private final Cache<CountCacheKey, Long> countCache;
+    @Nullable private final Cache<ResultCacheKey, FoundThings> resultCache;
 
     @SuppressWarnings("unused")
     private SearchActor(
             final QueryParser queryParser,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final QueryConfig queryConfig) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
+        indexProjectionEnabled = queryConfig.isIndexProjectionEnabled();
+        estimatedCountLimit = queryConfig.getEstimatedCountLimit();
         materializer = ActorMaterializer.create(getContext());
+        if (queryConfig.isCountCacheEnabled()) {
+            final AsyncCacheLoader<CountCacheKey, Long> countLoader = (key, executor) ->
+                    countInPersistence(key).runWith(Sink.head(), materializer).toCompletableFuture();
+            countCache = CacheFactory.createCache(countLoader, queryConfig.getCountCacheConfig(), COUNT_CACHE_NAME,
+                    getContext().getDispatcher());
+        } else {
+            countCache = null;
+        }
+        if (queryConfig.isResultCacheEnabled()) {
+            final AsyncCacheLoader<ResultCacheKey, FoundThings> resultLoader = (key, executor) ->
+                    findInPersistence(key).runWith(Sink.head(), materializer).toCompletableFuture();
+            resultCache = CacheFactory.createCache(resultLoader, queryConfig.getResultCacheConfig(),
+                    RESULT_CACHE_NAME, getContext().getDispatcher());
+        } else {
+            resultCache = null;
+        }
     }
 
     /**
@@ -111,13 +172,15 @@ public final class SearchActor extends AbstractActor {
      *
      * @param queryFactory factory of query objects.
      * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param queryConfig the configuration settings for answering queries.
      * @return the Akka configuration Props object.
      */
     static Props props(
             final QueryParser queryFactory,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final QueryConfig queryConfig) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence)
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, queryConfig)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
@@ -128,6 +191,7 @@ public final class SearchActor extends AbstractActor {
                 .match(SudoCountThings.class, this::sudoCount)
                 .match(QueryThings.class, this::query)
                 .match(SudoRetrieveNamespaceReport.class, this::namespaceReport)
+                .match(SudoRetrieveQueryShapeStatistics.class, this::queryShapeStatistics)
                 .matchAny(any -> log.warning("Got unknown message '{}'", any))
                 .build();
     }
@@ -142,17 +206,33 @@ public final class SearchActor extends AbstractActor {
                 .to(getSender());
     }
 
+    private void queryShapeStatistics(final SudoRetrieveQueryShapeStatistics command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        LogUtil.enhanceLogWithCorrelationId(log, dittoHeaders.getCorrelationId());
+        log.info("Processing SudoRetrieveQueryShapeStatistics command: {}", command);
+
+        getSender().tell(SudoRetrieveQueryShapeStatisticsResponse.of(
+                searchPersistence.getSlowestQueryShapes(command.getLimit()), dittoHeaders), getSelf());
+    }
+
     private void count(final CountThings countThings) {
-        executeCount(countThings, queryParser::parse, false);
+        if (isEstimatedCount(countThings)) {
+            // count one more than the limit to tell whether the limit was reached
+            executeCount(countThings, command -> queryParser.parseLimitedCount(command, estimatedCountLimit + 1),
+                    false, true);
+        } else {
+            executeCount(countThings, queryParser::parse, false, false);
+        }
     }
 
     private void sudoCount(final SudoCountThings sudoCountThings) {
-        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true);
+        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true, false);
     }
 
     private <T extends Command> void executeCount(final T countCommand,
             final Function<T, Query> queryParseFunction,
-            final boolean isSudo) {
+            final boolean isSudo,
+            final boolean isEstimated) {
         final DittoHeaders dittoHeaders = countCommand.getDittoHeaders();
         final Optional<String> correlationIdOpt = dittoHeaders.getCorrelationId();
         LogUtil.enhanceLogWithCorrelationId(log, correlationIdOpt);
@@ -174,17 +254,16 @@ public final class SearchActor extends AbstractActor {
                     final StartedTimer databaseAccessTimer =
                             countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
-                    final Source<Long, NotUsed> countResultSource = isSudo
-                            ? searchPersistence.sudoCount(query)
-                            : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationSubjects());
+                    final CountCacheKey countCacheKey =
+                            new CountCacheKey(query, isSudo ? null : dittoHeaders.getAuthorizationSubjects());
+                    final Source<Long, NotUsed> countResultSource = count(countCacheKey);
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
                                 stopTimer(databaseAccessTimer);
                                 return result;
                             }))
-                            .map(count -> CountThingsResponse.of(count, dittoHeaders));
+                            .map(count -> toCountThingsResponse(count, isEstimated, dittoHeaders));
                 })
                 .<Object>map(result -> {
                     stopTimer(countTimer);
@@ -200,6 +279,42 @@ public final class SearchActor extends AbstractActor {
         Patterns.pipe(replySource.runWith(Sink.head(), materializer), getContext().dispatcher()).to(sender);
     }
 
+    private Source<Long, NotUsed> count(final CountCacheKey countCacheKey) {
+        if (null == countCache) {
+            return countInPersistence(countCacheKey);
+        }
+        // failed counts are not cached, hence the loaded count is always present
+        return Source.fromCompletionStage(countCache.get(countCacheKey))
+                .mapError(UNWRAP_COMPLETION_EXCEPTION)
+                .map(Optional::get);
+    }
+
+    private Source<Long, NotUsed> countInPersistence(final CountCacheKey countCacheKey) {
+        final List<String> subjectIds = countCacheKey.subjectIds;
+        return null == subjectIds
+                ? searchPersistence.sudoCount(countCacheKey.query)
+                : searchPersistence.count(countCacheKey.query, subjectIds);
+    }
+
+    private CountThingsResponse toCountThingsResponse(final long count, final boolean isEstimated,
+            final DittoHeaders dittoHeaders) {
+
+        if (isEstimated) {
+            final boolean exact = count <= estimatedCountLimit;
+            final DittoHeaders responseHeaders = dittoHeaders.toBuilder()
+                    .putHeader(CountThingsResponse.COUNT_EXACT, String.valueOf(exact))
+                    .build();
+            return CountThingsResponse.of(Math.min(count, estimatedCountLimit), responseHeaders);
+        }
+        return CountThingsResponse.of(count, dittoHeaders);
+    }
+
+    private static boolean isEstimatedCount(final CountThings countThings) {
+        return countThings.getDittoHeaders()
+                .getOrDefault(CountThings.COUNT_MODE, "")
+                .equalsIgnoreCase(CountThings.COUNT_MODE_ESTIMATED);
+    }
+
     private void query(final QueryThings queryThings) {
         LogUtil.enhanceLogWithCorrelationId(log, queryThings);
         log.debug("Starting to process QueryThings command: {}", queryThings);
@@ -232,14 +347,17 @@ public final class SearchActor extends AbstractActor {
                                 searchTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationSubjects();
-                        final Source<ResultList<ThingId>, NotUsed> findAllResult =
-                                searchPersistence.findAll(query, subjectIds, namespaces);
-                        return processSearchPersistenceResult(findAllResult, dittoHeaders)
+                        final ResultCacheKey resultCacheKey = isIndexProjectionApplicable(command)
+                                ? new ResultCacheKey(query, subjectIds, namespaces, true,
+                                        command.getFields().orElse(null))
+                                : new ResultCacheKey(query, subjectIds, namespaces, false, null);
+                        return processSearchPersistenceResult(find(resultCacheKey), dittoHeaders)
                                 .via(Flow.fromFunction(result -> {
                                     stopTimer(databaseAccessTimer);
                                     return result;
                                 }))
-                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
+                                .map(foundThings -> toQueryThingsResponse(command, cursor.orElse(null),
+                                        foundThings.resultList, foundThings.items));
                     })
                     .map(result -> {
                         stopTimer(searchTimer);
@@ -259,6 +377,26 @@ public final class SearchActor extends AbstractActor {
                 .to(sender);
     }
 
+    private Source<FoundThings, NotUsed> find(final ResultCacheKey resultCacheKey) {
+        if (null == resultCache) {
+            return findInPersistence(resultCacheKey);
+        }
+        // failed searches are not cached, hence the loaded result is always present
+        return Source.fromCompletionStage(resultCache.get(resultCacheKey))
+                .mapError(UNWRAP_COMPLETION_EXCEPTION)
+                .map(Optional::get);
+    }
+
+    private Source<FoundThings, NotUsed> findInPersistence(final ResultCacheKey resultCacheKey) {
+        if (resultCacheKey.projected) {
+            return searchPersistence.findAllProjected(resultCacheKey.query, resultCacheKey.subjectIds,
+                    resultCacheKey.namespaces, resultCacheKey.fields)
+                    .map(things -> new FoundThings(things, toItems(things)));
+        }
+        return searchPersistence.findAll(resultCacheKey.query, resultCacheKey.subjectIds, resultCacheKey.namespaces)
+                .map(thingIds -> new FoundThings(thingIds, toIdItems(thingIds)));
+    }
+
     private <T> Source<T, NotUsed> processSearchPersistenceResult(Source<T, NotUsed> source,
             final DittoHeaders dittoHeaders) {
 
@@ -285,37 +423,51 @@ public final class SearchActor extends AbstractActor {
         }
     }
 
+    private boolean isIndexProjectionApplicable(final QueryThings queryThings) {
+        // API version 1 things are subject to ACLs which the search index does not reflect for projection
+        return indexProjectionEnabled && JsonSchemaVersion.V_2 == queryThings.getImplementedSchemaVersion();
+    }
+
     private QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
             @Nullable ThingsSearchCursor cursor,
-            final ResultList<ThingId> thingIds) {
+            final ResultList<?> resultList,
+            final JsonArray items) {
 
         final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
         final Optional<String> correlationIdOpt = dittoHeaders.getCorrelationId();
         LogUtil.enhanceLogWithCorrelationId(log, correlationIdOpt);
-        if (thingIds.isEmpty()) {
+        if (resultList.isEmpty()) {
             return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
         } else {
-            // only respond with the determined "thingIds", the lookup of the things is done in gateway:
-            final JsonArray items = thingIds.stream()
-                    .map(JsonValue::of)
-                    .map(jsonStr -> JsonObject.newBuilder()
-                            .set(Thing.JsonFields.ID.getPointer(), jsonStr)
-                            .build()
-                    )
-                    .collect(JsonCollectors.valuesToArray());
-            final SearchResult searchResults = SearchModelFactory.newSearchResult(items, thingIds.nextPageOffset());
+            final SearchResult searchResults = SearchModelFactory.newSearchResult(items, resultList.nextPageOffset());
             final SearchResult processedResults =
-                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds);
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, resultList);
 
             return QueryThingsResponse.of(processedResults, dittoHeaders);
         }
     }
 
+    private static JsonArray toIdItems(final ResultList<ThingId> thingIds) {
+        // only respond with the determined "thingIds", the lookup of the things is done in gateway:
+        return thingIds.stream()
+                .map(JsonValue::of)
+                .map(jsonStr -> JsonObject.newBuilder()
+                        .set(Thing.JsonFields.ID.getPointer(), jsonStr)
+                        .build()
+                )
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    private static JsonArray toItems(final ResultList<JsonObject> things) {
+        // things which could not be projected only contain their "thingId" and are looked up in gateway:
+        return things.stream().collect(JsonCollectors.valuesToArray());
+    }
+
     private static StartedTimer startNewTimer(final JsonSchemaVersion version, final String queryType) {
-        return DittoMetrics.expiringTimer(TRACING_THINGS_SEARCH)
-                .tag(QUERY_TYPE_TAG, queryType)
-                .tag(API_VERSION_TAG, version.toString())
-                .build();
+        final Map<String, String> tags = new HashMap<>();
+        tags.put(QUERY_TYPE_TAG, queryType);
+        tags.put(API_VERSION_TAG, version.toString());
+        return DittoMetrics.expiringTimer(DittoMetrics.boundTimer(TRACING_THINGS_SEARCH, tags)).build();
     }
 
     private static <T> Source<Query, NotUsed> createQuerySource(final Function<T, Query> parser,
@@ -336,4 +488,132 @@ public final class SearchActor extends AbstractActor {
         }
     }
 
+    /**
+     * Key of the count cache: the parsed query together with the sorted authorization subjects of the requester,
+     * or {@code null} subjects for counts regardless of visibility.
+     */
+    private static final class CountCacheKey {
+
+        private final Query query;
+        @Nullable private final List<String> subjectIds;
+
+        private CountCacheKey(final Query query, @Nullable final List<String> subjectIds) {
+            this.query = query;
+            if (null == subjectIds) {
+                this.subjectIds = null;
+            } else {
+                final List<String> sortedSubjectIds = new ArrayList<>(subjectIds);
+                Collections.sort(sortedSubjectIds);
+                this.subjectIds = sortedSubjectIds;
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CountCacheKey that = (CountCacheKey) o;
+            return query.equals(that.query) && Objects.equals(subjectIds, that.subjectIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, subjectIds);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "query=" + query +
+                    ", subjectIds=" + subjectIds +
+                    "]";
+        }
+
+    }
+
+    /**
+     * Key of the result cache: the parsed query including its cursor together with the sorted authorization subjects
+     * of the requester, the searched namespaces and, for results projected from the search index, the selected fields.
+     */
+    private static final class ResultCacheKey {
+
+        private final Query query;
+        private final List<String> subjectIds;
+        @Nullable private final Set<String> namespaces;
+        private final boolean projected;
+        @Nullable private final JsonFieldSelector fields;
+
+        private ResultCacheKey(final Query query, final List<String> subjectIds, @Nullable final Set<String> namespaces,
+                final boolean projected, @Nullable final JsonFieldSelector fields) {
+
+            this.query = query;
+            final List<String> sortedSubjectIds = new ArrayList<>(subjectIds);
+            Collections.sort(sortedSubjectIds);
+            this.subjectIds = sortedSubjectIds;
+            this.namespaces = namespaces;
+            this.projected = projected;
+            this.fields = fields;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ResultCacheKey that = (ResultCacheKey) o;
+            return projected == that.projected &&
+                    query.equals(that.query) &&
+                    subjectIds.equals(that.subjectIds) &&
+                    Objects.equals(namespaces, that.namespaces) &&
+                    Objects.equals(fields, that.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(query, subjectIds, namespaces, projected, fields);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "query=" + query +
+                    ", subjectIds=" + subjectIds +
+                    ", namespaces=" + namespaces +
+                    ", projected=" + projected +
+                    ", fields=" + fields +
+                    "]";
+        }
+
+    }
+
+    /**
+     * Result of the search persistence together with the items of the search result.
+     */
+    private static final class FoundThings {
+
+        private final ResultList<?> resultList;
+        private final JsonArray items;
+
+        private FoundThings(final ResultList<?> resultList, final JsonArray items) {
+            this.resultList = resultList;
+            this.items = items;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "resultList=" + resultList +
+                    ", items=" + items +
+                    "]";
+        }
+
+    }
+
 }
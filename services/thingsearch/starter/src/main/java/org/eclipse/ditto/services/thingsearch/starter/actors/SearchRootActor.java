@@ -37,7 +37,9 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.MaterializedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
@@ -102,7 +104,8 @@ public final class SearchRootActor extends DittoRootActor {
                 .build();
 
         final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence,
+                searchConfig.getQueryConfig());
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final TimestampPersistence thingsSyncPersistence =
@@ -142,7 +145,11 @@ public final class SearchRootActor extends DittoRootActor {
 
         final ActorContext context = getContext();
         final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem())
+                        .withMaxArraySize(searchConfig.getStreamConfig().getMaxArraySize())
+                        .withMaterializedFields(MaterializedFields.of(searchConfig.getMaterializedFields(),
+                                searchConfig.getBackfilledMaterializedFields()))
+                        .withQueryConfig(searchConfig.getQueryConfig());
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -160,18 +167,21 @@ public final class SearchRootActor extends DittoRootActor {
     }
 
     private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
-            final ThingsSearchPersistence thingsSearchPersistence) {
+            final ThingsSearchPersistence thingsSearchPersistence,
+            final QueryConfig queryConfig) {
 
-        final QueryParser queryParser = getQueryParser(limitsConfig);
+        final QueryParser queryParser = getQueryParser(limitsConfig, queryConfig);
 
-        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
+        return startChildActor(SearchActor.ACTOR_NAME,
+                SearchActor.props(queryParser, thingsSearchPersistence, queryConfig));
     }
 
-    static QueryParser getQueryParser(final LimitsConfig limitsConfig) {
+    static QueryParser getQueryParser(final LimitsConfig limitsConfig, final QueryConfig queryConfig) {
         final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
         final ThingsFieldExpressionFactory fieldExpressionFactory = getThingsFieldExpressionFactory();
         final QueryBuilderFactory queryBuilderFactory = new MongoQueryBuilderFactory(limitsConfig);
-        return QueryParser.of(criteriaFactory, fieldExpressionFactory, queryBuilderFactory);
+        return QueryParser.of(criteriaFactory, fieldExpressionFactory, queryBuilderFactory,
+                queryConfig.getCriteriaCacheConfig());
     }
 
     private ActorRef initializeHealthCheckActor(final SearchConfig searchConfig,
@@ -17,6 +17,9 @@ import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -25,23 +28,36 @@ import org.bson.Document;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
+import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.Permission;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultQueryConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.QueryConfig;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
+import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.TestSearchUpdaterStream;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayQueryTimeExceededException;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 import org.junit.After;
@@ -53,10 +69,12 @@ import org.junit.Test;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.typesafe.config.ConfigFactory;
 
+import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.stream.ActorMaterializer;
 import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 import akka.testkit.javadsl.TestKit;
 
 /**
@@ -66,6 +84,7 @@ public final class SearchActorIT {
 
     private static final AuthorizationContext AUTH_CONTEXT =
             AuthorizationContext.newInstance(AuthorizationSubject.newInstance("ditto:ditto"));
+    private static final QueryConfig QUERY_CONFIG = DefaultQueryConfig.of(ConfigFactory.empty());
 
     private static QueryParser queryParser;
     private static MongoDbResource mongoResource;
@@ -80,7 +99,7 @@ public final class SearchActorIT {
 
     @BeforeClass
     public static void startMongoResource() {
-        queryParser = SearchRootActor.getQueryParser(DefaultLimitsConfig.of(ConfigFactory.empty()));
+        queryParser = SearchRootActor.getQueryParser(DefaultLimitsConfig.of(ConfigFactory.empty()), QUERY_CONFIG);
         mongoResource = new MongoDbResource("localhost");
         mongoResource.start();
         mongoClient = provideClientWrapper();
@@ -146,7 +165,8 @@ public final class SearchActorIT {
     @Test
     public void testSearch() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, QUERY_CONFIG));
 
             insertTestThings();
 
@@ -161,7 +181,8 @@ public final class SearchActorIT {
     @Test
     public void testCursorSearch() {
         new TestKit(actorSystem) {{
-            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(queryParser, readPersistence));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, QUERY_CONFIG));
             final Supplier<AssertionError> noCursor =
                     () -> new AssertionError("No cursor where a cursor is expected");
 
@@ -191,6 +212,117 @@ public final class SearchActorIT {
         }};
     }
 
+    @Test
+    public void testEstimatedCount() {
+        new TestKit(actorSystem) {{
+            final QueryConfig queryConfig = DefaultQueryConfig.of(ConfigFactory.parseString(
+                    "query { count-cache-enabled = true, estimated-count-limit = 3 }"));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, queryConfig));
+
+            insertTestThings();
+
+            underTest.tell(countThings(CountThings.COUNT_MODE_ESTIMATED), getRef());
+            final CountThingsResponse estimatedResponse = expectMsgClass(CountThingsResponse.class);
+            assertThat(estimatedResponse.getCount()).isEqualTo(3L);
+            assertThat(estimatedResponse.getDittoHeaders()).containsEntry(CountThingsResponse.COUNT_EXACT, "false");
+
+            underTest.tell(countThings(null), getRef());
+            final CountThingsResponse exactResponse = expectMsgClass(CountThingsResponse.class);
+            assertThat(exactResponse.getCount()).isEqualTo(5L);
+            assertThat(exactResponse.getDittoHeaders()).doesNotContainKey(CountThingsResponse.COUNT_EXACT);
+        }};
+    }
+
+    @Test
+    public void testCachedCount() {
+        new TestKit(actorSystem) {{
+            final QueryConfig queryConfig = DefaultQueryConfig.of(ConfigFactory.parseString(
+                    "query { count-cache-enabled = true, count-cache.expire-after-write = 1m, " +
+                            "count-cache.expire-after-access = 1m }"));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, queryConfig));
+
+            insertTestThings();
+
+            underTest.tell(countThings(null), getRef());
+            assertThat(expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(5L);
+
+            Source.fromPublisher(thingsCollection.deleteMany(new Document()))
+                    .runWith(Sink.ignore(), materializer)
+                    .toCompletableFuture()
+                    .join();
+
+            // an equal count query with identical authorization subjects is answered from the cache
+            underTest.tell(countThings(null), getRef());
+            assertThat(expectMsgClass(CountThingsResponse.class).getCount()).isEqualTo(5L);
+        }};
+    }
+
+    @Test
+    public void testCachedSearch() {
+        new TestKit(actorSystem) {{
+            final QueryConfig queryConfig = DefaultQueryConfig.of(ConfigFactory.parseString(
+                    "query { result-cache-enabled = true, result-cache.expire-after-write = 1m }"));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, queryConfig));
+
+            insertTestThings();
+
+            underTest.tell(queryThings(200, null), getRef());
+            final QueryThingsResponse response = expectMsgClass(QueryThingsResponse.class);
+            assertThat(response.getSearchResult().getItems()).isEqualTo(expectedIds(4, 2, 0, 1, 3));
+
+            Source.fromPublisher(thingsCollection.deleteMany(new Document()))
+                    .runWith(Sink.ignore(), materializer)
+                    .toCompletableFuture()
+                    .join();
+
+            // identical query with identical authorization subjects is answered from the cache
+            underTest.tell(queryThings(200, null), getRef());
+            final QueryThingsResponse cachedResponse = expectMsgClass(QueryThingsResponse.class);
+            assertThat(cachedResponse.getSearchResult().getItems()).isEqualTo(expectedIds(4, 2, 0, 1, 3));
+
+            // cached results are never shared with other authorization subjects
+            final QueryThings queryOfOtherSubject = queryThings(200, null).setDittoHeaders(DittoHeaders.newBuilder()
+                    .authorizationContext(AuthorizationContext.newInstance(
+                            AuthorizationSubject.newInstance("ditto:ditto"),
+                            AuthorizationSubject.newInstance("ditto:other")))
+                    .build());
+            underTest.tell(queryOfOtherSubject, getRef());
+            final QueryThingsResponse otherResponse = expectMsgClass(QueryThingsResponse.class);
+            assertThat(otherResponse.getSearchResult().getItems()).isEmpty();
+        }};
+    }
+
+    @Test
+    public void testQueryTimeoutWithCachesEnabled() {
+        new TestKit(actorSystem) {{
+            final QueryConfig queryConfig = DefaultQueryConfig.of(ConfigFactory.parseString(
+                    "query { count-cache-enabled = true, result-cache-enabled = true }"));
+            final ActorRef underTest = actorSystem.actorOf(
+                    SearchActor.props(queryParser, new TimingOutSearchPersistence(), queryConfig));
+
+            // failed cache loads still answer with the DittoRuntimeException of the persistence
+            underTest.tell(countThings(null), getRef());
+            assertThat(expectMsgClass(DittoRuntimeException.class).getErrorCode())
+                    .isEqualTo(GatewayQueryTimeExceededException.ERROR_CODE);
+
+            underTest.tell(queryThings(200, null), getRef());
+            assertThat(expectMsgClass(DittoRuntimeException.class).getErrorCode())
+                    .isEqualTo(GatewayQueryTimeExceededException.ERROR_CODE);
+        }};
+    }
+
+    private static CountThings countThings(@Nullable final String countMode) {
+        final DittoHeadersBuilder<?, ?> dittoHeadersBuilder = DittoHeaders.newBuilder()
+                .authorizationContext(AUTH_CONTEXT);
+        if (null != countMode) {
+            dittoHeadersBuilder.putHeader(CountThings.COUNT_MODE, countMode);
+        }
+        return CountThings.of("eq(attributes/x,5)", null, dittoHeadersBuilder.build());
+    }
+
     private static QueryThings queryThings(final int size, final @Nullable String cursor) {
         final List<String> options = new ArrayList<>();
         if (cursor == null) {
@@ -241,4 +373,48 @@ public final class SearchActorIT {
                 .build();
     }
 
+    /**
+     * Fails every count and search like the Mongo persistence does when the max query time is exceeded.
+     */
+    private static final class TimingOutSearchPersistence implements ThingsSearchPersistence {
+
+        @Override
+        public CompletionStage<Void> initializeIndices() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public Source<SearchNamespaceReportResult, NotUsed> generateNamespaceCountReport() {
+            return timeout();
+        }
+
+        @Override
+        public Source<Long, NotUsed> count(final Query query, final List<String> authorizationSubjectIds) {
+            return timeout();
+        }
+
+        @Override
+        public Source<Long, NotUsed> sudoCount(final Query query) {
+            return timeout();
+        }
+
+        @Override
+        public Source<ResultList<ThingId>, NotUsed> findAll(final Query query,
+                final List<String> authorizationSubjectIds, @Nullable final Set<String> namespaces) {
+            return timeout();
+        }
+
+        @Override
+        public Source<ResultList<JsonObject>, NotUsed> findAllProjected(final Query query,
+                final List<String> authorizationSubjectIds, @Nullable final Set<String> namespaces,
+                @Nullable final JsonFieldSelector selectedFields) {
+            return timeout();
+        }
+
+        private static <T> Source<T, NotUsed> timeout() {
+            return Source.failed(GatewayQueryTimeExceededException.newBuilder().build());
+        }
+
+    }
+
 }
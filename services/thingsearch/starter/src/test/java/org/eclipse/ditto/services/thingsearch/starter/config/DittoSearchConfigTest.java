@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.thingsearch.starter.config;
 
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -32,6 +33,8 @@ public final class DittoSearchConfigTest {
     public void assertImmutability() {
         assertInstancesOf(DittoSearchConfig.class,
                 areImmutable(),
+                assumingFields("materializedFields", "backfilledMaterializedFields")
+                        .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
                 provided(DefaultHealthCheckConfig.class, DittoServiceConfig.class).areAlsoImmutable());
     }
 
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+
+import akka.cluster.sharding.ShardRegion;
+
+/**
+ * Message extractor starting 1 entity per shard instead of 1 entity per thing: messages are distributed to shards
+ * exactly as by {@link ShardRegionExtractor}, but the entity ID of each message is its shard ID.
+ */
+final class PerShardMessageExtractor implements ShardRegion.MessageExtractor {
+
+    private final ShardRegionExtractor shardRegionExtractor;
+
+    private PerShardMessageExtractor(final ShardRegionExtractor shardRegionExtractor) {
+        this.shardRegionExtractor = shardRegionExtractor;
+    }
+
+    /**
+     * Create a per-shard message extractor.
+     *
+     * @param shardRegionExtractor the extractor deciding the shard of each message.
+     * @return the per-shard message extractor.
+     */
+    static PerShardMessageExtractor of(final ShardRegionExtractor shardRegionExtractor) {
+        return new PerShardMessageExtractor(shardRegionExtractor);
+    }
+
+    @Override
+    @Nullable
+    public String entityId(final Object message) {
+        return shardId(message);
+    }
+
+    @Override
+    public Object entityMessage(final Object message) {
+        return shardRegionExtractor.entityMessage(message);
+    }
+
+    @Override
+    @Nullable
+    public String shardId(final Object message) {
+        if (message instanceof ShardRegion.StartEntity) {
+            // entities are restarted by their shard ID
+            return ((ShardRegion.StartEntity) message).entityId();
+        }
+        return shardRegionExtractor.shardId(message);
+    }
+
+}
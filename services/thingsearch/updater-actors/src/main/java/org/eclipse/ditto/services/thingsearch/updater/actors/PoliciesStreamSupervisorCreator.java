@@ -17,6 +17,7 @@ import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.SudoStreamModifiedEntities;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
+import org.eclipse.ditto.services.utils.akka.controlflow.BackgroundThrottle;
 import org.eclipse.ditto.services.utils.akka.streaming.DefaultStreamSupervisor;
 import org.eclipse.ditto.services.utils.akka.streaming.SyncConfig;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
@@ -53,12 +54,15 @@ final class PoliciesStreamSupervisorCreator {
      * used to remember the end time of the last stream after a re-start).
      * @param materializer the materializer for the Akka actor system.
      * @param syncConfig the configuration settings for stream consumption.
+     * @param searchUpdaterPersistence the persistence to look up the things referencing a policy.
+     * @param backgroundThrottle the throttle regulating the synchronization.
      * @return the props
      */
     public static Props props(final ActorRef thingsUpdater, final ActorRef pubSubMediator,
             final TimestampPersistence streamMetadataPersistence, final Materializer materializer,
             final SyncConfig syncConfig,
-            final ThingsSearchUpdaterPersistence searchUpdaterPersistence) {
+            final ThingsSearchUpdaterPersistence searchUpdaterPersistence,
+            final BackgroundThrottle backgroundThrottle) {
 
         return DefaultStreamSupervisor.props(thingsUpdater,
                 pubSubMediator,
@@ -67,7 +71,8 @@ final class PoliciesStreamSupervisorCreator {
                 PoliciesStreamSupervisorCreator::mapStreamTriggerCommand,
                 streamMetadataPersistence,
                 materializer,
-                syncConfig);
+                syncConfig,
+                backgroundThrottle);
     }
 
     private static DistributedPubSubMediator.Send mapStreamTriggerCommand(
@@ -23,8 +23,10 @@ import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.akka.controlflow.BackgroundThrottle;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
@@ -49,7 +51,9 @@ import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 
 /**
- * Cluster singleton that forwards policy events to updater shard region with buffering.
+ * Cluster singleton that forwards policy events to updater shard region with buffering. The things referencing
+ * modified policies are forwarded only as far as the background throttle gives out credit, so that a policy
+ * referenced by many things does not flood the persistence with updates.
  */
 final class PolicyEventForwarder extends AbstractActor {
 
@@ -64,6 +68,8 @@ final class PolicyEventForwarder extends AbstractActor {
     private final ThingsSearchUpdaterPersistence persistence;
     private final BlockNamespaceBehavior blockNamespaceBehavior;
     private final Duration interval;
+    private final BackgroundThrottle backgroundThrottle;
+    private final int creditPerDecision;
 
     private Map<PolicyId, Long> policyRevisions = new HashMap<>();
     private KillSwitch killSwitch;
@@ -72,13 +78,18 @@ final class PolicyEventForwarder extends AbstractActor {
     private PolicyEventForwarder(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
             final BlockedNamespaces blockedNamespaces,
-            final ThingsSearchUpdaterPersistence persistence) {
+            final ThingsSearchUpdaterPersistence persistence,
+            final BackgroundThrottle backgroundThrottle) {
 
         this.thingsUpdater = thingsUpdater;
         this.persistence = persistence;
+        this.backgroundThrottle = backgroundThrottle;
         blockNamespaceBehavior = BlockNamespaceBehavior.of(blockedNamespaces);
-        interval = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
-                .getStreamConfig().getWriteInterval();
+        final StreamConfig streamConfig =
+                DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                        .getStreamConfig();
+        interval = streamConfig.getWriteInterval();
+        creditPerDecision = computeCreditPerDecision(streamConfig, backgroundThrottle);
 
         pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyEvent.TYPE_PREFIX, ACTOR_NAME, getSelf()),
                 getSelf());
@@ -92,14 +103,32 @@ final class PolicyEventForwarder extends AbstractActor {
      * @param pubSubMediator Akka pub-sub-mediator
      * @param thingsUpdater thingsUpdater
      * @param blockedNamespaces blocked namespaces.
+     * @param persistence the persistence to look up the things referencing a policy.
+     * @param backgroundThrottle the throttle regulating the forwarding of things referencing modified policies.
      * @return the Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
             final BlockedNamespaces blockedNamespaces,
-            final ThingsSearchUpdaterPersistence persistence) {
+            final ThingsSearchUpdaterPersistence persistence,
+            final BackgroundThrottle backgroundThrottle) {
 
-        return Props.create(PolicyEventForwarder.class, pubSubMediator, thingsUpdater, blockedNamespaces, persistence);
+        return Props.create(PolicyEventForwarder.class, pubSubMediator, thingsUpdater, blockedNamespaces, persistence,
+                backgroundThrottle);
+    }
+
+    /**
+     * Permit as many things referencing modified policies per credit decision as the updater stream can write
+     * during the decision interval.
+     */
+    private static int computeCreditPerDecision(final StreamConfig streamConfig,
+            final BackgroundThrottle backgroundThrottle) {
+
+        final long writeIntervalMillis = Math.max(1L, streamConfig.getWriteInterval().toMillis());
+        final long writesPerDecision =
+                Math.max(1L, backgroundThrottle.getDecisionInterval().toMillis() / writeIntervalMillis);
+        final long maxBulkSize = streamConfig.getPersistenceConfig().getMaxBulkSize();
+        return (int) Math.min(Integer.MAX_VALUE, writesPerDecision * maxBulkSize);
     }
 
     @Override
@@ -184,6 +213,7 @@ final class PolicyEventForwarder extends AbstractActor {
                 .mapAsync(1, message ->
                         PatternsCS.ask(self, message, ASK_SELF_TIMEOUT).exceptionally(Function.identity()))
                 .flatMapConcat(this::mapDumpResult)
+                .via(backgroundThrottle.throttle(ACTOR_NAME, creditPerDecision))
                 .to(Sink.actorRef(self, Control.STREAM_COMPLETED))
                 .run(materializer);
     }
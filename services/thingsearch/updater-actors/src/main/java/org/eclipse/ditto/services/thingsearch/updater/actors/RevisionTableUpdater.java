@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.streaming.IdentifiableStreamingMessage;
+import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.signals.commands.common.Shutdown;
+import org.eclipse.ditto.signals.commands.common.ShutdownReason;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Cancellable;
+import akka.actor.Props;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.event.Logging;
+
+/**
+ * This Actor initiates persistence updates related to all things of 1 shard. It is the alternative to
+ * {@link ThingUpdater} which keeps the state of each thing in a {@link ThingRevisionTable} instead of 1 actor per
+ * thing. Things without any change for the max idle time of the updater are evicted from the table, just like idle
+ * {@link ThingUpdater}s stop, so that a later sync indexes them again.
+ */
+final class RevisionTableUpdater extends AbstractActor {
+
+    private static final int INITIAL_EXPECTED_SIZE = 1024;
+
+    private final DiagnosticLoggingAdapter log = Logging.apply(this);
+
+    private final ActorRef changeQueueActor;
+    private final Duration enqueueRetryDelay;
+    private final ThingRevisionTable revisionTable;
+    private final Cancellable evictIdleThings;
+
+    // state of the change queue: changes are answered in the order they are sent
+    private final Deque<Metadata> unansweredEnqueues = new ArrayDeque<>();
+    private final Set<ThingId> rejectedThingIds = new LinkedHashSet<>();
+    private final Deque<WithheldAck> withheldAcks = new ArrayDeque<>();
+    private long sentEnqueues = 0L;
+    private long answeredEnqueues = 0L;
+    private boolean enqueueRetryScheduled = false;
+
+    @SuppressWarnings("unused") //It is used via reflection. See props method.
+    private RevisionTableUpdater(final ActorRef pubSubMediator, final ActorRef changeQueueActor) {
+
+        final DittoSearchConfig dittoSearchConfig = DittoSearchConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
+        );
+
+        this.changeQueueActor = changeQueueActor;
+        enqueueRetryDelay = dittoSearchConfig.getStreamConfig().getWriteInterval();
+        revisionTable = ThingRevisionTable.newInstance(INITIAL_EXPECTED_SIZE);
+        final Duration maxIdleTime = dittoSearchConfig.getUpdaterConfig().getMaxIdleTime();
+        evictIdleThings = getContext().getSystem().getScheduler().schedule(maxIdleTime, maxIdleTime, getSelf(),
+                Control.EVICT_IDLE_THINGS, getContext().getDispatcher(), ActorRef.noSender());
+
+        pubSubMediator.tell(DistPubSubAccess.subscribe(Shutdown.TYPE, getSelf()), getSelf());
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param changeQueueActor reference of the change queue actor.
+     * @return the Akka configuration Props object
+     */
+    static Props props(final ActorRef pubSubMediator, final ActorRef changeQueueActor) {
+
+        return Props.create(RevisionTableUpdater.class, pubSubMediator, changeQueueActor);
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        evictIdleThings.cancel();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(ThingEvent.class, this::processThingEvent)
+                .match(ThingTag.class, this::processThingTag)
+                .match(PolicyReferenceTag.class, this::processPolicyReferenceTag)
+                .matchEquals(ChangeQueueActor.EnqueueResult.ACCEPTED, this::enqueueAccepted)
+                .matchEquals(ChangeQueueActor.EnqueueResult.REJECTED, this::enqueueRejected)
+                .matchEquals(Control.RETRY_ENQUEUE, this::retryEnqueue)
+                .matchEquals(Control.EVICT_IDLE_THINGS, this::evictIdleThings)
+                .match(Shutdown.class, this::shutdown)
+                .match(DistributedPubSubMediator.SubscribeAck.class, subscribeAck -> {})
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                })
+                .build();
+    }
+
+    private void processThingTag(final ThingTag thingTag) {
+        final ThingId thingId = thingTag.getEntityId();
+        log.debug("Received new Thing Tag <{}>.", thingTag.asIdentifierString());
+        if (revisionTable.updateThingRevision(thingId, thingTag.getRevision())) {
+            enqueueMetadata(thingId);
+        } else {
+            log.debug("Dropping <{}> because the known thing revision is not older", thingTag);
+        }
+        acknowledge(thingTag);
+    }
+
+    private void processPolicyReferenceTag(final PolicyReferenceTag policyReferenceTag) {
+        final ThingId thingId = ThingId.of(policyReferenceTag.getEntityId());
+        final PolicyTag policyTag = policyReferenceTag.getPolicyTag();
+        log.debug("Received new Policy-Reference-Tag <{}>.", policyReferenceTag.asIdentifierString());
+        if (revisionTable.updatePolicy(thingId, String.valueOf(policyTag.getEntityId()), policyTag.getRevision())) {
+            enqueueMetadata(thingId);
+        } else {
+            log.debug("Dropping <{}> because the known policy is not older", policyReferenceTag);
+        }
+        acknowledge(policyReferenceTag);
+    }
+
+    private void processThingEvent(final ThingEvent<?> thingEvent) {
+        LogUtil.enhanceLogWithCorrelationId(log, thingEvent);
+        final ThingId thingId = thingEvent.getThingEntityId();
+        if (revisionTable.updateThingRevision(thingId, thingEvent.getRevision())) {
+            enqueueMetadata(thingId);
+        } else {
+            log.debug("Dropped thing event for thing id <{}> with revision <{}> because it was older than or " +
+                    "equal to the known revision.", thingId, thingEvent.getRevision());
+        }
+    }
+
+    /**
+     * Push metadata of a thing to the queue of thing-changes to be streamed into the persistence.
+     * Things rejected by the queue are pushed by the scheduled retry instead.
+     */
+    private void enqueueMetadata(final ThingId thingId) {
+        if (!rejectedThingIds.contains(thingId)) {
+            sendMetadataToChangeQueue(thingId);
+        }
+    }
+
+    private void sendMetadataToChangeQueue(final ThingId thingId) {
+        final Metadata metadata = revisionTable.getMetadata(thingId);
+        changeQueueActor.tell(metadata, getSelf());
+        unansweredEnqueues.add(metadata);
+        ++sentEnqueues;
+    }
+
+    private void enqueueAccepted(final ChangeQueueActor.EnqueueResult accepted) {
+        @Nullable final Metadata metadata = unansweredEnqueues.poll();
+        ++answeredEnqueues;
+        if (metadata != null) {
+            final ThingId thingId = metadata.getThingId();
+            if (rejectedThingIds.remove(thingId) && !revisionTable.getMetadata(thingId).equals(metadata)) {
+                // the state of the thing changed while the queue rejected its changes
+                sendMetadataToChangeQueue(thingId);
+                withheldAcks.forEach(withheldAck -> withheldAck.awaitEnqueues(sentEnqueues));
+            }
+        }
+        releaseWithheldAcks();
+    }
+
+    private void enqueueRejected(final ChangeQueueActor.EnqueueResult rejected) {
+        @Nullable final Metadata metadata = unansweredEnqueues.poll();
+        ++answeredEnqueues;
+        if (metadata != null) {
+            rejectedThingIds.add(metadata.getThingId());
+        }
+        if (!enqueueRetryScheduled) {
+            log.debug("Change queue is full; retrying to enqueue <{}> changes in <{}>", rejectedThingIds.size(),
+                    enqueueRetryDelay);
+            enqueueRetryScheduled = true;
+            getContext().getSystem().getScheduler().scheduleOnce(enqueueRetryDelay, getSelf(),
+                    Control.RETRY_ENQUEUE, getContext().getDispatcher(), ActorRef.noSender());
+        }
+    }
+
+    private void retryEnqueue(final Control retry) {
+        enqueueRetryScheduled = false;
+        // rejected things stay rejected until the retry of their change is accepted
+        new ArrayList<>(rejectedThingIds).forEach(this::sendMetadataToChangeQueue);
+    }
+
+    private void evictIdleThings(final Control evict) {
+        // keep things whose changes are not in the change queue yet
+        rejectedThingIds.forEach(revisionTable::touch);
+        unansweredEnqueues.forEach(metadata -> revisionTable.touch(metadata.getThingId()));
+        final int evicted = revisionTable.evictIdle();
+        if (evicted > 0) {
+            log.debug("Evicted <{}> idle things; <{}> things remain.", evicted, revisionTable.size());
+        }
+    }
+
+    private void shutdown(final Shutdown shutdown) {
+        final ShutdownReason shutdownReason = shutdown.getReason();
+        final Predicate<String> isRelevant = thingId ->
+                shutdownReason.isRelevantFor(thingId) || shutdownReason.isRelevantFor(namespaceOf(thingId));
+        final int removed = revisionTable.removeIf(isRelevant);
+        if (removed > 0) {
+            log.info("Forgot <{}> things due to <{}>.", removed, shutdown);
+        }
+        if (rejectedThingIds.removeIf(thingId -> isRelevant.test(thingId.toString()))) {
+            releaseWithheldAcks();
+        }
+    }
+
+    private void acknowledge(final IdentifiableStreamingMessage message) {
+        final ActorRef sender = getSender();
+        if (!getContext().system().deadLetters().equals(sender)) {
+            final StreamAck streamAck = StreamAck.success(message.asIdentifierString());
+            if (rejectedThingIds.isEmpty() && answeredEnqueues >= sentEnqueues) {
+                sender.tell(streamAck, getSelf());
+            } else {
+                // backpressure the sync stream until the change queue accepted the changes sent so far
+                withheldAcks.add(new WithheldAck(sender, streamAck, sentEnqueues));
+            }
+        }
+    }
+
+    private void releaseWithheldAcks() {
+        if (rejectedThingIds.isEmpty()) {
+            while (!withheldAcks.isEmpty() && withheldAcks.peek().awaitedEnqueues <= answeredEnqueues) {
+                final WithheldAck withheldAck = withheldAcks.poll();
+                withheldAck.sender.tell(withheldAck.streamAck, getSelf());
+            }
+        }
+    }
+
+    private static String namespaceOf(final String thingId) {
+        final int separatorIndex = thingId.indexOf(':');
+        return separatorIndex < 0 ? "" : thingId.substring(0, separatorIndex);
+    }
+
+    private enum Control {
+        RETRY_ENQUEUE,
+        EVICT_IDLE_THINGS
+    }
+
+    /**
+     * Acknowledgement of a sync stream element which is sent once the change queue answered the given number of
+     * changes.
+     */
+    private static final class WithheldAck {
+
+        private final ActorRef sender;
+        private final StreamAck streamAck;
+        private long awaitedEnqueues;
+
+        private WithheldAck(final ActorRef sender, final StreamAck streamAck, final long awaitedEnqueues) {
+            this.sender = sender;
+            this.streamAck = streamAck;
+            this.awaitedEnqueues = awaitedEnqueues;
+        }
+
+        private void awaitEnqueues(final long enqueues) {
+            awaitedEnqueues = Math.max(awaitedEnqueues, enqueues);
+        }
+
+    }
+
+}
@@ -31,6 +31,7 @@ import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.credits.BackgroundLoadController;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonCommandListener;
 import org.eclipse.ditto.services.utils.persistence.mongo.monitoring.KamonConnectionPoolListener;
 import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
@@ -97,7 +98,9 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final ShardRegionFactory shardRegionFactory = ShardRegionFactory.getInstance(actorSystem);
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final ActorRef changeQueueActor = getContext().actorOf(ChangeQueueActor.props(), ChangeQueueActor.ACTOR_NAME);
+        final int maxQueueSize = searchConfig.getStreamConfig().getMaxQueueSize();
+        final ActorRef changeQueueActor =
+                getContext().actorOf(ChangeQueueActor.props(maxQueueSize), ChangeQueueActor.ACTOR_NAME);
         updaterStreamKillSwitch =
                 startSearchUpdaterStream(searchConfig, actorSystem, shardRegionFactory, numberOfShards,
                         changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
@@ -112,10 +115,17 @@ public final class SearchUpdaterRootActor extends AbstractActor {
             log.warning("Event processing is disabled!");
         }
 
-        final Props thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActor);
-
-        final ActorRef updaterShardRegion =
-                shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
+        final ActorRef updaterShardRegion;
+        if (updaterConfig.isRevisionTableActive()) {
+            log.info("Keeping the state of things in 1 revision table per shard.");
+            final Props revisionTableUpdaterProps = RevisionTableUpdater.props(pubSubMediator, changeQueueActor);
+            updaterShardRegion = shardRegionFactory.getPerShardSearchUpdaterShardRegion(numberOfShards,
+                    revisionTableUpdaterProps, CLUSTER_ROLE);
+        } else {
+            final Props thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActor);
+            updaterShardRegion =
+                    shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
+        }
 
         final DistributedSub thingEventSub =
                 ThingEventPubSubFactory.shardIdOnly(getContext(), numberOfShards).startDistributedSub();
@@ -129,7 +139,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         // start policy event forwarder as cluster singleton
         final Props policyEventForwarderProps =
                 PolicyEventForwarder.props(pubSubMediator, thingsUpdaterActor, blockedNamespaces,
-                        searchUpdaterPersistence);
+                        searchUpdaterPersistence, BackgroundLoadController.get(getContext().getSystem()));
         startClusterSingletonActor(PolicyEventForwarder.ACTOR_NAME, policyEventForwarderProps);
 
         // start manual updater as cluster singleton
@@ -155,7 +165,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         if (thingsSyncConfig.isEnabled()) {
             startClusterSingletonActor(ThingsStreamSupervisorCreator.ACTOR_NAME,
                     ThingsStreamSupervisorCreator.props(thingsUpdaterActor, pubSubMediator, thingsSyncPersistence,
-                            materializer, thingsSyncConfig));
+                            materializer, thingsSyncConfig, BackgroundLoadController.get(getContext().getSystem())));
         } else {
             log.warning("Things synchronization is not active!");
         }
@@ -170,7 +180,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         if (policiesSyncConfig.isEnabled()) {
             startClusterSingletonActor(PoliciesStreamSupervisorCreator.ACTOR_NAME,
                     PoliciesStreamSupervisorCreator.props(thingsUpdaterActor, pubSubMediator, policiesSyncPersistence,
-                            materializer, policiesSyncConfig, searchUpdaterPersistence));
+                            materializer, policiesSyncConfig, searchUpdaterPersistence,
+                            BackgroundLoadController.get(getContext().getSystem())));
         } else {
             log.warning("Policies synchronization is not active!");
         }
@@ -109,4 +109,29 @@ final class ShardRegionFactory {
         return clusterSharding.start(UPDATER_SHARD_REGION, thingUpdaterProps, shardingSettings, shardRegionExtractor);
     }
 
+    /**
+     * Returns a new Sharding Region for the Search Updater with 1 entity per shard.
+     *
+     * @param numberOfShards the number of shards to use.
+     * @param revisionTableUpdaterProps the Props of the RevisionTableUpdater actor.
+     * @param clusterRole the cluster role of the Search Updater.
+     * @return the Sharding Region.
+     * @throws NullPointerException if {@code revisionTableUpdaterProps} is {@code null}.
+     */
+    @Nonnull
+    public ActorRef getPerShardSearchUpdaterShardRegion(final int numberOfShards,
+            @Nonnull final Props revisionTableUpdaterProps,
+            final String clusterRole) {
+        checkNotNull(revisionTableUpdaterProps, "Props of RevisionTableUpdater");
+
+        final ClusterSharding clusterSharding = ClusterSharding.get(actorSystem);
+        final ClusterShardingSettings shardingSettings =
+                ClusterShardingSettings.create(actorSystem).withRole(clusterRole);
+        final PerShardMessageExtractor messageExtractor =
+                PerShardMessageExtractor.of(ShardRegionExtractor.of(numberOfShards, actorSystem));
+
+        return clusterSharding.start(UPDATER_SHARD_REGION, revisionTableUpdaterProps, shardingSettings,
+                messageExtractor);
+    }
+
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+
+/**
+ * Compact table of the last known thing revision, policy ID and policy revision per thing.
+ * Entries are kept in parallel arrays with open addressing so that each thing costs a few array slots besides its
+ * ID string instead of an actor with mailbox and dispatcher state. The policy ID of a thing is stored as reference to
+ * the thing ID if both are equal, which is the common case.
+ * <p>
+ * Each entry remembers the generation of the table in which it was last touched. {@link #evictIdle()} starts a new
+ * generation and removes all entries which were not touched during the previous one, so that the table forgets idle
+ * things just like idle {@link ThingUpdater}s stop.
+ * </p>
+ */
+@NotThreadSafe
+final class ThingRevisionTable {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final String NO_POLICY_ID = "";
+    private static final long NO_REVISION = -1L;
+
+    private String[] thingIds;
+    private long[] thingRevisions;
+    private String[] policyIds;
+    private long[] policyRevisions;
+    private int[] generations;
+    private int size;
+    private int generation;
+
+    private ThingRevisionTable(final int capacity) {
+        allocate(capacity);
+        size = 0;
+        generation = 0;
+    }
+
+    /**
+     * Create an empty table.
+     *
+     * @param expectedSize how many things the table is expected to hold.
+     * @return the table.
+     */
+    static ThingRevisionTable newInstance(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < Integer.MAX_VALUE / 2 && capacity * 3L / 4L < expectedSize) {
+            capacity <<= 1;
+        }
+        return new ThingRevisionTable(capacity);
+    }
+
+    /**
+     * @return how many things are in the table.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Record a thing revision if it is newer than the known one.
+     *
+     * @param thingId the thing ID.
+     * @param thingRevision the thing revision.
+     * @return whether the recorded revision changed.
+     */
+    boolean updateThingRevision(final ThingId thingId, final long thingRevision) {
+        final int index = findOrInsert(thingId.toString());
+        generations[index] = generation;
+        if (thingRevision > thingRevisions[index]) {
+            thingRevisions[index] = thingRevision;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Record the policy of a thing if its ID differs from the known one or its revision is newer.
+     *
+     * @param thingId the thing ID.
+     * @param policyId the policy ID.
+     * @param policyRevision the policy revision.
+     * @return whether the recorded policy changed.
+     */
+    boolean updatePolicy(final ThingId thingId, final String policyId, final long policyRevision) {
+        final int index = findOrInsert(thingId.toString());
+        generations[index] = generation;
+        if (!policyIds[index].equals(policyId) || policyRevisions[index] < policyRevision) {
+            policyIds[index] = policyId.equals(thingIds[index]) ? thingIds[index] : policyId;
+            policyRevisions[index] = policyRevision;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Export the recorded state of a thing in the form the change queue expects.
+     *
+     * @param thingId the thing ID.
+     * @return the metadata of the thing; revisions are -1 for unknown things.
+     */
+    Metadata getMetadata(final ThingId thingId) {
+        final int index = find(thingId.toString());
+        if (index < 0) {
+            return Metadata.of(thingId, NO_REVISION, NO_POLICY_ID, NO_REVISION);
+        } else {
+            return Metadata.of(thingId, thingRevisions[index], policyIds[index], policyRevisions[index]);
+        }
+    }
+
+    /**
+     * Mark a known thing as touched in the current generation, so that the next {@link #evictIdle()} keeps it.
+     *
+     * @param thingId the thing ID.
+     */
+    void touch(final ThingId thingId) {
+        final int index = find(thingId.toString());
+        if (index >= 0) {
+            generations[index] = generation;
+        }
+    }
+
+    /**
+     * Remove all things which were not touched since the previous call and start a new generation.
+     *
+     * @return how many things were removed.
+     */
+    int evictIdle() {
+        final int currentGeneration = generation;
+        final int removed = rebuild(index -> generations[index] != currentGeneration);
+        ++generation;
+        return removed;
+    }
+
+    /**
+     * Remove all things whose ID matches a predicate.
+     *
+     * @param thingIdPredicate predicate on the string representation of thing IDs.
+     * @return how many things were removed.
+     */
+    int removeIf(final Predicate<String> thingIdPredicate) {
+        return rebuild(index -> thingIdPredicate.test(thingIds[index]));
+    }
+
+    private int rebuild(final IntPredicate isRemoved) {
+        final String[] oldThingIds = thingIds;
+        final long[] oldThingRevisions = thingRevisions;
+        final String[] oldPolicyIds = policyIds;
+        final long[] oldPolicyRevisions = policyRevisions;
+        final int[] oldGenerations = generations;
+        final boolean[] removed = new boolean[oldThingIds.length];
+        for (int i = 0; i < oldThingIds.length; ++i) {
+            removed[i] = oldThingIds[i] != null && isRemoved.test(i);
+        }
+        final int oldSize = size;
+        allocate(oldThingIds.length);
+        size = 0;
+        for (int i = 0; i < oldThingIds.length; ++i) {
+            final String thingId = oldThingIds[i];
+            if (thingId != null && !removed[i]) {
+                final int index = insertNew(thingId);
+                thingRevisions[index] = oldThingRevisions[i];
+                policyIds[index] = oldPolicyIds[i];
+                policyRevisions[index] = oldPolicyRevisions[i];
+                generations[index] = oldGenerations[i];
+            }
+        }
+        return oldSize - size;
+    }
+
+    private int find(final String thingId) {
+        final int mask = thingIds.length - 1;
+        int index = indexOf(thingId, mask);
+        @Nullable String slot;
+        while ((slot = thingIds[index]) != null) {
+            if (slot.equals(thingId)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int findOrInsert(final String thingId) {
+        final int index = find(thingId);
+        if (index >= 0) {
+            return index;
+        }
+        if (size + 1 > thingIds.length * 3L / 4L) {
+            grow();
+        }
+        return insertNew(thingId);
+    }
+
+    private int insertNew(final String thingId) {
+        final int mask = thingIds.length - 1;
+        int index = indexOf(thingId, mask);
+        while (thingIds[index] != null) {
+            index = (index + 1) & mask;
+        }
+        thingIds[index] = thingId;
+        thingRevisions[index] = NO_REVISION;
+        policyIds[index] = NO_POLICY_ID;
+        policyRevisions[index] = NO_REVISION;
+        generations[index] = generation;
+        ++size;
+        return index;
+    }
+
+    private void grow() {
+        final String[] oldThingIds = thingIds;
+        final long[] oldThingRevisions = thingRevisions;
+        final String[] oldPolicyIds = policyIds;
+        final long[] oldPolicyRevisions = policyRevisions;
+        final int[] oldGenerations = generations;
+        allocate(oldThingIds.length << 1);
+        size = 0;
+        for (int i = 0; i < oldThingIds.length; ++i) {
+            if (oldThingIds[i] != null) {
+                final int index = insertNew(oldThingIds[i]);
+                thingRevisions[index] = oldThingRevisions[i];
+                policyIds[index] = oldPolicyIds[i];
+                policyRevisions[index] = oldPolicyRevisions[i];
+                generations[index] = oldGenerations[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        thingIds = new String[capacity];
+        thingRevisions = new long[capacity];
+        policyIds = new String[capacity];
+        policyRevisions = new long[capacity];
+        generations = new int[capacity];
+    }
+
+    private static int indexOf(final String thingId, final int mask) {
+        final int hashCode = thingId.hashCode();
+        return (hashCode ^ (hashCode >>> 16)) & mask;
+    }
+
+}
@@ -17,7 +17,13 @@ import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
@@ -26,7 +32,9 @@ import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.IdentifiableStreamingMessage;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.thingsearch.common.config.DittoSearchConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -40,23 +48,40 @@ import akka.actor.ReceiveTimeout;
 import akka.cluster.sharding.ShardRegion;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.event.Logging;
+import akka.japi.Pair;
 
 /**
  * This Actor initiates persistence updates related to 1 thing.
  */
 final class ThingUpdater extends AbstractActor {
 
+    /**
+     * Each retry to enqueue a rejected change waits up to this factor longer than the exponential back-off, so that
+     * the updaters of many things do not retry at the same time.
+     */
+    private static final double ENQUEUE_RETRY_RANDOM_FACTOR = 0.5;
+
     private final DiagnosticLoggingAdapter log = Logging.apply(this);
 
     private final ThingId thingId;
     private final ShutdownBehaviour shutdownBehaviour;
     private final ActorRef changeQueueActor;
+    private final Duration minEnqueueRetryDelay;
+    private final Duration maxEnqueueRetryDelay;
 
     // state of Thing and Policy
     private long thingRevision = -1L;
     private String policyId = "";
     private long policyRevision = -1L;
 
+    // state of the change queue: until it accepted the latest change, acknowledgements of sync streams are withheld
+    @Nullable private Metadata lastEnqueuedMetadata = null;
+    private int pendingEnqueues = 0;
+    private boolean enqueueRejected = false;
+    private boolean enqueueRetryScheduled = false;
+    private Duration enqueueRetryDelay = Duration.ZERO;
+    private final List<Pair<ActorRef, StreamAck>> withheldAcks = new ArrayList<>();
+
     @SuppressWarnings("unused") //It is used via reflection. See props method.
     private ThingUpdater(final ActorRef pubSubMediator, final ActorRef changeQueueActor) {
 
@@ -67,6 +92,9 @@ final class ThingUpdater extends AbstractActor {
         thingId = tryToGetThingId();
         shutdownBehaviour = ShutdownBehaviour.fromId(thingId, pubSubMediator, getSelf());
         this.changeQueueActor = changeQueueActor;
+        final StreamConfig streamConfig = dittoSearchConfig.getStreamConfig();
+        minEnqueueRetryDelay = streamConfig.getWriteInterval();
+        maxEnqueueRetryDelay = streamConfig.getPersistenceConfig().getMaxWriteInterval();
 
         getContext().setReceiveTimeout(dittoSearchConfig.getUpdaterConfig().getMaxIdleTime());
     }
@@ -89,6 +117,9 @@ final class ThingUpdater extends AbstractActor {
                 .match(ThingEvent.class, this::processThingEvent)
                 .match(ThingTag.class, this::processThingTag)
                 .match(PolicyReferenceTag.class, this::processPolicyReferenceTag)
+                .matchEquals(ChangeQueueActor.EnqueueResult.ACCEPTED, this::enqueueAccepted)
+                .matchEquals(ChangeQueueActor.EnqueueResult.REJECTED, this::enqueueRejected)
+                .matchEquals(Control.RETRY_ENQUEUE, this::retryEnqueue)
                 .match(ReceiveTimeout.class, this::stopThisActor)
                 .matchAny(m -> {
                     log.warning("Unknown message in 'eventProcessing' behavior: {}", m);
@@ -98,6 +129,11 @@ final class ThingUpdater extends AbstractActor {
     }
 
     private void stopThisActor(final ReceiveTimeout receiveTimeout) {
+        if (enqueueRejected || 0 < pendingEnqueues) {
+            log.debug("not stopping ThingUpdater <{}> on <{}>: latest change is not enqueued", thingId,
+                    receiveTimeout);
+            return;
+        }
         log.debug("stopping ThingUpdater <{}> due to <{}>", thingId, receiveTimeout);
         getContext().getParent().tell(new ShardRegion.Passivate(PoisonPill.getInstance()), getSelf());
     }
@@ -111,9 +147,78 @@ final class ThingUpdater extends AbstractActor {
 
     /**
      * Push metadata of this updater to the queue of thing-changes to be streamed into the persistence.
+     * While the queue rejects changes, the latest metadata is pushed by the scheduled retry instead.
      */
     private void enqueueMetadata() {
-        changeQueueActor.tell(exportMetadata(), getSelf());
+        if (!enqueueRejected) {
+            sendMetadataToChangeQueue();
+        }
+    }
+
+    private void sendMetadataToChangeQueue() {
+        lastEnqueuedMetadata = exportMetadata();
+        ++pendingEnqueues;
+        changeQueueActor.tell(lastEnqueuedMetadata, getSelf());
+    }
+
+    private void enqueueAccepted(final ChangeQueueActor.EnqueueResult accepted) {
+        pendingEnqueues = Math.max(0, pendingEnqueues - 1);
+        enqueueRejected = false;
+        enqueueRetryDelay = Duration.ZERO;
+        if (0 == pendingEnqueues) {
+            if (exportMetadata().equals(lastEnqueuedMetadata)) {
+                withheldAcks.forEach(pair -> pair.first().tell(pair.second(), getSelf()));
+                withheldAcks.clear();
+            } else {
+                // the state changed while the queue rejected changes
+                sendMetadataToChangeQueue();
+            }
+        }
+    }
+
+    private void enqueueRejected(final ChangeQueueActor.EnqueueResult rejected) {
+        pendingEnqueues = Math.max(0, pendingEnqueues - 1);
+        enqueueRejected = true;
+        if (!enqueueRetryScheduled) {
+            enqueueRetryDelay = nextEnqueueRetryDelay(enqueueRetryDelay, minEnqueueRetryDelay, maxEnqueueRetryDelay,
+                    ThreadLocalRandom.current().nextDouble());
+            log.debug("Change queue is full; retrying to enqueue changes of <{}> in <{}>", thingId,
+                    enqueueRetryDelay);
+            enqueueRetryScheduled = true;
+            getContext().getSystem().getScheduler().scheduleOnce(enqueueRetryDelay, getSelf(),
+                    Control.RETRY_ENQUEUE, getContext().getDispatcher(), ActorRef.noSender());
+        }
+    }
+
+    private void retryEnqueue(final Control retry) {
+        enqueueRetryScheduled = false;
+        if (enqueueRejected && 0 == pendingEnqueues) {
+            sendMetadataToChangeQueue();
+        }
+    }
+
+    /**
+     * Double the delay of the previous retry within the minimum and maximum delay and add a random jitter.
+     *
+     * @param previousDelay the delay of the previous retry, or zero for the first retry.
+     * @param minDelay the minimum delay.
+     * @param maxDelay the maximum delay before adding the jitter.
+     * @param random a random number between 0 (inclusive) and 1 (exclusive) determining the jitter.
+     * @return the delay of the next retry.
+     */
+    static Duration nextEnqueueRetryDelay(final Duration previousDelay, final Duration minDelay,
+            final Duration maxDelay, final double random) {
+        final Duration doubledDelay = previousDelay.multipliedBy(2L);
+        final Duration baseDelay;
+        if (doubledDelay.compareTo(minDelay) < 0) {
+            baseDelay = minDelay;
+        } else if (doubledDelay.compareTo(maxDelay) > 0) {
+            baseDelay = maxDelay;
+        } else {
+            baseDelay = doubledDelay;
+        }
+        final double multiplier = 1.0 + random * ENQUEUE_RETRY_RANDOM_FACTOR;
+        return Duration.ofMillis((long) (baseDelay.toMillis() * multiplier));
     }
 
     private void processThingTag(final ThingTag thingTag) {
@@ -187,8 +292,18 @@ final class ThingUpdater extends AbstractActor {
     private void acknowledge(final IdentifiableStreamingMessage message) {
         final ActorRef sender = getSender();
         if (!getContext().system().deadLetters().equals(sender)) {
-            getSender().tell(StreamAck.success(message.asIdentifierString()), getSelf());
+            final StreamAck streamAck = StreamAck.success(message.asIdentifierString());
+            if (enqueueRejected || 0 < pendingEnqueues) {
+                // backpressure the sync stream until the change queue accepted the latest change
+                withheldAcks.add(Pair.create(sender, streamAck));
+            } else {
+                sender.tell(streamAck, getSelf());
+            }
         }
     }
 
+    private enum Control {
+        RETRY_ENQUEUE
+    }
+
 }
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.thingsearch.updater.actors;
 import org.eclipse.ditto.services.models.streaming.SudoStreamModifiedEntities;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.utils.akka.controlflow.BackgroundThrottle;
 import org.eclipse.ditto.services.utils.akka.streaming.DefaultStreamSupervisor;
 import org.eclipse.ditto.services.utils.akka.streaming.SyncConfig;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
@@ -50,13 +51,15 @@ final class ThingsStreamSupervisorCreator {
      * used to remember the end time of the last stream after a re-start).
      * @param materializer the materializer for the Akka actor system.
      * @param syncConfig The settings for stream consumption.
+     * @param backgroundThrottle the throttle regulating the synchronization.
      * @return the props
      */
     public static Props props(final ActorRef thingsUpdater,
             final ActorRef pubSubMediator,
             final TimestampPersistence streamMetadataPersistence,
             final Materializer materializer,
-            final SyncConfig syncConfig) {
+            final SyncConfig syncConfig,
+            final BackgroundThrottle backgroundThrottle) {
 
         return DefaultStreamSupervisor.props(thingsUpdater,
                 pubSubMediator,
@@ -64,7 +67,8 @@ final class ThingsStreamSupervisorCreator {
                 Source::single,
                 ThingsStreamSupervisorCreator::mapStreamTriggerCommand,
                 streamMetadataPersistence, materializer,
-                syncConfig);
+                syncConfig,
+                backgroundThrottle);
     }
 
     private static DistributedPubSubMediator.Send mapStreamTriggerCommand(
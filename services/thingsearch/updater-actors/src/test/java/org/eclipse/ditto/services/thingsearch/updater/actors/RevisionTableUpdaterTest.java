@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
+import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.signals.commands.common.Shutdown;
+import org.eclipse.ditto.signals.commands.common.ShutdownReasonFactory;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link RevisionTableUpdater}.
+ */
+public final class RevisionTableUpdaterTest {
+
+    private static final String NAMESPACE = "abc";
+    private static final ThingId THING_ID_1 = ThingId.of(NAMESPACE, "1");
+    private static final ThingId THING_ID_2 = ThingId.of(NAMESPACE, "2");
+
+    private ActorSystem actorSystem;
+    private TestProbe pubSubTestProbe;
+    private TestProbe changeQueueTestProbe;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        pubSubTestProbe = TestProbe.apply(actorSystem);
+        changeQueueTestProbe = TestProbe.apply(actorSystem);
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void enqueuesNewerChangesOfManyThings() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createRevisionTableUpdater();
+
+            final Thing thing = ThingsModelFactory.newThingBuilder().setId(THING_ID_1).setRevision(7L).build();
+            underTest.tell(ThingModified.of(thing, 7L, DittoHeaders.empty()), ActorRef.noSender());
+            changeQueueTestProbe.expectMsg(Metadata.of(THING_ID_1, 7L, "", -1L));
+
+            final PolicyId policyId = PolicyId.of(THING_ID_2);
+            underTest.tell(PolicyReferenceTag.of(THING_ID_2, PolicyTag.of(policyId, 3L)), ActorRef.noSender());
+            changeQueueTestProbe.expectMsg(Metadata.of(THING_ID_2, -1L, policyId.toString(), 3L));
+
+            // outdated changes are not enqueued and acknowledged once the enqueued changes are accepted
+            final ThingTag outdatedThingTag = ThingTag.of(THING_ID_1, 5L);
+            underTest.tell(outdatedThingTag, getRef());
+            changeQueueTestProbe.expectNoMessage();
+            expectNoMessage();
+            changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+            changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+            expectMsgEquals(StreamAck.success(outdatedThingTag.asIdentifierString()));
+        }};
+    }
+
+    @Test
+    public void withholdsAcknowledgementsWhileChangeQueueIsFull() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createRevisionTableUpdater();
+
+            // GIVEN: the change queue rejects the change of 1 thing
+            final ThingTag thingTag = ThingTag.of(THING_ID_1, 7L);
+            underTest.tell(thingTag, getRef());
+            changeQueueTestProbe.expectMsg(Metadata.of(THING_ID_1, 7L, "", -1L));
+            changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.REJECTED);
+
+            // WHEN: a ThingTag of another thing arrives
+            final ThingTag otherThingTag = ThingTag.of(THING_ID_2, 3L);
+            underTest.tell(otherThingTag, getRef());
+            changeQueueTestProbe.expectMsg(Metadata.of(THING_ID_2, 3L, "", -1L));
+            changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+
+            // THEN: no ThingTag is acknowledged until the rejected change is retried and accepted
+            expectNoMessage();
+            changeQueueTestProbe.expectMsg(Metadata.of(THING_ID_1, 7L, "", -1L));
+            changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+            expectMsgEquals(StreamAck.success(thingTag.asIdentifierString()));
+            expectMsgEquals(StreamAck.success(otherThingTag.asIdentifierString()));
+        }};
+    }
+
+    @Test
+    public void reindexesSyncTagWithEqualRevisionAfterEviction() {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = ActorSystem.create("AkkaTestSystem",
+                ConfigFactory.parseString("ditto.things-search.updater.max-idle-time = 200ms")
+                        .withFallback(ConfigFactory.load("test")));
+        pubSubTestProbe = TestProbe.apply(actorSystem);
+        changeQueueTestProbe = TestProbe.apply(actorSystem);
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createRevisionTableUpdater();
+
+            final ThingTag thingTag = ThingTag.of(THING_ID_1, 7L);
+            underTest.tell(thingTag, getRef());
+            changeQueueTestProbe.expectMsg(Metadata.of(THING_ID_1, 7L, "", -1L));
+            changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+            expectMsgEquals(StreamAck.success(thingTag.asIdentifierString()));
+
+            // WHEN: the thing is idle for longer than 2 eviction intervals
+            expectNoMessage(Duration.ofMillis(600L));
+
+            // THEN: a sync tag with the same revision is enqueued again
+            underTest.tell(thingTag, getRef());
+            changeQueueTestProbe.expectMsg(Metadata.of(THING_ID_1, 7L, "", -1L));
+            changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+            expectMsgEquals(StreamAck.success(thingTag.asIdentifierString()));
+        }};
+    }
+
+    @Test
+    public void forgetsThingsOfPurgedNamespace() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createRevisionTableUpdater();
+            pubSubTestProbe.expectMsg(DistPubSubAccess.subscribe(Shutdown.TYPE, underTest));
+
+            underTest.tell(ThingTag.of(THING_ID_1, 7L), ActorRef.noSender());
+            changeQueueTestProbe.expectMsg(Metadata.of(THING_ID_1, 7L, "", -1L));
+
+            // WHEN: the namespace is purged
+            underTest.tell(Shutdown.getInstance(ShutdownReasonFactory.getPurgeNamespaceReason(NAMESPACE),
+                    DittoHeaders.empty()), pubSubTestProbe.ref());
+
+            // THEN: an older revision of the thing is indexed again
+            underTest.tell(ThingTag.of(THING_ID_1, 1L), ActorRef.noSender());
+            changeQueueTestProbe.expectMsg(Metadata.of(THING_ID_1, 1L, "", -1L));
+        }};
+    }
+
+    private ActorRef createRevisionTableUpdater() {
+        return actorSystem.actorOf(RevisionTableUpdater.props(pubSubTestProbe.ref(), changeQueueTestProbe.ref()));
+    }
+
+}
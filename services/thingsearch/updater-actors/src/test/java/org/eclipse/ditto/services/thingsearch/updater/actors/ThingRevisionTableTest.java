@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.Test;
+
+/**
+ * Tests {@link ThingRevisionTable}.
+ */
+public final class ThingRevisionTableTest {
+
+    private static final ThingId THING_ID = ThingId.of("abc", "myId");
+
+    @Test
+    public void unknownThingHasNoRevisions() {
+        final ThingRevisionTable underTest = ThingRevisionTable.newInstance(0);
+
+        assertThat(underTest.getMetadata(THING_ID)).isEqualTo(Metadata.of(THING_ID, -1L, "", -1L));
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void recordsNewerThingRevisionsOnly() {
+        final ThingRevisionTable underTest = ThingRevisionTable.newInstance(0);
+
+        assertThat(underTest.updateThingRevision(THING_ID, 7L)).isTrue();
+        assertThat(underTest.updateThingRevision(THING_ID, 7L)).isFalse();
+        assertThat(underTest.updateThingRevision(THING_ID, 5L)).isFalse();
+        assertThat(underTest.getMetadata(THING_ID)).isEqualTo(Metadata.of(THING_ID, 7L, "", -1L));
+    }
+
+    @Test
+    public void recordsChangedPolicies() {
+        final ThingRevisionTable underTest = ThingRevisionTable.newInstance(0);
+
+        assertThat(underTest.updatePolicy(THING_ID, THING_ID.toString(), 99L)).isTrue();
+        assertThat(underTest.updatePolicy(THING_ID, THING_ID.toString(), 98L)).isFalse();
+        assertThat(underTest.updatePolicy(THING_ID, "policy:2", 9L)).isTrue();
+        assertThat(underTest.getMetadata(THING_ID)).isEqualTo(Metadata.of(THING_ID, -1L, "policy:2", 9L));
+    }
+
+    @Test
+    public void growsAndRemoves() {
+        final int numberOfThings = 10_000;
+        final ThingRevisionTable underTest = ThingRevisionTable.newInstance(0);
+
+        for (int i = 0; i < numberOfThings; ++i) {
+            final ThingId thingId = ThingId.of(i % 2 == 0 ? "even" : "odd", String.valueOf(i));
+            underTest.updateThingRevision(thingId, i);
+            underTest.updatePolicy(thingId, thingId.toString(), i + 1L);
+        }
+        assertThat(underTest.size()).isEqualTo(numberOfThings);
+        assertThat(underTest.getMetadata(ThingId.of("odd", "4321")))
+                .isEqualTo(Metadata.of(ThingId.of("odd", "4321"), 4321L, "odd:4321", 4322L));
+
+        final int removed = underTest.removeIf(thingId -> thingId.startsWith("even:"));
+
+        assertThat(removed).isEqualTo(numberOfThings / 2);
+        assertThat(underTest.size()).isEqualTo(numberOfThings / 2);
+        assertThat(underTest.getMetadata(ThingId.of("even", "1234")))
+                .isEqualTo(Metadata.of(ThingId.of("even", "1234"), -1L, "", -1L));
+        assertThat(underTest.getMetadata(ThingId.of("odd", "4321")))
+                .isEqualTo(Metadata.of(ThingId.of("odd", "4321"), 4321L, "odd:4321", 4322L));
+    }
+
+    @Test
+    public void evictsThingsNotTouchedSinceThePreviousEviction() {
+        final ThingId touchedThingId = ThingId.of("abc", "touched");
+        final ThingId updatedThingId = ThingId.of("abc", "updated");
+        final ThingRevisionTable underTest = ThingRevisionTable.newInstance(0);
+        underTest.updateThingRevision(THING_ID, 7L);
+        underTest.updateThingRevision(touchedThingId, 8L);
+        underTest.updatePolicy(updatedThingId, updatedThingId.toString(), 9L);
+
+        // all things were touched in the first generation
+        assertThat(underTest.evictIdle()).isZero();
+
+        underTest.touch(touchedThingId);
+        underTest.updateThingRevision(updatedThingId, 1L);
+
+        assertThat(underTest.evictIdle()).isEqualTo(1);
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.getMetadata(THING_ID)).isEqualTo(Metadata.of(THING_ID, -1L, "", -1L));
+        assertThat(underTest.getMetadata(touchedThingId)).isEqualTo(Metadata.of(touchedThingId, 8L, "", -1L));
+        assertThat(underTest.updateThingRevision(THING_ID, 7L)).isTrue();
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Compares heap usage and throughput of {@link ThingUpdater} actors per thing against {@link RevisionTableUpdater}
+ * actors per shard. The number of things is configurable by the system property {@value NUMBER_OF_THINGS_PROPERTY};
+ * results are logged at level INFO, e.g. with environment variable {@code LOG_LEVEL_APPLICATION=INFO}.
+ */
+public final class ThingUpdaterLoadIT {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThingUpdaterLoadIT.class);
+
+    private static final String NUMBER_OF_THINGS_PROPERTY = "ThingUpdaterLoadIT.numberOfThings";
+    private static final int NUMBER_OF_THINGS = Integer.getInteger(NUMBER_OF_THINGS_PROPERTY, 100_000);
+    private static final int NUMBER_OF_SHARDS = 30;
+    private static final long TIMEOUT_SECONDS = 300L;
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void compareThingUpdatersWithRevisionTables() throws Exception {
+        // warm up both code paths before measuring
+        run(Math.min(NUMBER_OF_THINGS, 10_000), "warmup.actors", this::startThingUpdaters);
+        run(Math.min(NUMBER_OF_THINGS, 10_000), "warmup.tables", this::startRevisionTableUpdaters);
+        shutdownActorSystem();
+        startActorSystem();
+
+        final Result actorsPerThing = run(NUMBER_OF_THINGS, "actors", this::startThingUpdaters);
+        shutdownActorSystem();
+        startActorSystem();
+        final Result tablesPerShard = run(NUMBER_OF_THINGS, "tables", this::startRevisionTableUpdaters);
+
+        LOGGER.info("{} things with 1 ThingUpdater per thing: {}", NUMBER_OF_THINGS, actorsPerThing);
+        LOGGER.info("{} things with 1 RevisionTableUpdater per shard: {}", NUMBER_OF_THINGS, tablesPerShard);
+        assertThat(actorsPerThing.enqueued).isEqualTo(NUMBER_OF_THINGS);
+        assertThat(tablesPerShard.enqueued).isEqualTo(NUMBER_OF_THINGS);
+    }
+
+    private Result run(final int numberOfThings, final String namespace,
+            final UpdaterFactory updaterFactory) throws InterruptedException {
+
+        final CountDownLatch latch = new CountDownLatch(numberOfThings);
+        final ActorRef changeQueue = actorSystem.actorOf(Props.create(CountingChangeQueue.class, latch));
+        final long heapBefore = usedHeap();
+        final long startNanos = System.nanoTime();
+
+        final IntFunction<ActorRef> updaters = updaterFactory.start(changeQueue, namespace, numberOfThings);
+        for (int i = 0; i < numberOfThings; ++i) {
+            updaters.apply(i).tell(ThingTag.of(thingId(namespace, i), 1L), ActorRef.noSender());
+        }
+        final boolean completed = latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        final long heapAfter = usedHeap();
+
+        assertThat(completed).describedAs("all changes enqueued").isTrue();
+        return new Result(numberOfThings - latch.getCount(), elapsedNanos, heapAfter - heapBefore);
+    }
+
+    private IntFunction<ActorRef> startThingUpdaters(final ActorRef changeQueue, final String namespace,
+            final int numberOfThings) {
+
+        final List<ActorRef> thingUpdaters = new ArrayList<>(numberOfThings);
+        for (int i = 0; i < numberOfThings; ++i) {
+            thingUpdaters.add(actorSystem.actorOf(ThingUpdater.props(changeQueue, changeQueue),
+                    thingId(namespace, i).toString()));
+        }
+        return thingUpdaters::get;
+    }
+
+    private IntFunction<ActorRef> startRevisionTableUpdaters(final ActorRef changeQueue, final String namespace,
+            final int numberOfThings) {
+
+        final List<ActorRef> revisionTableUpdaters = new ArrayList<>(NUMBER_OF_SHARDS);
+        for (int i = 0; i < NUMBER_OF_SHARDS; ++i) {
+            revisionTableUpdaters.add(actorSystem.actorOf(RevisionTableUpdater.props(changeQueue, changeQueue)));
+        }
+        return i -> revisionTableUpdaters.get(i % NUMBER_OF_SHARDS);
+    }
+
+    private static ThingId thingId(final String namespace, final int i) {
+        return ThingId.of(namespace, String.valueOf(i));
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(100L);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @FunctionalInterface
+    private interface UpdaterFactory {
+
+        IntFunction<ActorRef> start(ActorRef changeQueue, String namespace, int numberOfThings);
+    }
+
+    private static final class Result {
+
+        private final long enqueued;
+        private final long elapsedNanos;
+        private final long heapBytes;
+
+        private Result(final long enqueued, final long elapsedNanos, final long heapBytes) {
+            this.enqueued = enqueued;
+            this.elapsedNanos = elapsedNanos;
+            this.heapBytes = heapBytes;
+        }
+
+        @Override
+        public String toString() {
+            final double seconds = elapsedNanos / 1e9;
+            return String.format("%.2f s, %.0f changes/s, %d MiB heap, %d bytes/thing", seconds,
+                    enqueued / seconds, heapBytes >> 20, enqueued == 0L ? 0L : heapBytes / enqueued);
+        }
+
+    }
+
+    /**
+     * Change queue accepting every change; doubles as pub-sub mediator ignoring subscriptions.
+     */
+    private static final class CountingChangeQueue extends AbstractActor {
+
+        private final CountDownLatch latch;
+
+        @SuppressWarnings("unused")
+        private CountingChangeQueue(final CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(Metadata.class, metadata -> {
+                        latch.countDown();
+                        getSender().tell(ChangeQueueActor.EnqueueResult.ACCEPTED, getSelf());
+                    })
+                    .matchAny(message -> {})
+                    .build();
+        }
+
+    }
+
+}
@@ -12,6 +12,10 @@
  */
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.PolicyId;
@@ -26,6 +30,7 @@ import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.things.ThingTag;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
@@ -224,6 +229,10 @@ public final class ThingUpdaterTest {
                 final ThingTag thingTag = ThingTag.of(THING_ID, thingTagRevision);
                 underTest.tell(thingTag, getRef());
 
+                // WHEN: the change queue accepts the change
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, thingTagRevision, "", -1L));
+                changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+
                 // THEN: success is acknowledged
                 expectMsgEquals(StreamAck.success(thingTag.asIdentifierString()));
             }
@@ -242,8 +251,9 @@ public final class ThingUpdaterTest {
                 // GIVEN: a ThingTag with nonempty sender triggered synchronization
                 final ThingTag thingTag = ThingTag.of(THING_ID, thingTagRevision);
                 underTest.tell(thingTag, getRef());
-                expectMsgEquals(StreamAck.success(thingTag.asIdentifierString()));
                 changeQueueTestProbe.expectMsgClass(Metadata.class);
+                changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+                expectMsgEquals(StreamAck.success(thingTag.asIdentifierString()));
 
                 // WHEN: updater receives outdated ThingTag
                 final ThingTag outdatedThingTag = ThingTag.of(THING_ID, outdatedRevision);
@@ -255,6 +265,88 @@ public final class ThingUpdaterTest {
         };
     }
 
+    @Test
+    public void withholdsAcknowledgementsWhileChangeQueueIsFull() {
+        final long thingTagRevision = 7L;
+        final long nextThingTagRevision = 8L;
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+
+                // GIVEN: the change queue rejects the change triggered by a ThingTag
+                final ThingTag thingTag = ThingTag.of(THING_ID, thingTagRevision);
+                underTest.tell(thingTag, getRef());
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, thingTagRevision, "", -1L));
+                changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.REJECTED);
+
+                // WHEN: another ThingTag arrives
+                final ThingTag nextThingTag = ThingTag.of(THING_ID, nextThingTagRevision);
+                underTest.tell(nextThingTag, getRef());
+
+                // THEN: neither ThingTag is acknowledged until the latest change is retried and accepted
+                expectNoMessage();
+                changeQueueTestProbe.expectMsg(Metadata.of(THING_ID, nextThingTagRevision, "", -1L));
+                expectNoMessage();
+                changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+                expectMsgEquals(StreamAck.success(thingTag.asIdentifierString()));
+                expectMsgEquals(StreamAck.success(nextThingTag.asIdentifierString()));
+            }
+        };
+    }
+
+    @Test
+    public void retryEnqueueWhileChangeQueueRejectsChanges() {
+        startActorSystem(ConfigFactory.parseString("ditto.things-search.stream {\n" +
+                "  write-interval = 200ms\n" +
+                "  persistence.max-write-interval = 800ms\n" +
+                "}").withFallback(ConfigFactory.load("test")));
+        final ThingTag thingTag = ThingTag.of(THING_ID, 7L);
+        final Metadata metadata = Metadata.of(THING_ID, 7L, "", -1L);
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createThingUpdaterActor();
+                underTest.tell(thingTag, getRef());
+                changeQueueTestProbe.expectMsg(metadata);
+
+                // WHEN: the change queue rejects the change repeatedly
+                changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.REJECTED);
+
+                // THEN: the change is enqueued again after each rejection
+                changeQueueTestProbe.expectMsg(metadata);
+                changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.REJECTED);
+                changeQueueTestProbe.expectMsg(metadata);
+
+                // THEN: the ThingTag is acknowledged once the change is accepted
+                changeQueueTestProbe.reply(ChangeQueueActor.EnqueueResult.ACCEPTED);
+                expectMsgEquals(StreamAck.success(thingTag.asIdentifierString()));
+            }
+        };
+    }
+
+    @Test
+    public void enqueueRetryDelayDoublesBetweenMinimumAndMaximum() {
+        final Duration min = Duration.ofMillis(200L);
+        final Duration max = Duration.ofMillis(800L);
+
+        assertThat(ThingUpdater.nextEnqueueRetryDelay(Duration.ZERO, min, max, 0.0)).isEqualTo(min);
+        assertThat(ThingUpdater.nextEnqueueRetryDelay(min, min, max, 0.0)).isEqualTo(Duration.ofMillis(400L));
+        assertThat(ThingUpdater.nextEnqueueRetryDelay(Duration.ofMillis(400L), min, max, 0.0)).isEqualTo(max);
+        assertThat(ThingUpdater.nextEnqueueRetryDelay(max, min, max, 0.0)).isEqualTo(max);
+    }
+
+    @Test
+    public void enqueueRetryDelayAddsAtMostHalfOfTheDelayAsJitter() {
+        final Duration min = Duration.ofMillis(200L);
+        final Duration max = Duration.ofMillis(800L);
+
+        assertThat(ThingUpdater.nextEnqueueRetryDelay(min, min, max, 0.5)).isEqualTo(Duration.ofMillis(500L));
+        assertThat(ThingUpdater.nextEnqueueRetryDelay(max, min, max, 0.999))
+                .isGreaterThan(max)
+                .isLessThan(Duration.ofMillis(1200L));
+    }
+
     @Test
     public void shutdownOnCommand() {
         new TestKit(actorSystem) {
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.aggregator;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+
+/**
+ * Local message asking the {@link ThingsAggregatorProxyActor} to respond with an
+ * {@code akka.stream.javadsl.Source<String, NotUsed>} emitting the JSON strings of the retrieved things as soon as they
+ * arrive instead of aggregating them into one {@link org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse}.
+ * The things are emitted in the order of the requested thing IDs; things which could not be retrieved are skipped.
+ */
+@Immutable
+public final class StreamThings {
+
+    private final RetrieveThings retrieveThings;
+
+    private StreamThings(final RetrieveThings retrieveThings) {
+        this.retrieveThings = retrieveThings;
+    }
+
+    /**
+     * Returns a new instance of {@code StreamThings}.
+     *
+     * @param retrieveThings the command determining the things to retrieve.
+     * @return the instance.
+     * @throws NullPointerException if {@code retrieveThings} is {@code null}.
+     */
+    public static StreamThings of(final RetrieveThings retrieveThings) {
+        return new StreamThings(checkNotNull(retrieveThings, "retrieveThings"));
+    }
+
+    /**
+     * @return the command determining the things to retrieve.
+     */
+    public RetrieveThings getRetrieveThings() {
+        return retrieveThings;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final StreamThings that = (StreamThings) o;
+        return Objects.equals(retrieveThings, that.retrieveThings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(retrieveThings);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "retrieveThings=" + retrieveThings +
+                "]";
+    }
+
+}
@@ -46,6 +46,7 @@ import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -64,6 +65,10 @@ import akka.stream.javadsl.Source;
  * to a {@link RetrieveThings} command via a {@link SourceRef} which is a pointer in the cluster emitting the retrieved
  * {@link Thing}s one after one in a stream. That ensures that the cluster messages size must not be increased when
  * streaming a larger amount of Things in the cluster.
+ * <p>
+ * In response to a {@link StreamThings} message, the retrieved Things are not aggregated but passed on as a
+ * {@link Source} of JSON strings, so that the requester may start emitting them before all Things were retrieved.
+ * </p>
  */
 public final class ThingsAggregatorProxyActor extends AbstractActor {
 
@@ -107,6 +112,7 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
         return ReceiveBuilder.create()
                 .match(RetrieveThings.class, rt -> handleRetrieveThings(rt, rt))
                 .match(SudoRetrieveThings.class, srt -> handleSudoRetrieveThings(srt, srt))
+                .match(StreamThings.class, this::handleStreamThings)
                 .match(DistributedPubSubMediator.Send.class, send -> {
                     final Object msg = send.msg();
                     if (msg instanceof RetrieveThings) {
@@ -145,27 +151,78 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
         askTargetActor(srt, thingIds, msgToAsk, sender);
     }
 
+    private void handleStreamThings(final StreamThings streamThings) {
+        final RetrieveThings rt = streamThings.getRetrieveThings();
+        LogUtil.enhanceLogWithCorrelationId(log, rt.getDittoHeaders().getCorrelationId());
+        final List<ThingId> thingIds = rt.getThingEntityIds();
+        log.info("Got '{}' message. Streaming requested '{}' Things..",
+                StreamThings.class.getSimpleName(), thingIds.size());
+
+        final ActorRef sender = getSender();
+        PatternsCS.ask(targetActor, rt, Duration.ofSeconds(ASK_TIMEOUT))
+                .thenAccept(response -> {
+                    if (response instanceof SourceRef) {
+                        sender.tell(createThingJsonSource((SourceRef<?>) response, thingIds), getSelf());
+                    } else {
+                        handleNonSourceRefResponse(response, rt, sender);
+                    }
+                });
+    }
+
     private void askTargetActor(final Command<?> command, final List<ThingId> thingIds,
             final Object msgToAsk, final ActorRef sender) {
         PatternsCS.ask(targetActor, msgToAsk, Duration.ofSeconds(ASK_TIMEOUT))
                 .thenAccept(response -> {
                     if (response instanceof SourceRef){
                         handleSourceRef((SourceRef) response, thingIds, command, sender);
-                    } else if (response instanceof DittoRuntimeException) {
-                        sender.tell(response, getSelf());
                     } else {
-                        log.error("Unexpected non-DittoRuntimeException error - responding with " +
-                                        "GatewayInternalErrorException. Cause: {} - {}",
-                                response.getClass().getSimpleName(), response);
-                        final GatewayInternalErrorException responseEx =
-                                GatewayInternalErrorException.newBuilder()
-                                        .dittoHeaders(command.getDittoHeaders())
-                                        .build();
-                        sender.tell(responseEx, getSelf());
+                        handleNonSourceRefResponse(response, command, sender);
                     }
                 });
     }
 
+    private void handleNonSourceRefResponse(final Object response, final Command<?> command,
+            final ActorRef sender) {
+
+        if (response instanceof DittoRuntimeException) {
+            sender.tell(response, getSelf());
+        } else {
+            log.error("Unexpected non-DittoRuntimeException error - responding with " +
+                            "GatewayInternalErrorException. Cause: {} - {}",
+                    response.getClass().getSimpleName(), response);
+            final GatewayInternalErrorException responseEx =
+                    GatewayInternalErrorException.newBuilder()
+                            .dittoHeaders(command.getDittoHeaders())
+                            .build();
+            sender.tell(responseEx, getSelf());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Source<String, NotUsed> createThingJsonSource(final SourceRef<?> sourceRef,
+            final List<ThingId> thingIds) {
+
+        final StartedTimer timer = DittoMetrics.expiringTimer(TRACE_AGGREGATOR_RETRIEVE_THINGS)
+                .tag("size", Integer.toString(thingIds.size()))
+                .build();
+
+        // the aggregator asks for the things in the order of the requested IDs and preserves that order
+        return ((SourceRef<Object>) sourceRef).getSource()
+                .filter(RetrieveThingResponse.class::isInstance)
+                .map(RetrieveThingResponse.class::cast)
+                .map(ThingsAggregatorProxyActor::getJsonString)
+                .log("retrieve-thing-response", log)
+                .watchTermination((notUsed, done) -> {
+                    done.whenComplete((doneOrNull, error) -> stopTimer(timer));
+                    return notUsed;
+                });
+    }
+
+    private static String getJsonString(final RetrieveThingResponse response) {
+        return response.getEntityPlainString().orElseGet(() ->
+                response.getEntity(response.getImplementedSchemaVersion()).toString());
+    }
+
     private void handleSourceRef(final SourceRef sourceRef, final List<ThingId> thingIds,
             final Command<?> originatingCommand, final ActorRef originatingSender) {
         final Function<Jsonifiable<?>, PlainJson> thingPlainJsonSupplier;
@@ -214,9 +271,7 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
         return jsonifiable -> {
             if (jsonifiable instanceof RetrieveThingResponse) {
                 final RetrieveThingResponse response = (RetrieveThingResponse) jsonifiable;
-                final String json = response.getEntityPlainString().orElseGet(() ->
-                        response.getEntity(response.getImplementedSchemaVersion()).toString());
-                return PlainJson.of(response.getEntityId(), json);
+                return PlainJson.of(response.getEntityId(), getJsonString(response));
             } else {
                 return null;
             }
@@ -12,13 +12,20 @@
  */
 package org.eclipse.ditto.services.utils.aggregator;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -27,6 +34,10 @@ import org.junit.Test;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
 import akka.testkit.TestActor.AutoPilot;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -50,6 +61,7 @@ public class ThingsAggregatorProxyActorTest {
             .build();
 
     private static ActorSystem actorSystem;
+    private static ActorMaterializer materializer;
 
     @Test
     public void testHandleDittoRuntimeException() {
@@ -79,6 +91,63 @@ public class ThingsAggregatorProxyActorTest {
         }};
     }
 
+    @Test
+    public void testStreamThingsInRequestedOrder() throws Exception {
+        final Thing thing1 = Thing.newBuilder().setId(ThingId.of("ditto", "thing1")).build();
+        final Thing thing2 = Thing.newBuilder().setId(ThingId.of("ditto", "thing2")).build();
+        final List<RetrieveThingResponse> responses = Arrays.asList(
+                RetrieveThingResponse.of(thing1.getEntityId().orElseThrow(), thing1.toJson(), DITTO_HEADERS),
+                RetrieveThingResponse.of(thing2.getEntityId().orElseThrow(), thing2.toJson(), DITTO_HEADERS));
+
+        new TestKit(actorSystem) {{
+            final TestProbe targetActor = new TestProbe(actorSystem);
+            targetActor.setAutoPilot(new AutoPilotAnsweringWithSourceRef(responses));
+
+            final Props props = ThingsAggregatorProxyActor.props(targetActor.ref());
+            final ActorRef proxyActor = actorSystem.actorOf(props);
+
+            proxyActor.tell(StreamThings.of(RETRIEVE_THINGS_COMMAND), getRef());
+
+            @SuppressWarnings("unchecked")
+            final Source<String, ?> thingJsonSource = expectMsgClass(Source.class);
+            final List<String> thingJsons = thingJsonSource.runWith(Sink.seq(), materializer)
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+            assertThat(thingJsons).containsExactly(thing1.toJsonString(), thing2.toJsonString());
+        }};
+    }
+
+    @Test
+    public void testStreamThingsHandlesDittoRuntimeException() {
+        new TestKit(actorSystem) {{
+            final TestProbe targetActor = new TestProbe(actorSystem);
+            targetActor.setAutoPilot(new AutoPilotAnsweringWithException(DITTO_RUNTIME_EXCEPTION));
+
+            final Props props = ThingsAggregatorProxyActor.props(targetActor.ref());
+            final ActorRef proxyActor = actorSystem.actorOf(props);
+
+            proxyActor.tell(StreamThings.of(RETRIEVE_THINGS_COMMAND), getRef());
+            expectMsg(DITTO_RUNTIME_EXCEPTION);
+        }};
+    }
+
+    private static class AutoPilotAnsweringWithSourceRef extends AutoPilot {
+
+        private final List<RetrieveThingResponse> responses;
+
+        private AutoPilotAnsweringWithSourceRef(final List<RetrieveThingResponse> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public AutoPilot run(final ActorRef sender, final Object msg) {
+            Source.from(responses)
+                    .runWith(StreamRefs.sourceRef(), materializer)
+                    .thenAccept(sourceRef -> sender.tell(sourceRef, ActorRef.noSender()));
+            return keepRunning();
+        }
+    }
+
     private static class AutoPilotAnsweringWithException extends AutoPilot {
 
         private final Exception exceptionToRespond;
@@ -97,6 +166,7 @@ public class ThingsAggregatorProxyActorTest {
     @BeforeClass
     public static void setUp() {
         actorSystem = ActorSystem.create("AkkaTestSystem");
+        materializer = ActorMaterializer.create(actorSystem);
     }
 
     @AfterClass
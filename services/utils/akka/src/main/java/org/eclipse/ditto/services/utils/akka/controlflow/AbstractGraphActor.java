@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.akka.controlflow;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
@@ -61,20 +63,15 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
 
     protected final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
-    private final Counter receiveCounter = DittoMetrics.counter("graph_actor_receive")
-            .tag("class", getClass().getSimpleName());
+    private final Counter receiveCounter = DittoMetrics.boundCounter("graph_actor_receive", classTag());
 
-    private final Counter enqueueSuccessCounter = DittoMetrics.counter("graph_actor_enqueue_success")
-            .tag("class", getClass().getSimpleName());
+    private final Counter enqueueSuccessCounter = DittoMetrics.boundCounter("graph_actor_enqueue_success", classTag());
 
-    private final Counter enqueueDroppedCounter = DittoMetrics.counter("graph_actor_enqueue_dropped")
-            .tag("class", getClass().getSimpleName());
+    private final Counter enqueueDroppedCounter = DittoMetrics.boundCounter("graph_actor_enqueue_dropped", classTag());
 
-    private final Counter enqueueFailureCounter = DittoMetrics.counter("graph_actor_enqueue_failure")
-            .tag("class", getClass().getSimpleName());
+    private final Counter enqueueFailureCounter = DittoMetrics.boundCounter("graph_actor_enqueue_failure", classTag());
 
-    private final Counter dequeueCounter = DittoMetrics.counter("graph_actor_dequeue")
-            .tag("class", getClass().getSimpleName());
+    private final Counter dequeueCounter = DittoMetrics.boundCounter("graph_actor_dequeue", classTag());
 
     protected AbstractGraphActor() {
         // no-op
@@ -282,4 +279,8 @@ public abstract class AbstractGraphActor<T> extends AbstractActor {
      */
     protected abstract void preEnhancement(final ReceiveBuilder receiveBuilder);
 
+    private Map<String, String> classTag() {
+        return Collections.singletonMap("class", getClass().getSimpleName());
+    }
+
 }
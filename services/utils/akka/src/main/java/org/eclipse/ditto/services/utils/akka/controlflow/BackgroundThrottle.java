@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import java.time.Duration;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Flow;
+
+/**
+ * Regulates the throughput of streams which perform background work on the persistence such as background sync,
+ * namespace purges or persistence cleanup, so that they do not compete with the foreground traffic.
+ */
+public interface BackgroundThrottle {
+
+    /**
+     * Create a flow which lets elements pass only as far as credit is given out for the named background stream.
+     * Each positive credit decision permits {@code creditPerDecision} elements; while credit is withheld, the flow
+     * back-pressures its upstream.
+     *
+     * @param streamName name of the background stream for logging and reporting.
+     * @param creditPerDecision how many elements to let pass per positive credit decision.
+     * @param <T> type of elements.
+     * @return the throttling flow.
+     */
+    <T> Flow<T, T, NotUsed> throttle(String streamName, int creditPerDecision);
+
+    /**
+     * Returns the interval between credit decisions so that streams can derive their credit per decision from the
+     * rate they are supposed to have.
+     *
+     * @return the decision interval.
+     */
+    Duration getDecisionInterval();
+
+    /**
+     * Returns a throttle which never withholds credit.
+     *
+     * @return the throttle.
+     */
+    static BackgroundThrottle unlimited() {
+        return UnlimitedBackgroundThrottle.INSTANCE;
+    }
+
+}
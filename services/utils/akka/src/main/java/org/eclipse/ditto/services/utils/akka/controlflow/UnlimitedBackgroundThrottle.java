@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.controlflow;
+
+import java.time.Duration;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Flow;
+
+/**
+ * Background throttle letting all elements pass.
+ */
+enum UnlimitedBackgroundThrottle implements BackgroundThrottle {
+
+    INSTANCE;
+
+    @Override
+    public <T> Flow<T, T, NotUsed> throttle(final String streamName, final int creditPerDecision) {
+        return Flow.create();
+    }
+
+    @Override
+    public Duration getDecisionInterval() {
+        return Duration.ofSeconds(1L);
+    }
+
+}
@@ -27,6 +27,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
 import org.eclipse.ditto.services.models.streaming.SudoStreamModifiedEntities;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.akka.controlflow.BackgroundThrottle;
 
 import akka.NotUsed;
 import akka.actor.AbstractActorWithTimers;
@@ -139,6 +140,7 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
     private final TimestampPersistence streamMetadataPersistence;
     private final Materializer materializer;
     private final SyncConfig syncConfig;
+    private final BackgroundThrottle backgroundThrottle;
     private @Nullable StreamTrigger activeStream;
     private @Nullable Boolean activeStreamSuccess;
 
@@ -158,7 +160,8 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
             final Function<SudoStreamModifiedEntities, ?> streamTriggerMessageMapper,
             final TimestampPersistence streamMetadataPersistence,
             final Materializer materializer,
-            final SyncConfig syncConfig) {
+            final SyncConfig syncConfig,
+            final BackgroundThrottle backgroundThrottle) {
 
         this.forwardTo = checkNotNull(forwardTo, "forward-to actor reference");
         this.provider = checkNotNull(provider, "provider actor reference");
@@ -168,6 +171,7 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
         this.streamMetadataPersistence = checkNotNull(streamMetadataPersistence, "stream metadata persistence");
         this.materializer = checkNotNull(materializer, "Materializer");
         this.syncConfig = checkNotNull(syncConfig, "SyncConfig");
+        this.backgroundThrottle = checkNotNull(backgroundThrottle, "background throttle");
 
         lastStreamStartOrStop = Instant.now();
 
@@ -202,8 +206,41 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
             final Materializer materializer,
             final SyncConfig syncConfig) {
 
+        return props(forwardTo, provider, elementClass, mapEntityFunction, streamTriggerMessageMapper,
+                streamMetadataPersistence, materializer, syncConfig, BackgroundThrottle.unlimited());
+    }
+
+    /**
+     * Creates the props for {@code DefaultStreamSupervisor} forwarding stream elements only as far as the given
+     * background throttle gives out credit. While the throttle gives out credit, the configured elements streamed
+     * per batch are forwarded per second of the decision interval.
+     *
+     * @param <E> the type of elements.
+     * @param forwardTo the {@link ActorRef} to which the stream will be forwarded.
+     * @param provider the {@link ActorRef} which provides the stream.
+     * @param elementClass the class of elements.
+     * @param mapEntityFunction the function to create a source of messages from each streamed element.
+     * @param streamTriggerMessageMapper a mapping function to convert a {@link SudoStreamModifiedEntities} message to a
+     * message understood by the stream provider. Can be used to send messages via Akka PubSub.
+     * @param streamMetadataPersistence the {@link TimestampPersistence} used to read and write stream metadata (is
+     * used to remember the end time of the last stream after a re-start).
+     * @param materializer the materializer to run Akka streams with.
+     * @param syncConfig the configuration settings for stream consumption.
+     * @param backgroundThrottle the throttle regulating the forwarded messages.
+     * @return the props
+     */
+    public static <E> Props props(final ActorRef forwardTo,
+            final ActorRef provider,
+            final Class<E> elementClass,
+            final Function<E, Source<Object, NotUsed>> mapEntityFunction,
+            final Function<SudoStreamModifiedEntities, ?> streamTriggerMessageMapper,
+            final TimestampPersistence streamMetadataPersistence,
+            final Materializer materializer,
+            final SyncConfig syncConfig,
+            final BackgroundThrottle backgroundThrottle) {
+
         return Props.create(DefaultStreamSupervisor.class, forwardTo, provider, elementClass, mapEntityFunction,
-                streamTriggerMessageMapper, streamMetadataPersistence, materializer, syncConfig);
+                streamTriggerMessageMapper, streamMetadataPersistence, materializer, syncConfig, backgroundThrottle);
     }
 
     private Object newStartStreamingCommand(final StreamTrigger streamRestrictions) {
@@ -413,7 +450,9 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
         streamForwardingStartedOrStopped();
         final StreamTrigger currentStreamTrigger = activeStream;
         final CompletionStage<ScheduleNextStream> termination = sourceRef.getSource()
-                .flatMapConcat(this::forwardStreamElement)
+                .flatMapConcat(this::mapStreamElement)
+                .via(backgroundThrottle.throttle(getSelf().path().name(), getCreditPerDecision()))
+                .mapAsync(1, element -> Patterns.ask(forwardTo, element, syncConfig.getMaxIdleTime()))
                 .log("forwardStreamElement", log)
                 .toMat(Sink.ignore(), Keep.right())
                 .run(materializer)
@@ -421,15 +460,18 @@ public final class DefaultStreamSupervisor<E> extends AbstractActorWithTimers {
         Patterns.pipe(termination, getContext().dispatcher()).to(getSelf());
     }
 
-    private Source<Object, NotUsed> forwardStreamElement(final Object streamElement) {
+    private int getCreditPerDecision() {
+        final long decisionIntervalSeconds = Math.max(1L, backgroundThrottle.getDecisionInterval().getSeconds());
+        return (int) Math.min(Integer.MAX_VALUE, decisionIntervalSeconds * syncConfig.getElementsStreamedPerBatch());
+    }
+
+    private Source<Object, NotUsed> mapStreamElement(final Object streamElement) {
         if (streamElement instanceof BatchedEntityIdWithRevisions) {
             final BatchedEntityIdWithRevisions<?> message = (BatchedEntityIdWithRevisions) streamElement;
             final List<?> elements = message.getElements();
-            final Duration maxIdleTime = syncConfig.getMaxIdleTime();
             return Source.fromIterator(elements::iterator)
                     .map(this::typecheckMessageToForward)
-                    .flatMapConcat(mapEntityFunction::apply)
-                    .mapAsync(1, element -> Patterns.ask(forwardTo, element, maxIdleTime));
+                    .flatMapConcat(mapEntityFunction::apply);
         } else {
             log.warning("Unexpected element from stream: <{}>", streamElement);
             return Source.empty();
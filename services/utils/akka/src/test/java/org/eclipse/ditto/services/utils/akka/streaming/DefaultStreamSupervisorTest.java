@@ -35,6 +35,7 @@ import org.eclipse.ditto.services.models.streaming.AbstractEntityIdWithRevision;
 import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
 import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
 import org.eclipse.ditto.services.models.streaming.SudoStreamModifiedEntities;
+import org.eclipse.ditto.services.utils.akka.controlflow.BackgroundThrottle;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -245,7 +246,8 @@ public final class DefaultStreamSupervisorTest {
                 getRef().tell(onRestartMessage, ActorRef.noSender());
 
                 return new DefaultStreamSupervisor<>(forwardTo.ref(), provider.ref(), String.class, Source::single,
-                        Function.identity(), searchSyncPersistence, materializer, syncConfig);
+                        Function.identity(), searchSyncPersistence, materializer, syncConfig,
+                        BackgroundThrottle.unlimited());
             });
 
             // WHEN: The stream supervisor is created
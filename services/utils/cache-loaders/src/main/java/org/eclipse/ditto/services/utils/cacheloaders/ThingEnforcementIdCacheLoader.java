@@ -83,7 +83,9 @@ public final class ThingEnforcementIdCacheLoader
                         EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId);
                 return Entry.of(revision, resourceKey);
             } else {
+                // many things share the same policy, so let the cached entries share the policy ID as well
                 final PolicyId policyId = thing.getPolicyEntityId()
+                        .map(PolicyId::interned)
                         .orElseThrow(badThingResponse("no PolicyId or ACL"));
                 final EntityIdWithResourceType resourceKey =
                         EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
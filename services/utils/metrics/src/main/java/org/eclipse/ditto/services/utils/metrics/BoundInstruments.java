@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.KamonCounter;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedKamonTimer;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+
+/**
+ * Registry of metric instruments which are bound to a fixed set of tags. Each instrument is created once per name and
+ * tag set and refines its Kamon instrument only once, so that updating it needs neither map lookups nor allocations.
+ */
+@ThreadSafe
+final class BoundInstruments {
+
+    private static final ConcurrentMap<InstrumentKey, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<InstrumentKey, PreparedTimer> TIMERS = new ConcurrentHashMap<>();
+
+    private BoundInstruments() {
+        throw new AssertionError();
+    }
+
+    static Counter counter(final String name, final Map<String, String> tags) {
+        final Counter counter = COUNTERS.get(new InstrumentKey(name, tags));
+        if (null != counter) {
+            return counter;
+        }
+        final InstrumentKey key = InstrumentKey.copyOf(name, tags);
+        return COUNTERS.computeIfAbsent(key, k -> KamonCounter.newCounter(k.name).tags(k.tags));
+    }
+
+    static PreparedTimer timer(final String name, final Map<String, String> tags) {
+        final PreparedTimer timer = TIMERS.get(new InstrumentKey(name, tags));
+        if (null != timer) {
+            return timer;
+        }
+        final InstrumentKey key = InstrumentKey.copyOf(name, tags);
+        return TIMERS.computeIfAbsent(key, k -> PreparedKamonTimer.newBoundTimer(k.name, k.tags));
+    }
+
+    @Immutable
+    private static final class InstrumentKey {
+
+        private final String name;
+        private final Map<String, String> tags;
+
+        private InstrumentKey(final String name, final Map<String, String> tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+
+        private static InstrumentKey copyOf(final String name, final Map<String, String> tags) {
+            return new InstrumentKey(name, Collections.unmodifiableMap(new HashMap<>(tags)));
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final InstrumentKey that = (InstrumentKey) o;
+            return name.equals(that.name) && tags.equals(that.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, tags);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "name=" + name +
+                    ", tags=" + tags +
+                    "]";
+        }
+
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.metrics;
 
+import java.util.Map;
+
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.KamonCounter;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
@@ -39,6 +41,18 @@ public final class DittoMetrics {
         return new DefaultTimerBuilder(name).build();
     }
 
+    /**
+     * Returns the timer bound to the given name and tags. The timer is created only once per name and tag set and
+     * can be shared by multiple threads. Tagging it further returns a new timer and leaves the bound one unchanged.
+     *
+     * @param name The name of the metric.
+     * @param tags The fixed tags of the timer.
+     * @return The bound timer.
+     */
+    public static PreparedTimer boundTimer(final String name, final Map<String, String> tags) {
+        return BoundInstruments.timer(name, tags);
+    }
+
     /**
      * Creates an {@link ExpiringTimerBuilder} that allows to customize the timer before it will be started.
      *
@@ -49,6 +63,16 @@ public final class DittoMetrics {
         return new ExpiringTimerBuilder(name);
     }
 
+    /**
+     * Creates an {@link ExpiringTimerBuilder} which starts the given timer, e.g. a {@link #boundTimer(String, Map)}.
+     *
+     * @param preparedTimer The timer to start.
+     * @return The {@link ExpiringTimerBuilder}.
+     */
+    public static ExpiringTimerBuilder expiringTimer(final PreparedTimer preparedTimer) {
+        return new ExpiringTimerBuilder(preparedTimer);
+    }
+
     /**
      * Creates a {@link Counter} with the given name.
      *
@@ -59,6 +83,18 @@ public final class DittoMetrics {
         return KamonCounter.newCounter(name);
     }
 
+    /**
+     * Returns the {@link Counter} bound to the given name and tags. The counter is created only once per name and tag
+     * set.
+     *
+     * @param name The name of the counter.
+     * @param tags The fixed tags of the counter.
+     * @return The bound {@link Counter}.
+     */
+    public static Counter boundCounter(final String name, final Map<String, String> tags) {
+        return BoundInstruments.counter(name, tags);
+    }
+
     /**
      * Creates a {@link Gauge} with the given name.
      *
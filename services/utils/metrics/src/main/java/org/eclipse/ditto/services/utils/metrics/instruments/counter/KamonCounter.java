@@ -37,9 +37,11 @@ public class KamonCounter implements Counter {
     private final String name;
     private final Map<String, String> tags;
 
+    @Nullable private volatile kamon.metric.Counter kamonInternalCounter;
+
     private KamonCounter(final String name, final Map<String, String> tags) {
         this.name = name;
-        this.tags = Collections.unmodifiableMap(new HashMap<>(tags));
+        this.tags = Collections.unmodifiableMap(tags);
     }
 
     public static Counter newCounter(final String name) {
@@ -89,7 +91,13 @@ public class KamonCounter implements Counter {
     }
 
     private kamon.metric.Counter getKamonInternalCounter() {
-        return Kamon.counter(name).refine(this.tags);
+        kamon.metric.Counter result = kamonInternalCounter;
+        if (null == result) {
+            // refining looks the instrument up in Kamon's registry, thus do it only once per tag set
+            result = Kamon.counter(name).refine(tags);
+            kamonInternalCounter = result;
+        }
+        return result;
     }
 
     @Override
@@ -36,9 +36,11 @@ public class KamonGauge implements Gauge {
     private final String name;
     private final Map<String, String> tags;
 
+    @Nullable private volatile kamon.metric.Gauge kamonInternalGauge;
+
     private KamonGauge(final String name, final Map<String, String> tags) {
         this.name = name;
-        this.tags = Collections.unmodifiableMap(new HashMap<>(tags));
+        this.tags = Collections.unmodifiableMap(tags);
     }
 
     public static Gauge newGauge(final String name) {
@@ -109,7 +111,13 @@ public class KamonGauge implements Gauge {
     }
 
     private kamon.metric.Gauge getKamonInternalGauge() {
-        return Kamon.gauge(name).refine(tags);
+        kamon.metric.Gauge result = kamonInternalGauge;
+        if (null == result) {
+            // refining looks the instrument up in Kamon's registry, thus do it only once per tag set
+            result = Kamon.gauge(name).refine(tags);
+            kamonInternalGauge = result;
+        }
+        return result;
     }
 
 
@@ -41,9 +41,11 @@ public class KamonHistogram implements Histogram {
     private final Map<String, String> tags;
     private final String name;
 
+    @Nullable private volatile kamon.metric.Histogram kamonInternalHistogram;
+
     private KamonHistogram(final String name, final Map<String, String> tags) {
         this.name = name;
-        this.tags = Collections.unmodifiableMap(new HashMap<>(tags));
+        this.tags = Collections.unmodifiableMap(tags);
     }
 
     public static Histogram newHistogram(final String name) {
@@ -120,7 +122,13 @@ public class KamonHistogram implements Histogram {
     }
 
     private kamon.metric.Histogram getKamonInternalHistogram() {
-        return Kamon.histogram(name).refine(tags);
+        kamon.metric.Histogram result = kamonInternalHistogram;
+        if (null == result) {
+            // refining looks the instrument up in Kamon's registry, thus do it only once per tag set
+            result = Kamon.histogram(name).refine(tags);
+            kamonInternalHistogram = result;
+        }
+        return result;
     }
 
 
@@ -36,6 +36,7 @@ public final class ExpiringTimerBuilder implements TimerBuilder<ExpiringTimerBui
 
     private final String name;
     private final Map<String, String> additionalTags;
+    @Nullable private final PreparedTimer preparedTimer;
 
     private long maximumDuration = 5;
     private TimeUnit maximumDurationTimeUnit = TimeUnit.MINUTES;
@@ -46,6 +47,18 @@ public final class ExpiringTimerBuilder implements TimerBuilder<ExpiringTimerBui
     public ExpiringTimerBuilder(final String name) {
         this.name = name;
         this.additionalTags = new HashMap<>();
+        this.preparedTimer = null;
+    }
+
+    /**
+     * Creates a builder which starts the given timer. Additional tags are added to the given timer.
+     *
+     * @param preparedTimer the timer to start.
+     */
+    public ExpiringTimerBuilder(final PreparedTimer preparedTimer) {
+        this.name = preparedTimer.getName();
+        this.additionalTags = new HashMap<>();
+        this.preparedTimer = preparedTimer;
     }
 
     /**
@@ -107,7 +120,7 @@ public final class ExpiringTimerBuilder implements TimerBuilder<ExpiringTimerBui
      */
     @Override
     public StartedTimer build() {
-        final StartedTimer timer = PreparedKamonTimer.newTimer(name).tags(additionalTags).start();
+        final StartedTimer timer = getPreparedTimer().start();
         expirationHandlingFuture =
                 scheduler.schedule(() -> defaultExpirationHandling(name, timer, additionalExpirationHandling),
                         maximumDuration, maximumDurationTimeUnit);
@@ -115,6 +128,15 @@ public final class ExpiringTimerBuilder implements TimerBuilder<ExpiringTimerBui
         return timer;
     }
 
+    private PreparedTimer getPreparedTimer() {
+        if (null == preparedTimer) {
+            return PreparedKamonTimer.newTimer(name).tags(additionalTags);
+        } else if (additionalTags.isEmpty()) {
+            return preparedTimer;
+        }
+        return preparedTimer.tags(additionalTags);
+    }
+
     private void cancelScheduledExpirationFuture(final StoppedTimer timer) {
 
         if (!expirationHandlingFuture.isDone()) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.instruments.timer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import kamon.Kamon;
+
+/**
+ * Binds an immutable set of tags to the Kamon timer refined for it. The Kamon timer is looked up in Kamon's registry
+ * at most once, so that timers started from the same binding record their durations without any lookup.
+ */
+@ThreadSafe
+final class KamonTimerBinding {
+
+    static final String SEGMENT_TAG = "segment";
+    private static final String OVERALL_SEGMENT = "overall";
+
+    private final String name;
+    private final Map<String, String> tags;
+
+    @Nullable private volatile kamon.metric.Timer kamonInternalTimer;
+
+    private KamonTimerBinding(final String name, final Map<String, String> tags) {
+        this.name = name;
+        this.tags = tags;
+    }
+
+    /**
+     * Creates the binding for timers started with the given tags. The {@value #SEGMENT_TAG} tag defaults to
+     * {@code overall}.
+     *
+     * @param name the name of the timer.
+     * @param tags the tags of the prepared timer.
+     * @return the binding.
+     */
+    static KamonTimerBinding forStart(final String name, final Map<String, String> tags) {
+        final Map<String, String> startTags = new HashMap<>(tags);
+        startTags.putIfAbsent(SEGMENT_TAG, OVERALL_SEGMENT);
+        return new KamonTimerBinding(name, Collections.unmodifiableMap(startTags));
+    }
+
+    /**
+     * @return the unmodifiable tags of this binding.
+     */
+    Map<String, String> getTags() {
+        return tags;
+    }
+
+    /**
+     * @return the Kamon timer refined for the tags of this binding.
+     */
+    kamon.metric.Timer getKamonInternalTimer() {
+        kamon.metric.Timer result = kamonInternalTimer;
+        if (null == result) {
+            result = Kamon.timer(name).refine(tags);
+            kamonInternalTimer = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "name=" + name +
+                ", tags=" + tags +
+                "]";
+    }
+
+}
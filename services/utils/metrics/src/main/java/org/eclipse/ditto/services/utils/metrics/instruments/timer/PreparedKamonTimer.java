@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.utils.metrics.instruments.timer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,19 +42,49 @@ public class PreparedKamonTimer implements PreparedTimer {
 
     private final String name;
     private final Map<String, String> tags;
+    private final boolean bound;
 
-    private PreparedKamonTimer(final String name) {
+    @Nullable private volatile kamon.metric.Timer kamonInternalTimer;
+    @Nullable private volatile KamonTimerBinding startBinding;
+
+    private PreparedKamonTimer(final String name, final Map<String, String> tags, final boolean bound) {
         this.name = name;
-        this.tags = new HashMap<>();
+        this.tags = tags;
+        this.bound = bound;
     }
 
     static PreparedTimer newTimer(final String name) {
-        return new PreparedKamonTimer(name);
+        return new PreparedKamonTimer(name, new HashMap<>(), false);
+    }
+
+    /**
+     * Creates a timer whose tags are fixed and whose Kamon instruments are refined only once. Adding tags to the
+     * returned timer leaves it unchanged and returns a new timer with the combined tags instead, thus it can be
+     * shared by multiple threads.
+     *
+     * @param name the name of the timer.
+     * @param tags the fixed tags of the timer.
+     * @return the bound timer.
+     */
+    public static PreparedTimer newBoundTimer(final String name, final Map<String, String> tags) {
+        final PreparedKamonTimer result =
+                new PreparedKamonTimer(name, Collections.unmodifiableMap(new HashMap<>(tags)), true);
+        result.kamonInternalTimer = Kamon.timer(name).refine(result.tags);
+        final KamonTimerBinding binding = KamonTimerBinding.forStart(name, result.tags);
+        binding.getKamonInternalTimer();
+        result.startBinding = binding;
+        return result;
     }
 
     @Override
     public PreparedTimer tags(final Map<String, String> tags) {
+        if (bound) {
+            final Map<String, String> newTags = new HashMap<>(this.tags);
+            newTags.putAll(tags);
+            return new PreparedKamonTimer(name, newTags, false);
+        }
         this.tags.putAll(tags);
+        invalidateKamonInternalTimers();
         return this;
     }
 
@@ -70,10 +101,21 @@ public class PreparedKamonTimer implements PreparedTimer {
 
     @Override
     public PreparedTimer tag(final String key, final String value) {
+        if (bound) {
+            final Map<String, String> newTags = new HashMap<>(tags);
+            newTags.put(key, value);
+            return new PreparedKamonTimer(name, newTags, false);
+        }
         this.tags.put(key, value);
+        invalidateKamonInternalTimers();
         return this;
     }
 
+    private void invalidateKamonInternalTimers() {
+        kamonInternalTimer = null;
+        startBinding = null;
+    }
+
     /**
      * Starts the Timer. This method is package private so only {@link DefaultTimerBuilder} can start
      * this timer.
@@ -81,7 +123,12 @@ public class PreparedKamonTimer implements PreparedTimer {
      * @return The started {@link StartedTimer}
      */
     public StartedTimer start() {
-        return StartedKamonTimer.fromPreparedTimer(this);
+        KamonTimerBinding binding = startBinding;
+        if (null == binding) {
+            binding = KamonTimerBinding.forStart(name, tags);
+            startBinding = binding;
+        }
+        return StartedKamonTimer.fromBinding(name, binding);
     }
 
     @Override
@@ -136,7 +183,13 @@ public class PreparedKamonTimer implements PreparedTimer {
     }
 
     private kamon.metric.Timer getKamonInternalTimer() {
-        return Kamon.timer(name).refine(this.tags);
+        kamon.metric.Timer result = kamonInternalTimer;
+        if (null == result) {
+            // refining looks the instrument up in Kamon's registry, thus do it only once per tag set
+            result = Kamon.timer(name).refine(tags);
+            kamonInternalTimer = result;
+        }
+        return result;
     }
 
     private List<Long> addBucketValuesToList(Bucket bucket, List<Long> values) {
@@ -28,29 +28,31 @@ import org.slf4j.LoggerFactory;
 public class StartedKamonTimer implements StartedTimer {
 
 
-    private static final String SEGMENT_TAG = "segment";
+    private static final String SEGMENT_TAG = KamonTimerBinding.SEGMENT_TAG;
     private static final Logger LOGGER = LoggerFactory.getLogger(StartedKamonTimer.class);
 
     private final String name;
-    private final Map<String, String> tags;
     private final List<OnStopHandler> onStopHandlers;
     private final Map<String, StartedTimer> segments;
     private final long startTimestamp;
 
+    // the tags of the binding are shared until this timer gets tagged
+    private Map<String, String> tags;
+    @Nullable private KamonTimerBinding binding;
     private boolean stopped;
 
-    private StartedKamonTimer(final String name, final Map<String, String> tags) {
+    private StartedKamonTimer(final String name, final KamonTimerBinding binding) {
         this.name = name;
-        this.tags = new HashMap<>(tags);
+        this.binding = binding;
+        this.tags = binding.getTags();
         this.segments = new HashMap<>();
         this.onStopHandlers = new ArrayList<>();
         this.stopped = false;
         this.startTimestamp = System.nanoTime();
-        if (!this.tags.containsKey(SEGMENT_TAG)) {tag(SEGMENT_TAG, "overall");}
     }
 
-    static StartedTimer fromPreparedTimer(final PreparedTimer preparedTimer) {
-        return new StartedKamonTimer(preparedTimer.getName(), preparedTimer.getTags());
+    static StartedTimer fromBinding(final String name, final KamonTimerBinding binding) {
+        return new StartedKamonTimer(name, binding);
     }
 
     @Override
@@ -59,11 +61,19 @@ public class StartedKamonTimer implements StartedTimer {
             LOGGER.warn("Tried to append multiple tags to the stopped timer with name <{}>. Tags are ineffective.",
                     name);
         } else {
-            this.tags.putAll(tags);
+            getOwnTags().putAll(tags);
         }
         return this;
     }
 
+    private Map<String, String> getOwnTags() {
+        if (null != binding) {
+            tags = new HashMap<>(tags);
+            binding = null;
+        }
+        return tags;
+    }
+
     @Nullable
     @Override
     public String getTag(final String key) {
@@ -82,7 +92,7 @@ public class StartedKamonTimer implements StartedTimer {
                     "Tried to append tag <{}> with value <{}> to the stopped timer with name <{}>. Tag is ineffective.",
                     key, value, name);
         } else {
-            this.tags.put(key, value);
+            getOwnTags().put(key, value);
         }
         return this;
     }
@@ -92,7 +102,8 @@ public class StartedKamonTimer implements StartedTimer {
 
         if (isRunning()) {
             stopped = true;
-            return StoppedKamonTimer.fromStartedTimer(this);
+            final kamon.metric.Timer kamonInternalTimer = null != binding ? binding.getKamonInternalTimer() : null;
+            return StoppedKamonTimer.of(name, tags, startTimestamp, segments, onStopHandlers, kamonInternalTimer);
         }
 
         throw new IllegalStateException(
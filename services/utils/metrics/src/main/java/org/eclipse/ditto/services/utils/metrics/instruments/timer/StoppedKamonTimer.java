@@ -34,16 +34,19 @@ public class StoppedKamonTimer implements StoppedTimer {
 
     private final String name;
     private final Map<String, String> tags;
+    @Nullable private final kamon.metric.Timer kamonInternalTimer;
 
     private long startTimestamp;
     private long endTimestamp;
 
     private StoppedKamonTimer(final String name, final Map<String, String> tags, final long startTimestamp,
-            final Map<String, StartedTimer> segments, List<OnStopHandler> onStopHandlers) {
+            final Map<String, StartedTimer> segments, List<OnStopHandler> onStopHandlers,
+            @Nullable final kamon.metric.Timer kamonInternalTimer) {
         this.startTimestamp = startTimestamp;
         this.endTimestamp = System.nanoTime();
         this.name = name;
-        this.tags = new HashMap<>(tags);
+        this.tags = tags;
+        this.kamonInternalTimer = kamonInternalTimer;
         segments.forEach((segmentName, segment) -> {
             if (segment.isRunning()) {
                 segment.stop();
@@ -54,13 +57,20 @@ public class StoppedKamonTimer implements StoppedTimer {
                 tags.get(SEGMENT_TAG), getDuration());
         onStopHandlers
                 .forEach(stoppedTimerConsumer -> stoppedTimerConsumer.handleStoppedTimer(this));
-        getKamonInternalTimer().record(getDuration().getNano());
+        getKamonInternalTimer().record(getDuration().toNanos());
     }
 
-    static StoppedTimer fromStartedTimer(final StartedTimer startedTimer) {
-
-        return new StoppedKamonTimer(startedTimer.getName(), startedTimer.getTags(), startedTimer.getStartTimeStamp(),
-                startedTimer.getSegments(), startedTimer.getOnStopHandlers());
+    /**
+     * Stops a timer without copying its state. The arguments must not be modified afterwards.
+     *
+     * @param kamonInternalTimer the Kamon timer already refined for {@code tags} or {@code null} if it should be
+     * looked up.
+     */
+    static StoppedTimer of(final String name, final Map<String, String> tags, final long startTimestamp,
+            final Map<String, StartedTimer> segments, final List<OnStopHandler> onStopHandlers,
+            @Nullable final kamon.metric.Timer kamonInternalTimer) {
+
+        return new StoppedKamonTimer(name, tags, startTimestamp, segments, onStopHandlers, kamonInternalTimer);
     }
 
     @Override
@@ -81,7 +91,10 @@ public class StoppedKamonTimer implements StoppedTimer {
 
 
     private kamon.metric.Timer getKamonInternalTimer() {
-        return Kamon.timer(name).refine(this.tags);
+        if (null != kamonInternalTimer) {
+            return kamonInternalTimer;
+        }
+        return Kamon.timer(name).refine(tags);
     }
 
     @Override
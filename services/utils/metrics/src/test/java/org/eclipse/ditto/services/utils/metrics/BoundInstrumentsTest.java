@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.junit.Test;
+
+/**
+ * Tests {@link BoundInstruments}.
+ */
+public final class BoundInstrumentsTest {
+
+    @Test
+    public void sameCounterIsReturnedForSameNameAndTags() {
+        final Map<String, String> tags = new HashMap<>();
+        tags.put("class", "Test");
+        final Counter counter = BoundInstruments.counter("bound_counter", tags);
+
+        tags.put("class", "Other");
+
+        assertThat(BoundInstruments.counter("bound_counter", Collections.singletonMap("class", "Test")))
+                .isSameAs(counter);
+        assertThat(BoundInstruments.counter("bound_counter", tags)).isNotSameAs(counter);
+        assertThat(counter.getTags()).containsOnlyKeys("class").containsEntry("class", "Test");
+    }
+
+    @Test
+    public void boundCounterCounts() {
+        final Counter counter = BoundInstruments.counter("bound_counter_counts", Collections.emptyMap());
+        counter.reset();
+
+        counter.increment();
+        BoundInstruments.counter("bound_counter_counts", Collections.emptyMap()).increment(2);
+
+        assertThat(counter.getCount()).isEqualTo(3L);
+    }
+
+    @Test
+    public void sameTimerIsReturnedForSameNameAndTags() {
+        final PreparedTimer timer = BoundInstruments.timer("bound_timer", Collections.singletonMap("type", "a"));
+
+        assertThat(BoundInstruments.timer("bound_timer", Collections.singletonMap("type", "a"))).isSameAs(timer);
+        assertThat(BoundInstruments.timer("bound_timer", Collections.singletonMap("type", "b"))).isNotSameAs(timer);
+    }
+
+}
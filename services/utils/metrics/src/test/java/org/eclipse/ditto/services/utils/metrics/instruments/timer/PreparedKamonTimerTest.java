@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.utils.metrics.instruments.timer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import org.assertj.core.data.Percentage;
@@ -85,4 +86,32 @@ public class PreparedKamonTimerTest {
         final StartedTimer started2 = sut.start();
         assertThat(started1.getStartTimeStamp()).isNotEqualTo(started2.getStartTimeStamp());
     }
+
+    @Test
+    public void taggingBoundTimerReturnsNewTimer() {
+        final PreparedTimer boundTimer =
+                PreparedKamonTimer.newBoundTimer("BoundTestTimer", Collections.singletonMap("fixed", "1"));
+
+        final PreparedTimer taggedTimer = boundTimer.tag("TEST", "someValue");
+
+        assertThat(taggedTimer).isNotSameAs(boundTimer);
+        assertThat(taggedTimer.getTags()).containsEntry("fixed", "1").containsEntry("TEST", "someValue");
+        assertThat(boundTimer.getTags()).containsOnlyKeys("fixed");
+    }
+
+    @Test
+    public void stoppedTimerOfBoundTimerIsRecorded() {
+        final PreparedTimer boundTimer =
+                PreparedKamonTimer.newBoundTimer("BoundTestTimer", Collections.singletonMap("fixed", "1"));
+        final PreparedTimer overallTimer = PreparedKamonTimer.newTimer("BoundTestTimer")
+                .tag("fixed", "1")
+                .tag("segment", "overall");
+        overallTimer.reset();
+
+        boundTimer.start().stop();
+        boundTimer.start().tag("TEST", "someValue").stop();
+
+        assertThat(overallTimer.getNumberOfRecords()).isEqualTo(1L);
+    }
+
 }
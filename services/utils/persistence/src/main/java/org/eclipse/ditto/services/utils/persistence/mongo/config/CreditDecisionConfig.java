@@ -10,14 +10,16 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.common;
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 
 /**
- * Provides configuration settings for credit decisions of persistence cleanup actions.
+ * Provides configuration settings for credit decisions of background actions such as persistence cleanup.
  */
 public interface CreditDecisionConfig {
 
@@ -36,7 +38,7 @@ public interface CreditDecisionConfig {
     Duration getMetricReportTimeout();
 
     /**
-     * Returns maximum database latency to give out credit for cleanup actions.
+     * Returns maximum database latency to give out credit for background actions.
      *
      * @return database latency threshold.
      */
@@ -44,12 +46,21 @@ public interface CreditDecisionConfig {
 
     /**
      * Returns the amount of credit given out by 1 credit decision.
-     * It limits the rate of cleanup actions to this many per credit decision interval.
+     * It limits the rate of background actions to this many per credit decision interval.
      *
      * @return the amount of credit per decision.
      */
     int getCreditPerBatch();
 
+    /**
+     * Returns the cluster roles whose instances report the round trip times of their MongoDB journal and whose
+     * health the background actions depend on. No credit is given out while one of these roles has no reachable
+     * instance.
+     *
+     * @return the expected cluster roles.
+     */
+    List<String> getExpectedRoles();
+
     /**
      * Enumeration of known config keys and default values for {@code CreditDecisionConfig}
      */
@@ -73,7 +84,12 @@ public interface CreditDecisionConfig {
         /**
          * Amount of credit to give out per decision.
          */
-        CREDIT_PER_BATCH("credit-per-batch", 5);
+        CREDIT_PER_BATCH("credit-per-batch", 5),
+
+        /**
+         * Cluster roles whose health background actions depend on.
+         */
+        EXPECTED_ROLES("expected-roles", Arrays.asList("connectivity", "policies", "things"));
 
         private final String path;
         private final Object defaultValue;
@@ -10,9 +10,12 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.common;
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -21,8 +24,11 @@ import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 
 import com.typesafe.config.Config;
 
+/**
+ * This class is the default implementation of {@link CreditDecisionConfig}.
+ */
 @Immutable
-final class DefaultCreditDecisionConfig implements CreditDecisionConfig {
+public final class DefaultCreditDecisionConfig implements CreditDecisionConfig {
 
     private static final String CONFIG_PATH = "credit-decision";
 
@@ -30,15 +36,25 @@ final class DefaultCreditDecisionConfig implements CreditDecisionConfig {
     private final Duration metricReportTimeout;
     private final Duration timerThreshold;
     private final int creditPerBatch;
+    private final List<String> expectedRoles;
 
     private DefaultCreditDecisionConfig(final Config conf) {
         this.interval = conf.getDuration(ConfigValue.INTERVAL.getConfigPath());
         this.metricReportTimeout = conf.getDuration(ConfigValue.METRIC_REPORT_TIMEOUT.getConfigPath());
         this.timerThreshold = conf.getDuration(ConfigValue.TIMER_THRESHOLD.getConfigPath());
         this.creditPerBatch = conf.getInt(ConfigValue.CREDIT_PER_BATCH.getConfigPath());
+        this.expectedRoles = Collections.unmodifiableList(
+                new ArrayList<>(conf.getStringList(ConfigValue.EXPECTED_ROLES.getConfigPath())));
     }
 
-    static CreditDecisionConfig of(final Config config) {
+    /**
+     * Returns an instance of {@code DefaultCreditDecisionConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the credit decision config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCreditDecisionConfig of(final Config config) {
         return new DefaultCreditDecisionConfig(
                 ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
     }
@@ -63,6 +79,11 @@ final class DefaultCreditDecisionConfig implements CreditDecisionConfig {
         return creditPerBatch;
     }
 
+    @Override
+    public List<String> getExpectedRoles() {
+        return expectedRoles;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o instanceof DefaultCreditDecisionConfig) {
@@ -70,7 +91,8 @@ final class DefaultCreditDecisionConfig implements CreditDecisionConfig {
             return Objects.equals(interval, that.interval) &&
                     Objects.equals(metricReportTimeout, that.metricReportTimeout) &&
                     Objects.equals(timerThreshold, that.timerThreshold) &&
-                    creditPerBatch == that.creditPerBatch;
+                    creditPerBatch == that.creditPerBatch &&
+                    Objects.equals(expectedRoles, that.expectedRoles);
         } else {
             return false;
         }
@@ -78,7 +100,7 @@ final class DefaultCreditDecisionConfig implements CreditDecisionConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, metricReportTimeout, timerThreshold, creditPerBatch);
+        return Objects.hash(interval, metricReportTimeout, timerThreshold, creditPerBatch, expectedRoles);
     }
 
     @Override
@@ -88,6 +110,7 @@ final class DefaultCreditDecisionConfig implements CreditDecisionConfig {
                 ", metricReportTimeout" + metricReportTimeout +
                 ", timerThreshold" + timerThreshold +
                 ", creditPerBatch" + creditPerBatch +
+                ", expectedRoles" + expectedRoles +
                 "]";
     }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.credits;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.services.utils.akka.controlflow.BackgroundThrottle;
+import org.eclipse.ditto.services.utils.akka.controlflow.Transistor;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.CreditDecisionConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultCreditDecisionConfig;
+
+import akka.NotUsed;
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.cluster.pubsub.DistributedPubSub;
+import akka.event.Logging;
+import akka.event.LoggingAdapter;
+import akka.stream.ActorMaterializer;
+import akka.stream.FanInShape2;
+import akka.stream.FlowShape;
+import akka.stream.OverflowStrategy;
+import akka.stream.SourceShape;
+import akka.stream.javadsl.BroadcastHub;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.GraphDSL;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Actor system extension handing out credits to all background streams of a service instance (background sync,
+ * namespace purges, persistence cleanup, ...).
+ * <p>
+ * One {@link CreditDecisionSource} per actor system decides whether MongoDB is healthy enough for background work,
+ * based on the round trip times reported by all services persisting entities. Its decisions are broadcast to all
+ * registered streams; each stream translates a positive decision into its own amount of credit. Registered streams
+ * consume the decisions independently: a stream not ready for the next decision only misses stale ones and never
+ * slows down the other streams.
+ * </p>
+ * <p>
+ * The decision source is started with the first registered stream, so that services without background streams do
+ * not ask for metrics.
+ * </p>
+ * <p>
+ * While the decisions block all background streams, a warning is logged every {@value #BLOCKED_DECISIONS_PER_WARNING}
+ * decisions and the gauge {@value #BLOCKED_GAUGE_NAME} is set to 1.
+ * </p>
+ */
+public final class BackgroundLoadController implements BackgroundThrottle, Extension {
+
+    private static final String CONFIG_PATH = "ditto.background-load";
+    private static final String BLOCKED_GAUGE_NAME = "background_load_blocked";
+    private static final int BLOCKED_DECISIONS_PER_WARNING = 10;
+
+    private final ActorSystem actorSystem;
+    private final CreditDecisionConfig creditDecisionConfig;
+    private final LoggingAdapter log;
+    private final Gauge blockedGauge;
+
+    @Nullable private Source<CreditDecision, NotUsed> creditDecisionHub;
+    @Nullable private Instant blockedSince;
+    private long blockedDecisions;
+
+    private BackgroundLoadController(final ActorSystem actorSystem, final CreditDecisionConfig creditDecisionConfig) {
+        this.actorSystem = actorSystem;
+        this.creditDecisionConfig = creditDecisionConfig;
+        log = Logging.getLogger(actorSystem, BackgroundLoadController.class);
+        blockedGauge = DittoMetrics.gauge(BLOCKED_GAUGE_NAME);
+        creditDecisionHub = null;
+        blockedSince = null;
+        blockedDecisions = 0L;
+    }
+
+    /**
+     * Get the background load controller of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the background load controller.
+     */
+    public static BackgroundLoadController get(final ActorSystem actorSystem) {
+        return Provider.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Returns the config of the credit decisions, which also defines the credit per decision of streams without
+     * settings of their own.
+     *
+     * @return the credit decision config.
+     */
+    public CreditDecisionConfig getCreditDecisionConfig() {
+        return creditDecisionConfig;
+    }
+
+    /**
+     * Register a background stream and get the credit decisions for it.
+     *
+     * @param streamName name of the background stream for logging.
+     * @param creditPerDecision credit given to the stream by each positive decision.
+     * @return source of credit decisions for the stream.
+     */
+    public Source<CreditDecision, NotUsed> creditDecisions(final String streamName, final int creditPerDecision) {
+        return getCreditDecisionHub()
+                .buffer(1, OverflowStrategy.dropHead())
+                .map(decision -> 0 < decision.getCredit()
+                        ? CreditDecision.yes(creditPerDecision, decision.getExplanation())
+                        : decision)
+                .log(streamName, log);
+    }
+
+    @Override
+    public <T> Flow<T, T, NotUsed> throttle(final String streamName, final int creditPerDecision) {
+        final Source<Integer, NotUsed> creditSource =
+                creditDecisions(streamName, creditPerDecision).map(CreditDecision::getCredit);
+
+        return Flow.fromGraph(GraphDSL.create(builder -> {
+            final SourceShape<Integer> credit = builder.add(creditSource);
+            final FanInShape2<T, Integer, T> transistor = builder.add(Transistor.of());
+
+            builder.from(credit.out()).toInlet(transistor.in1());
+
+            return FlowShape.of(transistor.in0(), transistor.out());
+        }));
+    }
+
+    @Override
+    public Duration getDecisionInterval() {
+        return creditDecisionConfig.getInterval();
+    }
+
+    private synchronized Source<CreditDecision, NotUsed> getCreditDecisionHub() {
+        if (null == creditDecisionHub) {
+            final ActorRef pubSubMediator = DistributedPubSub.get(actorSystem).mediator();
+            final ActorMaterializer materializer = ActorMaterializer.create(actorSystem);
+            creditDecisionHub =
+                    Source.fromGraph(CreditDecisionSource.create(creditDecisionConfig, actorSystem, pubSubMediator, log))
+                            .toMat(BroadcastHub.of(CreditDecision.class, 1), Keep.right())
+                            .run(materializer);
+            creditDecisionHub.runWith(Sink.foreach(this::reportDecision), materializer);
+        }
+        return creditDecisionHub;
+    }
+
+    private void reportDecision(final CreditDecision decision) {
+        if (0 < decision.getCredit()) {
+            if (null != blockedSince) {
+                log.info("Background streams are unblocked after <{}>: {}",
+                        Duration.between(blockedSince, Instant.now()), decision.getExplanation());
+                blockedSince = null;
+                blockedDecisions = 0L;
+                blockedGauge.set(0L);
+            }
+        } else {
+            if (null == blockedSince) {
+                blockedSince = Instant.now();
+                blockedGauge.set(1L);
+            }
+            if (blockedDecisions++ % BLOCKED_DECISIONS_PER_WARNING == 0L) {
+                log.warning("Background streams are blocked since <{}>: {}", blockedSince,
+                        decision.getExplanation());
+            }
+        }
+    }
+
+    private static CreditDecisionConfig readConfig(final ActorSystem actorSystem) {
+        return DefaultCreditDecisionConfig.of(
+                ConfigWithFallback.newInstance(actorSystem.settings().config(), CONFIG_PATH, new KnownConfigValue[0]));
+    }
+
+    private static final class Provider extends AbstractExtensionId<BackgroundLoadController> {
+
+        private static final Provider INSTANCE = new Provider();
+
+        @Override
+        public BackgroundLoadController createExtension(final ExtendedActorSystem system) {
+            return new BackgroundLoadController(system, readConfig(system));
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.credits;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
+import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
+import org.eclipse.ditto.services.utils.health.cluster.ClusterStatus;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.cluster.Cluster;
+import akka.japi.function.Function;
+import akka.stream.FanOutShape2;
+import akka.stream.Graph;
+import akka.stream.javadsl.Flow;
+import scala.util.Either;
+import scala.util.Left;
+import scala.util.Right;
+
+/**
+ * Retrieve cluster status when prompted by a tick.
+ * <ul>
+ * <li>
+ * Deliver the number of reachable instances in the expected roles in outlet 0 if all expected roles have reachable
+ * instances. While the cluster has unreachable members, this happens only for every second tick in order to slow
+ * down background actions.
+ * </li>
+ * <li>
+ * Deliver rejection of credit in outlet 1 if some expected roles have no reachable instances, or for the skipped
+ * ticks while the cluster has unreachable members.
+ * </li>
+ * </ul>
+ */
+final class ClusterStatusStage {
+
+    private ClusterStatusStage() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates the cluster status stage - whenever a message (tick) triggers the stage,
+     * <ul>
+     * <li>the ClusterStatus is determined</li>
+     * <li>it is checked that all {@code expectedRoles} have reachable members</li>
+     * <li>while members are unreachable, every second tick is rejected</li>
+     * <li>when the tick is not rejected, in outlet 0 the number of reachable instances of the expected roles will be
+     * emitted</li>
+     * <li>when the tick is rejected, in outlet 1 a {@link CreditDecision} with rejection is emitted</li>
+     * </ul>
+     *
+     * @param actorSystem the ActorSystem to determine the cluster from
+     * @param expectedRoles the cluster roles whose health background actions depend on.
+     * @param <T> the type of the tick messages
+     * @return the created cluster status stage.
+     */
+    static <T> Graph<FanOutShape2<T, Integer, CreditDecision>, NotUsed> create(
+            final ActorSystem actorSystem, final List<String> expectedRoles) {
+        return create(new ClusterStatusSupplier(Cluster.get(actorSystem)), expectedRoles);
+    }
+
+    static <T> Graph<FanOutShape2<T, Integer, CreditDecision>, NotUsed> create(
+            final Supplier<ClusterStatus> clusterStatusSupplier, final List<String> expectedRoles) {
+
+        return Filter.multiplexByEitherFlow(Flow.<T>create()
+                .map(tick -> clusterStatusSupplier.get())
+                .statefulMapConcat(() -> new DecisionByClusterStatus(expectedRoles)));
+    }
+
+    private static boolean areAllMembersReachable(final ClusterStatus clusterStatus) {
+        return clusterStatus.getUnreachable().isEmpty();
+    }
+
+    private static Either<CreditDecision, Integer> countMembersOfExpectedRoles(final ClusterStatus clusterStatus,
+            final List<String> expectedRoles) {
+        final List<Integer> reachableMembersOfExpectedRoles = clusterStatus.getRoles()
+                .stream()
+                .filter(role -> expectedRoles.contains(role.getRole()))
+                .map(role -> role.getReachable().size())
+                .filter(reachableMembers -> 0 < reachableMembers)
+                .collect(Collectors.toList());
+
+        if (reachableMembersOfExpectedRoles.size() == expectedRoles.size()) {
+            return new Right<>(reachableMembersOfExpectedRoles.stream().mapToInt(Integer::intValue).sum());
+        } else {
+            // some expected roles are not reachable; do not return members count.
+            return new Left<>(CreditDecision.no(
+                    "Not all expected roles " + expectedRoles + " have reachable members: " + clusterStatus));
+        }
+    }
+
+    private static final class DecisionByClusterStatus
+            implements Function<ClusterStatus, Iterable<Either<CreditDecision, Integer>>> {
+
+        private final List<String> expectedRoles;
+        private long ticksWithUnreachableMembers;
+
+        private DecisionByClusterStatus(final List<String> expectedRoles) {
+            this.expectedRoles = expectedRoles;
+            ticksWithUnreachableMembers = 0L;
+        }
+
+        @Override
+        public Iterable<Either<CreditDecision, Integer>> apply(final ClusterStatus clusterStatus) {
+            final Either<CreditDecision, Integer> membersOfExpectedRoles =
+                    countMembersOfExpectedRoles(clusterStatus, expectedRoles);
+            if (areAllMembersReachable(clusterStatus)) {
+                ticksWithUnreachableMembers = 0L;
+                return Collections.singletonList(membersOfExpectedRoles);
+            } else if (ticksWithUnreachableMembers++ % 2L == 1L && membersOfExpectedRoles.isRight()) {
+                // unreachable members slow down background actions instead of stopping them
+                return Collections.singletonList(new Left<>(CreditDecision.no(
+                        "Cluster has unreachable members, skipping every second decision: " + clusterStatus)));
+            } else {
+                return Collections.singletonList(membersOfExpectedRoles);
+            }
+        }
+    }
+
+}
@@ -10,14 +10,14 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.actors.cleanup.messages;
+package org.eclipse.ditto.services.utils.persistence.mongo.credits;
 
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
 /**
- * Decision about how many credits to give to cleanup actions.
+ * Decision about how many credits to give to background actions.
  */
 @Immutable
 public final class CreditDecision {
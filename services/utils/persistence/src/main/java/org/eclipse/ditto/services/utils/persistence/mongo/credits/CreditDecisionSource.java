@@ -10,18 +10,17 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.actors.cleanup.credits;
+package org.eclipse.ditto.services.utils.persistence.mongo.credits;
 
 import java.time.Duration;
 import java.util.List;
 
-import org.eclipse.ditto.services.concierge.actors.cleanup.messages.CreditDecision;
-import org.eclipse.ditto.services.concierge.common.CreditDecisionConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.CreditDecisionConfig;
 import org.eclipse.ditto.services.utils.health.StatusInfo;
 
 import akka.NotUsed;
-import akka.actor.ActorContext;
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.event.LoggingAdapter;
 import akka.stream.FanOutShape2;
 import akka.stream.FlowShape;
@@ -34,7 +33,7 @@ import akka.stream.javadsl.Merge;
 import akka.stream.javadsl.Source;
 
 /**
- * Decide how many cleanup actions to permit based on cluster status and persistence metrics.
+ * Decide how many background actions to permit based on cluster status and persistence metrics.
  *
  * <pre>{@code
  *                             Start
@@ -42,27 +41,28 @@ import akka.stream.javadsl.Source;
  *                               |
  *                               |
  *                               v
- * +-----------------------------+---------------------------+  Yes
- * |Are there unreachable members?                           +------> No credit: cluster unhealthy
+ * +-----------------------------+---------------------------+  No
+ * |Do all expected roles have reachable members?            +------> No credit: missing roles
  * +-----------------------------+---------------------------+
  *                               |
- *                               |No
+ *                               |Yes
  *                               v
- * +-----------------------------+---------------------------+  No
- * |Do cluster roles <things, policies, connectivity> exist? +------> No credit: missing roles
+ * +-----------------------------+---------------------------+  Yes
+ * |Are there unreachable members and was the last decision  +------> No credit: slow down for unhealthy cluster
+ * |not skipped?                                             |
  * +-----------------------------+---------------------------+
  *                               |
- *                               |Yes
+ *                               |No
  *                               v
  * +-----------------------------+---------------------------+  No
- * |Do all members of <things, policies, connectivity> report+------> No credit: no metric reporting
- * |MongoDB metrics?                                         |
+ * |Do all reachable members of the expected roles report    +------> No credit: no metric reporting
+ * |MongoDB journal metrics?                                 |
  * +-----------------------------+---------------------------+
  *                               |
  *                               |Yes
  *                               v
- *                    Give out DeleteOldEvent credit
- *                    based on MongoDB metrics
+ *                    Give out credit
+ *                    based on MongoDB journal round trip times
  * }</pre>
  */
 public final class CreditDecisionSource {
@@ -75,14 +75,14 @@ public final class CreditDecisionSource {
      * Create an infinite source of credit decisions.
      *
      * @param config credit decision configuration.
-     * @param context an actor context to access the actor system and to create actors.
+     * @param actorSystem the actor system to determine the cluster from and to create actors in.
      * @param pubSubMediator the pub-sub-mediator.
      * @param log logger for the source.
      * @return a source of credit decisions.
      */
     public static Graph<SourceShape<CreditDecision>, NotUsed> create(
             final CreditDecisionConfig config,
-            final ActorContext context,
+            final ActorSystem actorSystem,
             final ActorRef pubSubMediator,
             final LoggingAdapter log) {
 
@@ -91,10 +91,10 @@ public final class CreditDecisionSource {
                         .mapMaterializedValue(whatever -> NotUsed.getInstance());
 
         final Graph<FanOutShape2<Tick, Integer, CreditDecision>, NotUsed> clusterStatusStage =
-                ClusterStatusStage.create(context.system());
+                ClusterStatusStage.create(actorSystem, config.getExpectedRoles());
 
         final Graph<FanOutShape2<Integer, List<StatusInfo>, CreditDecision>, NotUsed> persistenceStatusStage =
-                PersistenceStatusStage.create(pubSubMediator, context, config.getMetricReportTimeout());
+                PersistenceStatusStage.create(pubSubMediator, actorSystem, config.getMetricReportTimeout());
 
         final Graph<FlowShape<List<StatusInfo>, CreditDecision>, NotUsed> decisionByMetricStage =
                 DecisionByMetricStage.create(config.getTimerThreshold(), config.getCreditPerBatch());
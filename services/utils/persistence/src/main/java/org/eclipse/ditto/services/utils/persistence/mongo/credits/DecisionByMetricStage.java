@@ -10,14 +10,13 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.actors.cleanup.credits;
+package org.eclipse.ditto.services.utils.persistence.mongo.credits;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.ditto.json.JsonValue;
-import org.eclipse.ditto.services.concierge.actors.cleanup.messages.CreditDecision;
 import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
 import org.eclipse.ditto.services.utils.health.StatusInfo;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetrics;
@@ -35,7 +34,7 @@ import scala.util.Left;
 import scala.util.Right;
 
 /**
- * Decide how many cleanup actions to permit based on persistence metrics.
+ * Decide how many background actions to permit based on persistence metrics.
  * <ul>
  * <li>
  * Give out a set amount of credits if all status info messages are well-formed and all timers are below the configured
@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.actors.cleanup.credits;
+package org.eclipse.ditto.services.utils.persistence.mongo.credits;
 
 import java.time.Duration;
 import java.util.ArrayList;
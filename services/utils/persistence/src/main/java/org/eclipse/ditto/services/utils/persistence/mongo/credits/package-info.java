@@ -12,7 +12,8 @@
  */
 
 /**
- * Gather cluster health and persistence metrics to decide how much credits to give to persistence cleanup actions.
+ * Gather cluster health and persistence metrics to decide how much credits to give to background actions
+ * such as persistence cleanup, background sync or namespace purges.
  */
 @org.eclipse.ditto.utils.jsr305.annotations.AllParametersAndReturnValuesAreNonnullByDefault
-package org.eclipse.ditto.services.concierge.actors.cleanup.credits;
+package org.eclipse.ditto.services.utils.persistence.mongo.credits;
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.List;
 
 import org.bson.Document;
+import org.eclipse.ditto.services.utils.akka.controlflow.BackgroundThrottle;
 import org.eclipse.ditto.services.utils.persistence.mongo.ops.MongoOpsUtil;
 import org.eclipse.ditto.services.utils.persistence.operations.NamespacePersistenceOperations;
 
@@ -28,18 +29,22 @@ import akka.NotUsed;
 import akka.stream.javadsl.Source;
 
 /**
- * Namespace Ops on MongoDB EventSource persistence.
+ * Namespace Ops on MongoDB EventSource persistence. Each purge waits for a positive decision of the background
+ * throttle before deleting anything.
  */
 public final class MongoNamespacePersistenceOperations implements NamespacePersistenceOperations {
 
     private final MongoDatabase db;
     private final MongoPersistenceOperationsSelectionProvider selectionProvider;
+    private final BackgroundThrottle backgroundThrottle;
 
     private MongoNamespacePersistenceOperations(final MongoDatabase db,
-            final MongoEventSourceSettings eventSourceSettings) {
+            final MongoEventSourceSettings eventSourceSettings,
+            final BackgroundThrottle backgroundThrottle) {
 
         this.db = checkNotNull(db, "database");
         selectionProvider = MongoPersistenceOperationsSelectionProvider.of(eventSourceSettings);
+        this.backgroundThrottle = checkNotNull(backgroundThrottle, "background throttle");
     }
 
     /**
@@ -52,7 +57,22 @@ public final class MongoNamespacePersistenceOperations implements NamespacePersi
     public static MongoNamespacePersistenceOperations of(final MongoDatabase db,
             final MongoEventSourceSettings eventSourceSettings) {
 
-        return new MongoNamespacePersistenceOperations(db, eventSourceSettings);
+        return of(db, eventSourceSettings, BackgroundThrottle.unlimited());
+    }
+
+    /**
+     * Create a new instance whose purges are regulated by a background throttle.
+     *
+     * @param db the database
+     * @param eventSourceSettings the {@link MongoEventSourceSettings}
+     * @param backgroundThrottle the throttle to wait for before each purge
+     * @return the instance
+     */
+    public static MongoNamespacePersistenceOperations of(final MongoDatabase db,
+            final MongoEventSourceSettings eventSourceSettings,
+            final BackgroundThrottle backgroundThrottle) {
+
+        return new MongoNamespacePersistenceOperations(db, eventSourceSettings, backgroundThrottle);
     }
 
     @Override
@@ -74,7 +94,10 @@ public final class MongoNamespacePersistenceOperations implements NamespacePersi
             result = result.merge(purge);
         }
 
-        return result;
+        // one positive decision permits the deletions of the whole namespace
+        return Source.single(result)
+                .via(backgroundThrottle.throttle("namespace-purge", 1))
+                .flatMapConcat(purgeSource -> purgeSource);
     }
 
     private Source<List<Throwable>, NotUsed> purge(final MongoPersistenceOperationsSelection selection) {
@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.common;
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
 
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -27,11 +27,11 @@ import com.typesafe.config.ConfigFactory;
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 /**
- * Tests {@link org.eclipse.ditto.services.concierge.common.DefaultCreditDecisionConfig}.
+ * Tests {@link DefaultCreditDecisionConfig}.
  */
 public class DefaultCreditDecisionConfigTest {
 
-    private static final Config PERSISTENCE_CLEANUP_CONFIG = ConfigFactory.load("persistence-cleanup-test");
+    private static final Config CREDIT_DECISION_TEST_CONFIG = ConfigFactory.load("credit-decision-test");
 
     @Rule
     public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
@@ -55,6 +55,10 @@ public class DefaultCreditDecisionConfigTest {
         softly.assertThat(underTest.getInterval())
                 .as(CreditDecisionConfig.ConfigValue.INTERVAL.getConfigPath())
                 .isEqualTo(CreditDecisionConfig.ConfigValue.INTERVAL.getDefaultValue());
+
+        softly.assertThat(underTest.getExpectedRoles())
+                .as(CreditDecisionConfig.ConfigValue.EXPECTED_ROLES.getConfigPath())
+                .isEqualTo(CreditDecisionConfig.ConfigValue.EXPECTED_ROLES.getDefaultValue());
     }
 
     @Test
@@ -76,10 +80,14 @@ public class DefaultCreditDecisionConfigTest {
         softly.assertThat(underTest.getCreditPerBatch())
                 .as(CreditDecisionConfig.ConfigValue.CREDIT_PER_BATCH.getConfigPath())
                 .isEqualTo(500);
+
+        softly.assertThat(underTest.getExpectedRoles())
+                .as(CreditDecisionConfig.ConfigValue.EXPECTED_ROLES.getConfigPath())
+                .containsExactly("things", "policies");
     }
 
     private CreditDecisionConfig createFromConfig() {
-        return DefaultPersistenceCleanupConfig.of(PERSISTENCE_CLEANUP_CONFIG).getCreditDecisionConfig();
+        return DefaultCreditDecisionConfig.of(CREDIT_DECISION_TEST_CONFIG);
     }
 
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.credits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.utils.health.cluster.ClusterRoleStatus;
+import org.eclipse.ditto.services.utils.health.cluster.ClusterStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.FanOutShape2;
+import akka.stream.SourceShape;
+import akka.stream.UniformFanInShape;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.GraphDSL;
+import akka.stream.javadsl.Merge;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ClusterStatusStage}.
+ */
+public final class ClusterStatusStageTest {
+
+    private static final List<String> EXPECTED_ROLES = Arrays.asList("things", "policies");
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void start() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @After
+    public void stop() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void countReachableMembersOfExpectedRoles() throws Exception {
+        final ClusterStatus clusterStatus = clusterStatus(Collections.emptySet(),
+                roleStatus("things", "things-1", "things-2"),
+                roleStatus("policies", "policies-1"),
+                roleStatus("connectivity", "connectivity-1"));
+
+        assertThat(runStage(clusterStatus, 2)).containsExactlyInAnyOrder("3", "3");
+    }
+
+    @Test
+    public void rejectIfExpectedRoleHasNoReachableMembers() throws Exception {
+        final ClusterStatus clusterStatus = clusterStatus(Collections.singleton("policies-1"),
+                roleStatus("things", "things-1"),
+                ClusterRoleStatus.of("policies", Collections.emptySet(), Collections.singleton("policies-1"),
+                        "policies-1"));
+
+        assertThat(runStage(clusterStatus, 2)).containsExactlyInAnyOrder("no", "no");
+    }
+
+    @Test
+    public void slowDownWhileMembersAreUnreachable() throws Exception {
+        final ClusterStatus clusterStatus = clusterStatus(Collections.singleton("things-2"),
+                roleStatus("things", "things-1"),
+                roleStatus("policies", "policies-1"));
+
+        assertThat(runStage(clusterStatus, 4)).containsExactlyInAnyOrder("2", "no", "2", "no");
+    }
+
+    private List<String> runStage(final ClusterStatus clusterStatus, final int ticks) throws Exception {
+        final Source<String, NotUsed> decisions = Source.fromGraph(GraphDSL.create(builder -> {
+            final SourceShape<Integer> tickSource = builder.add(Source.range(1, ticks));
+            final FanOutShape2<Integer, Integer, CreditDecision> underTest =
+                    builder.add(ClusterStatusStage.create(() -> clusterStatus, EXPECTED_ROLES));
+            final UniformFanInShape<String, String> merge = builder.add(Merge.create(2));
+
+            builder.from(tickSource.out()).toInlet(underTest.in());
+            builder.from(underTest.out0()).via(builder.add(Flow.of(Integer.class)
+                    .map(String::valueOf))).toInlet(merge.in(0));
+            builder.from(underTest.out1()).via(builder.add(Flow.of(CreditDecision.class)
+                    .map(decision -> "no"))).toInlet(merge.in(1));
+
+            return SourceShape.of(merge.out());
+        }));
+
+        return decisions.runWith(Sink.seq(), ActorMaterializer.create(actorSystem))
+                .toCompletableFuture()
+                .get(10L, TimeUnit.SECONDS);
+    }
+
+    private static ClusterStatus clusterStatus(final Set<String> unreachable, final ClusterRoleStatus... roles) {
+        final Set<String> reachable = new HashSet<>();
+        for (final ClusterRoleStatus role : roles) {
+            reachable.addAll(role.getReachable());
+        }
+        return ClusterStatus.of(reachable, unreachable, reachable, "leader", Collections.emptySet(),
+                new HashSet<>(Arrays.asList(roles)));
+    }
+
+    private static ClusterRoleStatus roleStatus(final String role, final String... reachableMembers) {
+        return ClusterRoleStatus.of(role, new HashSet<>(Arrays.asList(reachableMembers)), Collections.emptySet(),
+                reachableMembers[0]);
+    }
+
+}
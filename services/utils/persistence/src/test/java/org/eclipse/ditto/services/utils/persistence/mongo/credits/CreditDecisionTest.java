@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.concierge.actors.cleanup.messages;
+package org.eclipse.ditto.services.utils.persistence.mongo.credits;
 
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -20,7 +20,7 @@ import org.junit.Test;
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 /**
- * Tests {@link org.eclipse.ditto.services.concierge.actors.cleanup.messages.CreditDecision}.
+ * Tests {@link CreditDecision}.
  */
 public final class CreditDecisionTest {
 
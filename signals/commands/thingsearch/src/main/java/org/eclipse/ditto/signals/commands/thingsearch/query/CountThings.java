@@ -56,6 +56,17 @@ public final class CountThings extends AbstractCommand<CountThings> implements T
      */
     public static final String TYPE = TYPE_PREFIX + NAME;
 
+    /**
+     * Key of the header and of the HTTP query parameter determining how exactly things are counted.
+     */
+    public static final String COUNT_MODE = "count-mode";
+
+    /**
+     * Value of the {@value #COUNT_MODE} header requesting a count which stops scanning at a configured limit. Whether
+     * the limit was reached is reported by the {@value CountThingsResponse#COUNT_EXACT} header of the response.
+     */
+    public static final String COUNT_MODE_ESTIMATED = "estimated";
+
     static final JsonFieldDefinition<String> JSON_FILTER =
             JsonFactory.newStringFieldDefinition("filter", FieldType.REGULAR, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
@@ -45,6 +45,12 @@ public final class CountThingsResponse extends AbstractCommandResponse<CountThin
      */
     public static final String TYPE = TYPE_PREFIX + CountThings.NAME;
 
+    /**
+     * Key of the header reporting whether the count of an estimated count is exact ({@code true}) or a lower bound
+     * ({@code false}).
+     */
+    public static final String COUNT_EXACT = "count-exact";
+
     private final long count;
 
     private CountThingsResponse(final long count, final DittoHeaders dittoHeaders) {